@@ -121,6 +121,7 @@ import com.hazelcast.client.impl.protocol.codec.ListCompareAndRemoveAllCodec;
 import com.hazelcast.client.impl.protocol.codec.ListCompareAndRetainAllCodec;
 import com.hazelcast.client.impl.protocol.codec.ListContainsAllCodec;
 import com.hazelcast.client.impl.protocol.codec.ListContainsCodec;
+import com.hazelcast.client.impl.protocol.codec.ListFetchItemsCodec;
 import com.hazelcast.client.impl.protocol.codec.ListGetAllCodec;
 import com.hazelcast.client.impl.protocol.codec.ListGetCodec;
 import com.hazelcast.client.impl.protocol.codec.ListIndexOfCodec;
@@ -192,6 +193,7 @@ import com.hazelcast.client.impl.protocol.codec.MapFetchWithQueryCodec;
 import com.hazelcast.client.impl.protocol.codec.MapFlushCodec;
 import com.hazelcast.client.impl.protocol.codec.MapForceUnlockCodec;
 import com.hazelcast.client.impl.protocol.codec.MapGetAllCodec;
+import com.hazelcast.client.impl.protocol.codec.MapGetAllOnMemberCodec;
 import com.hazelcast.client.impl.protocol.codec.MapGetCodec;
 import com.hazelcast.client.impl.protocol.codec.MapGetEntryViewCodec;
 import com.hazelcast.client.impl.protocol.codec.MapIsEmptyCodec;
@@ -205,6 +207,7 @@ import com.hazelcast.client.impl.protocol.codec.MapLockCodec;
 import com.hazelcast.client.impl.protocol.codec.MapProjectCodec;
 import com.hazelcast.client.impl.protocol.codec.MapProjectWithPredicateCodec;
 import com.hazelcast.client.impl.protocol.codec.MapPutAllCodec;
+import com.hazelcast.client.impl.protocol.codec.MapPutAllOnMemberCodec;
 import com.hazelcast.client.impl.protocol.codec.MapPutAllWithMetadataCodec;
 import com.hazelcast.client.impl.protocol.codec.MapPutCodec;
 import com.hazelcast.client.impl.protocol.codec.MapPutIfAbsentCodec;
@@ -268,6 +271,7 @@ import com.hazelcast.client.impl.protocol.codec.QueueContainsAllCodec;
 import com.hazelcast.client.impl.protocol.codec.QueueContainsCodec;
 import com.hazelcast.client.impl.protocol.codec.QueueDrainToCodec;
 import com.hazelcast.client.impl.protocol.codec.QueueDrainToMaxSizeCodec;
+import com.hazelcast.client.impl.protocol.codec.QueueFetchItemsCodec;
 import com.hazelcast.client.impl.protocol.codec.QueueIsEmptyCodec;
 import com.hazelcast.client.impl.protocol.codec.QueueIteratorCodec;
 import com.hazelcast.client.impl.protocol.codec.QueueOfferCodec;
@@ -335,6 +339,7 @@ import com.hazelcast.client.impl.protocol.codec.SetCompareAndRemoveAllCodec;
 import com.hazelcast.client.impl.protocol.codec.SetCompareAndRetainAllCodec;
 import com.hazelcast.client.impl.protocol.codec.SetContainsAllCodec;
 import com.hazelcast.client.impl.protocol.codec.SetContainsCodec;
+import com.hazelcast.client.impl.protocol.codec.SetFetchItemsCodec;
 import com.hazelcast.client.impl.protocol.codec.SetGetAllCodec;
 import com.hazelcast.client.impl.protocol.codec.SetIsEmptyCodec;
 import com.hazelcast.client.impl.protocol.codec.SetRemoveCodec;
@@ -490,6 +495,7 @@ import com.hazelcast.client.impl.protocol.task.list.ListCompareAndRemoveAllMessa
 import com.hazelcast.client.impl.protocol.task.list.ListCompareAndRetainAllMessageTask;
 import com.hazelcast.client.impl.protocol.task.list.ListContainsAllMessageTask;
 import com.hazelcast.client.impl.protocol.task.list.ListContainsMessageTask;
+import com.hazelcast.client.impl.protocol.task.list.ListFetchItemsMessageTask;
 import com.hazelcast.client.impl.protocol.task.list.ListGetAllMessageTask;
 import com.hazelcast.client.impl.protocol.task.list.ListGetMessageTask;
 import com.hazelcast.client.impl.protocol.task.list.ListIndexOfMessageTask;
@@ -567,6 +573,7 @@ import com.hazelcast.client.impl.protocol.task.map.MapFetchWithQueryMessageTask;
 import com.hazelcast.client.impl.protocol.task.map.MapFlushMessageTask;
 import com.hazelcast.client.impl.protocol.task.map.MapForceUnlockMessageTask;
 import com.hazelcast.client.impl.protocol.task.map.MapGetAllMessageTask;
+import com.hazelcast.client.impl.protocol.task.map.MapGetAllOnMemberMessageTask;
 import com.hazelcast.client.impl.protocol.task.map.MapGetEntryViewMessageTask;
 import com.hazelcast.client.impl.protocol.task.map.MapGetMessageTask;
 import com.hazelcast.client.impl.protocol.task.map.MapIsEmptyMessageTask;
@@ -583,6 +590,7 @@ import com.hazelcast.client.impl.protocol.task.map.MapProjectionWithPredicateMes
 import com.hazelcast.client.impl.protocol.task.map.MapPublisherCreateMessageTask;
 import com.hazelcast.client.impl.protocol.task.map.MapPublisherCreateWithValueMessageTask;
 import com.hazelcast.client.impl.protocol.task.map.MapPutAllMessageTask;
+import com.hazelcast.client.impl.protocol.task.map.MapPutAllOnMemberMessageTask;
 import com.hazelcast.client.impl.protocol.task.map.MapPutAllWithMetadataMessageTask;
 import com.hazelcast.client.impl.protocol.task.map.MapPutIfAbsentMessageTask;
 import com.hazelcast.client.impl.protocol.task.map.MapPutIfAbsentWithMaxIdleMessageTask;
@@ -645,6 +653,7 @@ import com.hazelcast.client.impl.protocol.task.queue.QueueContainsAllMessageTask
 import com.hazelcast.client.impl.protocol.task.queue.QueueContainsMessageTask;
 import com.hazelcast.client.impl.protocol.task.queue.QueueDrainMaxSizeMessageTask;
 import com.hazelcast.client.impl.protocol.task.queue.QueueDrainMessageTask;
+import com.hazelcast.client.impl.protocol.task.queue.QueueFetchItemsMessageTask;
 import com.hazelcast.client.impl.protocol.task.queue.QueueIsEmptyMessageTask;
 import com.hazelcast.client.impl.protocol.task.queue.QueueIteratorMessageTask;
 import com.hazelcast.client.impl.protocol.task.queue.QueueOfferMessageTask;
@@ -715,6 +724,7 @@ import com.hazelcast.client.impl.protocol.task.set.SetCompareAndRemoveAllMessage
 import com.hazelcast.client.impl.protocol.task.set.SetCompareAndRetainAllMessageTask;
 import com.hazelcast.client.impl.protocol.task.set.SetContainsAllMessageTask;
 import com.hazelcast.client.impl.protocol.task.set.SetContainsMessageTask;
+import com.hazelcast.client.impl.protocol.task.set.SetFetchItemsMessageTask;
 import com.hazelcast.client.impl.protocol.task.set.SetGetAllMessageTask;
 import com.hazelcast.client.impl.protocol.task.set.SetIsEmptyMessageTask;
 import com.hazelcast.client.impl.protocol.task.set.SetRemoveListenerMessageTask;
@@ -860,6 +870,8 @@ public class DefaultMessageTaskFactoryProvider implements MessageTaskFactoryProv
                 (cm, con) -> new SetCompareAndRetainAllMessageTask(cm, node, con));
         factories.put(SetGetAllCodec.REQUEST_MESSAGE_TYPE,
                 (cm, con) -> new SetGetAllMessageTask(cm, node, con));
+        factories.put(SetFetchItemsCodec.REQUEST_MESSAGE_TYPE,
+                (cm, con) -> new SetFetchItemsMessageTask(cm, node, con));
         factories.put(SetRemoveCodec.REQUEST_MESSAGE_TYPE,
                 (cm, con) -> new SetRemoveMessageTask(cm, node, con));
         factories.put(SetAddListenerCodec.REQUEST_MESSAGE_TYPE,
@@ -1070,6 +1082,8 @@ public class DefaultMessageTaskFactoryProvider implements MessageTaskFactoryProv
                 (cm, con) -> new ListAddListenerMessageTask(cm, node, con));
         factories.put(ListIteratorCodec.REQUEST_MESSAGE_TYPE,
                 (cm, con) -> new ListIteratorMessageTask(cm, node, con));
+        factories.put(ListFetchItemsCodec.REQUEST_MESSAGE_TYPE,
+                (cm, con) -> new ListFetchItemsMessageTask(cm, node, con));
         factories.put(ListClearCodec.REQUEST_MESSAGE_TYPE,
                 (cm, con) -> new ListClearMessageTask(cm, node, con));
         factories.put(ListAddAllCodec.REQUEST_MESSAGE_TYPE,
@@ -1370,6 +1384,10 @@ public class DefaultMessageTaskFactoryProvider implements MessageTaskFactoryProv
                 (cm, con) -> new MapAddPartitionLostListenerMessageTask(cm, node, con));
         factories.put(MapPutAllCodec.REQUEST_MESSAGE_TYPE,
                 (cm, con) -> new MapPutAllMessageTask(cm, node, con));
+        factories.put(MapGetAllOnMemberCodec.REQUEST_MESSAGE_TYPE,
+                (cm, con) -> new MapGetAllOnMemberMessageTask(cm, node, con));
+        factories.put(MapPutAllOnMemberCodec.REQUEST_MESSAGE_TYPE,
+                (cm, con) -> new MapPutAllOnMemberMessageTask(cm, node, con));
         factories.put(MapRemoveCodec.REQUEST_MESSAGE_TYPE,
                 (cm, con) -> new MapRemoveMessageTask(cm, node, con));
         factories.put(MapKeySetWithPredicateCodec.REQUEST_MESSAGE_TYPE,
@@ -1484,6 +1502,8 @@ public class DefaultMessageTaskFactoryProvider implements MessageTaskFactoryProv
                 (cm, con) -> new QueueIsEmptyMessageTask(cm, node, con));
         factories.put(QueueIteratorCodec.REQUEST_MESSAGE_TYPE,
                 (cm, con) -> new QueueIteratorMessageTask(cm, node, con));
+        factories.put(QueueFetchItemsCodec.REQUEST_MESSAGE_TYPE,
+                (cm, con) -> new QueueFetchItemsMessageTask(cm, node, con));
         factories.put(QueueSizeCodec.REQUEST_MESSAGE_TYPE,
                 (cm, con) -> new QueueSizeMessageTask(cm, node, con));
         factories.put(QueuePutCodec.REQUEST_MESSAGE_TYPE,
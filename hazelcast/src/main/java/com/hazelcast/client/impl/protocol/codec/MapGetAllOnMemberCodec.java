@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol.codec;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.builtin.*;
+import com.hazelcast.client.impl.protocol.codec.custom.*;
+
+import javax.annotation.Nullable;
+
+import static com.hazelcast.client.impl.protocol.ClientMessage.*;
+import static com.hazelcast.client.impl.protocol.codec.builtin.FixedSizeTypesCodec.*;
+
+/*
+ * This codec is not produced by the Hazelcast Client Protocol Code Generator yet,
+ * it follows the layout of the generated codecs. The message type 0x014A00 is
+ * reserved for it: the method has to be added with this id to the protocol
+ * definitions on the https://github.com/hazelcast/hazelcast-client-protocol
+ * and this file replaced by the generated one. The definition of the method
+ * is in the Map.yaml next to this file. Until then, the message is only sent
+ * by the clients with the experimental member batching enabled.
+ */
+
+/**
+ * Returns the entries for the given keys. If any keys are not present in the Map, it will call loadAll The returned
+ * map is NOT backed by the original map, so changes to the original map are NOT reflected in the returned map, and vice-versa.
+ * The keys in the request may belong to any of the partitions. This request is meant to be sent to a member with the keys of
+ * all the partitions owned by that member, which executes the request on each of the partitions of the keys.
+ */
+@SuppressWarnings("unused")
+public final class MapGetAllOnMemberCodec {
+    //hex: 0x014A00
+    public static final int REQUEST_MESSAGE_TYPE = 84480;
+    //hex: 0x014A01
+    public static final int RESPONSE_MESSAGE_TYPE = 84481;
+    private static final int REQUEST_INITIAL_FRAME_SIZE = PARTITION_ID_FIELD_OFFSET + INT_SIZE_IN_BYTES;
+    private static final int RESPONSE_INITIAL_FRAME_SIZE = RESPONSE_BACKUP_ACKS_FIELD_OFFSET + BYTE_SIZE_IN_BYTES;
+
+    private MapGetAllOnMemberCodec() {
+    }
+
+    @edu.umd.cs.findbugs.annotations.SuppressFBWarnings({"URF_UNREAD_PUBLIC_OR_PROTECTED_FIELD"})
+    public static class RequestParameters {
+
+        /**
+         * name of map
+         */
+        public java.lang.String name;
+
+        /**
+         * keys to get
+         */
+        public java.util.List<com.hazelcast.internal.serialization.Data> keys;
+    }
+
+    public static ClientMessage encodeRequest(java.lang.String name, java.util.Collection<com.hazelcast.internal.serialization.Data> keys) {
+        ClientMessage clientMessage = ClientMessage.createForEncode();
+        clientMessage.setContainsSerializedDataInRequest(true);
+        clientMessage.setRetryable(false);
+        clientMessage.setOperationName("Map.GetAllOnMember");
+        ClientMessage.Frame initialFrame = new ClientMessage.Frame(new byte[REQUEST_INITIAL_FRAME_SIZE], UNFRAGMENTED_MESSAGE);
+        encodeInt(initialFrame.content, TYPE_FIELD_OFFSET, REQUEST_MESSAGE_TYPE);
+        encodeInt(initialFrame.content, PARTITION_ID_FIELD_OFFSET, -1);
+        clientMessage.add(initialFrame);
+        StringCodec.encode(clientMessage, name);
+        ListMultiFrameCodec.encode(clientMessage, keys, DataCodec::encode);
+        return clientMessage;
+    }
+
+    public static MapGetAllOnMemberCodec.RequestParameters decodeRequest(ClientMessage clientMessage) {
+        ClientMessage.ForwardFrameIterator iterator = clientMessage.frameIterator();
+        RequestParameters request = new RequestParameters();
+        //empty initial frame
+        iterator.next();
+        request.name = StringCodec.decode(iterator);
+        request.keys = ListMultiFrameCodec.decode(iterator, DataCodec::decode);
+        return request;
+    }
+
+    public static ClientMessage encodeResponse(java.util.Collection<java.util.Map.Entry<com.hazelcast.internal.serialization.Data, com.hazelcast.internal.serialization.Data>> response) {
+        ClientMessage clientMessage = ClientMessage.createForEncode();
+        ClientMessage.Frame initialFrame = new ClientMessage.Frame(new byte[RESPONSE_INITIAL_FRAME_SIZE], UNFRAGMENTED_MESSAGE);
+        encodeInt(initialFrame.content, TYPE_FIELD_OFFSET, RESPONSE_MESSAGE_TYPE);
+        clientMessage.add(initialFrame);
+
+        EntryListCodec.encode(clientMessage, response, DataCodec::encode, DataCodec::encode);
+        return clientMessage;
+    }
+
+    /**
+     * values for the provided keys.
+     */
+    public static java.util.List<java.util.Map.Entry<com.hazelcast.internal.serialization.Data, com.hazelcast.internal.serialization.Data>> decodeResponse(ClientMessage clientMessage) {
+        ClientMessage.ForwardFrameIterator iterator = clientMessage.frameIterator();
+        //empty initial frame
+        iterator.next();
+        return EntryListCodec.decode(iterator, DataCodec::decode, DataCodec::decode);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol.codec;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.builtin.*;
+import com.hazelcast.client.impl.protocol.codec.custom.*;
+
+import javax.annotation.Nullable;
+
+import static com.hazelcast.client.impl.protocol.ClientMessage.*;
+import static com.hazelcast.client.impl.protocol.codec.builtin.FixedSizeTypesCodec.*;
+
+/*
+ * This codec is not produced by the Hazelcast Client Protocol Code Generator yet,
+ * it follows the layout of the generated codecs. The message type 0x014B00 is
+ * reserved for it: the method has to be added with this id to the protocol
+ * definitions on the https://github.com/hazelcast/hazelcast-client-protocol
+ * and this file replaced by the generated one. The definition of the method
+ * is in the Map.yaml next to this file. Until then, the message is only sent
+ * by the clients with the experimental member batching enabled.
+ */
+
+/**
+ * Copies all of the mappings from the specified map to this map (optional operation).The effect of this call is
+ * equivalent to that of calling put(Object,Object) put(k, v) on this map once for each mapping from key k to value
+ * v in the specified map.The behavior of this operation is undefined if the specified map is modified while the
+ * operation is in progress.
+ * The entries in the request may belong to any of the partitions. This request is meant to be sent to a member with the
+ * entries of all the partitions owned by that member, which executes the request on each of the partitions of the keys.
+ */
+@SuppressWarnings("unused")
+public final class MapPutAllOnMemberCodec {
+    //hex: 0x014B00
+    public static final int REQUEST_MESSAGE_TYPE = 84736;
+    //hex: 0x014B01
+    public static final int RESPONSE_MESSAGE_TYPE = 84737;
+    private static final int REQUEST_TRIGGER_MAP_LOADER_FIELD_OFFSET = PARTITION_ID_FIELD_OFFSET + INT_SIZE_IN_BYTES;
+    private static final int REQUEST_INITIAL_FRAME_SIZE = REQUEST_TRIGGER_MAP_LOADER_FIELD_OFFSET + BOOLEAN_SIZE_IN_BYTES;
+    private static final int RESPONSE_INITIAL_FRAME_SIZE = RESPONSE_BACKUP_ACKS_FIELD_OFFSET + BYTE_SIZE_IN_BYTES;
+
+    private MapPutAllOnMemberCodec() {
+    }
+
+    @edu.umd.cs.findbugs.annotations.SuppressFBWarnings({"URF_UNREAD_PUBLIC_OR_PROTECTED_FIELD"})
+    public static class RequestParameters {
+
+        /**
+         * name of map
+         */
+        public java.lang.String name;
+
+        /**
+         * mappings to be stored in this map
+         */
+        public java.util.List<java.util.Map.Entry<com.hazelcast.internal.serialization.Data, com.hazelcast.internal.serialization.Data>> entries;
+
+        /**
+         * should trigger MapLoader for elements not in this map
+         */
+        public boolean triggerMapLoader;
+    }
+
+    public static ClientMessage encodeRequest(java.lang.String name, java.util.Collection<java.util.Map.Entry<com.hazelcast.internal.serialization.Data, com.hazelcast.internal.serialization.Data>> entries, boolean triggerMapLoader) {
+        ClientMessage clientMessage = ClientMessage.createForEncode();
+        clientMessage.setContainsSerializedDataInRequest(true);
+        clientMessage.setRetryable(false);
+        clientMessage.setOperationName("Map.PutAllOnMember");
+        ClientMessage.Frame initialFrame = new ClientMessage.Frame(new byte[REQUEST_INITIAL_FRAME_SIZE], UNFRAGMENTED_MESSAGE);
+        encodeInt(initialFrame.content, TYPE_FIELD_OFFSET, REQUEST_MESSAGE_TYPE);
+        encodeInt(initialFrame.content, PARTITION_ID_FIELD_OFFSET, -1);
+        encodeBoolean(initialFrame.content, REQUEST_TRIGGER_MAP_LOADER_FIELD_OFFSET, triggerMapLoader);
+        clientMessage.add(initialFrame);
+        StringCodec.encode(clientMessage, name);
+        EntryListCodec.encode(clientMessage, entries, DataCodec::encode, DataCodec::encode);
+        return clientMessage;
+    }
+
+    public static MapPutAllOnMemberCodec.RequestParameters decodeRequest(ClientMessage clientMessage) {
+        ClientMessage.ForwardFrameIterator iterator = clientMessage.frameIterator();
+        RequestParameters request = new RequestParameters();
+        ClientMessage.Frame initialFrame = iterator.next();
+        request.triggerMapLoader = decodeBoolean(initialFrame.content, REQUEST_TRIGGER_MAP_LOADER_FIELD_OFFSET);
+        request.name = StringCodec.decode(iterator);
+        request.entries = EntryListCodec.decode(iterator, DataCodec::decode, DataCodec::decode);
+        return request;
+    }
+
+    public static ClientMessage encodeResponse() {
+        ClientMessage clientMessage = ClientMessage.createForEncode();
+        ClientMessage.Frame initialFrame = new ClientMessage.Frame(new byte[RESPONSE_INITIAL_FRAME_SIZE], UNFRAGMENTED_MESSAGE);
+        encodeInt(initialFrame.content, TYPE_FIELD_OFFSET, RESPONSE_MESSAGE_TYPE);
+        clientMessage.add(initialFrame);
+
+        return clientMessage;
+    }
+}
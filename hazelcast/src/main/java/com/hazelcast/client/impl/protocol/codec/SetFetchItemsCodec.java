@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol.codec;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.builtin.*;
+import com.hazelcast.client.impl.protocol.codec.custom.*;
+
+import javax.annotation.Nullable;
+
+import static com.hazelcast.client.impl.protocol.ClientMessage.*;
+import static com.hazelcast.client.impl.protocol.codec.builtin.FixedSizeTypesCodec.*;
+
+/*
+ * This codec is not produced by the Hazelcast Client Protocol Code Generator yet,
+ * it follows the layout of the generated codecs. The message type 0x060E00 is
+ * reserved for it: the method has to be added with this id to the protocol
+ * definitions on the https://github.com/hazelcast/hazelcast-client-protocol
+ * and this file replaced by the generated one. The definition of the method
+ * is in the Set.yaml next to this file. Until then, the message is only sent
+ * by the clients with the experimental paging iterators enabled.
+ */
+
+/**
+ * Fetches a page of the items of the Set, starting a new iteration over a snapshot of the items or progressing an existing one.
+ * The changes happened during the iteration are not included in the iterated items. This method will consume some memory in the
+ * member with the default timeout of 300 seconds that is reset after each fetch. Fetching the last page or timing out will release
+ * the resource.
+ */
+@SuppressWarnings("unused")
+public final class SetFetchItemsCodec {
+    //hex: 0x060E00
+    public static final int REQUEST_MESSAGE_TYPE = 396800;
+    //hex: 0x060E01
+    public static final int RESPONSE_MESSAGE_TYPE = 396801;
+    private static final int REQUEST_CURSOR_ID_FIELD_OFFSET = PARTITION_ID_FIELD_OFFSET + INT_SIZE_IN_BYTES;
+    private static final int REQUEST_NEW_ITERATION_FIELD_OFFSET = REQUEST_CURSOR_ID_FIELD_OFFSET + UUID_SIZE_IN_BYTES;
+    private static final int REQUEST_FETCH_SIZE_FIELD_OFFSET = REQUEST_NEW_ITERATION_FIELD_OFFSET + BOOLEAN_SIZE_IN_BYTES;
+    private static final int REQUEST_INITIAL_FRAME_SIZE = REQUEST_FETCH_SIZE_FIELD_OFFSET + INT_SIZE_IN_BYTES;
+    private static final int RESPONSE_CURSOR_ID_FIELD_OFFSET = RESPONSE_BACKUP_ACKS_FIELD_OFFSET + BYTE_SIZE_IN_BYTES;
+    private static final int RESPONSE_INITIAL_FRAME_SIZE = RESPONSE_CURSOR_ID_FIELD_OFFSET + UUID_SIZE_IN_BYTES;
+
+    private SetFetchItemsCodec() {
+    }
+
+    @edu.umd.cs.findbugs.annotations.SuppressFBWarnings({"URF_UNREAD_PUBLIC_OR_PROTECTED_FIELD"})
+    public static class RequestParameters {
+
+        /**
+         * Name of the Set
+         */
+        public java.lang.String name;
+
+        /**
+         * The identifier of the page to fetch. Send a random UUID while sending the first fetchItems
+         * request to start iteration. Also don't forget to set newIteration to true. Then, use the returned
+         * UUIDs in response to feed this parameter and progress iteration.
+         */
+        public java.util.UUID cursorId;
+
+        /**
+         * Set this true if you are creating a new iteration via fetchItems. fetchItems can also be
+         * used to fetch new pages of an existing iteration. In that case, set this to false.
+         */
+        public boolean newIteration;
+
+        /**
+         * The maximum number of items to be returned.
+         */
+        public int fetchSize;
+    }
+
+    public static ClientMessage encodeRequest(java.lang.String name, java.util.UUID cursorId, boolean newIteration, int fetchSize) {
+        ClientMessage clientMessage = ClientMessage.createForEncode();
+        clientMessage.setRetryable(true);
+        clientMessage.setOperationName("Set.FetchItems");
+        ClientMessage.Frame initialFrame = new ClientMessage.Frame(new byte[REQUEST_INITIAL_FRAME_SIZE], UNFRAGMENTED_MESSAGE);
+        encodeInt(initialFrame.content, TYPE_FIELD_OFFSET, REQUEST_MESSAGE_TYPE);
+        encodeInt(initialFrame.content, PARTITION_ID_FIELD_OFFSET, -1);
+        encodeUUID(initialFrame.content, REQUEST_CURSOR_ID_FIELD_OFFSET, cursorId);
+        encodeBoolean(initialFrame.content, REQUEST_NEW_ITERATION_FIELD_OFFSET, newIteration);
+        encodeInt(initialFrame.content, REQUEST_FETCH_SIZE_FIELD_OFFSET, fetchSize);
+        clientMessage.add(initialFrame);
+        StringCodec.encode(clientMessage, name);
+        return clientMessage;
+    }
+
+    public static SetFetchItemsCodec.RequestParameters decodeRequest(ClientMessage clientMessage) {
+        ClientMessage.ForwardFrameIterator iterator = clientMessage.frameIterator();
+        RequestParameters request = new RequestParameters();
+        ClientMessage.Frame initialFrame = iterator.next();
+        request.cursorId = decodeUUID(initialFrame.content, REQUEST_CURSOR_ID_FIELD_OFFSET);
+        request.newIteration = decodeBoolean(initialFrame.content, REQUEST_NEW_ITERATION_FIELD_OFFSET);
+        request.fetchSize = decodeInt(initialFrame.content, REQUEST_FETCH_SIZE_FIELD_OFFSET);
+        request.name = StringCodec.decode(iterator);
+        return request;
+    }
+
+    @edu.umd.cs.findbugs.annotations.SuppressFBWarnings({"URF_UNREAD_PUBLIC_OR_PROTECTED_FIELD"})
+    public static class ResponseParameters {
+
+        /**
+         * A UUID which is used to fetch the next page.
+         */
+        public java.util.UUID cursorId;
+
+        /**
+         * A list of items. If the page includes less items than the fetchSize, it means the iteration has ended.
+         */
+        public java.util.List<com.hazelcast.internal.serialization.Data> items;
+    }
+
+    public static ClientMessage encodeResponse(java.util.UUID cursorId, java.util.Collection<com.hazelcast.internal.serialization.Data> items) {
+        ClientMessage clientMessage = ClientMessage.createForEncode();
+        ClientMessage.Frame initialFrame = new ClientMessage.Frame(new byte[RESPONSE_INITIAL_FRAME_SIZE], UNFRAGMENTED_MESSAGE);
+        encodeInt(initialFrame.content, TYPE_FIELD_OFFSET, RESPONSE_MESSAGE_TYPE);
+        encodeUUID(initialFrame.content, RESPONSE_CURSOR_ID_FIELD_OFFSET, cursorId);
+        clientMessage.add(initialFrame);
+
+        ListMultiFrameCodec.encode(clientMessage, items, DataCodec::encode);
+        return clientMessage;
+    }
+
+    public static SetFetchItemsCodec.ResponseParameters decodeResponse(ClientMessage clientMessage) {
+        ClientMessage.ForwardFrameIterator iterator = clientMessage.frameIterator();
+        ResponseParameters response = new ResponseParameters();
+        ClientMessage.Frame initialFrame = iterator.next();
+        response.cursorId = decodeUUID(initialFrame.content, RESPONSE_CURSOR_ID_FIELD_OFFSET);
+        response.items = ListMultiFrameCodec.decode(iterator, DataCodec::decode);
+        return response;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol.task.map;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.MapGetAllOnMemberCodec;
+import com.hazelcast.client.impl.protocol.task.AbstractMultiPartitionMessageTask;
+import com.hazelcast.instance.impl.Node;
+import com.hazelcast.internal.nio.Connection;
+import com.hazelcast.internal.partition.IPartitionService;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.Timer;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.MapEntries;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.security.SecurityInterceptorConstants;
+import com.hazelcast.security.permission.ActionConstants;
+import com.hazelcast.security.permission.MapPermission;
+import com.hazelcast.spi.impl.operationservice.OperationFactory;
+
+import java.security.Permission;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gets the entries of the keys of all the partitions owned by this member
+ * with a single client message, by invoking the get-all operation on the
+ * partitions of the keys.
+ */
+public class MapGetAllOnMemberMessageTask
+        extends AbstractMultiPartitionMessageTask<MapGetAllOnMemberCodec.RequestParameters> {
+
+    private volatile long startTimeNanos;
+
+    public MapGetAllOnMemberMessageTask(ClientMessage clientMessage, Node node, Connection connection) {
+        super(clientMessage, node, connection);
+    }
+
+    @Override
+    protected OperationFactory createOperationFactory() {
+        return getMapOperationProvider(parameters.name).createGetAllOperationFactory(parameters.name, parameters.keys);
+    }
+
+    @Override
+    protected Object reduce(Map<Integer, Object> map) {
+        List<Map.Entry<Data, Data>> entries = new ArrayList<>(parameters.keys.size());
+
+        MapService mapService = getService(MapService.SERVICE_NAME);
+        for (Object o : map.values()) {
+            if (o != null) {
+                MapEntries mapEntries = (MapEntries) mapService.getMapServiceContext().toObject(o);
+                mapEntries.putAllToList(entries);
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public PartitionIdSet getPartitions() {
+        IPartitionService partitionService = nodeEngine.getPartitionService();
+        PartitionIdSet partitionIds = new PartitionIdSet(partitionService.getPartitionCount());
+        for (Data key : parameters.keys) {
+            partitionIds.add(partitionService.getPartitionId(key));
+        }
+        return partitionIds;
+    }
+
+    @Override
+    protected void beforeProcess() {
+        startTimeNanos = Timer.nanos();
+    }
+
+    @Override
+    protected Object processResponseBeforeSending(Map<Integer, Object> response) {
+        MapService mapService = getService(MapService.SERVICE_NAME);
+        MapContainer mapContainer = mapService.getMapServiceContext().getMapContainer(parameters.name);
+        if (mapContainer.getMapConfig().isStatisticsEnabled()) {
+            mapService.getMapServiceContext().getLocalMapStatsProvider().getLocalMapStatsImpl(parameters.name)
+                    .incrementGetLatencyNanos(parameters.keys.size(), Timer.nanosElapsed(startTimeNanos));
+        }
+        return super.processResponseBeforeSending(response);
+    }
+
+    @Override
+    protected MapGetAllOnMemberCodec.RequestParameters decodeClientMessage(ClientMessage clientMessage) {
+        return MapGetAllOnMemberCodec.decodeRequest(clientMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected ClientMessage encodeResponse(Object response) {
+        return MapGetAllOnMemberCodec.encodeResponse((List<Map.Entry<Data, Data>>) response);
+    }
+
+    @Override
+    public String getServiceName() {
+        return MapService.SERVICE_NAME;
+    }
+
+    @Override
+    public Permission getRequiredPermission() {
+        return new MapPermission(parameters.name, ActionConstants.ACTION_READ);
+    }
+
+    @Override
+    public String getDistributedObjectName() {
+        return parameters.name;
+    }
+
+    @Override
+    public String getMethodName() {
+        return SecurityInterceptorConstants.GET_ALL;
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return new Object[]{parameters.keys};
+    }
+
+    @Override
+    protected String getUserCodeNamespace() {
+        return MapService.lookupNamespace(nodeEngine, getDistributedObjectName());
+    }
+}
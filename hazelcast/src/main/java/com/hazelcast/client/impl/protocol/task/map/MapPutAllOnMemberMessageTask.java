@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol.task.map;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.MapPutAllOnMemberCodec;
+import com.hazelcast.client.impl.protocol.task.AbstractMultiPartitionMessageTask;
+import com.hazelcast.instance.impl.Node;
+import com.hazelcast.internal.nio.Connection;
+import com.hazelcast.internal.partition.IPartitionService;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.Timer;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.MapEntries;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.security.SecurityInterceptorConstants;
+import com.hazelcast.security.permission.ActionConstants;
+import com.hazelcast.security.permission.MapPermission;
+import com.hazelcast.spi.impl.operationservice.OperationFactory;
+
+import java.security.Permission;
+import java.util.Map;
+
+import static com.hazelcast.internal.util.MapUtil.createHashMap;
+
+/**
+ * Puts the entries of all the partitions owned by this member with a single
+ * client message, by invoking the put-all operation on the partitions of the
+ * entries.
+ */
+public class MapPutAllOnMemberMessageTask
+        extends AbstractMultiPartitionMessageTask<MapPutAllOnMemberCodec.RequestParameters> {
+
+    private volatile long startTimeNanos;
+
+    public MapPutAllOnMemberMessageTask(ClientMessage clientMessage, Node node, Connection connection) {
+        super(clientMessage, node, connection);
+    }
+
+    @Override
+    protected OperationFactory createOperationFactory() {
+        IPartitionService partitionService = nodeEngine.getPartitionService();
+        Map<Integer, MapEntries> entriesPerPartition = createHashMap(partitionService.getPartitionCount());
+        for (Map.Entry<Data, Data> entry : parameters.entries) {
+            int partitionId = partitionService.getPartitionId(entry.getKey());
+            entriesPerPartition.computeIfAbsent(partitionId, x -> new MapEntries())
+                    .add(entry.getKey(), entry.getValue());
+        }
+
+        int[] partitions = new int[entriesPerPartition.size()];
+        MapEntries[] entries = new MapEntries[entriesPerPartition.size()];
+        int index = 0;
+        for (Map.Entry<Integer, MapEntries> entry : entriesPerPartition.entrySet()) {
+            partitions[index] = entry.getKey();
+            entries[index++] = entry.getValue();
+        }
+        return getMapOperationProvider(parameters.name)
+                .createPutAllOperationFactory(parameters.name, partitions, entries, parameters.triggerMapLoader);
+    }
+
+    @Override
+    protected Object reduce(Map<Integer, Object> map) {
+        return null;
+    }
+
+    @Override
+    public PartitionIdSet getPartitions() {
+        IPartitionService partitionService = nodeEngine.getPartitionService();
+        PartitionIdSet partitionIds = new PartitionIdSet(partitionService.getPartitionCount());
+        for (Map.Entry<Data, Data> entry : parameters.entries) {
+            partitionIds.add(partitionService.getPartitionId(entry.getKey()));
+        }
+        return partitionIds;
+    }
+
+    @Override
+    protected void beforeProcess() {
+        startTimeNanos = Timer.nanos();
+    }
+
+    @Override
+    protected Object processResponseBeforeSending(Map<Integer, Object> response) {
+        MapService mapService = getService(MapService.SERVICE_NAME);
+        MapContainer mapContainer = mapService.getMapServiceContext().getMapContainer(parameters.name);
+        if (mapContainer.getMapConfig().isStatisticsEnabled()) {
+            mapService.getMapServiceContext().getLocalMapStatsProvider().getLocalMapStatsImpl(parameters.name)
+                    .incrementPutLatencyNanos(parameters.entries.size(), Timer.nanosElapsed(startTimeNanos));
+        }
+        return super.processResponseBeforeSending(response);
+    }
+
+    @Override
+    protected MapPutAllOnMemberCodec.RequestParameters decodeClientMessage(ClientMessage clientMessage) {
+        return MapPutAllOnMemberCodec.decodeRequest(clientMessage);
+    }
+
+    @Override
+    protected ClientMessage encodeResponse(Object response) {
+        return MapPutAllOnMemberCodec.encodeResponse();
+    }
+
+    @Override
+    public String getServiceName() {
+        return MapService.SERVICE_NAME;
+    }
+
+    @Override
+    public Permission getRequiredPermission() {
+        return new MapPermission(parameters.name, ActionConstants.ACTION_PUT);
+    }
+
+    @Override
+    public String getDistributedObjectName() {
+        return parameters.name;
+    }
+
+    @Override
+    public String getMethodName() {
+        return SecurityInterceptorConstants.PUT_ALL;
+    }
+
+    @Override
+    public Object[] getParameters() {
+        Map<Data, Data> map = createHashMap(parameters.entries.size());
+        for (Map.Entry<Data, Data> entry : parameters.entries) {
+            map.put(entry.getKey(), entry.getValue());
+        }
+        return new Object[]{map};
+    }
+
+    @Override
+    protected String getUserCodeNamespace() {
+        return MapService.lookupNamespace(nodeEngine, getDistributedObjectName());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol.task.queue;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.QueueFetchItemsCodec;
+import com.hazelcast.collection.impl.common.ItemsWithCursor;
+import com.hazelcast.collection.impl.queue.operations.FetchItemsOperation;
+import com.hazelcast.instance.impl.Node;
+import com.hazelcast.internal.nio.Connection;
+import com.hazelcast.security.SecurityInterceptorConstants;
+import com.hazelcast.security.permission.ActionConstants;
+import com.hazelcast.security.permission.QueuePermission;
+import com.hazelcast.spi.impl.operationservice.Operation;
+
+import java.security.Permission;
+
+/**
+ * Client Protocol Task for handling messages with type ID:
+ * {@link QueueFetchItemsCodec#REQUEST_MESSAGE_TYPE}
+ */
+public class QueueFetchItemsMessageTask
+        extends AbstractQueueMessageTask<QueueFetchItemsCodec.RequestParameters> {
+
+    public QueueFetchItemsMessageTask(ClientMessage clientMessage, Node node, Connection connection) {
+        super(clientMessage, node, connection);
+    }
+
+    @Override
+    protected Operation prepareOperation() {
+        return new FetchItemsOperation(parameters.name, parameters.cursorId, parameters.newIteration, parameters.fetchSize);
+    }
+
+    @Override
+    protected QueueFetchItemsCodec.RequestParameters decodeClientMessage(ClientMessage clientMessage) {
+        return QueueFetchItemsCodec.decodeRequest(clientMessage);
+    }
+
+    @Override
+    protected ClientMessage encodeResponse(Object response) {
+        ItemsWithCursor result = (ItemsWithCursor) response;
+        return QueueFetchItemsCodec.encodeResponse(result.getCursorId(), result.getItems());
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return new Object[]{parameters.fetchSize, parameters.cursorId};
+    }
+
+    @Override
+    public Permission getRequiredPermission() {
+        return new QueuePermission(parameters.name, ActionConstants.ACTION_READ);
+    }
+
+    @Override
+    public String getMethodName() {
+        return SecurityInterceptorConstants.ITERATOR;
+    }
+
+    @Override
+    public String getDistributedObjectName() {
+        return parameters.name;
+    }
+}
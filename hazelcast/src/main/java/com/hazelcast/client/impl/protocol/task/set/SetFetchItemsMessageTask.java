@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.protocol.task.set;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.SetFetchItemsCodec;
+import com.hazelcast.collection.impl.collection.operations.CollectionFetchItemsOperation;
+import com.hazelcast.collection.impl.common.ItemsWithCursor;
+import com.hazelcast.collection.impl.set.SetService;
+import com.hazelcast.instance.impl.Node;
+import com.hazelcast.internal.nio.Connection;
+import com.hazelcast.security.SecurityInterceptorConstants;
+import com.hazelcast.security.permission.ActionConstants;
+import com.hazelcast.security.permission.SetPermission;
+import com.hazelcast.spi.impl.operationservice.Operation;
+
+import java.security.Permission;
+
+/**
+ * Client Protocol Task for handling messages with type ID:
+ * {@link SetFetchItemsCodec#REQUEST_MESSAGE_TYPE}
+ */
+public class SetFetchItemsMessageTask
+        extends AbstractSetMessageTask<SetFetchItemsCodec.RequestParameters> {
+
+    public SetFetchItemsMessageTask(ClientMessage clientMessage, Node node, Connection connection) {
+        super(clientMessage, node, connection);
+    }
+
+    @Override
+    protected Operation prepareOperation() {
+        return new CollectionFetchItemsOperation(parameters.name, parameters.cursorId, parameters.newIteration, parameters.fetchSize);
+    }
+
+    @Override
+    protected SetFetchItemsCodec.RequestParameters decodeClientMessage(ClientMessage clientMessage) {
+        return SetFetchItemsCodec.decodeRequest(clientMessage);
+    }
+
+    @Override
+    protected ClientMessage encodeResponse(Object response) {
+        ItemsWithCursor result = (ItemsWithCursor) response;
+        return SetFetchItemsCodec.encodeResponse(result.getCursorId(), result.getItems());
+    }
+
+    @Override
+    public String getServiceName() {
+        return SetService.SERVICE_NAME;
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return new Object[]{parameters.fetchSize, parameters.cursorId};
+    }
+
+    @Override
+    public Permission getRequiredPermission() {
+        return new SetPermission(parameters.name, ActionConstants.ACTION_READ);
+    }
+
+    @Override
+    public String getMethodName() {
+        return SecurityInterceptorConstants.ITERATOR;
+    }
+
+    @Override
+    public String getDistributedObjectName() {
+        return parameters.name;
+    }
+}
@@ -27,6 +27,7 @@ import com.hazelcast.client.impl.protocol.codec.ListCompareAndRemoveAllCodec;
 import com.hazelcast.client.impl.protocol.codec.ListCompareAndRetainAllCodec;
 import com.hazelcast.client.impl.protocol.codec.ListContainsAllCodec;
 import com.hazelcast.client.impl.protocol.codec.ListContainsCodec;
+import com.hazelcast.client.impl.protocol.codec.ListFetchItemsCodec;
 import com.hazelcast.client.impl.protocol.codec.ListGetAllCodec;
 import com.hazelcast.client.impl.protocol.codec.ListGetCodec;
 import com.hazelcast.client.impl.protocol.codec.ListIndexOfCodec;
@@ -49,6 +50,7 @@ import com.hazelcast.collection.ItemEvent;
 import com.hazelcast.collection.ItemListener;
 import com.hazelcast.collection.LocalListStats;
 import com.hazelcast.collection.impl.common.DataAwareItemEvent;
+import com.hazelcast.collection.impl.common.ItemsWithCursor;
 import com.hazelcast.core.ItemEventType;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.spi.impl.UnmodifiableLazyList;
@@ -141,6 +143,15 @@ public class ClientListProxy<E> extends PartitionSpecificClientProxy implements
 
     @Override
     public Iterator<E> iterator() {
+        if (isChunkedIteration()) {
+            return newChunkedIterator((cursorId, newIteration, fetchSize) -> {
+                ClientMessage request = ListFetchItemsCodec.encodeRequest(name, cursorId, newIteration, fetchSize);
+                return invokeOnPartitionAsync(request).thenApply(response -> {
+                    ListFetchItemsCodec.ResponseParameters parameters = ListFetchItemsCodec.decodeResponse(response);
+                    return new ItemsWithCursor(parameters.items, parameters.cursorId);
+                });
+            });
+        }
         ClientMessage request = ListIteratorCodec.encodeRequest(name);
         ClientMessage response = invokeOnPartition(request);
         List<Data> resultCollection = ListIteratorCodec.decodeResponse(response);
@@ -48,6 +48,7 @@ import com.hazelcast.client.impl.protocol.codec.MapExecuteWithPredicateCodec;
 import com.hazelcast.client.impl.protocol.codec.MapFlushCodec;
 import com.hazelcast.client.impl.protocol.codec.MapForceUnlockCodec;
 import com.hazelcast.client.impl.protocol.codec.MapGetAllCodec;
+import com.hazelcast.client.impl.protocol.codec.MapGetAllOnMemberCodec;
 import com.hazelcast.client.impl.protocol.codec.MapGetCodec;
 import com.hazelcast.client.impl.protocol.codec.MapGetEntryViewCodec;
 import com.hazelcast.client.impl.protocol.codec.MapIsEmptyCodec;
@@ -61,6 +62,7 @@ import com.hazelcast.client.impl.protocol.codec.MapLockCodec;
 import com.hazelcast.client.impl.protocol.codec.MapProjectCodec;
 import com.hazelcast.client.impl.protocol.codec.MapProjectWithPredicateCodec;
 import com.hazelcast.client.impl.protocol.codec.MapPutAllCodec;
+import com.hazelcast.client.impl.protocol.codec.MapPutAllOnMemberCodec;
 import com.hazelcast.client.impl.protocol.codec.MapPutAllWithMetadataCodec;
 import com.hazelcast.client.impl.protocol.codec.MapPutCodec;
 import com.hazelcast.client.impl.protocol.codec.MapPutIfAbsentCodec;
@@ -110,7 +112,9 @@ import com.hazelcast.config.IndexConfig;
 import com.hazelcast.core.EntryEvent;
 import com.hazelcast.core.EntryEventType;
 import com.hazelcast.core.EntryView;
+import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.core.ManagedContext;
+import com.hazelcast.core.MemberLeftException;
 import com.hazelcast.core.ReadOnly;
 import com.hazelcast.internal.journal.EventJournalInitialSubscriberState;
 import com.hazelcast.internal.journal.EventJournalReader;
@@ -146,12 +150,15 @@ import com.hazelcast.query.impl.IndexUtils;
 import com.hazelcast.query.impl.predicates.PagingPredicateImpl;
 import com.hazelcast.ringbuffer.ReadResultSet;
 import com.hazelcast.ringbuffer.impl.ReadResultSetImpl;
+import com.hazelcast.spi.exception.TargetDisconnectedException;
+import com.hazelcast.spi.exception.TargetNotMemberException;
 import com.hazelcast.spi.impl.InternalCompletableFuture;
 import com.hazelcast.spi.impl.UnmodifiableLazyList;
 import com.hazelcast.spi.impl.UnmodifiableLazySet;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.io.IOException;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -163,6 +170,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -170,6 +179,7 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static com.hazelcast.client.properties.ClientProperty.MAP_MEMBER_BATCHING_ENABLED;
 import static com.hazelcast.internal.util.CollectionUtil.objectToDataCollection;
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
@@ -1169,6 +1179,14 @@ public class ClientMapProxy<K, V> extends ClientProxy
         if (partitionToKeyData.isEmpty()) {
             fillPartitionToKeyData(keys, partitionToKeyData, null, null);
         }
+        if (isMemberBatchingEnabled()) {
+            getAllOnMembers(partitionToKeyData, resultingKeyValuePairs);
+        } else {
+            getAllOnPartitions(partitionToKeyData, resultingKeyValuePairs);
+        }
+    }
+
+    private void getAllOnPartitions(Map<Integer, List<Data>> partitionToKeyData, List<Object> resultingKeyValuePairs) {
         List<Future<ClientMessage>> futures = new ArrayList<>(partitionToKeyData.size());
         for (Map.Entry<Integer, List<Data>> entry : partitionToKeyData.entrySet()) {
             int partitionId = entry.getKey();
@@ -1193,6 +1211,86 @@ public class ClientMapProxy<K, V> extends ClientProxy
         }
     }
 
+    /**
+     * Gets the entries of the keys with a single message to each owner of
+     * their partitions. The keys of the partitions without a known owner, or
+     * whose owner left the cluster or could not be reached, are requested
+     * from the partitions.
+     */
+    private void getAllOnMembers(Map<Integer, List<Data>> partitionToKeyData, List<Object> resultingKeyValuePairs) {
+        Map<UUID, Map<Integer, List<Data>>> ownerToKeyData = groupByOwner(partitionToKeyData);
+        Map<Integer, List<Data>> unownedKeyData = ownerToKeyData.remove(null);
+        Map<UUID, Future<ClientMessage>> futures = createHashMap(ownerToKeyData.size());
+        for (Map.Entry<UUID, Map<Integer, List<Data>>> entry : ownerToKeyData.entrySet()) {
+            List<Data> keyList = new ArrayList<>();
+            entry.getValue().values().forEach(keyList::addAll);
+            ClientMessage request = MapGetAllOnMemberCodec.encodeRequest(name, keyList);
+            futures.put(entry.getKey(), new ClientInvocation(getClient(), request, getName(), entry.getKey()).invoke());
+        }
+        if (unownedKeyData != null) {
+            getAllOnPartitions(unownedKeyData, resultingKeyValuePairs);
+        }
+
+        for (Map.Entry<UUID, Future<ClientMessage>> entry : futures.entrySet()) {
+            List<Entry<Data, Data>> entries;
+            try {
+                entries = MapGetAllOnMemberCodec.decodeResponse(entry.getValue().get());
+            } catch (Exception e) {
+                if (!isMemberUnavailable(e)) {
+                    throw rethrow(e);
+                }
+                getAllOnPartitions(ownerToKeyData.get(entry.getKey()), resultingKeyValuePairs);
+                continue;
+            }
+            for (Entry<Data, Data> resultEntry : entries) {
+                resultingKeyValuePairs.add(resultEntry.getKey());
+                resultingKeyValuePairs.add(resultEntry.getValue());
+            }
+        }
+    }
+
+    private boolean isMemberBatchingEnabled() {
+        return getClient().getProperties().getBoolean(MAP_MEMBER_BATCHING_ENABLED);
+    }
+
+    /**
+     * Groups the partitioned items by the owners of the partitions. The
+     * partitions without a known owner are grouped under the {@code null} key.
+     */
+    private <T> Map<UUID, Map<Integer, T>> groupByOwner(Map<Integer, T> partitionToItems) {
+        ClientPartitionService partitionService = getContext().getPartitionService();
+        Map<UUID, Map<Integer, T>> ownerToItems = new HashMap<>();
+        for (Map.Entry<Integer, T> entry : partitionToItems.entrySet()) {
+            UUID owner = partitionService.getPartitionOwner(entry.getKey());
+            ownerToItems.computeIfAbsent(owner, x -> new HashMap<>()).put(entry.getKey(), entry.getValue());
+        }
+        return ownerToItems;
+    }
+
+    /**
+     * Returns whether the failure of a request sent to a member means that
+     * the member could not be reached or left the cluster. The request can
+     * then be repeated on the partitions, whose invocations follow the
+     * partition owners.
+     */
+    private static boolean isMemberUnavailable(Throwable t) {
+        Throwable cause = t instanceof ExecutionException || t instanceof CompletionException ? t.getCause() : t;
+        return cause instanceof TargetNotMemberException
+                || cause instanceof MemberLeftException
+                || cause instanceof TargetDisconnectedException
+                || cause instanceof HazelcastInstanceNotActiveException
+                || cause instanceof IOException;
+    }
+
+    /**
+     * Returns whether the failure of a request sent to a member means that
+     * the member left the cluster before the request was sent to it.
+     */
+    private static boolean isTargetNotMember(Throwable t) {
+        Throwable cause = t instanceof ExecutionException || t instanceof CompletionException ? t.getCause() : t;
+        return cause instanceof TargetNotMemberException;
+    }
+
     protected void fillPartitionToKeyData(Set<K> keys,
                                           Map<Integer, List<Data>> partitionToKeyData,
                                           Map<Object, Data> keyMap,
@@ -1678,14 +1776,10 @@ public class ClientMapProxy<K, V> extends ClientProxy
                 }
             }
         };
-        for (Entry<Integer, List<Map.Entry<Data, Data>>> entry : entryMap.entrySet()) {
-            Integer partitionId = entry.getKey();
-            // if there is only one entry, consider how we can use MapPutRequest
-            // without having to get back the return value
-            ClientMessage request = MapPutAllCodec.encodeRequest(name, entry.getValue(), triggerMapLoader);
-            new ClientInvocation(getClient(), request, getName(), partitionId)
-                    .invoke()
-                    .whenCompleteAsync(callback, ConcurrencyUtil.getDefaultAsyncExecutor());
+        if (isMemberBatchingEnabled()) {
+            putAllOnMembers(entryMap, triggerMapLoader, counter, callback);
+        } else {
+            putAllOnPartitions(entryMap, triggerMapLoader, callback);
         }
         // if executing in sync mode, block for the responses
         if (future == null) {
@@ -1700,6 +1794,57 @@ public class ClientMapProxy<K, V> extends ClientProxy
     protected void finalizePutAll(Map<? extends K, ? extends V> map, Map<Integer, List<Entry<Data, Data>>> entryMap) {
     }
 
+    private void putAllOnPartitions(Map<Integer, List<Map.Entry<Data, Data>>> entryMap, boolean triggerMapLoader,
+                                    BiConsumer<ClientMessage, Throwable> callback) {
+        for (Entry<Integer, List<Map.Entry<Data, Data>>> entry : entryMap.entrySet()) {
+            Integer partitionId = entry.getKey();
+            // if there is only one entry, consider how we can use MapPutRequest
+            // without having to get back the return value
+            ClientMessage request = MapPutAllCodec.encodeRequest(name, entry.getValue(), triggerMapLoader);
+            new ClientInvocation(getClient(), request, getName(), partitionId)
+                    .invoke()
+                    .whenCompleteAsync(callback, ConcurrencyUtil.getDefaultAsyncExecutor());
+        }
+    }
+
+    /**
+     * Puts the entries with a single message to each owner of their
+     * partitions. The {@code counter} initially counts the partitions of the
+     * entries, it is adjusted to the number of the messages sent. The entries
+     * of the partitions without a known owner, or whose owner left the
+     * cluster before the message was sent, are sent to the partitions. The
+     * other failures are not retried, as the member may have already applied
+     * a part of the entries, and applying them again would fire duplicate
+     * events and repeat the MapStore writes.
+     */
+    private void putAllOnMembers(Map<Integer, List<Map.Entry<Data, Data>>> entryMap, boolean triggerMapLoader,
+                                 AtomicInteger counter, BiConsumer<ClientMessage, Throwable> callback) {
+        Map<UUID, Map<Integer, List<Map.Entry<Data, Data>>>> ownerToEntries = groupByOwner(entryMap);
+        Map<Integer, List<Map.Entry<Data, Data>>> unownedEntries = ownerToEntries.remove(null);
+        counter.set(ownerToEntries.size() + (unownedEntries != null ? unownedEntries.size() : 0));
+        for (Map.Entry<UUID, Map<Integer, List<Map.Entry<Data, Data>>>> entry : ownerToEntries.entrySet()) {
+            Map<Integer, List<Map.Entry<Data, Data>>> partitionEntries = entry.getValue();
+            List<Map.Entry<Data, Data>> entries = new ArrayList<>();
+            partitionEntries.values().forEach(entries::addAll);
+            ClientMessage request = MapPutAllOnMemberCodec.encodeRequest(name, entries, triggerMapLoader);
+            new ClientInvocation(getClient(), request, getName(), entry.getKey())
+                    .invoke()
+                    .whenCompleteAsync((response, t) -> {
+                        if (t != null && isTargetNotMember(t)) {
+                            // the request was not sent, the partitions are counted before this one is completed
+                            counter.addAndGet(partitionEntries.size());
+                            putAllOnPartitions(partitionEntries, triggerMapLoader, callback);
+                            callback.accept(null, null);
+                        } else {
+                            callback.accept(response, t);
+                        }
+                    }, ConcurrencyUtil.getDefaultAsyncExecutor());
+        }
+        if (unownedEntries != null) {
+            putAllOnPartitions(unownedEntries, triggerMapLoader, callback);
+        }
+    }
+
     public CompletableFuture<Void> putAllWithMetadataAsync(@Nonnull Collection<? extends EntryView<K, V>> entries) {
         checkNotNull(entries, "Null argument entries is not allowed");
         ClientPartitionService partitionService = getContext().getPartitionService();
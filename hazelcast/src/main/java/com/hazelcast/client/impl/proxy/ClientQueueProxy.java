@@ -26,6 +26,7 @@ import com.hazelcast.client.impl.protocol.codec.QueueContainsAllCodec;
 import com.hazelcast.client.impl.protocol.codec.QueueContainsCodec;
 import com.hazelcast.client.impl.protocol.codec.QueueDrainToCodec;
 import com.hazelcast.client.impl.protocol.codec.QueueDrainToMaxSizeCodec;
+import com.hazelcast.client.impl.protocol.codec.QueueFetchItemsCodec;
 import com.hazelcast.client.impl.protocol.codec.QueueIsEmptyCodec;
 import com.hazelcast.client.impl.protocol.codec.QueueIteratorCodec;
 import com.hazelcast.client.impl.protocol.codec.QueueOfferCodec;
@@ -46,6 +47,7 @@ import com.hazelcast.collection.ItemEvent;
 import com.hazelcast.collection.ItemListener;
 import com.hazelcast.collection.LocalQueueStats;
 import com.hazelcast.collection.impl.common.DataAwareItemEvent;
+import com.hazelcast.collection.impl.common.ItemsWithCursor;
 import com.hazelcast.collection.impl.queue.QueueIterator;
 import com.hazelcast.core.HazelcastException;
 import com.hazelcast.core.ItemEventType;
@@ -310,6 +312,15 @@ public final class ClientQueueProxy<E> extends PartitionSpecificClientProxy impl
 
     @Override
     public Iterator<E> iterator() {
+        if (isChunkedIteration()) {
+            return newChunkedIterator((cursorId, newIteration, fetchSize) -> {
+                ClientMessage request = QueueFetchItemsCodec.encodeRequest(name, cursorId, newIteration, fetchSize);
+                return invokeOnPartitionAsync(request).thenApply(response -> {
+                    QueueFetchItemsCodec.ResponseParameters parameters = QueueFetchItemsCodec.decodeResponse(response);
+                    return new ItemsWithCursor(parameters.items, parameters.cursorId);
+                });
+            });
+        }
         ClientMessage request = QueueIteratorCodec.encodeRequest(name);
         ClientMessage response = invokeOnPartition(request);
         Collection<Data> resultCollection = QueueIteratorCodec.decodeResponse(response);
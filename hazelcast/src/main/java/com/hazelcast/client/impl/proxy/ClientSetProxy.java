@@ -25,6 +25,7 @@ import com.hazelcast.client.impl.protocol.codec.SetCompareAndRemoveAllCodec;
 import com.hazelcast.client.impl.protocol.codec.SetCompareAndRetainAllCodec;
 import com.hazelcast.client.impl.protocol.codec.SetContainsAllCodec;
 import com.hazelcast.client.impl.protocol.codec.SetContainsCodec;
+import com.hazelcast.client.impl.protocol.codec.SetFetchItemsCodec;
 import com.hazelcast.client.impl.protocol.codec.SetGetAllCodec;
 import com.hazelcast.client.impl.protocol.codec.SetIsEmptyCodec;
 import com.hazelcast.client.impl.protocol.codec.SetRemoveCodec;
@@ -39,6 +40,7 @@ import com.hazelcast.collection.ItemEvent;
 import com.hazelcast.collection.ItemListener;
 import com.hazelcast.collection.LocalSetStats;
 import com.hazelcast.collection.impl.common.DataAwareItemEvent;
+import com.hazelcast.collection.impl.common.ItemsWithCursor;
 import com.hazelcast.core.ItemEventType;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.spi.impl.UnmodifiableLazyList;
@@ -88,6 +90,15 @@ public class ClientSetProxy<E> extends PartitionSpecificClientProxy implements I
 
     @Override
     public Iterator<E> iterator() {
+        if (isChunkedIteration()) {
+            return newChunkedIterator((cursorId, newIteration, fetchSize) -> {
+                ClientMessage request = SetFetchItemsCodec.encodeRequest(name, cursorId, newIteration, fetchSize);
+                return invokeOnPartitionAsync(request).thenApply(response -> {
+                    SetFetchItemsCodec.ResponseParameters parameters = SetFetchItemsCodec.decodeResponse(response);
+                    return new ItemsWithCursor(parameters.items, parameters.cursorId);
+                });
+            });
+        }
         return getAll().iterator();
     }
 
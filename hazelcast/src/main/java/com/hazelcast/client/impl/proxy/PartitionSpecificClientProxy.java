@@ -23,11 +23,17 @@ import com.hazelcast.client.impl.spi.ClientContext;
 import com.hazelcast.client.impl.spi.ClientProxy;
 import com.hazelcast.client.impl.spi.impl.ClientInvocation;
 import com.hazelcast.client.impl.spi.impl.ClientInvocationFuture;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.collection.impl.common.ChunkedItemIterator;
 import com.hazelcast.internal.util.ExceptionUtil;
 import com.hazelcast.partition.strategy.StringPartitioningStrategy;
+import com.hazelcast.spi.properties.HazelcastProperties;
 
+import java.util.Iterator;
 import java.util.concurrent.Future;
 
+import static com.hazelcast.client.properties.ClientProperty.COLLECTION_ITERATOR_FETCH_SIZE;
+import static com.hazelcast.client.properties.ClientProperty.COLLECTION_ITERATOR_PREFETCH_DEPTH;
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 
 /**
@@ -65,6 +71,33 @@ abstract class PartitionSpecificClientProxy extends ClientProxy {
         }
     }
 
+    protected ClientInvocationFuture invokeOnPartitionAsync(ClientMessage clientMessage) {
+        try {
+            return new ClientInvocation(getClient(), clientMessage, getName(), partitionId).invoke();
+        } catch (Exception e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Returns whether the iterators of the collection proxies stream the items
+     * in pages, see {@link ClientProperty#COLLECTION_ITERATOR_FETCH_SIZE}.
+     */
+    protected boolean isChunkedIteration() {
+        return getClient().getProperties().getInteger(COLLECTION_ITERATOR_FETCH_SIZE) > 0;
+    }
+
+    /**
+     * Returns an iterator streaming the items of the collection in the pages
+     * fetched by the given fetcher.
+     */
+    protected <E> Iterator<E> newChunkedIterator(ChunkedItemIterator.PageFetcher fetcher) {
+        HazelcastProperties properties = getClient().getProperties();
+        return new ChunkedItemIterator<>(fetcher, getSerializationService()::toObject,
+                properties.getInteger(COLLECTION_ITERATOR_FETCH_SIZE),
+                properties.getInteger(COLLECTION_ITERATOR_PREFETCH_DEPTH));
+    }
+
     protected <T> T invokeOnPartition(ClientMessage clientMessage, long invocationTimeoutSeconds) {
         try {
             ClientInvocation clientInvocation = new ClientInvocation(getClient(), clientMessage, getName(), partitionId);
@@ -19,6 +19,7 @@ package com.hazelcast.client.properties;
 import com.hazelcast.client.config.ClientMetricsConfig;
 import com.hazelcast.config.MetricsJmxConfig;
 import com.hazelcast.core.IndeterminateOperationStateException;
+import com.hazelcast.spi.annotation.Beta;
 import com.hazelcast.spi.properties.HazelcastProperty;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -339,6 +340,51 @@ public final class ClientProperty {
     public static final HazelcastProperty PARTITIONING_STRATEGY_CLASS
             = new HazelcastProperty("hazelcast.partitioning.strategy.class", "");
 
+    /**
+     * The number of the items fetched at once by the iterators of the client
+     * proxies of {@link com.hazelcast.collection.IQueue queues}, {@link
+     * com.hazelcast.collection.IList lists} and {@link com.hazelcast.collection.ISet
+     * sets}. When set to a positive value, an iterator streams the items in
+     * pages of this size from a cursor on the partition owner, instead of
+     * fetching all the items of the collection at once. Client-side equivalent
+     * of member property {@link com.hazelcast.spi.properties.ClusterProperty#COLLECTION_ITERATOR_FETCH_SIZE}.
+     * The value of {@code 0} disables the paging, which is the default.
+     * <p>
+     * The paging is experimental: the messages fetching the pages are not part
+     * of the published client protocol yet, so they are only understood by the
+     * members of the same version, and the clients of the other languages
+     * don't support them.
+     */
+    @Beta
+    public static final HazelcastProperty COLLECTION_ITERATOR_FETCH_SIZE
+            = new HazelcastProperty("hazelcast.client.collection.iterator.fetch.size", 0);
+
+    /**
+     * The number of the pages requested ahead of the page being iterated by a
+     * paging collection iterator, see {@link #COLLECTION_ITERATOR_FETCH_SIZE}.
+     */
+    @Beta
+    public static final HazelcastProperty COLLECTION_ITERATOR_PREFETCH_DEPTH
+            = new HazelcastProperty("hazelcast.client.collection.iterator.prefetch.depth", 1);
+
+    /**
+     * Enables sending the keys of {@link com.hazelcast.map.IMap#getAll(java.util.Set)
+     * IMap.getAll} and the entries of {@link com.hazelcast.map.IMap#putAll(java.util.Map)
+     * IMap.putAll} in a single message to each member, grouped by the owners of
+     * their partitions, instead of one message per partition. The member
+     * executes the operations on the partitions of the message and responds
+     * once they complete. The members of the cluster must support the
+     * member-batched messages, so this is disabled by default.
+     * <p>
+     * The batching is experimental: the member-batched messages are not part
+     * of the published client protocol yet, so they are only understood by the
+     * members of the same version, and the clients of the other languages
+     * don't support them.
+     */
+    @Beta
+    public static final HazelcastProperty MAP_MEMBER_BATCHING_ENABLED
+            = new HazelcastProperty("hazelcast.client.map.member.batching.enabled", false);
+
     private ClientProperty() {
     }
 }
@@ -0,0 +1,581 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection;
+
+import com.hazelcast.collection.impl.queue.QueueService;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.partition.strategy.StringPartitioningStrategy;
+import com.hazelcast.spi.annotation.Beta;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import static com.hazelcast.internal.partition.ShardNameUtil.shardNames;
+import static com.hazelcast.internal.util.Preconditions.checkFalse;
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+
+/**
+ * A queue which spreads its items over several regular {@link IQueue}s,
+ * the shards, stored in different partitions: the shards are named {@code
+ * baseName@partitionKey} with the partition keys chosen to place them in
+ * consecutive partitions, so they are in different partitions as long as
+ * their number does not exceed the partition count. The offers and polls of
+ * the different producers and consumers are therefore processed by different
+ * partition threads and members, so the throughput of the queue scales with
+ * the size of the cluster.
+ * <p>
+ * The ordering is relaxed:
+ * <ul>
+ * <li>Every instance of this class offers its items to a single shard chosen
+ * at random when the instance is created, so the items offered through an
+ * instance are polled in the order they were offered.
+ * <li>Every instance polls its items from another randomly chosen shard, and
+ * steals the items from the other shards when its shard is empty. A blocking
+ * poll which finds all the shards empty listens to the items added to all
+ * the shards and polls again when an item is added. The item listener of an
+ * instance is registered while any of its blocking polls waits, and removed
+ * when the last one returns. A waiting poll also polls again every
+ * {@value #RECHECK_INTERVAL_MILLIS} milliseconds, in case an event was lost.
+ * </ul>
+ * The shards are named after the base name of this queue, so they are
+ * configured by the {@link com.hazelcast.config.QueueConfig} of this queue,
+ * which applies to every shard separately: for instance, the max size limits
+ * the number of items in a single shard. All the instances of a sharded queue
+ * must be created with the same number of shards.
+ * <p>
+ * The local queue statistics are the sums of the statistics of the shards,
+ * the ages of the items are aggregated over all the shards.
+ *
+ * @param <E> the type of the items in this queue.
+ * @since 5.5
+ */
+@Beta
+public final class ShardedQueue<E> extends AbstractQueue<E> implements IQueue<E> {
+
+    /**
+     * The maximum time in milliseconds a blocking poll waits for an item added
+     * event before polling the shards again.
+     */
+    public static final long RECHECK_INTERVAL_MILLIS = 1000;
+
+    private final String name;
+    private final IQueue<E>[] shards;
+    private final int producerShard;
+    private final int consumerShard;
+    private final Map<UUID, UUID[]> listenerRegistrations = new ConcurrentHashMap<>();
+    private final Object itemAddedMutex = new Object();
+    private long itemAddedCount;
+    private int waitingPollCount;
+    private UUID[] itemAddedRegistrations;
+
+    /**
+     * Creates a sharded queue.
+     *
+     * @param instance   the instance to obtain the shards from.
+     * @param name       the name of the queue.
+     * @param shardCount the number of the shards.
+     */
+    public ShardedQueue(@Nonnull HazelcastInstance instance, @Nonnull String name, int shardCount) {
+        this(instance, name, shardCount, randomShard(shardCount), randomShard(shardCount));
+    }
+
+    @SuppressWarnings("unchecked")
+    ShardedQueue(HazelcastInstance instance, String name, int shardCount, int producerShard, int consumerShard) {
+        checkNotNull(instance, "Null instance is not allowed!");
+        checkNotNull(name, "Null name is not allowed!");
+        checkPositive("shardCount", shardCount);
+        this.name = name;
+        this.shards = new IQueue[shardCount];
+        String[] shardNames = shardNames(instance.getPartitionService(), name, shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = instance.getQueue(shardNames[i]);
+        }
+        this.producerShard = producerShard;
+        this.consumerShard = consumerShard;
+    }
+
+    private static int randomShard(int shardCount) {
+        return ThreadLocalRandom.current().nextInt(checkPositive("shardCount", shardCount));
+    }
+
+    @Override
+    public boolean offer(@Nonnull E e) {
+        return shards[producerShard].offer(e);
+    }
+
+    @Override
+    public boolean offer(@Nonnull E e, long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+        return shards[producerShard].offer(e, timeout, unit);
+    }
+
+    @Override
+    public void put(@Nonnull E e) throws InterruptedException {
+        shards[producerShard].put(e);
+    }
+
+    @Override
+    public boolean addAll(@Nonnull Collection<? extends E> c) {
+        return shards[producerShard].addAll(c);
+    }
+
+    @Override
+    public E poll() {
+        for (int i = 0; i < shards.length; i++) {
+            E item = shard(i).poll();
+            if (item != null) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public E poll(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+        checkNotNull(unit, "Null timeUnit is not allowed!");
+
+        // a negative timeout means waiting for an item indefinitely, like take()
+        long timeoutMillis = unit.toMillis(timeout);
+        long deadline = timeoutMillis < 0 ? Long.MAX_VALUE : System.currentTimeMillis() + timeoutMillis;
+        E item = poll();
+        if (item != null || timeoutMillis == 0) {
+            return item;
+        }
+        startWaiting();
+        try {
+            while (true) {
+                long addedCount = itemAddedCount();
+                item = poll();
+                if (item != null) {
+                    return item;
+                }
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return null;
+                }
+                awaitItemAdded(addedCount, Math.min(remaining, RECHECK_INTERVAL_MILLIS));
+            }
+        } finally {
+            stopWaiting();
+        }
+    }
+
+    @Nonnull
+    @Override
+    public E take() throws InterruptedException {
+        return poll(-1, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public E peek() {
+        for (int i = 0; i < shards.length; i++) {
+            E item = shard(i).peek();
+            if (item != null) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int drainTo(@Nonnull Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(@Nonnull Collection<? super E> c, int maxElements) {
+        checkNotNull(c, "Null objects parameter is not allowed!");
+        checkFalse(this.equals(c), "Can not drain to same Queue");
+
+        int drained = 0;
+        for (int i = 0; i < shards.length && drained < maxElements; i++) {
+            drained += maxElements == Integer.MAX_VALUE
+                    ? shard(i).drainTo(c)
+                    : shard(i).drainTo(c, maxElements - drained);
+        }
+        return drained;
+    }
+
+    @Override
+    public int size() {
+        long size = 0;
+        for (IQueue<E> shard : shards) {
+            size += shard.size();
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (IQueue<E> shard : shards) {
+            if (!shard.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        long remainingCapacity = 0;
+        for (IQueue<E> shard : shards) {
+            remainingCapacity += shard.remainingCapacity();
+        }
+        return (int) Math.min(remainingCapacity, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean contains(@Nonnull Object o) {
+        for (IQueue<E> shard : shards) {
+            if (shard.contains(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(@Nonnull Object o) {
+        for (IQueue<E> shard : shards) {
+            if (shard.remove(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeAll(@Nonnull Collection<?> c) {
+        boolean changed = false;
+        for (IQueue<E> shard : shards) {
+            changed |= shard.removeAll(c);
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean retainAll(@Nonnull Collection<?> c) {
+        boolean changed = false;
+        for (IQueue<E> shard : shards) {
+            changed |= shard.retainAll(c);
+        }
+        return changed;
+    }
+
+    @Override
+    public void clear() {
+        for (IQueue<E> shard : shards) {
+            shard.clear();
+        }
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the items of all the shards, the
+     * items of a shard are iterated in their order.
+     */
+    @Nonnull
+    @Override
+    public Iterator<E> iterator() {
+        List<E> items = new ArrayList<>();
+        for (IQueue<E> shard : shards) {
+            shard.iterator().forEachRemaining(items::add);
+        }
+        return Collections.unmodifiableList(items).iterator();
+    }
+
+    @Nonnull
+    @Override
+    public UUID addItemListener(@Nonnull ItemListener<E> listener, boolean includeValue) {
+        checkNotNull(listener, "Null listener is not allowed!");
+
+        UUID[] shardRegistrations = new UUID[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            shardRegistrations[i] = shards[i].addItemListener(listener, includeValue);
+        }
+        UUID registrationId = UUID.randomUUID();
+        listenerRegistrations.put(registrationId, shardRegistrations);
+        return registrationId;
+    }
+
+    @Override
+    public boolean removeItemListener(@Nonnull UUID registrationId) {
+        checkNotNull(registrationId, "Null registrationId is not allowed!");
+
+        UUID[] shardRegistrations = listenerRegistrations.remove(registrationId);
+        if (shardRegistrations == null) {
+            return false;
+        }
+        for (int i = 0; i < shards.length; i++) {
+            shards[i].removeItemListener(shardRegistrations[i]);
+        }
+        return true;
+    }
+
+    @Override
+    public LocalQueueStats getLocalQueueStats() {
+        LocalQueueStats[] shardStats = new LocalQueueStats[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            shardStats[i] = shards[i].getLocalQueueStats();
+        }
+        return new ShardedQueueStats(shardStats);
+    }
+
+    @Nonnull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getPartitionKey() {
+        return StringPartitioningStrategy.getPartitionKey(name);
+    }
+
+    @Override
+    public String getServiceName() {
+        return QueueService.SERVICE_NAME;
+    }
+
+    @Override
+    public void destroy() {
+        synchronized (itemAddedMutex) {
+            removeItemAddedListener();
+        }
+        for (IQueue<E> shard : shards) {
+            shard.destroy();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ShardedQueue{name='" + name + '\'' + ", shardCount=" + shards.length + '}';
+    }
+
+    /**
+     * Returns the i-th shard in the order this instance visits them when
+     * polling, starting with the shard of this instance.
+     */
+    private IQueue<E> shard(int i) {
+        return shards[(consumerShard + i) % shards.length];
+    }
+
+    /**
+     * Registers the item listener on all the shards, unless another blocking
+     * poll of this instance is already waiting.
+     */
+    private void startWaiting() {
+        synchronized (itemAddedMutex) {
+            if (waitingPollCount++ > 0) {
+                return;
+            }
+            try {
+                ItemListener<E> listener = new ItemAddedListener();
+                UUID[] registrations = new UUID[shards.length];
+                itemAddedRegistrations = registrations;
+                for (int i = 0; i < shards.length; i++) {
+                    registrations[i] = shards[i].addItemListener(listener, false);
+                }
+            } catch (RuntimeException e) {
+                waitingPollCount--;
+                removeItemAddedListener();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Removes the item listener from all the shards once no blocking poll of
+     * this instance waits any more, so the instance stops receiving the events
+     * of the items added to the shards.
+     */
+    private void stopWaiting() {
+        synchronized (itemAddedMutex) {
+            if (--waitingPollCount == 0) {
+                removeItemAddedListener();
+            }
+        }
+    }
+
+    private void removeItemAddedListener() {
+        assert Thread.holdsLock(itemAddedMutex);
+        UUID[] registrations = itemAddedRegistrations;
+        if (registrations == null) {
+            return;
+        }
+        itemAddedRegistrations = null;
+        for (int i = 0; i < shards.length; i++) {
+            if (registrations[i] != null) {
+                shards[i].removeItemListener(registrations[i]);
+            }
+        }
+    }
+
+    private long itemAddedCount() {
+        synchronized (itemAddedMutex) {
+            return itemAddedCount;
+        }
+    }
+
+    /**
+     * Waits until an item is added to a shard after the given count of the
+     * added items was read, or until the timeout expires.
+     */
+    private void awaitItemAdded(long addedCount, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (itemAddedMutex) {
+            long remaining = timeoutMillis;
+            while (itemAddedCount == addedCount && remaining > 0) {
+                itemAddedMutex.wait(remaining);
+                remaining = deadline - System.currentTimeMillis();
+            }
+        }
+    }
+
+    private final class ItemAddedListener implements ItemListener<E> {
+
+        @Override
+        public void itemAdded(ItemEvent<E> item) {
+            synchronized (itemAddedMutex) {
+                itemAddedCount++;
+                itemAddedMutex.notifyAll();
+            }
+        }
+
+        @Override
+        public void itemRemoved(ItemEvent<E> item) {
+        }
+    }
+
+    /**
+     * The local statistics of a sharded queue, aggregated from the statistics
+     * of its shards.
+     */
+    private static final class ShardedQueueStats implements LocalQueueStats {
+
+        private final LocalQueueStats[] shardStats;
+
+        private ShardedQueueStats(LocalQueueStats[] shardStats) {
+            this.shardStats = shardStats;
+        }
+
+        @Override
+        public long getOwnedItemCount() {
+            return sum(LocalQueueStats::getOwnedItemCount);
+        }
+
+        @Override
+        public long getBackupItemCount() {
+            return sum(LocalQueueStats::getBackupItemCount);
+        }
+
+        @Override
+        public long getMinAge() {
+            long minAge = Long.MAX_VALUE;
+            for (LocalQueueStats stats : shardStats) {
+                minAge = Math.min(minAge, stats.getMinAge());
+            }
+            return minAge;
+        }
+
+        @Override
+        public long getMaxAge() {
+            long maxAge = 0;
+            for (LocalQueueStats stats : shardStats) {
+                maxAge = Math.max(maxAge, stats.getMaxAge());
+            }
+            return maxAge;
+        }
+
+        @Override
+        public long getAverageAge() {
+            long itemCount = 0;
+            long totalAge = 0;
+            for (LocalQueueStats stats : shardStats) {
+                itemCount += stats.getOwnedItemCount();
+                totalAge += stats.getAverageAge() * stats.getOwnedItemCount();
+            }
+            return itemCount == 0 ? 0 : totalAge / itemCount;
+        }
+
+        @Override
+        public long getOfferOperationCount() {
+            return sum(LocalQueueStats::getOfferOperationCount);
+        }
+
+        @Override
+        public long getRejectedOfferOperationCount() {
+            return sum(LocalQueueStats::getRejectedOfferOperationCount);
+        }
+
+        @Override
+        public long getPollOperationCount() {
+            return sum(LocalQueueStats::getPollOperationCount);
+        }
+
+        @Override
+        public long getEmptyPollOperationCount() {
+            return sum(LocalQueueStats::getEmptyPollOperationCount);
+        }
+
+        @Override
+        public long getOtherOperationsCount() {
+            return sum(LocalQueueStats::getOtherOperationsCount);
+        }
+
+        @Override
+        public long getEventOperationCount() {
+            return sum(LocalQueueStats::getEventOperationCount);
+        }
+
+        @Override
+        public long getCreationTime() {
+            long creationTime = Long.MAX_VALUE;
+            for (LocalQueueStats stats : shardStats) {
+                creationTime = Math.min(creationTime, stats.getCreationTime());
+            }
+            return creationTime;
+        }
+
+        private long sum(ToLongFunction<LocalQueueStats> statistic) {
+            long sum = 0;
+            for (LocalQueueStats stats : shardStats) {
+                sum += statistic.applyAsLong(stats);
+            }
+            return sum;
+        }
+
+        @Override
+        public String toString() {
+            return "ShardedQueueStats{ownedItemCount=" + getOwnedItemCount()
+                    + ", backupItemCount=" + getBackupItemCount()
+                    + ", offerOperationCount=" + getOfferOperationCount()
+                    + ", pollOperationCount=" + getPollOperationCount()
+                    + ", shardCount=" + shardStats.length + '}';
+        }
+    }
+}
@@ -23,7 +23,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.function.Function;
 
 import javax.annotation.Nonnull;
 
@@ -33,11 +35,14 @@ import com.hazelcast.collection.impl.collection.operations.CollectionAddOperatio
 import com.hazelcast.collection.impl.collection.operations.CollectionClearOperation;
 import com.hazelcast.collection.impl.collection.operations.CollectionCompareAndRemoveOperation;
 import com.hazelcast.collection.impl.collection.operations.CollectionContainsOperation;
+import com.hazelcast.collection.impl.collection.operations.CollectionFetchItemsOperation;
 import com.hazelcast.collection.impl.collection.operations.CollectionGetAllOperation;
 import com.hazelcast.collection.impl.collection.operations.CollectionIsEmptyOperation;
 import com.hazelcast.collection.impl.collection.operations.CollectionOperation;
 import com.hazelcast.collection.impl.collection.operations.CollectionRemoveOperation;
 import com.hazelcast.collection.impl.collection.operations.CollectionSizeOperation;
+import com.hazelcast.collection.impl.common.ChunkedItemIterator;
+import com.hazelcast.collection.impl.common.ItemsWithCursor;
 import com.hazelcast.config.CollectionConfig;
 import com.hazelcast.config.ItemListenerConfig;
 import com.hazelcast.core.HazelcastInstanceAware;
@@ -54,10 +59,14 @@ import com.hazelcast.spi.impl.SerializableList;
 import com.hazelcast.spi.impl.UnmodifiableLazyList;
 import com.hazelcast.spi.impl.eventservice.EventRegistration;
 import com.hazelcast.spi.impl.eventservice.EventService;
+import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
 
+import static com.hazelcast.internal.cluster.Versions.V5_5;
 import static com.hazelcast.internal.config.ConfigValidator.checkCollectionConfig;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static com.hazelcast.internal.util.SetUtil.createHashSet;
+import static com.hazelcast.spi.properties.ClusterProperty.COLLECTION_ITERATOR_FETCH_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.COLLECTION_ITERATOR_PREFETCH_DEPTH;
 import static java.util.Collections.singleton;
 
 public abstract class AbstractCollectionProxyImpl<S extends RemoteService, E> extends AbstractDistributedObject<S>
@@ -202,9 +211,42 @@ public abstract class AbstractCollectionProxyImpl<S extends RemoteService, E> ex
     }
 
     public Iterator<E> iterator() {
+        if (isChunkedIteration()) {
+            NodeEngine nodeEngine = getNodeEngine();
+            return newChunkedIterator(nodeEngine.getSerializationService()::toObject,
+                    nodeEngine.getProperties().getInteger(COLLECTION_ITERATOR_FETCH_SIZE));
+        }
         return Collections.unmodifiableCollection(getAll()).iterator();
     }
 
+    /**
+     * Returns whether the iterators stream the items in pages, see
+     * {@link com.hazelcast.spi.properties.ClusterProperty#COLLECTION_ITERATOR_FETCH_SIZE}.
+     * The items are only streamed once all the members of the cluster are
+     * able to serve the pages, i.e. the cluster version is at least 5.5.
+     */
+    public boolean isChunkedIteration() {
+        NodeEngine nodeEngine = getNodeEngine();
+        return nodeEngine.getProperties().getInteger(COLLECTION_ITERATOR_FETCH_SIZE) > 0
+                && nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(V5_5);
+    }
+
+    /**
+     * Returns an iterator streaming the items in pages of the given size from
+     * a cursor on the partition owner.
+     */
+    protected <T> Iterator<T> newChunkedIterator(Function<Data, T> converter, int fetchSize) {
+        int prefetchDepth = getNodeEngine().getProperties().getInteger(COLLECTION_ITERATOR_PREFETCH_DEPTH);
+        return new ChunkedItemIterator<>(this::fetchItems, converter, fetchSize, prefetchDepth);
+    }
+
+    private CompletableFuture<ItemsWithCursor> fetchItems(UUID cursorId, boolean newIteration, int fetchSize) {
+        CollectionFetchItemsOperation operation = new CollectionFetchItemsOperation(name, cursorId, newIteration, fetchSize);
+        InvocationFuture<Object> future = getNodeEngine().getOperationService()
+                .invokeOnPartition(getServiceName(), operation, partitionId);
+        return future.thenApply(ItemsWithCursor.class::cast);
+    }
+
     public Object[] toArray() {
         return getAll().toArray();
     }
@@ -185,6 +185,25 @@ public abstract class CollectionContainer implements IdentifiedDataSerializable
         return sub;
     }
 
+    /**
+     * Returns an iterator over the values of a snapshot of the items of this
+     * collection, taken when this method is called.
+     */
+    public Iterator<Data> dataIterator() {
+        Iterator<CollectionItem> items = new ArrayList<>(getCollection()).iterator();
+        return new Iterator<Data>() {
+            @Override
+            public boolean hasNext() {
+                return items.hasNext();
+            }
+
+            @Override
+            public Data next() {
+                return items.next().getValue();
+            }
+        };
+    }
+
     public boolean hasEnoughCapacity(int delta) {
         return size() + delta <= getConfig().getMaxSize();
     }
@@ -24,6 +24,7 @@ import com.hazelcast.collection.impl.collection.operations.CollectionClearBackup
 import com.hazelcast.collection.impl.collection.operations.CollectionClearOperation;
 import com.hazelcast.collection.impl.collection.operations.CollectionCompareAndRemoveOperation;
 import com.hazelcast.collection.impl.collection.operations.CollectionContainsOperation;
+import com.hazelcast.collection.impl.collection.operations.CollectionFetchItemsOperation;
 import com.hazelcast.collection.impl.collection.operations.CollectionGetAllOperation;
 import com.hazelcast.collection.impl.collection.operations.CollectionIsEmptyOperation;
 import com.hazelcast.collection.impl.collection.operations.CollectionMergeBackupOperation;
@@ -31,6 +32,7 @@ import com.hazelcast.collection.impl.collection.operations.CollectionMergeOperat
 import com.hazelcast.collection.impl.collection.operations.CollectionRemoveBackupOperation;
 import com.hazelcast.collection.impl.collection.operations.CollectionRemoveOperation;
 import com.hazelcast.collection.impl.collection.operations.CollectionSizeOperation;
+import com.hazelcast.collection.impl.common.ItemsWithCursor;
 import com.hazelcast.collection.impl.list.ListContainer;
 import com.hazelcast.collection.impl.list.operations.ListAddAllOperation;
 import com.hazelcast.collection.impl.list.operations.ListAddOperation;
@@ -128,6 +130,9 @@ public class CollectionDataSerializerHook implements DataSerializerHook {
     public static final int COLLECTION_MERGE = 45;
     public static final int COLLECTION_MERGE_BACKUP = 46;
 
+    public static final int COLLECTION_FETCH_ITEMS = 47;
+    public static final int ITEMS_WITH_CURSOR = 48;
+
     @Override
     public int getFactoryId() {
         return F_ID;
@@ -136,7 +141,7 @@ public class CollectionDataSerializerHook implements DataSerializerHook {
     @Override
     public DataSerializableFactory createFactory() {
         //noinspection unchecked
-        Supplier<IdentifiedDataSerializable>[] constructors = new Supplier[COLLECTION_MERGE_BACKUP + 1];
+        Supplier<IdentifiedDataSerializable>[] constructors = new Supplier[ITEMS_WITH_CURSOR + 1];
 
         constructors[COLLECTION_ADD] = CollectionAddOperation::new;
         constructors[COLLECTION_ADD_BACKUP] = CollectionAddBackupOperation::new;
@@ -185,6 +190,8 @@ public class CollectionDataSerializerHook implements DataSerializerHook {
         constructors[QUEUE_TRANSACTION_LOG_RECORD] = QueueTransactionLogRecord::new;
         constructors[COLLECTION_MERGE] = CollectionMergeOperation::new;
         constructors[COLLECTION_MERGE_BACKUP] = CollectionMergeBackupOperation::new;
+        constructors[COLLECTION_FETCH_ITEMS] = CollectionFetchItemsOperation::new;
+        constructors[ITEMS_WITH_CURSOR] = ItemsWithCursor::new;
 
         return new ArrayDataSerializableFactory(constructors);
     }
@@ -30,6 +30,7 @@ import com.hazelcast.collection.ItemEvent;
 import com.hazelcast.collection.ItemListener;
 import com.hazelcast.collection.impl.collection.operations.CollectionMergeOperation;
 import com.hazelcast.collection.impl.collection.operations.CollectionOperation;
+import com.hazelcast.collection.impl.common.CollectionIterationService;
 import com.hazelcast.collection.impl.common.DataAwareItemEvent;
 import com.hazelcast.collection.impl.txncollection.operations.CollectionTransactionRollbackOperation;
 import com.hazelcast.core.ItemEventType;
@@ -68,12 +69,14 @@ public abstract class CollectionService implements ManagedService, RemoteService
     protected final IPartitionService partitionService;
 
     private final ILogger logger;
+    private final CollectionIterationService iterationService;
 
     protected CollectionService(NodeEngine nodeEngine) {
         this.nodeEngine = nodeEngine;
         this.serializationService = nodeEngine.getSerializationService();
         this.partitionService = nodeEngine.getPartitionService();
         this.logger = nodeEngine.getLogger(getClass());
+        this.iterationService = new CollectionIterationService(nodeEngine);
     }
 
     @Override
@@ -88,6 +91,7 @@ public abstract class CollectionService implements ManagedService, RemoteService
     @Override
     public void shutdown(boolean terminate) {
         reset();
+        iterationService.shutdown();
     }
 
     @Override
@@ -105,6 +109,10 @@ public abstract class CollectionService implements ManagedService, RemoteService
 
     public abstract String getServiceName();
 
+    public CollectionIterationService getIterationService() {
+        return iterationService;
+    }
+
     @Override
     public void dispatchEvent(CollectionEvent event, ItemListener<Data> listener) {
         final MemberImpl member = nodeEngine.getClusterService().getMember(event.getCaller());
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.collection.operations;
+
+import com.hazelcast.collection.impl.collection.CollectionContainer;
+import com.hazelcast.collection.impl.collection.CollectionDataSerializerHook;
+import com.hazelcast.collection.impl.collection.CollectionService;
+import com.hazelcast.collection.impl.common.CollectionIterationService;
+import com.hazelcast.internal.util.UUIDSerializationUtil;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.impl.operationservice.ReadonlyOperation;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Fetches a page of the items of a list or set from a server-side cursor.
+ *
+ * @see CollectionIterationService
+ */
+public class CollectionFetchItemsOperation extends CollectionOperation implements ReadonlyOperation {
+
+    private UUID cursorId;
+    private boolean newIteration;
+    private int fetchSize;
+
+    public CollectionFetchItemsOperation() {
+    }
+
+    public CollectionFetchItemsOperation(String name, UUID cursorId, boolean newIteration, int fetchSize) {
+        super(name);
+        this.cursorId = cursorId;
+        this.newIteration = newIteration;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void run() throws Exception {
+        CollectionContainer collectionContainer = getOrCreateContainer();
+        CollectionService service = getService();
+        CollectionIterationService iterationService = service.getIterationService();
+        response = iterationService.fetch(collectionContainer::dataIterator, cursorId, newIteration, fetchSize);
+    }
+
+    @Override
+    public int getClassId() {
+        return CollectionDataSerializerHook.COLLECTION_FETCH_ITEMS;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        UUIDSerializationUtil.writeUUID(out, cursorId);
+        out.writeBoolean(newIteration);
+        out.writeInt(fetchSize);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        cursorId = UUIDSerializationUtil.readUUID(in);
+        newIteration = in.readBoolean();
+        fetchSize = in.readInt();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.common;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.UuidUtil;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+
+/**
+ * An iterator streaming the items of a queue, list or set in pages fetched
+ * from a cursor on the partition owner, see {@link CollectionIterationService}.
+ * <p>
+ * The next {@code prefetchDepth} pages are requested ahead of the page being
+ * iterated, each one as soon as the page before it is received, so the
+ * iteration does not wait for a round trip per page. This iterator does not
+ * support {@link #remove()}.
+ *
+ * @param <E> the type of the items
+ */
+public class ChunkedItemIterator<E> implements Iterator<E> {
+
+    private final PageFetcher fetcher;
+    private final Function<Data, E> converter;
+    private final int fetchSize;
+    private final int prefetchDepth;
+    private final Deque<CompletableFuture<ItemsWithCursor>> pages = new ArrayDeque<>();
+    private CompletableFuture<ItemsWithCursor> lastRequested;
+    private Iterator<Data> page = Collections.emptyIterator();
+
+    /**
+     * @param fetcher       fetches the pages of the collection
+     * @param converter     converts the serialized items to the returned ones
+     * @param fetchSize     the maximum number of items in a page
+     * @param prefetchDepth the number of pages requested ahead of the page
+     *                      being iterated
+     */
+    public ChunkedItemIterator(PageFetcher fetcher, Function<Data, E> converter, int fetchSize, int prefetchDepth) {
+        this.fetcher = fetcher;
+        this.converter = converter;
+        this.fetchSize = checkPositive("fetchSize", fetchSize);
+        this.prefetchDepth = Math.max(prefetchDepth, 1);
+        this.lastRequested = fetcher.fetch(UuidUtil.newUnsecureUUID(), true, fetchSize);
+        pages.add(lastRequested);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext()) {
+            CompletableFuture<ItemsWithCursor> next = pages.poll();
+            if (next == null) {
+                return false;
+            }
+            ItemsWithCursor result = join(next);
+            if (result == null) {
+                pages.clear();
+                return false;
+            }
+            page = result.getItems().iterator();
+            if (result.getItems().size() < fetchSize) {
+                // the last page, the pages requested after it are empty
+                pages.clear();
+            } else {
+                prefetch();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return converter.apply(page.next());
+    }
+
+    private void prefetch() {
+        while (pages.size() < prefetchDepth) {
+            lastRequested = lastRequested.thenCompose(this::fetchNext);
+            pages.add(lastRequested);
+        }
+    }
+
+    private CompletionStage<ItemsWithCursor> fetchNext(ItemsWithCursor previous) {
+        if (previous == null || previous.getItems().size() < fetchSize) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return fetcher.fetch(previous.getCursorId(), false, fetchSize);
+    }
+
+    private static ItemsWithCursor join(CompletableFuture<ItemsWithCursor> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    /**
+     * Fetches a page of the items of the collection being iterated.
+     */
+    @FunctionalInterface
+    public interface PageFetcher {
+
+        /**
+         * Requests the page of the given cursor id.
+         *
+         * @param cursorId     the cursor id of the page
+         * @param newIteration whether the cursor id starts a new iteration
+         * @param fetchSize    the maximum number of items in the page
+         * @return the future of the page and the cursor id of the next page
+         */
+        CompletableFuture<ItemsWithCursor> fetch(UUID cursorId, boolean newIteration, int fetchSize);
+    }
+}
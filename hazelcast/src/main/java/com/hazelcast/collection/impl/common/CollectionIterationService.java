@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.common;
+
+import com.hazelcast.internal.iteration.IterationResult;
+import com.hazelcast.internal.iteration.IteratorWithCursorManager;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.spi.impl.NodeEngine;
+
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static com.hazelcast.spi.properties.ClusterProperty.COLLECTION_ITERATOR_CLEANUP_PERIOD_SECONDS;
+import static com.hazelcast.spi.properties.ClusterProperty.COLLECTION_ITERATOR_CLEANUP_TIMEOUT_MILLIS;
+
+/**
+ * Manages the paged iterations of the queues, lists and sets of a service.
+ * <p>
+ * An iteration is started by a fetch with a new cursor id, which creates a
+ * server-side iterator over a snapshot of the items of the collection. Every
+ * fetch returns a page of the items along with the cursor id of the next page.
+ * Repeating a fetch with the previous cursor id returns the same page again
+ * while the iterator exists. The iterator is removed when it returns the last
+ * page, or when it is not accessed for {@link
+ * com.hazelcast.spi.properties.ClusterProperty#COLLECTION_ITERATOR_CLEANUP_TIMEOUT_MILLIS}.
+ *
+ * @see com.hazelcast.spi.properties.ClusterProperty#COLLECTION_ITERATOR_FETCH_SIZE
+ */
+public class CollectionIterationService {
+    private final IteratorWithCursorManager<Data> iteratorManager;
+
+    public CollectionIterationService(NodeEngine nodeEngine) {
+        this.iteratorManager = new IteratorWithCursorManager<>(nodeEngine,
+                COLLECTION_ITERATOR_CLEANUP_PERIOD_SECONDS, COLLECTION_ITERATOR_CLEANUP_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Returns the next page of an iteration.
+     * <p>
+     * If the partition owner changes during the iteration, the iteration fails
+     * with an {@link IllegalStateException} stating that there is no iteration
+     * with the provided cursor id, because the fetch is executed on a
+     * different member.
+     *
+     * @param items        supplies the iterator over the snapshot of the
+     *                     items, called only when a new iteration is started
+     * @param cursorId     the cursor id of the page
+     * @param newIteration whether the cursor id starts a new iteration
+     * @param fetchSize    the maximum number of items in the page
+     * @return the page and the cursor id of the next page, a page with less
+     * than {@code fetchSize} items is the last one
+     */
+    public ItemsWithCursor fetch(Supplier<Iterator<Data>> items, UUID cursorId, boolean newIteration, int fetchSize) {
+        if (newIteration) {
+            iteratorManager.createIterator(items.get(), cursorId);
+        }
+        UUID iteratorId = iteratorManager.getIteratorId(cursorId);
+        IterationResult<Data> result = iteratorManager.iterate(cursorId, fetchSize);
+        if (result.getPage().size() < fetchSize && iteratorId != null) {
+            iteratorManager.cleanupIterator(iteratorId);
+        }
+        return new ItemsWithCursor(result.getPage(), result.getCursorId());
+    }
+
+    public void removeStaleIterators() {
+        iteratorManager.removeStaleIterators();
+    }
+
+    public IteratorWithCursorManager<Data> getIteratorManager() {
+        return iteratorManager;
+    }
+
+    public void shutdown() {
+        iteratorManager.shutdown();
+    }
+}
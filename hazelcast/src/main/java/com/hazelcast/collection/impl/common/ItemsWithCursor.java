@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.common;
+
+import com.hazelcast.collection.impl.collection.CollectionDataSerializerHook;
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.UUIDSerializationUtil;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Container class for a page of the serialized items of a collection along
+ * with the cursor id that defines the next page in an iteration. This class
+ * is used when iterating the queues, lists and sets in pages.
+ *
+ * @see CollectionIterationService
+ */
+public class ItemsWithCursor implements IdentifiedDataSerializable {
+
+    private List<Data> items;
+    private UUID cursorId;
+
+    public ItemsWithCursor() {
+    }
+
+    public ItemsWithCursor(@Nonnull List<Data> items, @Nonnull UUID cursorId) {
+        this.items = items;
+        this.cursorId = cursorId;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return CollectionDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return CollectionDataSerializerHook.ITEMS_WITH_CURSOR;
+    }
+
+    @Nonnull
+    public List<Data> getItems() {
+        return items;
+    }
+
+    @Nonnull
+    public UUID getCursorId() {
+        return cursorId;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeInt(items.size());
+        for (Data item : items) {
+            IOUtil.writeData(out, item);
+        }
+        UUIDSerializationUtil.writeUUID(out, cursorId);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        int size = in.readInt();
+        items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(IOUtil.readData(in));
+        }
+        cursorId = UUIDSerializationUtil.readUUID(in);
+    }
+}
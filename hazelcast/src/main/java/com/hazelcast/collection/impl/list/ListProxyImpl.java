@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.function.Function;
 
 import javax.annotation.Nonnull;
 
@@ -148,6 +149,9 @@ public class ListProxyImpl<E> extends AbstractCollectionProxyImpl<ListService, E
 
     @Override
     public Iterator<E> iterator() {
+        if (isChunkedIteration()) {
+            return super.iterator();
+        }
         return listIterator(0);
     }
 
@@ -177,6 +181,11 @@ public class ListProxyImpl<E> extends AbstractCollectionProxyImpl<ListService, E
         return dataSubList(-1, -1).listIterator();
     }
 
+    // used by jet
+    public Iterator<Data> dataIterator(int fetchSize) {
+        return newChunkedIterator(Function.identity(), fetchSize);
+    }
+
     // used by jet
     public List<Data> dataSubList(int fromIndex, int toIndex) {
         ListSubOperation operation = new ListSubOperation(name, fromIndex, toIndex);
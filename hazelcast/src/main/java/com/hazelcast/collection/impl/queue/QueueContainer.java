@@ -47,6 +47,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
@@ -786,6 +787,48 @@ public class QueueContainer implements IdentifiedDataSerializable {
         return dataList;
     }
 
+    /**
+     * Returns an iterator over the serialized items of a snapshot of the item
+     * references of this queue, taken when this method is called. The items
+     * which are not in memory are loaded from the store as the iterator
+     * reaches them, the items removed from the store in the meantime are
+     * skipped. The iterator must be used by the partition thread.
+     * <p>
+     * Note: this method may trigger store load.
+     */
+    public Iterator<Data> dataIterator() {
+        Iterator<QueueItem> items = new ArrayList<>(getItemQueue()).iterator();
+        return new Iterator<Data>() {
+            private Data next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && items.hasNext()) {
+                    QueueItem item = items.next();
+                    if (store.isEnabled() && item.getSerializedObject() == null) {
+                        try {
+                            load(item);
+                        } catch (Exception e) {
+                            throw new HazelcastException(e);
+                        }
+                    }
+                    next = item.getSerializedObject();
+                }
+                return next != null;
+            }
+
+            @Override
+            public Data next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Data data = next;
+                next = null;
+                return data;
+            }
+        };
+    }
+
     /**
      * Compares if the queue contains the items in the dataList and removes them according to the retain parameter. If
      * the retain parameter is true, it will remove items which are not in the dataList (retaining the items which are in the
@@ -26,6 +26,7 @@ import com.hazelcast.collection.impl.queue.operations.CompareAndRemoveOperation;
 import com.hazelcast.collection.impl.queue.operations.ContainsOperation;
 import com.hazelcast.collection.impl.queue.operations.DrainBackupOperation;
 import com.hazelcast.collection.impl.queue.operations.DrainOperation;
+import com.hazelcast.collection.impl.queue.operations.FetchItemsOperation;
 import com.hazelcast.collection.impl.queue.operations.IsEmptyOperation;
 import com.hazelcast.collection.impl.queue.operations.IteratorOperation;
 import com.hazelcast.collection.impl.queue.operations.OfferBackupOperation;
@@ -128,6 +129,8 @@ public final class QueueDataSerializerHook implements DataSerializerHook {
     public static final int MERGE = 44;
     public static final int MERGE_BACKUP = 45;
 
+    public static final int FETCH_ITEMS = 46;
+
     @Override
     public int getFactoryId() {
         return F_ID;
@@ -137,7 +140,7 @@ public final class QueueDataSerializerHook implements DataSerializerHook {
     public DataSerializableFactory createFactory() {
 
         // noinspection unchecked
-        Supplier<IdentifiedDataSerializable>[] constructors = new Supplier[MERGE_BACKUP + 1];
+        Supplier<IdentifiedDataSerializable>[] constructors = new Supplier[FETCH_ITEMS + 1];
         constructors[OFFER] = OfferOperation::new;
         constructors[OFFER_BACKUP] = OfferBackupOperation::new;
         constructors[POLL] = PollOperation::new;
@@ -183,6 +186,7 @@ public final class QueueDataSerializerHook implements DataSerializerHook {
         constructors[TXN_COMMIT_BACKUP] = TxnCommitBackupOperation::new;
         constructors[MERGE] = QueueMergeOperation::new;
         constructors[MERGE_BACKUP] = QueueMergeBackupOperation::new;
+        constructors[FETCH_ITEMS] = FetchItemsOperation::new;
 
         return new ArrayDataSerializableFactory(constructors);
     }
@@ -17,6 +17,7 @@
 package com.hazelcast.collection.impl.queue;
 
 import com.hazelcast.collection.IQueue;
+import com.hazelcast.collection.impl.common.ChunkedItemIterator;
 import com.hazelcast.config.QueueConfig;
 import com.hazelcast.collection.LocalQueueStats;
 import com.hazelcast.internal.serialization.Data;
@@ -31,8 +32,11 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.TimeUnit;
 
+import static com.hazelcast.internal.cluster.Versions.V5_5;
 import static com.hazelcast.internal.util.Preconditions.checkFalse;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.spi.properties.ClusterProperty.COLLECTION_ITERATOR_FETCH_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.COLLECTION_ITERATOR_PREFETCH_DEPTH;
 import static java.lang.Thread.currentThread;
 
 /**
@@ -175,6 +179,13 @@ public class QueueProxyImpl<E> extends QueueProxySupport<E> implements IQueue<E>
     @Override
     public Iterator<E> iterator() {
         final NodeEngine nodeEngine = getNodeEngine();
+        int fetchSize = nodeEngine.getProperties().getInteger(COLLECTION_ITERATOR_FETCH_SIZE);
+        // the items are only streamed once all the members are able to serve the pages
+        if (fetchSize > 0 && nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(V5_5)) {
+            int prefetchDepth = nodeEngine.getProperties().getInteger(COLLECTION_ITERATOR_PREFETCH_DEPTH);
+            return new ChunkedItemIterator<>(this::fetchItemsInternal, nodeEngine.getSerializationService()::toObject,
+                    fetchSize, prefetchDepth);
+        }
         return new QueueIterator<>(listInternal().iterator(), nodeEngine.getSerializationService(), false);
     }
 
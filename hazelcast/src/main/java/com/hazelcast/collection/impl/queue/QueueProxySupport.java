@@ -17,11 +17,13 @@
 package com.hazelcast.collection.impl.queue;
 
 import com.hazelcast.collection.ItemListener;
+import com.hazelcast.collection.impl.common.ItemsWithCursor;
 import com.hazelcast.collection.impl.queue.operations.AddAllOperation;
 import com.hazelcast.collection.impl.queue.operations.ClearOperation;
 import com.hazelcast.collection.impl.queue.operations.CompareAndRemoveOperation;
 import com.hazelcast.collection.impl.queue.operations.ContainsOperation;
 import com.hazelcast.collection.impl.queue.operations.DrainOperation;
+import com.hazelcast.collection.impl.queue.operations.FetchItemsOperation;
 import com.hazelcast.collection.impl.queue.operations.IsEmptyOperation;
 import com.hazelcast.collection.impl.queue.operations.IteratorOperation;
 import com.hazelcast.collection.impl.queue.operations.OfferOperation;
@@ -49,6 +51,7 @@ import javax.annotation.Nonnull;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
@@ -150,6 +153,11 @@ abstract class QueueProxySupport<E> extends AbstractDistributedObject<QueueServi
         return collectionContainer.getCollection();
     }
 
+    CompletableFuture<ItemsWithCursor> fetchItemsInternal(UUID cursorId, boolean newIteration, int fetchSize) {
+        FetchItemsOperation operation = new FetchItemsOperation(name, cursorId, newIteration, fetchSize);
+        return invoke(operation).thenApply(ItemsWithCursor.class::cast);
+    }
+
     Collection<Data> drainInternal(int maxSize) {
         DrainOperation operation = new DrainOperation(name, maxSize);
         SerializableList collectionContainer = invokeAndGet(operation);
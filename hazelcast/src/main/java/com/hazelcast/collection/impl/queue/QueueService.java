@@ -21,6 +21,7 @@ import com.hazelcast.cluster.impl.MemberImpl;
 import com.hazelcast.collection.ItemEvent;
 import com.hazelcast.collection.ItemListener;
 import com.hazelcast.collection.LocalQueueStats;
+import com.hazelcast.collection.impl.common.CollectionIterationService;
 import com.hazelcast.collection.impl.common.DataAwareItemEvent;
 import com.hazelcast.collection.impl.queue.operations.QueueMergeOperation;
 import com.hazelcast.collection.impl.queue.operations.QueueReplicationOperation;
@@ -127,6 +128,7 @@ public class QueueService implements ManagedService, MigrationAwareService, Tran
     private final IPartitionService partitionService;
     private final ILogger logger;
     private final EntryTaskScheduler<String, Void> queueEvictionScheduler;
+    private final CollectionIterationService iterationService;
 
     public QueueService(NodeEngine nodeEngine) {
         this.nodeEngine = nodeEngine;
@@ -138,6 +140,11 @@ public class QueueService implements ManagedService, MigrationAwareService, Tran
         this.queueEvictionScheduler = EntryTaskSchedulerFactory.newScheduler(globalScheduler, entryProcessor, POSTPONE);
         int approxQueueCount = nodeEngine.getConfig().getQueueConfigs().size();
         this.statsMap = MapUtil.createConcurrentHashMap(approxQueueCount);
+        this.iterationService = new CollectionIterationService(nodeEngine);
+    }
+
+    public CollectionIterationService getIterationService() {
+        return iterationService;
     }
 
     public void scheduleEviction(String name, long delay) {
@@ -164,6 +171,7 @@ public class QueueService implements ManagedService, MigrationAwareService, Tran
     @Override
     public void shutdown(boolean terminate) {
         reset();
+        iterationService.shutdown();
     }
 
     public QueueContainer getOrCreateContainer(final String name, boolean fromBackup) {
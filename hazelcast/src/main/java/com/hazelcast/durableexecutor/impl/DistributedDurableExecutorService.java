@@ -45,10 +45,15 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
 
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.DURABLE_EXECUTOR_PREFIX;
 import static com.hazelcast.internal.metrics.impl.ProviderHelper.provide;
 import static com.hazelcast.internal.util.ConcurrencyUtil.getOrPutSynchronized;
+import static com.hazelcast.spi.impl.executionservice.ExecutionService.IO_EXECUTOR;
+import static com.hazelcast.spi.properties.ClusterProperty.DURABLE_EXECUTOR_TASK_LOG_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.DURABLE_EXECUTOR_TASK_LOG_FLUSH_INTERVAL_MILLIS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class DistributedDurableExecutorService implements ManagedService, RemoteService, MigrationAwareService,
         SplitBrainProtectionAwareService, StatisticsAwareService<LocalExecutorStatsImpl>, DynamicMetricsProvider {
@@ -73,6 +78,8 @@ public class DistributedDurableExecutorService implements ManagedService, Remote
                 }
             };
 
+    private volatile ScheduledFuture<?> taskLogFlusher;
+
     public DistributedDurableExecutorService(NodeEngineImpl nodeEngine) {
         this.nodeEngine = nodeEngine;
         int partitionCount = nodeEngine.getPartitionService().getPartitionCount();
@@ -88,6 +95,21 @@ public class DistributedDurableExecutorService implements ManagedService, Remote
         if (dsMetricsEnabled) {
             nodeEngine.getMetricsRegistry().registerDynamicMetricsProvider(this);
         }
+        long flushIntervalMillis = nodeEngine.getProperties().getMillis(DURABLE_EXECUTOR_TASK_LOG_FLUSH_INTERVAL_MILLIS);
+        if (nodeEngine.getProperties().getBoolean(DURABLE_EXECUTOR_TASK_LOG_ENABLED) && flushIntervalMillis > 0) {
+            taskLogFlusher = nodeEngine.getExecutionService().scheduleWithRepetition(IO_EXECUTOR, this::flushTaskLogs,
+                    flushIntervalMillis, flushIntervalMillis, MILLISECONDS);
+        }
+    }
+
+    /**
+     * Forces the tasks appended to the task logs to the disk, off the
+     * partition threads.
+     */
+    private void flushTaskLogs() {
+        for (DurableExecutorPartitionContainer partitionContainer : partitionContainers) {
+            partitionContainer.flushTaskLogs();
+        }
     }
 
     public DurableExecutorPartitionContainer getPartitionContainer(int partitionId) {
@@ -103,12 +125,16 @@ public class DistributedDurableExecutorService implements ManagedService, Remote
         executorStats.clear();
         shutdownExecutors.clear();
         for (int partitionId = 0; partitionId < partitionContainers.length; partitionId++) {
+            partitionContainers[partitionId].dispose();
             partitionContainers[partitionId] = new DurableExecutorPartitionContainer(nodeEngine, partitionId);
         }
     }
 
     @Override
     public void shutdown(boolean terminate) {
+        if (taskLogFlusher != null) {
+            taskLogFlusher.cancel(false);
+        }
         reset();
     }
 
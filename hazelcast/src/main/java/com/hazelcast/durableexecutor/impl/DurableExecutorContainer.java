@@ -18,6 +18,7 @@ package com.hazelcast.durableexecutor.impl;
 
 import com.hazelcast.durableexecutor.impl.operations.PutResultOperation;
 import com.hazelcast.internal.namespace.NamespaceUtil;
+import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.util.Clock;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.impl.ExecutorStats;
@@ -27,11 +28,17 @@ import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.OperationService;
 
 import javax.annotation.Nullable;
+import java.nio.file.Paths;
 import java.util.concurrent.Callable;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 import static com.hazelcast.durableexecutor.impl.DistributedDurableExecutorService.SERVICE_NAME;
+import static com.hazelcast.internal.cluster.Versions.V5_5;
+import static com.hazelcast.internal.util.StringUtil.isNullOrEmpty;
+import static com.hazelcast.spi.properties.ClusterProperty.DURABLE_EXECUTOR_TASK_LOG_DIRECTORY;
+import static com.hazelcast.spi.properties.ClusterProperty.DURABLE_EXECUTOR_TASK_LOG_ENABLED;
 
 public class DurableExecutorContainer {
 
@@ -60,6 +67,53 @@ public class DurableExecutorContainer {
         this.statisticsEnabled = statisticsEnabled;
         this.executorStats = ((DistributedDurableExecutorService) nodeEngine.getService(SERVICE_NAME)).getExecutorStats();
         this.userCodeNamespace = userCodeNamespace;
+        initTaskLog();
+    }
+
+    /**
+     * Creates an empty ringbuffer of the given capacity, which keeps its tasks
+     * in a {@link DurableTaskLog} if the task log is enabled.
+     */
+    static TaskRingBuffer newRingBuffer(NodeEngineImpl nodeEngine, int capacity, @Nullable String userCodeNamespace) {
+        if (!nodeEngine.getProperties().getBoolean(DURABLE_EXECUTOR_TASK_LOG_ENABLED)) {
+            return new TaskRingBuffer(capacity);
+        }
+        return new TaskRingBuffer(capacity, newTaskLog(nodeEngine), taskLoader(nodeEngine, userCodeNamespace),
+                () -> replicateSerializedTasks(nodeEngine));
+    }
+
+    /**
+     * Moves the tasks of a replicated ringbuffer to a {@link DurableTaskLog}
+     * if the task log is enabled, the tasks replicated in their serialized
+     * form are deserialized otherwise.
+     */
+    private void initTaskLog() {
+        if (!nodeEngine.getProperties().getBoolean(DURABLE_EXECUTOR_TASK_LOG_ENABLED)) {
+            ringBuffer.loadSerializedTasks(taskLoader(nodeEngine, userCodeNamespace));
+            return;
+        }
+        if (!ringBuffer.hasTaskLog()) {
+            ringBuffer.attachTaskLog(newTaskLog(nodeEngine), nodeEngine::toData, taskLoader(nodeEngine, userCodeNamespace),
+                    () -> replicateSerializedTasks(nodeEngine));
+        }
+    }
+
+    private static DurableTaskLog newTaskLog(NodeEngineImpl nodeEngine) {
+        String directory = nodeEngine.getProperties().getString(DURABLE_EXECUTOR_TASK_LOG_DIRECTORY);
+        return new DurableTaskLog(Paths.get(isNullOrEmpty(directory) ? System.getProperty("java.io.tmpdir") : directory));
+    }
+
+    private static Function<Data, Object> taskLoader(NodeEngineImpl nodeEngine, @Nullable String userCodeNamespace) {
+        return data -> NamespaceUtil.callWithNamespace(nodeEngine, userCodeNamespace, () -> nodeEngine.toObject(data));
+    }
+
+    // the members of the older versions do not know the serialized tasks
+    private static boolean replicateSerializedTasks(NodeEngineImpl nodeEngine) {
+        return nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(V5_5);
+    }
+
+    public boolean isTaskLogEnabled() {
+        return ringBuffer.hasTaskLog();
     }
 
     public int execute(Callable callable) {
@@ -76,6 +130,24 @@ public class DurableExecutorContainer {
         }
     }
 
+    /**
+     * Appends the serialized task to the task log and executes it, the task
+     * is deserialized when it is run.
+     */
+    public int execute(Data callableData) {
+        try {
+            int sequence = ringBuffer.add(callableData);
+            LoggedTask task = new LoggedTask(sequence, ringBuffer.getLogPosition(sequence));
+            executionService.executeDurable(name, new TaskProcessor(sequence, task));
+            return sequence;
+        } catch (RejectedExecutionException e) {
+            if (statisticsEnabled) {
+                executorStats.rejectExecution(name);
+            }
+            throw e;
+        }
+    }
+
     void executeAll() {
         try {
             TaskRingBuffer.DurableIterator iterator = ringBuffer.iterator();
@@ -85,8 +157,9 @@ public class DurableExecutorContainer {
                 if (!isCallable) {
                     continue;
                 }
-                Callable callable = (Callable) item;
                 int sequence = iterator.getSequence();
+                long logPosition = iterator.getLogPosition();
+                Callable callable = logPosition >= 0 ? new LoggedTask(sequence, logPosition) : (Callable) item;
                 TaskProcessor processor = new TaskProcessor(sequence, callable);
                 executionService.executeDurable(name, processor);
             }
@@ -102,6 +175,10 @@ public class DurableExecutorContainer {
         ringBuffer.putBackup(sequence, callable);
     }
 
+    public void putBackup(int sequence, Data callableData) {
+        ringBuffer.putBackup(sequence, callableData);
+    }
+
     public Object retrieveResult(int sequence) {
         return ringBuffer.retrieve(sequence);
     }
@@ -139,6 +216,48 @@ public class DurableExecutorContainer {
         return userCodeNamespace;
     }
 
+    /**
+     * Releases the resources held by the ringbuffer when the container is
+     * removed: the task log is deleted.
+     */
+    void dispose() {
+        ringBuffer.closeTaskLog();
+    }
+
+    /**
+     * Forces the tasks appended to the task log to the disk, if the task log
+     * is enabled.
+     */
+    void flushTaskLog() {
+        ringBuffer.flushTaskLog();
+    }
+
+    /**
+     * A task kept in the task log, it is read from the log and deserialized
+     * when it is run.
+     */
+    private final class LoggedTask implements Callable {
+
+        private final int sequence;
+        private final long logPosition;
+
+        private LoggedTask(int sequence, long logPosition) {
+            this.sequence = sequence;
+            this.logPosition = logPosition;
+        }
+
+        @Override
+        public Object call() throws Exception {
+            Callable callable = nodeEngine.toObject(ringBuffer.readLoggedTask(logPosition));
+            return callable.call();
+        }
+
+        @Override
+        public String toString() {
+            return "LoggedTask{name='" + name + "', partitionId=" + partitionId + ", sequence=" + sequence + '}';
+        }
+    }
+
     public final class TaskProcessor extends FutureTask implements Runnable {
 
         private final int sequence;
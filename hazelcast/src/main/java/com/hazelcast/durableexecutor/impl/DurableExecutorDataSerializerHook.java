@@ -47,6 +47,7 @@ public class DurableExecutorDataSerializerHook implements DataSerializerHook {
     public static final int TASK_BACKUP = 7;
     public static final int TASK = 8;
     public static final int PUT_RESULT_BACKUP = 9;
+    public static final int SERIALIZED_TASK = 10;
 
     @Override
     public int getFactoryId() {
@@ -66,6 +67,7 @@ public class DurableExecutorDataSerializerHook implements DataSerializerHook {
             case SHUTDOWN -> new ShutdownOperation();
             case TASK_BACKUP -> new TaskBackupOperation();
             case TASK -> new TaskOperation();
+            case SERIALIZED_TASK -> new SerializedTask();
             default -> null;
         };
     }
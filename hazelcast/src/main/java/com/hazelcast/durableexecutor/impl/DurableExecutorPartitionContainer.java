@@ -53,8 +53,11 @@ public class DurableExecutorPartitionContainer {
         DurableExecutorConfig durableExecutorConfig = nodeEngine.getConfig().findDurableExecutorConfig(name);
         int durability = durableExecutorConfig.getDurability();
         boolean statisticsEnabled = durableExecutorConfig.isStatisticsEnabled();
-        executorContainerMap.put(name, new DurableExecutorContainer(nodeEngine, name,
+        DurableExecutorContainer previous = executorContainerMap.put(name, new DurableExecutorContainer(nodeEngine, name,
                 partitionId, durability, statisticsEnabled, ringBuffer, durableExecutorConfig.getUserCodeNamespace()));
+        if (previous != null) {
+            previous.dispose();
+        }
     }
 
     public Operation prepareReplicationOperation(int replicaIndex) {
@@ -70,13 +73,14 @@ public class DurableExecutorPartitionContainer {
 
     public void clearRingBuffersHavingLesserBackupCountThan(int thresholdReplicaIndex) {
         if (thresholdReplicaIndex < 0) {
-            executorContainerMap.clear();
+            dispose();
         }
         Iterator<DurableExecutorContainer> iterator = executorContainerMap.values().iterator();
         while (iterator.hasNext()) {
             DurableExecutorContainer executorContainer = iterator.next();
             if (thresholdReplicaIndex > executorContainer.getDurability()) {
                 iterator.remove();
+                executorContainer.dispose();
             }
         }
     }
@@ -88,7 +92,30 @@ public class DurableExecutorPartitionContainer {
     }
 
     public void removeContainer(String name) {
-        executorContainerMap.remove(name);
+        DurableExecutorContainer executorContainer = executorContainerMap.remove(name);
+        if (executorContainer != null) {
+            executorContainer.dispose();
+        }
+    }
+
+    /**
+     * Removes all the executor containers and releases their resources.
+     */
+    void dispose() {
+        for (DurableExecutorContainer executorContainer : executorContainerMap.values()) {
+            executorContainer.dispose();
+        }
+        executorContainerMap.clear();
+    }
+
+    /**
+     * Forces the tasks appended to the task logs of the executor containers
+     * to the disk.
+     */
+    void flushTaskLogs() {
+        for (DurableExecutorContainer executorContainer : executorContainerMap.values()) {
+            executorContainer.flushTaskLog();
+        }
     }
 
     Collection<DurableExecutorContainer> getAllExecutorContainers() {
@@ -109,8 +136,9 @@ public class DurableExecutorPartitionContainer {
         int durability = durableExecutorConfig.getDurability();
         int ringBufferCapacity = durableExecutorConfig.getCapacity();
         boolean statisticsEnabled = durableExecutorConfig.isStatisticsEnabled();
-        TaskRingBuffer ringBuffer = new TaskRingBuffer(ringBufferCapacity);
+        String userCodeNamespace = durableExecutorConfig.getUserCodeNamespace();
+        TaskRingBuffer ringBuffer = DurableExecutorContainer.newRingBuffer(nodeEngine, ringBufferCapacity, userCodeNamespace);
         return new DurableExecutorContainer(nodeEngine, name, partitionId, durability, statisticsEnabled, ringBuffer,
-                durableExecutorConfig.getUserCodeNamespace());
+                userCodeNamespace);
     }
 }
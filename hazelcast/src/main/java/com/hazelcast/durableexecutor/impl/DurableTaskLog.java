@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.durableexecutor.impl;
+
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.durableexecutor.StaleTaskIdException;
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * An append-only log of the serialized tasks of a {@link TaskRingBuffer},
+ * kept in memory-mapped segment files on the local disk instead of the heap.
+ * A task is appended when it is submitted and released when it completes or
+ * is disposed, a segment file is unmapped and deleted when all of its tasks
+ * are released.
+ * <p>
+ * The log only moves the tasks off the heap, it is not a persistence layer:
+ * it is deleted when its container is removed and it is never replayed, the
+ * tasks survive a member failure through their backups only. The written
+ * pages are forced to the disk by {@link #flush()}, which is called
+ * periodically off the partition thread so that the dirty pages of the
+ * segments do not pile up in the page cache.
+ * <p>
+ * The tasks are appended and released by the partition thread. They are read
+ * by the threads executing or replicating them and the segments are flushed
+ * by the flushing thread, a segment guards its buffer against being accessed
+ * after it is unmapped.
+ */
+class DurableTaskLog {
+
+    /**
+     * The default size of the segment files. A task larger than the segment
+     * size is stored in a segment of its own.
+     */
+    static final int SEGMENT_SIZE_BYTES = 16 * 1024 * 1024;
+
+    private static final int SEGMENT_ID_SHIFT = 32;
+    private static final long OFFSET_MASK = 0xFFFFFFFFL;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ConcurrentMap<Integer, Segment> segments = new ConcurrentHashMap<>();
+
+    private Segment activeSegment;
+    private int nextSegmentId;
+
+    DurableTaskLog(Path directory) {
+        this(directory, SEGMENT_SIZE_BYTES);
+    }
+
+    DurableTaskLog(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Appends the serialized task to the log.
+     *
+     * @return the position of the task in the log
+     */
+    long append(Data task) {
+        byte[] bytes = task.toByteArray();
+        if (activeSegment == null || !activeSegment.hasRoomFor(bytes.length)) {
+            rollSegment(bytes.length);
+        }
+        int offset = activeSegment.append(bytes);
+        return ((long) activeSegment.id << SEGMENT_ID_SHIFT) | offset;
+    }
+
+    /**
+     * Reads the task at the given position.
+     *
+     * @throws StaleTaskIdException if the task has been released
+     */
+    Data read(long position) {
+        Segment segment = segments.get(segmentId(position));
+        byte[] bytes = segment != null ? segment.read((int) (position & OFFSET_MASK)) : null;
+        if (bytes == null) {
+            throw new StaleTaskIdException("The task has been disposed");
+        }
+        return new HeapData(bytes);
+    }
+
+    /**
+     * Releases the task at the given position, the segment of the task is
+     * deleted if all its tasks are released.
+     */
+    void release(long position) {
+        Segment segment = segments.get(segmentId(position));
+        if (segment != null && --segment.liveCount == 0 && segment != activeSegment) {
+            segments.remove(segment.id);
+            segment.delete();
+        }
+    }
+
+    /**
+     * Forces the tasks appended since the last flush to the disk.
+     */
+    void flush() {
+        for (Segment segment : segments.values()) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Unmaps and deletes all the segment files of the log.
+     */
+    void close() {
+        for (Segment segment : segments.values()) {
+            segment.delete();
+        }
+        segments.clear();
+        activeSegment = null;
+    }
+
+    /**
+     * Returns the number of the segment files currently used by this log.
+     */
+    int getSegmentCount() {
+        return segments.size();
+    }
+
+    private void rollSegment(int taskSize) {
+        Segment previous = activeSegment;
+        if (previous != null && previous.liveCount == 0) {
+            segments.remove(previous.id);
+            previous.delete();
+        }
+        activeSegment = new Segment(directory, nextSegmentId++, Math.max(segmentSize, Integer.BYTES + taskSize));
+        segments.put(activeSegment.id, activeSegment);
+    }
+
+    private static int segmentId(long position) {
+        return (int) (position >>> SEGMENT_ID_SHIFT);
+    }
+
+    /**
+     * A segment file holding the length-prefixed serialized tasks. The buffer
+     * is accessed under the lock of the segment, so that it is not accessed
+     * once it is unmapped.
+     */
+    private static final class Segment {
+
+        final int id;
+        // the number of the tasks which have not been released
+        int liveCount;
+
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int writeOffset;
+        private boolean dirty;
+        private boolean deleted;
+        // the number of the threads forcing the buffer
+        private int forcing;
+
+        Segment(Path directory, int id, int size) {
+            this.id = id;
+            try {
+                this.file = Files.createTempFile(directory, "durable-executor-", ".log");
+                this.channel = FileChannel.open(file, READ, WRITE);
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            } catch (IOException e) {
+                throw new HazelcastException("Could not create a durable executor log segment in " + directory, e);
+            }
+        }
+
+        boolean hasRoomFor(int taskSize) {
+            return buffer.capacity() - writeOffset >= Integer.BYTES + taskSize;
+        }
+
+        synchronized int append(byte[] bytes) {
+            if (deleted) {
+                throw new IllegalStateException("The durable executor task log is closed");
+            }
+            int offset = writeOffset;
+            buffer.putInt(offset, bytes.length);
+            buffer.put(offset + Integer.BYTES, bytes);
+            writeOffset += Integer.BYTES + bytes.length;
+            liveCount++;
+            dirty = true;
+            return offset;
+        }
+
+        /**
+         * Returns the task at the given offset, or {@code null} if the
+         * segment has been deleted.
+         */
+        synchronized byte[] read(int offset) {
+            if (deleted) {
+                return null;
+            }
+            byte[] bytes = new byte[buffer.getInt(offset)];
+            buffer.get(offset + Integer.BYTES, bytes);
+            return bytes;
+        }
+
+        /**
+         * Forces the buffer to the disk if it has been written since the
+         * last call. The buffer is forced outside the lock so that the
+         * appends are not blocked, a segment deleted meanwhile is unmapped
+         * once the buffer is forced.
+         */
+        void force() {
+            synchronized (this) {
+                if (!dirty || deleted) {
+                    return;
+                }
+                dirty = false;
+                forcing++;
+            }
+            try {
+                buffer.force();
+            } finally {
+                synchronized (this) {
+                    if (--forcing == 0 && deleted) {
+                        unmapAndDelete();
+                    }
+                }
+            }
+        }
+
+        synchronized void delete() {
+            if (deleted) {
+                return;
+            }
+            deleted = true;
+            if (forcing == 0) {
+                unmapAndDelete();
+            }
+        }
+
+        private void unmapAndDelete() {
+            IOUtil.unmap(buffer);
+            IOUtil.closeResource(channel);
+            IOUtil.deleteQuietly(file.toFile());
+        }
+    }
+}
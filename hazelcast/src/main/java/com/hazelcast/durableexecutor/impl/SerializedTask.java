@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.durableexecutor.impl;
+
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+
+/**
+ * A task replicated in its serialized form by a member keeping its tasks in
+ * a {@link DurableTaskLog}, so that the task is not deserialized only to be
+ * serialized again.
+ */
+public class SerializedTask implements IdentifiedDataSerializable {
+
+    private Data task;
+
+    public SerializedTask() {
+    }
+
+    public SerializedTask(Data task) {
+        this.task = task;
+    }
+
+    public Data getTask() {
+        return task;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        IOUtil.writeData(out, task);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        task = IOUtil.readData(in);
+    }
+
+    @Override
+    public int getFactoryId() {
+        return DurableExecutorDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return DurableExecutorDataSerializerHook.SERIALIZED_TASK;
+    }
+}
@@ -17,6 +17,8 @@
 package com.hazelcast.durableexecutor.impl;
 
 import com.hazelcast.durableexecutor.StaleTaskIdException;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.collection.Int2ObjectHashMap;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 
@@ -25,17 +27,36 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.concurrent.Callable;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 
 /**
  * A RingBuffer implementation to store tasks and results of those task
  * Only a single thread (partition-operation-thread) accesses the instance
+ * <p>
+ * If the tasks are kept in a {@link DurableTaskLog}, the contents of the
+ * occupied slots are kept in a map instead of arrays of the size of the
+ * capacity. A slot which is not in the map reads as a disposed one. The
+ * sequences of the slots are kept in an array in both cases, so a disposed
+ * or overwritten sequence is detected the same way.
  */
 public class TaskRingBuffer {
 
-    private Object[] ringItems;
+    private int capacity;
+
+    // the last sequence of every slot of the ringbuffer
     private int[] sequences;
+
+    // the slots of the ringbuffer, if the tasks are not logged
+    private Object[] ringItems;
     private boolean[] isTask;
 
+    // the contents of the occupied slots of the ringbuffer and the log of the tasks, if the tasks are logged
+    private Int2ObjectHashMap<LoggedSlot> loggedSlots;
+    private DurableTaskLog taskLog;
+    private Function<Data, Object> taskLoader;
+    private BooleanSupplier replicateSerializedTasks;
+
     private int head = -1;
     private int callableCounter;
 
@@ -43,11 +64,26 @@ public class TaskRingBuffer {
     }
 
     public TaskRingBuffer(int capacity) {
+        this.capacity = capacity;
         this.ringItems = new Object[capacity];
         this.isTask = new boolean[capacity];
         this.sequences = new int[capacity];
     }
 
+    /**
+     * Creates a ringbuffer keeping its tasks in the given log, see
+     * {@link #attachTaskLog}.
+     */
+    TaskRingBuffer(int capacity, DurableTaskLog taskLog, Function<Data, Object> taskLoader,
+                   BooleanSupplier replicateSerializedTasks) {
+        this.capacity = capacity;
+        this.sequences = new int[capacity];
+        this.loggedSlots = new Int2ObjectHashMap<>();
+        this.taskLog = taskLog;
+        this.taskLoader = taskLoader;
+        this.replicateSerializedTasks = replicateSerializedTasks;
+    }
+
     /**
      * Adds the task to next available spot and returns the sequence corresponding to that spot.
      * throws exception if there is no available spot
@@ -59,20 +95,121 @@ public class TaskRingBuffer {
     public int add(Callable task) {
         int index = findEmptySpot();
         callableCounter++;
-        ringItems[index] = task;
-        isTask[index] = true;
-        sequences[index] = head;
+        setSlot(index, head, true, task);
+        return head;
+    }
+
+    /**
+     * Appends the serialized task to the task log and adds it to the next
+     * available spot, see {@link #attachTaskLog}.
+     *
+     * @param task The serialized task
+     * @return the sequence
+     * @throws RejectedExecutionException if there is not available spot for the task
+     */
+    int add(Data task) {
+        int index = findEmptySpot();
+        long logPosition = taskLog.append(task);
+        callableCounter++;
+        setLoggedTask(index, head, logPosition);
         return head;
     }
 
+    /**
+     * Keeps the tasks of this ringbuffer in the given log instead of the heap.
+     * The tasks already in this ringbuffer are moved to the log and the slots
+     * are moved from the arrays to a map, the subsequent tasks are expected to
+     * be added in their serialized form.
+     *
+     * @param taskLog                  the log of the tasks
+     * @param serializer               serializes the tasks already in this ringbuffer
+     * @param taskLoader               deserializes the logged tasks when they cannot be replicated
+     *                                 in their serialized form
+     * @param replicateSerializedTasks if the logged tasks can be replicated in their serialized form
+     */
+    void attachTaskLog(DurableTaskLog taskLog, Function<Object, Data> serializer, Function<Data, Object> taskLoader,
+                       BooleanSupplier replicateSerializedTasks) {
+        Object[] items = ringItems;
+        int[] itemSequences = sequences;
+        boolean[] itemIsTask = isTask;
+        this.taskLog = taskLog;
+        this.taskLoader = taskLoader;
+        this.replicateSerializedTasks = replicateSerializedTasks;
+        this.loggedSlots = new Int2ObjectHashMap<>();
+        this.ringItems = null;
+        this.isTask = null;
+        for (int index = 0; index < capacity; index++) {
+            Object item = items[index];
+            if (itemIsTask[index] && item != null) {
+                Data task = item instanceof SerializedTask serializedTask ? serializedTask.getTask() : serializer.apply(item);
+                setLoggedTask(index, itemSequences[index], taskLog.append(task));
+            } else if (item != null) {
+                setSlot(index, itemSequences[index], false, item);
+            }
+        }
+    }
+
+    /**
+     * Deserializes the tasks which have been replicated in their serialized
+     * form by a member keeping its tasks in a task log.
+     */
+    void loadSerializedTasks(Function<Data, Object> loader) {
+        if (ringItems == null) {
+            return;
+        }
+        for (int index = 0; index < capacity; index++) {
+            if (ringItems[index] instanceof SerializedTask serializedTask) {
+                ringItems[index] = loader.apply(serializedTask.getTask());
+            }
+        }
+    }
+
+    /**
+     * Returns the position of the task with the given sequence in the task
+     * log, or {@code -1} if the task is not logged.
+     */
+    long getLogPosition(int sequence) {
+        return logPositionAt(toIndex(sequence));
+    }
+
+    boolean hasTaskLog() {
+        return taskLog != null;
+    }
+
+    /**
+     * Reads the serialized task at the given position of the task log.
+     */
+    Data readLoggedTask(long logPosition) {
+        return taskLog.read(logPosition);
+    }
+
+    /**
+     * Forces the appended tasks to the disk, if the tasks are logged.
+     */
+    void flushTaskLog() {
+        DurableTaskLog log = taskLog;
+        if (log != null) {
+            log.flush();
+        }
+    }
+
+    /**
+     * Deletes the task log, if the tasks are logged.
+     */
+    void closeTaskLog() {
+        if (taskLog != null) {
+            taskLog.close();
+        }
+    }
+
     private int findEmptySpot() {
-        if (callableCounter == ringItems.length) {
-            throw new RejectedExecutionException("Capacity (" + ringItems.length + ") is reached!");
+        if (callableCounter == capacity) {
+            throw new RejectedExecutionException("Capacity (" + capacity + ") is reached!");
         }
-        for (Object ringItem : ringItems) {
+        for (int i = 0; i < capacity; i++) {
             head++;
             int index = toIndex(head);
-            if (!isTask[index]) {
+            if (!isTaskAt(index)) {
                 return index;
             }
         }
@@ -86,8 +223,7 @@ public class TaskRingBuffer {
      */
     public void remove(int sequence) {
         int index = toIndex(sequence);
-        ringItems[index] = null;
-        isTask[index] = false;
+        clearSlot(index);
         head--;
         callableCounter--;
     }
@@ -102,9 +238,23 @@ public class TaskRingBuffer {
         head = Math.max(head, sequence);
         callableCounter++;
         int index = toIndex(sequence);
-        ringItems[index] = task;
-        isTask[index] = true;
-        sequences[index] = sequence;
+        releaseLoggedTask(index);
+        setSlot(index, sequence, true, task);
+    }
+
+    /**
+     * Appends the serialized task to the task log and puts it for the given
+     * sequence, see {@link #attachTaskLog}.
+     *
+     * @param sequence The sequence
+     * @param task     The serialized task
+     */
+    void putBackup(int sequence, Data task) {
+        head = Math.max(head, sequence);
+        callableCounter++;
+        int index = toIndex(sequence);
+        releaseLoggedTask(index);
+        setLoggedTask(index, sequence, taskLog.append(task));
     }
 
     /**
@@ -117,11 +267,11 @@ public class TaskRingBuffer {
     void replaceTaskWithResult(int sequence, Object response) {
         int index = toIndex(sequence);
         // If sequence is not equal then it is disposed externally
-        if (sequences[index] != sequence) {
+        if (!hasSequence(index, sequence)) {
             return;
         }
-        ringItems[index] = response;
-        isTask[index] = false;
+        releaseLoggedTask(index);
+        setSlot(index, sequence, false, response);
         callableCounter--;
     }
 
@@ -135,10 +285,9 @@ public class TaskRingBuffer {
         int index = toIndex(sequence);
         checkSequence(index, sequence);
         try {
-            return ringItems[index];
+            return itemAt(index);
         } finally {
-            ringItems[index] = null;
-            isTask[index] = false;
+            clearSlot(index);
             head--;
         }
     }
@@ -151,11 +300,10 @@ public class TaskRingBuffer {
     public void dispose(int sequence) {
         int index = toIndex(sequence);
         checkSequence(index, sequence);
-        if (isTask[index]) {
+        if (isTaskAt(index)) {
             callableCounter--;
         }
-        ringItems[index] = null;
-        isTask[index] = false;
+        clearSlot(index);
     }
 
     /**
@@ -167,7 +315,7 @@ public class TaskRingBuffer {
     public Object retrieve(int sequence) {
         int index = toIndex(sequence);
         checkSequence(index, sequence);
-        return ringItems[index];
+        return itemAt(index);
     }
 
     /**
@@ -180,17 +328,82 @@ public class TaskRingBuffer {
     boolean isTask(int sequence) {
         int index = toIndex(sequence);
         checkSequence(index, sequence);
-        return isTask[index];
+        return isTaskAt(index);
     }
 
     private void checkSequence(int index, int sequence) {
-        if (sequences[index] != sequence) {
+        if (!hasSequence(index, sequence)) {
             throw new StaleTaskIdException("The sequence has been overwritten");
         }
     }
 
     private int toIndex(int sequence) {
-        return Math.abs(sequence % ringItems.length);
+        return Math.abs(sequence % capacity);
+    }
+
+    private boolean hasSequence(int index, int sequence) {
+        return sequences[index] == sequence;
+    }
+
+    private int sequenceAt(int index) {
+        return sequences[index];
+    }
+
+    private boolean isTaskAt(int index) {
+        if (loggedSlots == null) {
+            return isTask[index];
+        }
+        LoggedSlot slot = loggedSlots.get(index);
+        return slot != null && slot.task;
+    }
+
+    private Object itemAt(int index) {
+        if (loggedSlots == null) {
+            return ringItems[index];
+        }
+        LoggedSlot slot = loggedSlots.get(index);
+        return slot == null ? null : slot.item;
+    }
+
+    private long logPositionAt(int index) {
+        if (loggedSlots == null) {
+            return -1;
+        }
+        LoggedSlot slot = loggedSlots.get(index);
+        return slot == null ? -1 : slot.logPosition;
+    }
+
+    private void setSlot(int index, int sequence, boolean task, Object item) {
+        sequences[index] = sequence;
+        if (loggedSlots == null) {
+            ringItems[index] = item;
+            isTask[index] = task;
+        } else {
+            loggedSlots.put(index, new LoggedSlot(task, item, -1));
+        }
+    }
+
+    private void setLoggedTask(int index, int sequence, long logPosition) {
+        sequences[index] = sequence;
+        loggedSlots.put(index, new LoggedSlot(true, null, logPosition));
+    }
+
+    private void clearSlot(int index) {
+        releaseLoggedTask(index);
+        if (loggedSlots == null) {
+            ringItems[index] = null;
+            isTask[index] = false;
+        } else {
+            loggedSlots.remove(index);
+        }
+    }
+
+    private void releaseLoggedTask(int index) {
+        long logPosition = logPositionAt(index);
+        if (logPosition >= 0) {
+            taskLog.release(logPosition);
+            loggedSlots.get(index).logPosition = -1;
+        }
     }
 
     /**
@@ -202,21 +415,30 @@ public class TaskRingBuffer {
 
     public void write(ObjectDataOutput out) throws IOException {
         out.writeInt(head);
-        out.writeInt(ringItems.length);
-        for (int i = 0; i < ringItems.length; i++) {
-            out.writeBoolean(isTask[i]);
-            out.writeInt(sequences[i]);
-            out.writeObject(ringItems[i]);
+        out.writeInt(capacity);
+        boolean serializedTasks = taskLog != null && replicateSerializedTasks.getAsBoolean();
+        for (int i = 0; i < capacity; i++) {
+            out.writeBoolean(isTaskAt(i));
+            out.writeInt(sequenceAt(i));
+            long logPosition = logPositionAt(i);
+            if (logPosition < 0) {
+                out.writeObject(itemAt(i));
+            } else if (serializedTasks) {
+                // the task is replicated as it is in the log, without deserializing it
+                out.writeObject(new SerializedTask(taskLog.read(logPosition)));
+            } else {
+                out.writeObject(taskLoader.apply(taskLog.read(logPosition)));
+            }
         }
     }
 
     public void read(ObjectDataInput in) throws IOException {
         head = in.readInt();
-        int length = in.readInt();
-        ringItems = new Object[length];
-        isTask = new boolean[length];
-        sequences = new int[length];
-        for (int i = 0; i < length; i++) {
+        capacity = in.readInt();
+        ringItems = new Object[capacity];
+        isTask = new boolean[capacity];
+        sequences = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
             isTask[i] = in.readBoolean();
             sequences[i] = in.readInt();
             ringItems[i] = in.readObject();
@@ -227,21 +449,38 @@ public class TaskRingBuffer {
         return new DurableIterator();
     }
 
+    /**
+     * A slot of a ringbuffer whose tasks are logged. A task slot holds the
+     * position of the task in the log, a result slot holds the result.
+     */
+    private static final class LoggedSlot {
+
+        private final boolean task;
+        private final Object item;
+        private long logPosition;
+
+        private LoggedSlot(boolean task, Object item, long logPosition) {
+            this.task = task;
+            this.item = item;
+            this.logPosition = logPosition;
+        }
+    }
+
     public class DurableIterator implements Iterator {
 
         int index = -1;
 
         @Override
         public boolean hasNext() {
-            return index + 1 < ringItems.length;
+            return index + 1 < capacity;
         }
 
         @Override
         public Object next() {
-            if (++index == ringItems.length) {
+            if (++index == capacity) {
                 throw new NoSuchElementException();
             }
-            return ringItems[index];
+            return itemAt(index);
         }
 
         @Override
@@ -250,11 +489,19 @@ public class TaskRingBuffer {
         }
 
         public int getSequence() {
-            return sequences[index];
+            return sequenceAt(index);
         }
 
         public boolean isTask() {
-            return isTask[index];
+            return isTaskAt(index);
+        }
+
+        /**
+         * Returns the position of the task in the task log, or {@code -1} if
+         * the task is not logged.
+         */
+        long getLogPosition() {
+            return logPositionAt(index);
         }
     }
 }
@@ -44,6 +44,10 @@ public class TaskBackupOperation extends AbstractDurableExecutorOperation implem
     @Override
     public void run() throws Exception {
         DurableExecutorContainer executorContainer = getExecutorContainer();
+        if (executorContainer.isTaskLogEnabled()) {
+            executorContainer.putBackup(sequence, callableData);
+            return;
+        }
         Callable callable = getNodeEngine().toObject(callableData);
         executorContainer.putBackup(sequence, callable);
     }
@@ -47,6 +47,11 @@ public class TaskOperation extends AbstractDurableExecutorOperation implements B
     @Override
     public void run() throws Exception {
         DurableExecutorContainer executorContainer = getExecutorContainer();
+        if (executorContainer.isTaskLogEnabled()) {
+            // the task is deserialized when it is run
+            sequence = executorContainer.execute(callableData);
+            return;
+        }
         callable = NamespaceUtil.callWithNamespace(getNodeEngine(), executorContainer.getUserCodeNamespace(),
                 () -> getNodeEngine().toObject(callableData));
         sequence = executorContainer.execute(callable);
@@ -16,18 +16,30 @@
 
 package com.hazelcast.executor.impl;
 
+import com.hazelcast.cluster.Address;
+import com.hazelcast.cluster.Member;
 import com.hazelcast.config.ExecutorConfig;
+import com.hazelcast.core.MemberLeftException;
 import com.hazelcast.executor.LocalExecutorStats;
+import com.hazelcast.executor.impl.operations.CancelStolenTaskOperation;
+import com.hazelcast.executor.impl.operations.CheckStolenTasksOperation;
+import com.hazelcast.executor.impl.operations.StealTasksOperation;
+import com.hazelcast.executor.impl.operations.StolenTaskResultOperation;
 import com.hazelcast.internal.metrics.DynamicMetricsProvider;
 import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.internal.monitor.impl.LocalExecutorStatsImpl;
 import com.hazelcast.internal.namespace.NamespaceUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.services.ManagedService;
+import com.hazelcast.internal.services.MembershipAwareService;
+import com.hazelcast.internal.services.MembershipServiceEvent;
 import com.hazelcast.internal.services.RemoteService;
 import com.hazelcast.internal.services.SplitBrainProtectionAwareService;
 import com.hazelcast.internal.services.StatisticsAwareService;
 import com.hazelcast.internal.util.Clock;
+import com.hazelcast.internal.util.ConcurrencyUtil;
 import com.hazelcast.internal.util.ConstructorFunction;
 import com.hazelcast.internal.util.ContextMutexFactory;
 import com.hazelcast.logging.ILogger;
@@ -36,10 +48,16 @@ import com.hazelcast.nio.serialization.HazelcastSerializationException;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.executionservice.ExecutionService;
 import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.properties.ClusterProperty;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -47,23 +65,46 @@ import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Consumer;
 
+import static com.hazelcast.cluster.memberselector.MemberSelectors.NON_LOCAL_MEMBER_SELECTOR;
+import static com.hazelcast.internal.cluster.Versions.V5_5;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EXECUTOR_PREFIX;
 import static com.hazelcast.internal.metrics.impl.ProviderHelper.provide;
 import static com.hazelcast.internal.util.ConcurrencyUtil.getOrPutSynchronized;
 
+@SuppressWarnings({"checkstyle:methodcount", "checkstyle:classfanoutcomplexity"})
 public class DistributedExecutorService implements ManagedService, RemoteService,
         StatisticsAwareService<LocalExecutorStatsImpl>, SplitBrainProtectionAwareService,
-        DynamicMetricsProvider {
+        DynamicMetricsProvider, MembershipAwareService {
 
     public static final String SERVICE_NAME = "hz:impl:executorService";
 
     private static final Object NULL_OBJECT = new Object();
 
+    /**
+     * The maximum number of the tasks stolen from a member at once.
+     */
+    private static final int MAX_STOLEN_TASKS = 16;
+
+    /**
+     * The period of checking the tasks stolen from this member.
+     */
+    private static final long STOLEN_TASK_CHECK_PERIOD_SECONDS = 5;
+
+    /**
+     * The period of stealing the tasks for the executors which are idle on
+     * this member.
+     */
+    private static final long IDLE_STEAL_PERIOD_MILLIS = 500;
+
     // Updates the CallableProcessor.responseFlag field. An AtomicBoolean is simpler, but creates another unwanted
     // object. Using this approach, you don't create that object.
     private static final AtomicReferenceFieldUpdater<Processor, Boolean> RESPONSE_FLAG =
@@ -74,7 +115,20 @@ public class DistributedExecutorService implements ManagedService, RemoteService
 
     private NodeEngine nodeEngine;
     private ExecutionService executionService;
+    private boolean workStealingEnabled;
+    private long stolenTaskTimeoutMillis;
+    private ScheduledFuture<?> stolenTaskChecker;
+    private ScheduledFuture<?> idleStealer;
     private final ConcurrentMap<UUID, Processor> submittedTasks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Deque<Processor>> stealableTasks = new ConcurrentHashMap<>();
+    // the tasks stolen from this member, which wait for their results, by task uuid
+    private final ConcurrentMap<UUID, Processor> stolenTasks = new ConcurrentHashMap<>();
+    // the tasks stolen by this member, whose results have not been delivered yet, by task uuid
+    private final ConcurrentMap<UUID, Processor> runningStolenTasks = new ConcurrentHashMap<>();
+    // the queue depths advertised by the other members in their steal responses, by executor name
+    private final ConcurrentMap<String, ConcurrentMap<Address, Integer>> advertisedQueueDepths = new ConcurrentHashMap<>();
+    private final Set<String> stealingExecutors
+            = Collections.newSetFromMap(new ConcurrentHashMap<>());
     private final Set<String> shutdownExecutors
             = Collections.newSetFromMap(new ConcurrentHashMap<>());
     private final ExecutorStats executorStats = new ExecutorStats();
@@ -97,6 +151,14 @@ public class DistributedExecutorService implements ManagedService, RemoteService
         this.nodeEngine = nodeEngine;
         this.executionService = nodeEngine.getExecutionService();
         this.logger = nodeEngine.getLogger(DistributedExecutorService.class);
+        this.workStealingEnabled = nodeEngine.getProperties().getBoolean(ClusterProperty.EXECUTOR_WORK_STEALING_ENABLED);
+        if (workStealingEnabled) {
+            this.stolenTaskTimeoutMillis = nodeEngine.getProperties().getMillis(ClusterProperty.OPERATION_CALL_TIMEOUT_MILLIS);
+            this.stolenTaskChecker = executionService.scheduleWithRepetition(this::checkStolenTasks,
+                    STOLEN_TASK_CHECK_PERIOD_SECONDS, STOLEN_TASK_CHECK_PERIOD_SECONDS, TimeUnit.SECONDS);
+            this.idleStealer = executionService.scheduleWithRepetition(this::stealTasksForIdleExecutors,
+                    IDLE_STEAL_PERIOD_MILLIS, IDLE_STEAL_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+        }
 
         nodeEngine.getMetricsRegistry().registerDynamicMetricsProvider(this);
     }
@@ -105,36 +167,68 @@ public class DistributedExecutorService implements ManagedService, RemoteService
     public void reset() {
         shutdownExecutors.clear();
         submittedTasks.clear();
+        stealableTasks.clear();
+        stolenTasks.clear();
+        runningStolenTasks.clear();
+        advertisedQueueDepths.clear();
+        stealingExecutors.clear();
         executorStats.clear();
         executorConfigCache.clear();
     }
 
     @Override
     public void shutdown(boolean terminate) {
+        if (stolenTaskChecker != null) {
+            stolenTaskChecker.cancel(false);
+        }
+        if (idleStealer != null) {
+            idleStealer.cancel(false);
+        }
         reset();
     }
 
     public <T> void execute(String name, UUID uuid,
                             @Nonnull T task, Operation op) {
+        execute(name, uuid, task, op, false);
+    }
+
+    /**
+     * Executes the task on the executor of the given name, sending the result
+     * with the given operation.
+     *
+     * @param stealable whether the task may be stolen by another member, see
+     *                  {@link ClusterProperty#EXECUTOR_WORK_STEALING_ENABLED}
+     */
+    public <T> void execute(String name, UUID uuid,
+                            @Nonnull T task, Operation op, boolean stealable) {
+        execute(name, uuid, task, op::sendResponse, stealable);
+    }
+
+    /**
+     * Executes the task on the executor of the given name, passing the result
+     * to the given responder.
+     *
+     * @param stealable whether the task may be stolen by another member, see
+     *                  {@link ClusterProperty#EXECUTOR_WORK_STEALING_ENABLED}
+     */
+    public <T> void execute(String name, UUID uuid,
+                            @Nonnull T task, Consumer<Object> responder, boolean stealable) {
         ExecutorConfig cfg = getOrFindExecutorConfig(name);
         if (cfg.isStatisticsEnabled()) {
             executorStats.startPending(name);
         }
-        Processor processor;
-        if (task instanceof Runnable runnable) {
-            processor = new Processor(name, uuid, runnable, op, cfg.isStatisticsEnabled(), cfg.getUserCodeNamespace());
-        } else if (task instanceof Callable callable) {
-            processor = new Processor(name, uuid, callable, op, cfg.isStatisticsEnabled(), cfg.getUserCodeNamespace());
-        } else {
-            throw new IllegalArgumentException(task.getClass().getName());
-        }
+        Processor processor = newProcessor(name, uuid, task, responder, cfg.isStatisticsEnabled(), cfg.getUserCodeNamespace());
 
         if (uuid != null) {
             submittedTasks.put(uuid, processor);
         }
 
         try {
-            executionService.execute(name, processor);
+            if (stealable && workStealingEnabled && uuid != null) {
+                executeStealable(name, processor);
+            } else {
+                executionService.execute(name, processor);
+            }
         } catch (RejectedExecutionException e) {
             if (cfg.isStatisticsEnabled()) {
                 executorStats.rejectExecution(name);
@@ -147,10 +241,356 @@ public class DistributedExecutorService implements ManagedService, RemoteService
         }
     }
 
+    private Processor newProcessor(String name, UUID uuid, Object task, Consumer<Object> responder,
+                                   boolean statisticsEnabled, @Nullable String namespace) {
+        if (task instanceof Runnable runnable) {
+            return new Processor(name, uuid, runnable, responder, statisticsEnabled, namespace);
+        } else if (task instanceof Callable callable) {
+            return new Processor(name, uuid, callable, responder, statisticsEnabled, namespace);
+        } else {
+            throw new IllegalArgumentException(task.getClass().getName());
+        }
+    }
+
+    /**
+     * Queues the processor in the deque of the stealable tasks of the
+     * executor, and submits a slot to the executor which runs the first
+     * queued task, unless all of them have been stolen in the meantime.
+     */
+    private void executeStealable(String name, Processor processor) {
+        Deque<Processor> queue = stealableTasks.computeIfAbsent(name, k -> new ConcurrentLinkedDeque<>());
+        queue.addLast(processor);
+        try {
+            executionService.execute(name, () -> runStealable(name, queue));
+        } catch (RejectedExecutionException e) {
+            if (queue.removeLastOccurrence(processor)) {
+                throw e;
+            }
+            // the processor has been taken by a slot or stolen already
+        }
+    }
+
+    private void runStealable(String name, Deque<Processor> queue) {
+        Processor processor = queue.pollFirst();
+        if (processor != null) {
+            processor.run();
+        }
+        if (queue.isEmpty()) {
+            stealTasks(name);
+        }
+    }
+
+    /**
+     * Tries to steal the queued tasks of the executors which have neither
+     * queued nor stealable tasks on this member. Stealing is otherwise only
+     * triggered when a slot of the executor finds its stealable tasks
+     * exhausted, so a member which has not received any stealable task of
+     * an executor would never pick up the work of the other members.
+     */
+    void stealTasksForIdleExecutors() {
+        if (!isWorkStealingEnabled()) {
+            return;
+        }
+        for (String name : nodeEngine.getProxyService().getDistributedObjectNames(SERVICE_NAME)) {
+            if (isShutdown(name) || getStealableTaskCount(name) > 0
+                    || executionService.getExecutor(name).getQueueSize() > 0) {
+                continue;
+            }
+            stealTasks(name);
+        }
+    }
+
+    /**
+     * Tries to steal the queued tasks of the executor from the other members,
+     * one member after the other until some tasks are obtained. The members
+     * which advertised the most queued tasks in their last steal response are
+     * tried first, the members without an advertised queue depth are tried
+     * in a random order. Only one steal attempt per executor is in flight at
+     * a time.
+     */
+    private void stealTasks(String name) {
+        if (!isWorkStealingEnabled() || isShutdown(name) || !stealingExecutors.add(name)) {
+            return;
+        }
+        List<Member> victims = new ArrayList<>(nodeEngine.getClusterService().getMembers(NON_LOCAL_MEMBER_SELECTOR));
+        Collections.shuffle(victims);
+        Map<Address, Integer> queueDepths = advertisedQueueDepths.computeIfAbsent(name, k -> new ConcurrentHashMap<>());
+        victims.sort(Comparator.comparingInt((Member member) -> queueDepths.getOrDefault(member.getAddress(), 1))
+                .reversed());
+        stealTasks(name, victims, 0);
+    }
+
+    private void stealTasks(String name, List<Member> victims, int index) {
+        if (index == victims.size() || isShutdown(name)) {
+            stealingExecutors.remove(name);
+            return;
+        }
+        Address victim = victims.get(index).getAddress();
+        Map<Address, Integer> queueDepths = advertisedQueueDepths.computeIfAbsent(name, k -> new ConcurrentHashMap<>());
+        nodeEngine.getOperationService()
+                .<StolenTaskBatch>invokeOnTarget(SERVICE_NAME, new StealTasksOperation(name, MAX_STOLEN_TASKS), victim)
+                .whenCompleteAsync((batch, throwable) -> {
+                    if (throwable != null) {
+                        queueDepths.remove(victim);
+                        if (logger.isFinestEnabled()) {
+                            logger.finest("Could not steal the tasks of Executor[" + name + "] from " + victim, throwable);
+                        }
+                        stealTasks(name, victims, index + 1);
+                        return;
+                    }
+                    queueDepths.put(victim, batch.getRemainingTaskCount());
+                    if (batch.getTasks().isEmpty()) {
+                        stealTasks(name, victims, index + 1);
+                        return;
+                    }
+                    stealingExecutors.remove(name);
+                    for (StolenTask task : batch.getTasks()) {
+                        executeStolen(name, victim, task);
+                    }
+                }, ConcurrencyUtil.getDefaultAsyncExecutor());
+    }
+
+    private void executeStolen(String name, Address victim, StolenTask stolenTask) {
+        ExecutorConfig cfg = getOrFindExecutorConfig(name);
+        UUID uuid = stolenTask.getUuid();
+        Consumer<Object> responder = result -> sendStolenTaskResult(victim, uuid, result);
+        Object task;
+        try {
+            task = NamespaceUtil.callWithNamespace(nodeEngine, cfg.getUserCodeNamespace(), () -> {
+                SerializationService serializationService = nodeEngine.getSerializationService();
+                Object object = serializationService.toObject(stolenTask.getTaskData());
+                return serializationService.getManagedContext().initialize(object);
+            });
+        } catch (Exception e) {
+            responder.accept(e);
+            return;
+        }
+        Processor processor = newProcessor(name, null, task, responder, false, cfg.getUserCodeNamespace());
+        processor.victim = victim;
+        runningStolenTasks.put(uuid, processor);
+        try {
+            executionService.execute(name, () -> {
+                processor.run();
+                Deque<Processor> queue = stealableTasks.get(name);
+                if (queue == null || queue.isEmpty()) {
+                    stealTasks(name);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            processor.sendResponse(e);
+        }
+    }
+
+    /**
+     * Sends the result of a task stolen by this member to the member the task
+     * was submitted to. The task is forgotten once the result is delivered,
+     * or once it cannot be delivered. A result which cannot be serialized is
+     * replaced with the serialization failure.
+     */
+    private void sendStolenTaskResult(Address victim, UUID uuid, Object result) {
+        nodeEngine.getOperationService()
+                .invokeOnTarget(SERVICE_NAME, new StolenTaskResultOperation(uuid, result), victim)
+                .whenCompleteAsync((response, throwable) -> {
+                    if (throwable instanceof HazelcastSerializationException && !(result instanceof Throwable)) {
+                        sendStolenTaskResult(victim, uuid, throwable);
+                        return;
+                    }
+                    if (throwable != null && logger.isFinestEnabled()) {
+                        logger.finest("Could not send the result of the stolen task " + uuid + " to " + victim, throwable);
+                    }
+                    runningStolenTasks.remove(uuid);
+                }, ConcurrencyUtil.getDefaultAsyncExecutor());
+    }
+
+    /**
+     * Removes up to half of the queued stealable tasks of the executor, but
+     * not more than the given number, from the end of its queue, to be run by
+     * the given member. The stolen tasks are tracked until their results are
+     * returned, see {@link #checkStolenTasks()}.
+     *
+     * @return the stolen tasks along with the number of the tasks which remain
+     * queued, the tasks are empty if there are no queued tasks
+     */
+    public StolenTaskBatch stealQueuedTasks(String name, int maxTasks, Address thiefAddress) {
+        Deque<Processor> queue = stealableTasks.get(name);
+        Member thief = nodeEngine.getClusterService().getMember(thiefAddress);
+        if (queue == null || queue.isEmpty() || thief == null) {
+            return new StolenTaskBatch(new ArrayList<>(), getStealableTaskCount(name));
+        }
+        int count = Math.min(maxTasks, (queue.size() + 1) / 2);
+        List<StolenTask> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Processor processor = queue.pollLast();
+            if (processor == null) {
+                break;
+            }
+            if (processor.isCancelled()) {
+                continue;
+            }
+            Data taskData;
+            try {
+                taskData = nodeEngine.toData(processor.task);
+            } catch (HazelcastSerializationException e) {
+                // not stealable after all, leave it to the local slot
+                queue.addFirst(processor);
+                continue;
+            }
+            processor.thief = thief;
+            processor.stealTime = Clock.currentTimeMillis();
+            stolenTasks.put(processor.uuid, processor);
+            if (processor.isCancelled()) {
+                // cancelled in the meantime, the cancellation did not see the thief
+                stolenTasks.remove(processor.uuid, processor);
+                continue;
+            }
+            processor.startExecution(processor.stealTime);
+            tasks.add(new StolenTask(processor.uuid, taskData));
+        }
+        return new StolenTaskBatch(tasks, queue.size());
+    }
+
+    /**
+     * Sends the result of a task which has been stolen and run by another
+     * member to the caller of the task.
+     */
+    public void completeStolenTask(UUID uuid, Object result) {
+        Processor processor = stolenTasks.remove(uuid);
+        if (processor != null) {
+            submittedTasks.remove(uuid, processor);
+            processor.finishStolen(result);
+        }
+    }
+
+    /**
+     * Checks the tasks stolen from this member. A task whose thief has left
+     * the cluster fails with a {@link MemberLeftException}, so the caller may
+     * resubmit it. The tasks stolen longer than the operation call timeout ago
+     * are looked up on their thieves, a task unknown to its thief has never
+     * reached it, for example because the response of the steal was lost, so
+     * it is queued on this member again.
+     */
+    void checkStolenTasks() {
+        long now = Clock.currentTimeMillis();
+        Map<Member, List<UUID>> uuidsByThief = new HashMap<>();
+        for (Processor processor : stolenTasks.values()) {
+            Member thief = processor.thief;
+            if (nodeEngine.getClusterService().getMember(thief.getAddress(), thief.getUuid()) == null) {
+                failStolenTask(processor, new MemberLeftException(thief));
+            } else if (now - processor.stealTime > stolenTaskTimeoutMillis) {
+                uuidsByThief.computeIfAbsent(thief, k -> new ArrayList<>()).add(processor.uuid);
+            }
+        }
+        uuidsByThief.forEach((thief, uuids) -> nodeEngine.getOperationService()
+                .<List<UUID>>invokeOnTarget(SERVICE_NAME, new CheckStolenTasksOperation(uuids), thief.getAddress())
+                .whenCompleteAsync((unknownUuids, throwable) -> {
+                    if (throwable == null) {
+                        unknownUuids.forEach(this::requeueStolenTask);
+                    }
+                }, ConcurrencyUtil.getDefaultAsyncExecutor()));
+    }
+
+    private void failStolenTask(Processor processor, Object failure) {
+        if (stolenTasks.remove(processor.uuid, processor)) {
+            submittedTasks.remove(processor.uuid, processor);
+            processor.finishStolen(failure);
+        }
+    }
+
+    private void requeueStolenTask(UUID uuid) {
+        Processor processor = stolenTasks.get(uuid);
+        if (processor == null || !stolenTasks.remove(uuid, processor)) {
+            return;
+        }
+        logger.warning("The task " + uuid + " of Executor[" + processor.name + "] stolen by " + processor.thief
+                + " has not reached it, the task is queued again");
+        processor.thief = null;
+        try {
+            executeStealable(processor.name, processor);
+        } catch (RejectedExecutionException e) {
+            submittedTasks.remove(uuid, processor);
+            processor.sendResponse(e);
+        }
+    }
+
+    /**
+     * Returns the uuids of the given stolen tasks which are not known to this
+     * member, the thief.
+     */
+    public List<UUID> getUnknownStolenTasks(List<UUID> uuids) {
+        List<UUID> unknownUuids = new ArrayList<>();
+        for (UUID uuid : uuids) {
+            if (!runningStolenTasks.containsKey(uuid)) {
+                unknownUuids.add(uuid);
+            }
+        }
+        return unknownUuids;
+    }
+
+    /**
+     * Cancels a task stolen by this member, on the request of the member the
+     * task was submitted to.
+     */
+    public void cancelStolenTask(UUID uuid, boolean interrupt) {
+        Processor processor = runningStolenTasks.remove(uuid);
+        if (processor != null) {
+            processor.cancel(interrupt);
+        }
+    }
+
+    /**
+     * Returns the number of the tasks of the executor which are queued on
+     * this member and may be stolen by the other members.
+     */
+    public int getStealableTaskCount(String name) {
+        Deque<Processor> queue = stealableTasks.get(name);
+        return queue == null ? 0 : queue.size();
+    }
+
+    @Override
+    public void memberAdded(MembershipServiceEvent event) {
+    }
+
+    @Override
+    public void memberRemoved(MembershipServiceEvent event) {
+        Member member = event.getMember();
+        for (Processor processor : stolenTasks.values()) {
+            if (member.equals(processor.thief)) {
+                failStolenTask(processor, new MemberLeftException(member));
+            }
+        }
+        for (Map.Entry<UUID, Processor> entry : runningStolenTasks.entrySet()) {
+            Processor processor = entry.getValue();
+            if (member.getAddress().equals(processor.victim) && runningStolenTasks.remove(entry.getKey(), processor)) {
+                // the caller resubmits the task, nobody waits for this result
+                processor.cancel(true);
+            }
+        }
+        for (Map<Address, Integer> queueDepths : advertisedQueueDepths.values()) {
+            queueDepths.remove(member.getAddress());
+        }
+    }
+
+    /**
+     * Returns whether the tasks may be stolen by the other members and
+     * submitted in batches, see
+     * {@link ClusterProperty#EXECUTOR_WORK_STEALING_ENABLED}. The operations
+     * are only sent once all the members of the cluster are able to handle
+     * them, i.e. the cluster version is at least 5.5.
+     */
+    public boolean isWorkStealingEnabled() {
+        return workStealingEnabled
+                && nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(V5_5);
+    }
+
     public boolean cancel(UUID uuid, boolean interrupt) {
         Processor processor = submittedTasks.remove(uuid);
         if (processor != null && processor.cancel(interrupt)) {
             if (processor.sendResponse(new CancellationException())) {
+                Member thief = processor.thief;
+                if (thief != null && stolenTasks.remove(uuid, processor)) {
+                    nodeEngine.getOperationService().invokeOnTarget(SERVICE_NAME,
+                            new CancelStolenTaskOperation(uuid, interrupt), thief.getAddress());
+                }
                 if (processor.isStatisticsEnabled()) {
                     executorStats.cancelExecution(processor.name);
                 }
@@ -172,6 +612,7 @@ public class DistributedExecutorService implements ManagedService, RemoteService
         executionService.shutdownExecutor(name);
         shutdownExecutors.add(name);
         executorConfigCache.remove(name);
+        stealableTasks.remove(name);
     }
 
     public boolean isShutdown(String name) {
@@ -189,6 +630,7 @@ public class DistributedExecutorService implements ManagedService, RemoteService
         executionService.shutdownExecutor(name);
         executorStats.removeStats(name);
         executorConfigCache.remove(name);
+        stealableTasks.remove(name);
         splitBrainProtectionConfigCache.remove(name);
     }
 
@@ -239,37 +681,46 @@ public class DistributedExecutorService implements ManagedService, RemoteService
 
         private final String name;
         private final UUID uuid;
-        private final Operation op;
+        private final Consumer<Object> responder;
+        private final Object task;
         private final String taskToString;
         private final long creationTime = Clock.currentTimeMillis();
         private final boolean statisticsEnabled;
         private final @Nullable String namespace;
+        // the member running this task, when it has been stolen from this member
+        private volatile Member thief;
+        // the member this task has been stolen from, when it is run by this member
+        private volatile Address victim;
+        private volatile long stealTime;
+        private volatile boolean executionStarted;
 
         private Processor(String name, UUID uuid,
                           @Nonnull Callable callable,
-                          Operation op,
+                          Consumer<Object> responder,
                           boolean statisticsEnabled,
                           @Nullable String namespace) {
             //noinspection unchecked
             super(callable);
             this.name = name;
             this.uuid = uuid;
+            this.task = callable;
             this.taskToString = String.valueOf(callable);
-            this.op = op;
+            this.responder = responder;
             this.statisticsEnabled = statisticsEnabled;
             this.namespace = namespace;
         }
 
         private Processor(String name, UUID uuid,
                           @Nonnull Runnable runnable,
-                          Operation op, boolean statisticsEnabled,
+                          Consumer<Object> responder, boolean statisticsEnabled,
                           @Nullable String namespace) {
             //noinspection unchecked
             super(runnable, null);
             this.name = name;
             this.uuid = uuid;
+            this.task = runnable;
             this.taskToString = String.valueOf(runnable);
-            this.op = op;
+            this.responder = responder;
             this.statisticsEnabled = statisticsEnabled;
             this.namespace = namespace;
         }
@@ -277,9 +728,7 @@ public class DistributedExecutorService implements ManagedService, RemoteService
         @Override
         public void run() {
             long start = Clock.currentTimeMillis();
-            if (statisticsEnabled) {
-                executorStats.startExecution(name, start - creationTime);
-            }
+            startExecution(start);
             Object result = null;
             try {
                 NamespaceUtil.setupNamespace(nodeEngine, namespace);
@@ -304,6 +753,20 @@ public class DistributedExecutorService implements ManagedService, RemoteService
             }
         }
 
+        private void startExecution(long now) {
+            // a task queued again after it has been stolen is already started
+            if (statisticsEnabled && !executionStarted) {
+                executionStarted = true;
+                executorStats.startExecution(name, now - creationTime);
+            }
+        }
+
+        private void finishStolen(Object result) {
+            if (sendResponse(result) && statisticsEnabled) {
+                executorStats.finishExecution(name, Clock.currentTimeMillis() - stealTime);
+            }
+        }
+
         private void logException(Exception e) {
             if (logger.isFinestEnabled()) {
                 logger.finest("While executing callable: " + taskToString, e);
@@ -313,9 +776,9 @@ public class DistributedExecutorService implements ManagedService, RemoteService
         private boolean sendResponse(Object result) {
             if (RESPONSE_FLAG.compareAndSet(this, Boolean.FALSE, Boolean.TRUE)) {
                 try {
-                    op.sendResponse(result);
+                    responder.accept(result);
                 } catch (HazelcastSerializationException e) {
-                    op.sendResponse(e);
+                    responder.accept(e);
                 }
                 return true;
             }
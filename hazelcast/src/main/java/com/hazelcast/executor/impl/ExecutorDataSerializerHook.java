@@ -16,10 +16,16 @@
 
 package com.hazelcast.executor.impl;
 
+import com.hazelcast.executor.impl.operations.CallableTaskBatchOperation;
 import com.hazelcast.executor.impl.operations.CallableTaskOperation;
+import com.hazelcast.executor.impl.operations.CancelStolenTaskOperation;
 import com.hazelcast.executor.impl.operations.CancellationOperation;
+import com.hazelcast.executor.impl.operations.CheckStolenTasksOperation;
 import com.hazelcast.executor.impl.operations.MemberCallableTaskOperation;
 import com.hazelcast.executor.impl.operations.ShutdownOperation;
+import com.hazelcast.executor.impl.operations.StealTasksOperation;
+import com.hazelcast.executor.impl.operations.StealableCallableTaskOperation;
+import com.hazelcast.executor.impl.operations.StolenTaskResultOperation;
 import com.hazelcast.internal.serialization.DataSerializerHook;
 import com.hazelcast.internal.serialization.impl.FactoryIdHelper;
 import com.hazelcast.nio.serialization.DataSerializableFactory;
@@ -36,6 +42,14 @@ public class ExecutorDataSerializerHook implements DataSerializerHook {
     public static final int RUNNABLE_ADAPTER = 2;
     public static final int CANCELLATION = 3;
     public static final int SHUTDOWN = 4;
+    public static final int STEALABLE_CALLABLE_TASK = 5;
+    public static final int CALLABLE_TASK_BATCH = 6;
+    public static final int STEAL_TASKS = 7;
+    public static final int STOLEN_TASK_RESULT = 8;
+    public static final int STOLEN_TASK = 9;
+    public static final int STOLEN_TASK_BATCH = 10;
+    public static final int CANCEL_STOLEN_TASK = 11;
+    public static final int CHECK_STOLEN_TASKS = 12;
 
     @Override
     public int getFactoryId() {
@@ -50,6 +64,14 @@ public class ExecutorDataSerializerHook implements DataSerializerHook {
             case RUNNABLE_ADAPTER -> new RunnableAdapter<>();
             case CANCELLATION -> new CancellationOperation();
             case SHUTDOWN -> new ShutdownOperation();
+            case STEALABLE_CALLABLE_TASK -> new StealableCallableTaskOperation();
+            case CALLABLE_TASK_BATCH -> new CallableTaskBatchOperation();
+            case STEAL_TASKS -> new StealTasksOperation();
+            case STOLEN_TASK_RESULT -> new StolenTaskResultOperation();
+            case STOLEN_TASK -> new StolenTask();
+            case STOLEN_TASK_BATCH -> new StolenTaskBatch();
+            case CANCEL_STOLEN_TASK -> new CancelStolenTaskOperation();
+            case CHECK_STOLEN_TASKS -> new CheckStolenTasksOperation();
             default -> null;
         };
     }
@@ -24,9 +24,11 @@ import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.core.IExecutorService;
 import com.hazelcast.core.MultiExecutionCallback;
 import com.hazelcast.executor.LocalExecutorStats;
+import com.hazelcast.executor.impl.operations.CallableTaskBatchOperation;
 import com.hazelcast.executor.impl.operations.CallableTaskOperation;
 import com.hazelcast.executor.impl.operations.MemberCallableTaskOperation;
 import com.hazelcast.executor.impl.operations.ShutdownOperation;
+import com.hazelcast.executor.impl.operations.StealableCallableTaskOperation;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.util.ConcurrencyUtil;
@@ -224,7 +226,7 @@ public class ExecutorServiceProxy
         UUID uuid = newUnsecureUUID();
         int partitionId = getTaskPartitionId(callable);
 
-        Operation op = new CallableTaskOperation(name, uuid, callableData)
+        Operation op = newPartitionTaskOperation(uuid, callableData, isStealable(callable))
                 .setPartitionId(partitionId);
         InvocationFuture future = invokeOnPartition(op);
         return new CancellableDelegatingFuture<>(future, result, nodeEngine, uuid, partitionId);
@@ -241,12 +243,13 @@ public class ExecutorServiceProxy
     public <T> Future<T> submit(@Nonnull Callable<T> task) {
         checkNotNull(task, "task must not be null");
         final int partitionId = getTaskPartitionId(task);
-        return submitToPartitionOwner(task, partitionId);
+        return submitToPartitionOwner(task, partitionId, isStealable(task));
     }
 
     private @Nonnull
     <T> Future<T> submitToPartitionOwner(@Nonnull Callable<T> task,
-                                         int partitionId) {
+                                         int partitionId,
+                                         boolean stealable) {
         checkNotNull(task, "task must not be null");
         checkNotShutdown();
 
@@ -254,7 +257,7 @@ public class ExecutorServiceProxy
         Data taskData = nodeEngine.toData(task);
         UUID uuid = newUnsecureUUID();
 
-        Operation op = new CallableTaskOperation(name, uuid, taskData)
+        Operation op = newPartitionTaskOperation(uuid, taskData, stealable)
                 .setPartitionId(partitionId);
         InternalCompletableFuture future = invokeOnPartition(op);
         return new CancellableDelegatingFuture<>(future, nodeEngine, uuid, partitionId);
@@ -270,12 +273,28 @@ public class ExecutorServiceProxy
         return random.nextInt(partitionCount);
     }
 
+    /**
+     * Returns whether the task may be stolen by another member than the one
+     * it is submitted to, i.e. whether the work stealing is enabled and the
+     * task is not bound to a partition key.
+     */
+    private boolean isStealable(Callable<?> task) {
+        return getService().isWorkStealingEnabled()
+                && !(task instanceof PartitionAware aware && aware.getPartitionKey() != null);
+    }
+
+    private Operation newPartitionTaskOperation(UUID uuid, Data taskData, boolean stealable) {
+        return stealable
+                ? new StealableCallableTaskOperation(name, uuid, taskData)
+                : new CallableTaskOperation(name, uuid, taskData);
+    }
+
     @Override
     public <T> Future<T> submitToKeyOwner(@Nonnull Callable<T> task,
                                           @Nonnull Object key) {
         checkNotNull(key, "key must not be null");
         NodeEngine nodeEngine = getNodeEngine();
-        return submitToPartitionOwner(task, nodeEngine.getPartitionService().getPartitionId(key));
+        return submitToPartitionOwner(task, nodeEngine.getPartitionService().getPartitionId(key), false);
     }
 
     @Override
@@ -361,13 +380,15 @@ public class ExecutorServiceProxy
 
     private <T> void submitToPartitionOwner(@Nonnull Callable<T> task,
                                             @Nullable ExecutionCallback<T> callback,
-                                            int partitionId) {
+                                            int partitionId,
+                                            boolean stealable) {
         checkNotShutdown();
         checkNotNull(task, "task must not be null");
 
         NodeEngine nodeEngine = getNodeEngine();
         Data taskData = nodeEngine.toData(task);
-        CallableTaskOperation op = new CallableTaskOperation(name, null, taskData);
+        // the result of a stolen task is routed back by its uuid
+        Operation op = newPartitionTaskOperation(stealable ? newUnsecureUUID() : null, taskData, stealable);
         OperationService operationService = nodeEngine.getOperationService();
         InvocationFuture<T> future = operationService
                 .createInvocationBuilder(DistributedExecutorService.SERVICE_NAME, op, partitionId)
@@ -386,7 +407,7 @@ public class ExecutorServiceProxy
     public <T> void submit(@Nonnull Callable<T> task,
                            @Nullable ExecutionCallback<T> callback) {
         int partitionId = getTaskPartitionId(task);
-        submitToPartitionOwner(task, callback, partitionId);
+        submitToPartitionOwner(task, callback, partitionId, isStealable(task));
     }
 
     @Override
@@ -397,7 +418,7 @@ public class ExecutorServiceProxy
         checkNotNull(task, "task must not be null");
 
         NodeEngine nodeEngine = getNodeEngine();
-        submitToPartitionOwner(task, callback, nodeEngine.getPartitionService().getPartitionId(key));
+        submitToPartitionOwner(task, callback, nodeEngine.getPartitionService().getPartitionId(key), false);
     }
 
     private <T> void submitToMember(@Nonnull Data taskData,
@@ -468,6 +489,9 @@ public class ExecutorServiceProxy
     public <T> List<Future<T>> invokeAll(@Nonnull Collection<? extends Callable<T>> tasks)
             throws InterruptedException {
         checkNotNull(tasks, "tasks must not be null");
+        if (getService().isWorkStealingEnabled()) {
+            return invokeAllBatched(tasks);
+        }
         List<Future<T>> futures = new ArrayList<>(tasks.size());
         List<Future<T>> result = new ArrayList<>(tasks.size());
         for (Callable<T> task : tasks) {
@@ -479,6 +503,82 @@ public class ExecutorServiceProxy
         return result;
     }
 
+    /**
+     * Sends the stealable tasks to the members in batches, one operation per
+     * member, distributing them evenly over the members. The tasks bound to
+     * a partition key are submitted to their key owners one by one.
+     */
+    private <T> List<Future<T>> invokeAllBatched(Collection<? extends Callable<T>> tasks)
+            throws InterruptedException {
+        checkNotShutdown();
+        NodeEngine nodeEngine = getNodeEngine();
+        SerializationService serializationService = nodeEngine.getSerializationService();
+        List<Member> members = new ArrayList<>(nodeEngine.getClusterService().getMembers());
+        List<List<Integer>> batches = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            batches.add(new ArrayList<>());
+        }
+        List<Callable<T>> taskList = new ArrayList<>(tasks);
+        List<Future<T>> futures = new ArrayList<>(taskList.size());
+        List<Integer> unbatched = new ArrayList<>();
+        int memberIndex = random.nextInt(members.size());
+        for (int i = 0; i < taskList.size(); i++) {
+            Callable<T> task = checkNotNull(taskList.get(i), "task must not be null");
+            if (isStealable(task)) {
+                batches.get(memberIndex++ % members.size()).add(i);
+                futures.add(null);
+            } else {
+                unbatched.add(i);
+                futures.add(submit(task));
+            }
+        }
+
+        List<InternalCompletableFuture<List<Object>>> batchFutures = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            List<Integer> batch = batches.get(i);
+            UUID[] uuids = new UUID[batch.size()];
+            Data[] taskData = new Data[batch.size()];
+            for (int j = 0; j < batch.size(); j++) {
+                uuids[j] = newUnsecureUUID();
+                taskData[j] = nodeEngine.toData(taskList.get(batch.get(j)));
+            }
+            batchFutures.add(batch.isEmpty() ? null : nodeEngine.getOperationService()
+                    .invokeOnTarget(DistributedExecutorService.SERVICE_NAME,
+                            new CallableTaskBatchOperation(name, uuids, taskData), members.get(i).getAddress()));
+        }
+
+        for (int i = 0; i < members.size(); i++) {
+            completeBatch(batches.get(i), batchFutures.get(i), futures, serializationService);
+        }
+        for (int index : unbatched) {
+            futures.set(index, completedSynchronously(futures.get(index), serializationService));
+        }
+        return futures;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void completeBatch(List<Integer> batch, InternalCompletableFuture<List<Object>> batchFuture,
+                                          List<Future<T>> futures, SerializationService serializationService)
+            throws InterruptedException {
+        if (batchFuture == null) {
+            return;
+        }
+        try {
+            List<Object> results = batchFuture.get();
+            for (int j = 0; j < batch.size(); j++) {
+                Object result = results.get(j);
+                futures.set(batch.get(j), result instanceof Throwable throwable
+                        ? InternalCompletableFuture.completedExceptionally(throwable)
+                        : InternalCompletableFuture.newCompletedFuture((T) result, serializationService));
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            for (int index : batch) {
+                futures.set(index, InternalCompletableFuture.completedExceptionally(cause));
+            }
+        }
+    }
+
     @Nonnull
     @Override
     public <T> List<Future<T>> invokeAll(@Nonnull Collection<? extends Callable<T>> tasks,
@@ -494,7 +594,7 @@ public class ExecutorServiceProxy
             for (Callable<T> task : tasks) {
                 long startNanos = Timer.nanos();
                 int partitionId = getTaskPartitionId(task);
-                futures.add(submitToPartitionOwner(task, partitionId));
+                futures.add(submitToPartitionOwner(task, partitionId, isStealable(task)));
                 timeoutNanos -= Timer.nanosElapsed(startNanos);
             }
             if (timeoutNanos <= 0L) {
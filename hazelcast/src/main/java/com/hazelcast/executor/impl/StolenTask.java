@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.executor.impl;
+
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.UUIDSerializationUtil;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * A task queued on a member which has been stolen by another member, see {@link
+ * DistributedExecutorService#stealQueuedTasks(String, int, com.hazelcast.cluster.Address)}.
+ */
+public final class StolenTask implements IdentifiedDataSerializable {
+
+    private UUID uuid;
+    private Data taskData;
+
+    public StolenTask() {
+    }
+
+    public StolenTask(UUID uuid, Data taskData) {
+        this.uuid = uuid;
+        this.taskData = taskData;
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    public Data getTaskData() {
+        return taskData;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        UUIDSerializationUtil.writeUUID(out, uuid);
+        IOUtil.writeData(out, taskData);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        uuid = UUIDSerializationUtil.readUUID(in);
+        taskData = IOUtil.readData(in);
+    }
+
+    @Override
+    public int getFactoryId() {
+        return ExecutorDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return ExecutorDataSerializerHook.STOLEN_TASK;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.executor.impl;
+
+import com.hazelcast.internal.serialization.impl.SerializationUtil;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The tasks stolen from a member at once, along with the number of the tasks
+ * which remain queued on that member. The queue depth is used by the thief to
+ * choose the member to steal from the next time, see {@link
+ * DistributedExecutorService#stealQueuedTasks(String, int, com.hazelcast.cluster.Address)}.
+ */
+public final class StolenTaskBatch implements IdentifiedDataSerializable {
+
+    private List<StolenTask> tasks;
+    private int remainingTaskCount;
+
+    public StolenTaskBatch() {
+    }
+
+    public StolenTaskBatch(List<StolenTask> tasks, int remainingTaskCount) {
+        this.tasks = tasks;
+        this.remainingTaskCount = remainingTaskCount;
+    }
+
+    public List<StolenTask> getTasks() {
+        return tasks;
+    }
+
+    public int getRemainingTaskCount() {
+        return remainingTaskCount;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        SerializationUtil.writeList(tasks, out);
+        out.writeInt(remainingTaskCount);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        tasks = SerializationUtil.readList(in);
+        remainingTaskCount = in.readInt();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return ExecutorDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return ExecutorDataSerializerHook.STOLEN_TASK_BATCH;
+    }
+}
@@ -57,6 +57,13 @@ abstract class AbstractCallableTaskOperation extends Operation implements NamedO
         return new OffloadImpl();
     }
 
+    /**
+     * Returns whether the task may be stolen by another member.
+     */
+    boolean isStealable() {
+        return false;
+    }
+
     @Override
     public String getName() {
         return name;
@@ -101,7 +108,7 @@ abstract class AbstractCallableTaskOperation extends Operation implements NamedO
         @Override
         public void start() {
             DistributedExecutorService service = getService();
-            service.execute(name, uuid, loadTask(), AbstractCallableTaskOperation.this);
+            service.execute(name, uuid, loadTask(), AbstractCallableTaskOperation.this, isStealable());
         }
 
         private Object loadTask() {
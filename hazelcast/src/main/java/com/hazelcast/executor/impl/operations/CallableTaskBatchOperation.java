@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.executor.impl.operations;
+
+import com.hazelcast.core.ManagedContext;
+import com.hazelcast.executor.impl.DistributedExecutorService;
+import com.hazelcast.executor.impl.ExecutorDataSerializerHook;
+import com.hazelcast.internal.namespace.NamespaceUtil;
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.UUIDSerializationUtil;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.HazelcastSerializationException;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.operationservice.CallStatus;
+import com.hazelcast.spi.impl.operationservice.MutatingOperation;
+import com.hazelcast.spi.impl.operationservice.NamedOperation;
+import com.hazelcast.spi.impl.operationservice.Offload;
+import com.hazelcast.spi.impl.operationservice.Operation;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Submits a batch of tasks to a member in a single operation. The tasks are
+ * queued as stealable tasks, see {@link
+ * com.hazelcast.spi.properties.ClusterProperty#EXECUTOR_WORK_STEALING_ENABLED},
+ * and the operation responds with the list of their results, in the order of
+ * the tasks, once all of them are done. The result of a failed task is its
+ * exception.
+ */
+public final class CallableTaskBatchOperation extends Operation
+        implements NamedOperation, MutatingOperation, IdentifiedDataSerializable {
+
+    private String name;
+    private UUID[] uuids;
+    private Data[] callablesData;
+
+    public CallableTaskBatchOperation() {
+    }
+
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public CallableTaskBatchOperation(String name, UUID[] uuids, Data[] callablesData) {
+        this.name = name;
+        this.uuids = uuids;
+        this.callablesData = callablesData;
+    }
+
+    @Override
+    public CallStatus call() {
+        return new OffloadImpl();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getServiceName() {
+        return DistributedExecutorService.SERVICE_NAME;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        out.writeString(name);
+        out.writeInt(uuids.length);
+        for (int i = 0; i < uuids.length; i++) {
+            UUIDSerializationUtil.writeUUID(out, uuids[i]);
+            IOUtil.writeData(out, callablesData[i]);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        name = in.readString();
+        int size = in.readInt();
+        uuids = new UUID[size];
+        callablesData = new Data[size];
+        for (int i = 0; i < size; i++) {
+            uuids[i] = UUIDSerializationUtil.readUUID(in);
+            callablesData[i] = IOUtil.readData(in);
+        }
+    }
+
+    @Override
+    protected void toString(StringBuilder sb) {
+        super.toString(sb);
+
+        sb.append(", name=").append(name);
+        sb.append(", size=").append(uuids.length);
+    }
+
+    @Override
+    public int getFactoryId() {
+        return ExecutorDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return ExecutorDataSerializerHook.CALLABLE_TASK_BATCH;
+    }
+
+    private class OffloadImpl extends Offload {
+
+        private final Object[] results = new Object[uuids.length];
+        private final AtomicInteger remaining = new AtomicInteger(uuids.length);
+
+        OffloadImpl() {
+            super(CallableTaskBatchOperation.this);
+        }
+
+        @Override
+        public void start() {
+            if (uuids.length == 0) {
+                sendResponse(new ArrayList<>());
+                return;
+            }
+            DistributedExecutorService service = getService();
+            for (int i = 0; i < uuids.length; i++) {
+                int index = i;
+                Object task;
+                try {
+                    task = loadTask(callablesData[i]);
+                } catch (Exception e) {
+                    complete(index, e);
+                    continue;
+                }
+                service.execute(name, uuids[i], task, result -> complete(index, result), true);
+            }
+        }
+
+        private void complete(int index, Object result) {
+            results[index] = result;
+            if (remaining.decrementAndGet() == 0) {
+                try {
+                    sendResponse(new ArrayList<>(Arrays.asList(results)));
+                } catch (HazelcastSerializationException e) {
+                    sendResponse(e);
+                }
+            }
+        }
+
+        private Object loadTask(Data callableData) {
+            return NamespaceUtil.callWithNamespace(DistributedExecutorService.lookupNamespace(nodeEngine, name), () -> {
+                ManagedContext managedContext = serializationService.getManagedContext();
+                Object object = serializationService.toObject(callableData);
+                return managedContext.initialize(object);
+            });
+        }
+    }
+}
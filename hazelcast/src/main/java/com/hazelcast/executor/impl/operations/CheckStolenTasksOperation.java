@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.executor.impl.operations;
+
+import com.hazelcast.executor.impl.DistributedExecutorService;
+import com.hazelcast.executor.impl.ExecutorDataSerializerHook;
+import com.hazelcast.internal.util.UUIDSerializationUtil;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.operationservice.Operation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Looks up the given stolen tasks on the member which stole them, sent
+ * periodically by the member the tasks were stolen from. The response is the
+ * list of the uuids of the tasks unknown to the thief.
+ */
+public final class CheckStolenTasksOperation extends Operation implements IdentifiedDataSerializable {
+
+    private List<UUID> uuids;
+    private List<UUID> response;
+
+    public CheckStolenTasksOperation() {
+    }
+
+    public CheckStolenTasksOperation(List<UUID> uuids) {
+        this.uuids = uuids;
+    }
+
+    @Override
+    public String getServiceName() {
+        return DistributedExecutorService.SERVICE_NAME;
+    }
+
+    @Override
+    public void run() throws Exception {
+        DistributedExecutorService service = getService();
+        response = service.getUnknownStolenTasks(uuids);
+    }
+
+    @Override
+    public Object getResponse() {
+        return response;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        out.writeInt(uuids.size());
+        for (UUID uuid : uuids) {
+            UUIDSerializationUtil.writeUUID(out, uuid);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        int size = in.readInt();
+        uuids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            uuids.add(UUIDSerializationUtil.readUUID(in));
+        }
+    }
+
+    @Override
+    public int getFactoryId() {
+        return ExecutorDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return ExecutorDataSerializerHook.CHECK_STOLEN_TASKS;
+    }
+}
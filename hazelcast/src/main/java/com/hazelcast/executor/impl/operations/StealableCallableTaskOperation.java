@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.executor.impl.operations;
+
+import com.hazelcast.executor.impl.ExecutorDataSerializerHook;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.operationservice.MutatingOperation;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+
+/**
+ * Submits a task which is not bound to a key to the member owning a random
+ * partition, where it may be stolen by an idle member, see {@link
+ * com.hazelcast.spi.properties.ClusterProperty#EXECUTOR_WORK_STEALING_ENABLED}.
+ */
+public final class StealableCallableTaskOperation extends AbstractCallableTaskOperation
+        implements IdentifiedDataSerializable, MutatingOperation {
+
+    public StealableCallableTaskOperation() {
+    }
+
+    public StealableCallableTaskOperation(String name,
+                                          UUID uuid,
+                                          @Nonnull Data callableData) {
+        super(name, uuid, callableData);
+    }
+
+    @Override
+    boolean isStealable() {
+        return true;
+    }
+
+    @Override
+    public int getClassId() {
+        return ExecutorDataSerializerHook.STEALABLE_CALLABLE_TASK;
+    }
+}
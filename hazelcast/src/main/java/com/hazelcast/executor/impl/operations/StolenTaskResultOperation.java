@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.executor.impl.operations;
+
+import com.hazelcast.executor.impl.DistributedExecutorService;
+import com.hazelcast.executor.impl.ExecutorDataSerializerHook;
+import com.hazelcast.internal.util.UUIDSerializationUtil;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.operationservice.Operation;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Returns the result of a stolen task to the member the task was submitted
+ * to, which sends it to the caller of the task.
+ */
+public final class StolenTaskResultOperation extends Operation implements IdentifiedDataSerializable {
+
+    private UUID uuid;
+    private Object result;
+
+    public StolenTaskResultOperation() {
+    }
+
+    public StolenTaskResultOperation(UUID uuid, Object result) {
+        this.uuid = uuid;
+        this.result = result;
+    }
+
+    @Override
+    public String getServiceName() {
+        return DistributedExecutorService.SERVICE_NAME;
+    }
+
+    @Override
+    public void run() throws Exception {
+        DistributedExecutorService service = getService();
+        service.completeStolenTask(uuid, result);
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        UUIDSerializationUtil.writeUUID(out, uuid);
+        out.writeObject(result);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        uuid = UUIDSerializationUtil.readUUID(in);
+        result = in.readObject();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return ExecutorDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return ExecutorDataSerializerHook.STOLEN_TASK_RESULT;
+    }
+}
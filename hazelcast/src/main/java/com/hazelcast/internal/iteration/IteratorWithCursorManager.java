@@ -17,18 +17,23 @@
 package com.hazelcast.internal.iteration;
 
 import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.properties.HazelcastProperty;
 
 import java.util.Iterator;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
- * This class manages the replicated map iterations that have pagination support.
+ * This class manages the iterations that have pagination support, such as the
+ * replicated map entry view iterations and the paged collection iterations.
  * <p>
  * This class's methods for creating an iterator ({@link IteratorWithCursorManager#createIterator(Iterator)}),
  * progressing an iterator {@link IteratorWithCursorManager#iterate(UUID, int)} and cleaning up an iterator accessed concurrently
- * All replicated map's iterators are managed via this class.
+ * All the iterators of a service are managed via one instance of this class.
  * @param <T>
  */
 public class IteratorWithCursorManager<T> {
@@ -38,9 +43,27 @@ public class IteratorWithCursorManager<T> {
     // Used to keep track of the iterator id for a cursor id. This makes the client protocol simpler, not needing another UUID
     // for the iterator id to be sent for each request.
     private final ConcurrentHashMap<UUID, UUID> cursorToIteratorId = new ConcurrentHashMap<>();
+    private final HazelcastProperty cleanupPeriodSeconds;
+    private final HazelcastProperty cleanupTimeoutMillis;
+    private final AtomicBoolean noIteratorCreated = new AtomicBoolean(true);
+    private volatile ScheduledFuture<?> iteratorCleanupFuture;
 
     public IteratorWithCursorManager(NodeEngine nodeEngine) {
+        this(nodeEngine, null, null);
+    }
+
+    /**
+     * Creates a manager that removes the iterators which have not been
+     * accessed for the time configured by the {@code cleanupTimeoutMillis}
+     * property. The task that checks for the stale iterators runs with the
+     * period configured by the {@code cleanupPeriodSeconds} property and is
+     * scheduled when the first iterator is created.
+     */
+    public IteratorWithCursorManager(NodeEngine nodeEngine, HazelcastProperty cleanupPeriodSeconds,
+                                     HazelcastProperty cleanupTimeoutMillis) {
         this.nodeEngine = nodeEngine;
+        this.cleanupPeriodSeconds = cleanupPeriodSeconds;
+        this.cleanupTimeoutMillis = cleanupTimeoutMillis;
     }
 
     /**
@@ -49,6 +72,12 @@ public class IteratorWithCursorManager<T> {
      * @param iteratorId id of the iterator
      */
     public void createIterator(Iterator<T> items, UUID iteratorId) {
+        if (cleanupPeriodSeconds != null && noIteratorCreated.getAndSet(false)) {
+            // little optimization to create the future upon first iterator creation.
+            iteratorCleanupFuture = nodeEngine.getExecutionService().getGlobalTaskScheduler().scheduleWithRepetition(
+                    this::removeStaleIterators, 0,
+                    nodeEngine.getProperties().getInteger(cleanupPeriodSeconds), TimeUnit.SECONDS);
+        }
         if (!iterators.containsKey(iteratorId)) {
             iterators.put(iteratorId, new IteratorWithCursor<>(items, iteratorId));
             cursorToIteratorId.put(iteratorId, iteratorId);
@@ -85,6 +114,41 @@ public class IteratorWithCursorManager<T> {
         cursorToIteratorId.values().remove(iteratorId);
     }
 
+    /**
+     * Removes the iterators which have not been accessed for the configured
+     * cleanup timeout. Does nothing if the manager has no cleanup timeout.
+     */
+    public void removeStaleIterators() {
+        if (cleanupTimeoutMillis == null) {
+            return;
+        }
+        long staleTime = System.currentTimeMillis() - nodeEngine.getProperties().getLong(cleanupTimeoutMillis);
+        for (UUID iteratorId : iterators.keySet()) {
+            IteratorWithCursor<T> iterator = iterators.get(iteratorId);
+            if (iterator != null && iterator.getLastAccessTime() < staleTime) {
+                cleanupIterator(iteratorId);
+            }
+        }
+    }
+
+    /**
+     * Cancels the task that removes the stale iterators.
+     */
+    public void shutdown() {
+        ScheduledFuture<?> future = iteratorCleanupFuture;
+        if (future != null) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * Returns the id of the iterator the given cursor id belongs to, or
+     * {@code null} if there is no such iterator.
+     */
+    public UUID getIteratorId(UUID cursorId) {
+        return cursorToIteratorId.get(cursorId);
+    }
+
     ConcurrentHashMap<UUID, UUID> getCursorToIteratorId() {
         return cursorToIteratorId;
     }
@@ -291,6 +291,8 @@ public final class MetricDescriptorConstants {
     public static final String MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_OPERATION_TIME = "totalElapsedMigrationOperationTime";
     public static final String MIGRATION_METRIC_TOTAL_ELAPSED_DESTINATION_COMMIT_TIME = "totalElapsedDestinationCommitTime";
     public static final String MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_TIME = "totalElapsedMigrationTime";
+    public static final String MIGRATION_METRIC_MIGRATION_THROUGHPUT = "migrationThroughput";
+    public static final String MIGRATION_METRIC_ESTIMATED_REMAINING_MIGRATION_TIME = "estimatedRemainingMigrationTime";
     // ===[/MIGRATION]==================================================
 
     // ===[MULTIMAP]====================================================
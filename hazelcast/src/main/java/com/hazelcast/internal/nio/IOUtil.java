@@ -49,6 +49,7 @@ import java.net.Socket;
 import java.net.SocketOption;
 import java.net.URL;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.NetworkChannel;
 import java.nio.file.FileVisitResult;
@@ -71,6 +72,8 @@ import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
 import java.util.zip.Inflater;
 
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE;
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE_AVAILABLE;
 import static com.hazelcast.internal.networking.ChannelOption.DIRECT_BUF;
 import static com.hazelcast.internal.networking.ChannelOption.SO_KEEPALIVE;
 import static com.hazelcast.internal.networking.ChannelOption.SO_LINGER;
@@ -459,6 +462,23 @@ public final class IOUtil {
         }
     }
 
+    /**
+     * Quietly releases the memory mapping of a {@link MappedByteBuffer} instead of waiting for the buffer to be
+     * garbage collected, swallowing any exception. The buffer must not be accessed afterwards.
+     *
+     * @param buffer the buffer to unmap. If {@code null}, no action is taken.
+     */
+    public static void unmap(MappedByteBuffer buffer) {
+        if (buffer == null || !UNSAFE_AVAILABLE) {
+            return;
+        }
+        try {
+            UNSAFE.invokeCleaner(buffer);
+        } catch (Exception e) {
+            LOGGER.finest("unmap failed", e);
+        }
+    }
+
     public static void close(Connection conn, String reason) {
         if (conn == null) {
             return;
@@ -21,6 +21,7 @@ import com.hazelcast.internal.services.ServiceNamespaceAware;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.properties.ClusterProperty;
 
+import javax.annotation.Nullable;
 import java.util.Collection;
 
 /**
@@ -80,4 +81,25 @@ public interface FragmentedMigrationAwareService extends MigrationAwareService {
      * @see #prepareReplicationOperation(PartitionReplicationEvent)
      */
     Operation prepareReplicationOperation(PartitionReplicationEvent event, Collection<ServiceNamespace> namespaces);
+
+    /**
+     * Returns the hashes of the leaves of a Merkle tree built over the data of the given
+     * namespace in the local replica of the given partition.
+     * <p>
+     * This method is called on the partition thread of a backup replica which is about to request
+     * the synchronization of the replica fragment from the partition owner, when
+     * {@link ClusterProperty#PARTITION_REPLICA_SYNC_MERKLE_TREE_ENABLED} is set. The leaves are then
+     * available to the owner via {@link PartitionReplicationEvent#getMerkleTreeLeaves(ServiceNamespace)}
+     * so it can replicate only the differing part of the fragment.
+     * <p>
+     * Returning null is allowed and means the whole replica fragment is going to be replicated.
+     *
+     * @param partitionId the partition ID
+     * @param namespace   the replica fragment namespace
+     * @return the hashes of the Merkle tree leaves or null
+     */
+    @Nullable
+    default int[] getMerkleTreeLeaves(int partitionId, ServiceNamespace namespace) {
+        return null;
+    }
 }
@@ -17,8 +17,11 @@
 package com.hazelcast.internal.partition;
 
 import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.services.ServiceNamespace;
 
 import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * An event send to {@link MigrationAwareService} when partition changes happen.
@@ -32,6 +35,8 @@ public class PartitionReplicationEvent {
     @Nullable
     private final Address target;
 
+    private final Map<ServiceNamespace, int[]> merkleTreeLeaves;
+
     /**
      * Creates a PartitionReplicationEvent
      *
@@ -39,9 +44,24 @@ public class PartitionReplicationEvent {
      * @param replicaIndex the replica index
      */
     public PartitionReplicationEvent(Address target, int partitionId, int replicaIndex) {
+        this(target, partitionId, replicaIndex, Collections.emptyMap());
+    }
+
+    /**
+     * Creates a PartitionReplicationEvent carrying the Merkle tree leaves
+     * of the replica fragments on the target replica.
+     *
+     * @param partitionId      the partition ID
+     * @param replicaIndex     the replica index
+     * @param merkleTreeLeaves the Merkle tree leaves of the target replica by namespace
+     * @see FragmentedMigrationAwareService#getMerkleTreeLeaves(int, ServiceNamespace)
+     */
+    public PartitionReplicationEvent(Address target, int partitionId, int replicaIndex,
+                                     Map<ServiceNamespace, int[]> merkleTreeLeaves) {
         this.target = target;
         this.partitionId = partitionId;
         this.replicaIndex = replicaIndex;
+        this.merkleTreeLeaves = merkleTreeLeaves;
     }
 
     /**
@@ -66,6 +86,19 @@ public class PartitionReplicationEvent {
         return target;
     }
 
+    /**
+     * Gets the Merkle tree leaves of the given replica fragment on the target
+     * replica, if the target replica sent them for differential replication.
+     *
+     * @param namespace the namespace of the replica fragment
+     * @return the Merkle tree leaves or {@code null} if the whole
+     * replica fragment should be replicated
+     */
+    @Nullable
+    public int[] getMerkleTreeLeaves(ServiceNamespace namespace) {
+        return merkleTreeLeaves.get(namespace);
+    }
+
     @Override
     public String toString() {
         return "PartitionReplicationEvent{partitionId=" + partitionId + ", replicaIndex=" + replicaIndex + '}';
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.partition;
+
+import com.hazelcast.partition.PartitionService;
+
+import javax.annotation.Nonnull;
+
+import static com.hazelcast.partition.strategy.StringPartitioningStrategy.getBaseName;
+import static com.hazelcast.partition.strategy.StringPartitioningStrategy.getPartitionKey;
+
+/**
+ * ShardNameUtil is a utility class to name the shards of the data structures
+ * which spread their items over several instances of a regular data structure
+ * stored in different partitions.
+ */
+public final class ShardNameUtil {
+
+    /**
+     * The maximum number of the candidate partition keys tried for a shard
+     * before its partition is left to the chance.
+     */
+    private static final int MAX_PARTITION_KEY_ATTEMPTS = 1 << 16;
+
+    private ShardNameUtil() {
+    }
+
+    /**
+     * Returns the names of the shards of the given data structure. A shard
+     * name has the form {@code baseName@partitionKey}: the shards share the
+     * base name of the data structure, so they are configured by its config,
+     * and the partition key of a shard places it in its own partition. The
+     * shards occupy the consecutive partitions following the partition of
+     * the data structure, so they are in different partitions as long as
+     * their number does not exceed the partition count. The names depend
+     * only on the name and the partition count, so they are the same for all
+     * the members and clients of a cluster.
+     *
+     * @param partitionService the partition service of the cluster
+     * @param name             the name of the data structure
+     * @param shardCount       the number of the shards
+     * @return the names of the shards
+     */
+    public static String[] shardNames(@Nonnull PartitionService partitionService, @Nonnull String name, int shardCount) {
+        int partitionCount = partitionService.getPartitions().size();
+        int partitionId = partitionService.getPartition(getPartitionKey(name)).getPartitionId();
+        String baseName = getBaseName(name);
+        String[] shardNames = new String[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            int shardPartitionId = (partitionId + shard) % partitionCount;
+            String partitionKey = null;
+            for (int attempt = 0; attempt < MAX_PARTITION_KEY_ATTEMPTS; attempt++) {
+                partitionKey = name + '#' + shard + '.' + attempt;
+                if (partitionService.getPartition(partitionKey).getPartitionId() == shardPartitionId) {
+                    break;
+                }
+            }
+            shardNames[shard] = baseName + '@' + partitionKey;
+        }
+        return shardNames;
+    }
+}
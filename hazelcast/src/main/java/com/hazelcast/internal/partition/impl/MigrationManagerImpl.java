@@ -113,6 +113,7 @@ import static com.hazelcast.spi.impl.executionservice.ExecutionService.ASYNC_EXE
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_CHUNKED_MIGRATION_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_FRAGMENTED_MIGRATION_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MAX_PARALLEL_MIGRATIONS_IN_CLUSTER;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MIGRATION_INTERVAL;
 import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_MIGRATION_TIMEOUT;
 
@@ -159,6 +160,7 @@ public class MigrationManagerImpl implements MigrationManager {
     private final long memberHeartbeatTimeoutMillis;
     private boolean triggerRepartitioningWhenClusterStateAllowsMigration;
     private final int maxParallelMigrations;
+    private final int maxParallelMigrationsInCluster;
     private final AtomicInteger migrationCount = new AtomicInteger();
     private final Set<MigrationInfo> finalizingMigrationsRegistry = Collections.newSetFromMap(new ConcurrentHashMap<>());
     private final Executor asyncExecutor;
@@ -186,6 +188,7 @@ public class MigrationManagerImpl implements MigrationManager {
         chunkedMigrationEnabled = properties.getBoolean(PARTITION_CHUNKED_MIGRATION_ENABLED);
         maxTotalChunkedDataInBytes = (int) MEGABYTES.toBytes(properties.getInteger(PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB));
         maxParallelMigrations = properties.getInteger(ClusterProperty.PARTITION_MAX_PARALLEL_MIGRATIONS);
+        maxParallelMigrationsInCluster = properties.getInteger(PARTITION_MAX_PARALLEL_MIGRATIONS_IN_CLUSTER);
         partitionStateManager = partitionService.getPartitionStateManager();
         ILogger migrationThreadLogger = node.getLogger(MigrationThread.class);
         String hzName = nodeEngine.getHazelcastInstance().getName();
@@ -975,11 +978,14 @@ public class MigrationManagerImpl implements MigrationManager {
             // List of migration queues per-partition
             List<Queue<MigrationInfo>> partitionMigrationQueues = new ArrayList<>(newState.length);
             Int2ObjectHashMap<PartitionReplica> lostPartitions = new Int2ObjectHashMap<>();
+            int[] missingReplicaIndices = new int[newState.length];
 
             for (int partitionId = 0; partitionId < newState.length; partitionId++) {
                 InternalPartitionImpl currentPartition = partitionStateManager.getPartitionImpl(partitionId);
                 PartitionReplica[] currentReplicas = currentPartition.replicas();
                 PartitionReplica[] newReplicas = newState[partitionId];
+                // must be calculated before planning, since the planner updates the current replicas
+                missingReplicaIndices[partitionId] = lowestMissingReplicaIndex(currentReplicas, newReplicas);
 
                 MigrationCollector migrationCollector = new MigrationCollector(currentPartition);
                 if (logger.isFinestEnabled()) {
@@ -998,6 +1004,8 @@ public class MigrationManagerImpl implements MigrationManager {
                 }
             }
 
+            prioritizeUnderReplicatedPartitions(partitionMigrationQueues, missingReplicaIndices);
+
             stats.markNewRepartition(migrationCount);
             if (migrationCount > 0) {
                 partitionService.getPartitionEventManager().sendMigrationProcessStartedEvent(stats.toMigrationState());
@@ -1136,7 +1144,8 @@ public class MigrationManagerImpl implements MigrationManager {
 
         /**
          * Map of endpoint -> migration-count.
-         * Only {@link #maxParallelMigrations} number of migrations are allowed on a single member.
+         * Only {@link #maxParallelMigrations} number of migrations are allowed on a single member
+         * and, if positive, {@link #maxParallelMigrationsInCluster} number of migrations in the cluster.
          */
         private final Map<Address, Integer> endpoint2MigrationCount = new HashMap<>();
         private int ongoingMigrationCount;
@@ -1269,6 +1278,9 @@ public class MigrationManagerImpl implements MigrationManager {
         }
 
         private MigrationInfo next0() {
+            if (maxParallelMigrationsInCluster > 0 && ongoingMigrationCount >= maxParallelMigrationsInCluster) {
+                return null;
+            }
             Iterator<Queue<MigrationInfo>> iter = partitionMigrationQueues.iterator();
             while (iter.hasNext()) {
                 Queue<MigrationInfo> q = iter.next();
@@ -2060,6 +2072,35 @@ public class MigrationManagerImpl implements MigrationManager {
         }
     }
 
+    /**
+     * Returns the lowest replica index which is assigned in the new state
+     * but has no replica in the current state, or the length of the replica
+     * array if there is no such index. Until the migration to that index
+     * completes, the partition has fewer backups than configured.
+     */
+    static int lowestMissingReplicaIndex(PartitionReplica[] currentReplicas, PartitionReplica[] newReplicas) {
+        for (int i = 0; i < newReplicas.length; i++) {
+            if (newReplicas[i] != null && currentReplicas[i] == null) {
+                return i;
+            }
+        }
+        return newReplicas.length;
+    }
+
+    /**
+     * Orders the per-partition migration queues so that the partitions running
+     * with fewer replicas than planned are migrated first, lowest missing
+     * replica index first, as they are the most exposed to data loss. The
+     * order of the partitions with the same missing replica index is kept.
+     *
+     * @param partitionMigrationQueues the non-empty migration queues
+     * @param missingReplicaIndices    the lowest missing replica indices by partition ID
+     */
+    static void prioritizeUnderReplicatedPartitions(List<Queue<MigrationInfo>> partitionMigrationQueues,
+                                                    int[] missingReplicaIndices) {
+        partitionMigrationQueues.sort(Comparator.comparingInt(q -> missingReplicaIndices[q.peek().getPartitionId()]));
+    }
+
     /**
      * Comparator that compares distance of two {@link PartitionTableView}s against a base
      * {@link PartitionTableView} that is provided at construction time.
@@ -30,7 +30,9 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_ELAPSED_DESTINATION_COMMIT_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_ELAPSED_MIGRATION_OPERATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_ELAPSED_MIGRATION_TIME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_ESTIMATED_REMAINING_MIGRATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_LAST_REPARTITION_TIME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_MIGRATION_THROUGHPUT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_PLANNED_MIGRATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_COMPLETED_MIGRATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_ELAPSED_DESTINATION_COMMIT_TIME;
@@ -38,6 +40,7 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MIGRATION_METRIC_TOTAL_ELAPSED_MIGRATION_TIME;
 import static com.hazelcast.internal.metrics.ProbeUnit.MS;
 import static com.hazelcast.internal.metrics.ProbeUnit.NS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * Collection of stats for partition migration tasks.
@@ -57,6 +60,12 @@ public class MigrationStats {
      */
     private volatile long lastRepartitionNanos;
 
+    /**
+     * Monotonic time of the last completed migration of the latest repartitioning,
+     * used to calculate the throughput without decaying it once the migrations end
+     */
+    private volatile long lastCompletedMigrationNanos;
+
     @Probe(name = MIGRATION_METRIC_PLANNED_MIGRATIONS)
     private volatile int plannedMigrations;
 
@@ -98,11 +107,13 @@ public class MigrationStats {
         migrationTime.markNewRepartition();
 
         completedMigrations.reset();
+        lastCompletedMigrationNanos = lastRepartitionNanos;
     }
 
     void incrementCompletedMigrations() {
         completedMigrations.increment();
         totalCompletedMigrations.increment();
+        lastCompletedMigrationNanos = Timer.nanos();
     }
 
     /**
@@ -133,6 +144,38 @@ public class MigrationStats {
         return plannedMigrations - getCompletedMigrations();
     }
 
+    /**
+     * @return the number of migrations completed per second on the latest
+     * repartitioning round, or {@code 0} if none has completed yet.
+     */
+    @Probe(name = MIGRATION_METRIC_MIGRATION_THROUGHPUT)
+    public double getMigrationThroughput() {
+        int completed = getCompletedMigrations();
+        long elapsedNanos = lastCompletedMigrationNanos - lastRepartitionNanos;
+        if (completed == 0 || elapsedNanos <= 0) {
+            return 0;
+        }
+        return completed * (double) SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * @return the estimated time in milliseconds to complete the remaining
+     * migrations of the latest repartitioning round based on the throughput
+     * observed so far, or {@code -1} if it cannot be estimated yet.
+     */
+    @Probe(name = MIGRATION_METRIC_ESTIMATED_REMAINING_MIGRATION_TIME, unit = MS)
+    public long getEstimatedRemainingMigrationTime() {
+        int remaining = getRemainingMigrations();
+        if (remaining <= 0) {
+            return 0;
+        }
+        double throughput = getMigrationThroughput();
+        if (throughput == 0) {
+            return -1;
+        }
+        return (long) (remaining * SECONDS.toMillis(1) / throughput);
+    }
+
     /**
      * @return the total number of completed migrations since the beginning.
      */
@@ -277,6 +320,10 @@ public class MigrationStats {
                 .append(", remainingMigrations=").append(getRemainingMigrations())
                 .append(", totalCompletedMigrations=").append(getTotalCompletedMigrations());
 
+        if (getRemainingMigrations() > 0) {
+            s.append(", estimatedRemainingMigrationTime=").append(getEstimatedRemainingMigrationTime()).append("ms");
+        }
+
         if (detailed) {
             s.append(", elapsedMigrationOperationTime=").append(getElapsedMigrationOperationTime()).append("ms")
                     .append(", totalElapsedMigrationOperationTime=").append(getTotalElapsedMigrationOperationTime()).append("ms")
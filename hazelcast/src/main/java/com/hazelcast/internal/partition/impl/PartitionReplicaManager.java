@@ -19,6 +19,7 @@ package com.hazelcast.internal.partition.impl;
 import com.hazelcast.cluster.Member;
 import com.hazelcast.instance.impl.Node;
 import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.partition.FragmentedMigrationAwareService;
 import com.hazelcast.internal.partition.InternalPartition;
 import com.hazelcast.internal.partition.NonFragmentedServiceNamespace;
 import com.hazelcast.internal.partition.PartitionReplica;
@@ -48,8 +49,10 @@ import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -57,8 +60,10 @@ import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static com.hazelcast.internal.cluster.Versions.V5_5;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.PARTITIONS_METRIC_PARTITION_REPLICA_MANAGER_REPLICA_SYNC_SEMAPHORE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.PARTITIONS_METRIC_PARTITION_REPLICA_MANAGER_SYNC_REQUEST_COUNTER;
+import static com.hazelcast.internal.util.ThreadUtil.isRunningOnPartitionThread;
 import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 import static java.lang.String.format;
 import static java.util.Collections.newSetFromMap;
@@ -102,6 +107,7 @@ public class PartitionReplicaManager implements PartitionReplicaVersionManager {
 
     private final long partitionMigrationTimeout;
     private final int maxParallelReplications;
+    private final boolean merkleTreeReplicaSyncEnabled;
 
     PartitionReplicaManager(Node node, InternalPartitionServiceImpl partitionService) {
         this.node = node;
@@ -116,6 +122,7 @@ public class PartitionReplicaManager implements PartitionReplicaVersionManager {
         partitionMigrationTimeout = properties.getMillis(ClusterProperty.PARTITION_MIGRATION_TIMEOUT);
         maxParallelReplications = properties.getInteger(ClusterProperty.PARTITION_MAX_PARALLEL_REPLICATIONS);
         replicaSyncSemaphore = new Semaphore(maxParallelReplications);
+        merkleTreeReplicaSyncEnabled = properties.getBoolean(ClusterProperty.PARTITION_REPLICA_SYNC_MERKLE_TREE_ENABLED);
 
         replicaVersions = new PartitionReplicaVersions[partitionCount];
         for (int i = 0; i < replicaVersions.length; i++) {
@@ -252,13 +259,45 @@ public class PartitionReplicaManager implements PartitionReplicaVersionManager {
         }
         replicaSyncRequestsCounter.inc();
 
+        Map<ServiceNamespace, int[]> merkleTreeLeaves = collectMerkleTreeLeaves(partitionId, namespaces);
         Operation syncRequest = ALLOW_OFFLOAD
-                ? new PartitionReplicaSyncRequestOffloadable(namespaces, partitionId, replicaIndex)
-                : new PartitionReplicaSyncRequest(namespaces, partitionId, replicaIndex);
+                ? new PartitionReplicaSyncRequestOffloadable(namespaces, merkleTreeLeaves, partitionId, replicaIndex)
+                : new PartitionReplicaSyncRequest(namespaces, merkleTreeLeaves, partitionId, replicaIndex);
 
         nodeEngine.getOperationService().send(syncRequest, target.address());
     }
 
+    /**
+     * Collects the Merkle tree leaves of the given replica fragments from the services supporting
+     * differential replica sync. The trees must be built over a stable view of the data, so they
+     * are collected only when the sync is triggered on the partition thread, which is the case for
+     * the anti-entropy checks. Otherwise, the owner replicates the whole fragments.
+     */
+    private Map<ServiceNamespace, int[]> collectMerkleTreeLeaves(int partitionId, Collection<ServiceNamespace> namespaces) {
+        if (!merkleTreeReplicaSyncEnabled || !isRunningOnPartitionThread()
+                || !nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(V5_5)) {
+            return Collections.emptyMap();
+        }
+
+        Map<ServiceNamespace, int[]> merkleTreeLeaves = new HashMap<>();
+        Collection<FragmentedMigrationAwareService> services = nodeEngine.getServices(FragmentedMigrationAwareService.class);
+        for (ServiceNamespace namespace : namespaces) {
+            if (NonFragmentedServiceNamespace.INSTANCE.equals(namespace)) {
+                continue;
+            }
+            for (FragmentedMigrationAwareService service : services) {
+                if (service.isKnownServiceNamespace(namespace)) {
+                    int[] leaves = service.getMerkleTreeLeaves(partitionId, namespace);
+                    if (leaves != null) {
+                        merkleTreeLeaves.put(namespace, leaves);
+                    }
+                    break;
+                }
+            }
+        }
+        return merkleTreeLeaves;
+    }
+
     private Collection<ServiceNamespace> registerSyncInfoForNamespaces(int partitionId,
                                                                        Collection<ServiceNamespace> requestedNamespaces,
                                                                        int replicaIndex, PartitionReplica target, int permits) {
@@ -39,6 +39,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -78,6 +79,13 @@ public final class PartitionReplicaSyncRequestOffloadable
 
     public PartitionReplicaSyncRequestOffloadable(Collection<ServiceNamespace> namespaces,
                                                   int partitionId, int replicaIndex) {
+        this(namespaces, Collections.emptyMap(), partitionId, replicaIndex);
+    }
+
+    public PartitionReplicaSyncRequestOffloadable(Collection<ServiceNamespace> namespaces,
+                                                  Map<ServiceNamespace, int[]> merkleTreeLeaves,
+                                                  int partitionId, int replicaIndex) {
+        this.merkleTreeLeaves = merkleTreeLeaves;
         this.namespaces = Collections.newSetFromMap(new ConcurrentHashMap<>());
         this.namespaces.addAll(namespaces);
         this.partitionId = partitionId;
@@ -97,7 +105,7 @@ public final class PartitionReplicaSyncRequestOffloadable
         InternalPartitionServiceImpl partitionService = getService();
         try {
             PartitionReplicationEvent event = new PartitionReplicationEvent(getCallerAddress(), partitionId,
-                    getReplicaIndex());
+                    getReplicaIndex(), merkleTreeLeaves);
             // It is only safe to read replica versions before
             // preparing replication operations. Reasoning: even
             // though partition is already marked as migrating,
@@ -266,6 +274,7 @@ public final class PartitionReplicaSyncRequestOffloadable
     protected void writeInternal(ObjectDataOutput out) throws IOException {
         writeCollection(namespaces, out);
         out.writeInt(partitionId);
+        writeMerkleTreeLeaves(out);
     }
 
     @Override
@@ -273,6 +282,7 @@ public final class PartitionReplicaSyncRequestOffloadable
         namespaces = Collections.newSetFromMap(new ConcurrentHashMap<>());
         namespaces.addAll(readCollection(in));
         partitionId = in.readInt();
+        readMerkleTreeLeaves(in);
     }
 
     private boolean trySetMigratingFlag() {
@@ -24,6 +24,10 @@ import com.hazelcast.nio.serialization.compact.CompactSerializer;
 import com.hazelcast.nio.serialization.compact.CompactWriter;
 
 import javax.annotation.Nonnull;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
@@ -66,7 +70,9 @@ import static java.util.stream.Collectors.toList;
  */
 public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
 
-    private final Map<Class, ReaderWriter[]> readerWritersCache = new ConcurrentHashMap<>();
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
+    private final Map<Class, ClassReaderWriters> readerWritersCache = new ConcurrentHashMap<>();
     private final CompactStreamSerializer compactStreamSerializer;
 
     public ReflectiveCompactSerializer(CompactStreamSerializer compactStreamSerializer) {
@@ -96,14 +102,16 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
     }
 
     private boolean writeFast(Class clazz, CompactWriter compactWriter, Object object) {
-        ReaderWriter[] readerWriters = readerWritersCache.get(clazz);
-        if (readerWriters == null) {
+        ClassReaderWriters classReaderWriters = readerWritersCache.get(clazz);
+        if (classReaderWriters == null) {
             return false;
         }
-        for (ReaderWriter readerWriter : readerWriters) {
+        for (ReaderWriter readerWriter : classReaderWriters.readerWriters) {
             try {
                 readerWriter.write(compactWriter, object);
-            } catch (Exception e) {
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
                 throw new HazelcastSerializationException(e);
             }
         }
@@ -111,16 +119,18 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
     }
 
     private boolean readFast(Class clazz, DefaultCompactReader compactReader, Object object) {
-        ReaderWriter[] readerWriters = readerWritersCache.get(clazz);
-        if (readerWriters == null) {
+        ClassReaderWriters classReaderWriters = readerWritersCache.get(clazz);
+        if (classReaderWriters == null) {
             return false;
         }
 
         Schema schema = compactReader.getSchema();
-        for (ReaderWriter readerWriter : readerWriters) {
+        for (ReaderWriter readerWriter : classReaderWriters.readPlanFor(schema)) {
             try {
                 readerWriter.read(compactReader, schema, object);
-            } catch (Exception e) {
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
                 throw new HazelcastSerializationException(e);
             }
         }
@@ -165,6 +175,36 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
         return fields;
     }
 
+    /**
+     * Returns the getter of the field with the type {@code (Object)T}, where
+     * {@code T} is the type of the field if it is primitive, and {@code Object}
+     * otherwise, so that it can be invoked exactly without boxing the value.
+     */
+    private static MethodHandle getter(Field field) {
+        try {
+            return LOOKUP.unreflectGetter(field).asType(MethodType.methodType(accessedType(field), Object.class));
+        } catch (IllegalAccessException e) {
+            throw new HazelcastSerializationException("Could not access the field " + field, e);
+        }
+    }
+
+    /**
+     * Returns the setter of the field with the type {@code (Object, T)void},
+     * see {@link #getter(Field)}.
+     */
+    private static MethodHandle setter(Field field) {
+        try {
+            return LOOKUP.unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, accessedType(field)));
+        } catch (IllegalAccessException e) {
+            throw new HazelcastSerializationException("Could not access the field " + field, e);
+        }
+    }
+
+    private static Class<?> accessedType(Field field) {
+        return field.getType().isPrimitive() ? field.getType() : Object.class;
+    }
+
     @SuppressWarnings("MethodLength")
     private void createFastReadWriteCaches(Class clazz) {
         // The top level class might not be Compact serializable
@@ -179,119 +219,144 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
             field.setAccessible(true);
             Class<?> type = field.getType();
             String name = field.getName();
-
+            MethodHandle getter = getter(field);
+            MethodHandle setter = setter(field);
 
             // Use normal reader-writers for the primitive types to avoid boxing-unboxing
             if (Byte.TYPE.equals(type)) {
                 readerWriters[index] = new ReaderWriter() {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT8, NULLABLE_INT8)) {
-                            field.setByte(o, reader.readInt8(name));
-                        }
+                    public boolean isReadable(Schema schema) {
+                        return isFieldExist(schema, name, INT8, NULLABLE_INT8);
                     }
 
                     @Override
-                    public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeInt8(name, field.getByte(o));
+                    public void read(CompactReader reader, Schema schema, Object o) throws Throwable {
+                        setter.invokeExact(o, reader.readInt8(name));
+                    }
+
+                    @Override
+                    public void write(CompactWriter writer, Object o) throws Throwable {
+                        writer.writeInt8(name, (byte) getter.invokeExact(o));
                     }
                 };
             } else if (Character.TYPE.equals(type)) {
                 readerWriters[index] = new ReaderWriter() {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT16, NULLABLE_INT16)) {
-                            field.setChar(o, (char) reader.readInt16(name));
-                        }
+                    public boolean isReadable(Schema schema) {
+                        return isFieldExist(schema, name, INT16, NULLABLE_INT16);
+                    }
+
+                    @Override
+                    public void read(CompactReader reader, Schema schema, Object o) throws Throwable {
+                        setter.invokeExact(o, (char) reader.readInt16(name));
                     }
 
                     @Override
-                    public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeInt16(name, (short) field.getChar(o));
+                    public void write(CompactWriter writer, Object o) throws Throwable {
+                        writer.writeInt16(name, (short) (char) getter.invokeExact(o));
                     }
                 };
             } else if (Short.TYPE.equals(type)) {
                 readerWriters[index] = new ReaderWriter() {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT16, NULLABLE_INT16)) {
-                            field.setShort(o, reader.readInt16(name));
-                        }
+                    public boolean isReadable(Schema schema) {
+                        return isFieldExist(schema, name, INT16, NULLABLE_INT16);
+                    }
+
+                    @Override
+                    public void read(CompactReader reader, Schema schema, Object o) throws Throwable {
+                        setter.invokeExact(o, reader.readInt16(name));
                     }
 
                     @Override
-                    public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeInt16(name, field.getShort(o));
+                    public void write(CompactWriter writer, Object o) throws Throwable {
+                        writer.writeInt16(name, (short) getter.invokeExact(o));
                     }
                 };
             } else if (Integer.TYPE.equals(type)) {
                 readerWriters[index] = new ReaderWriter() {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT32, NULLABLE_INT32)) {
-                            field.setInt(o, reader.readInt32(name));
-                        }
+                    public boolean isReadable(Schema schema) {
+                        return isFieldExist(schema, name, INT32, NULLABLE_INT32);
+                    }
+
+                    @Override
+                    public void read(CompactReader reader, Schema schema, Object o) throws Throwable {
+                        setter.invokeExact(o, reader.readInt32(name));
                     }
 
                     @Override
-                    public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeInt32(name, field.getInt(o));
+                    public void write(CompactWriter writer, Object o) throws Throwable {
+                        writer.writeInt32(name, (int) getter.invokeExact(o));
                     }
                 };
             } else if (Long.TYPE.equals(type)) {
                 readerWriters[index] = new ReaderWriter() {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, INT64, NULLABLE_INT64)) {
-                            field.setLong(o, reader.readInt64(name));
-                        }
+                    public boolean isReadable(Schema schema) {
+                        return isFieldExist(schema, name, INT64, NULLABLE_INT64);
                     }
 
                     @Override
-                    public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeInt64(name, field.getLong(o));
+                    public void read(CompactReader reader, Schema schema, Object o) throws Throwable {
+                        setter.invokeExact(o, reader.readInt64(name));
+                    }
+
+                    @Override
+                    public void write(CompactWriter writer, Object o) throws Throwable {
+                        writer.writeInt64(name, (long) getter.invokeExact(o));
                     }
                 };
             } else if (Float.TYPE.equals(type)) {
                 readerWriters[index] = new ReaderWriter() {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, FLOAT32, NULLABLE_FLOAT32)) {
-                            field.setFloat(o, reader.readFloat32(name));
-                        }
+                    public boolean isReadable(Schema schema) {
+                        return isFieldExist(schema, name, FLOAT32, NULLABLE_FLOAT32);
+                    }
+
+                    @Override
+                    public void read(CompactReader reader, Schema schema, Object o) throws Throwable {
+                        setter.invokeExact(o, reader.readFloat32(name));
                     }
 
                     @Override
-                    public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeFloat32(name, field.getFloat(o));
+                    public void write(CompactWriter writer, Object o) throws Throwable {
+                        writer.writeFloat32(name, (float) getter.invokeExact(o));
                     }
                 };
             } else if (Double.TYPE.equals(type)) {
                 readerWriters[index] = new ReaderWriter() {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, FLOAT64, NULLABLE_FLOAT64)) {
-                            field.setDouble(o, reader.readFloat64(name));
-                        }
+                    public boolean isReadable(Schema schema) {
+                        return isFieldExist(schema, name, FLOAT64, NULLABLE_FLOAT64);
+                    }
+
+                    @Override
+                    public void read(CompactReader reader, Schema schema, Object o) throws Throwable {
+                        setter.invokeExact(o, reader.readFloat64(name));
                     }
 
                     @Override
-                    public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeFloat64(name, field.getDouble(o));
+                    public void write(CompactWriter writer, Object o) throws Throwable {
+                        writer.writeFloat64(name, (double) getter.invokeExact(o));
                     }
                 };
             } else if (Boolean.TYPE.equals(type)) {
                 readerWriters[index] = new ReaderWriter() {
                     @Override
-                    public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-                        if (isFieldExist(schema, name, BOOLEAN, NULLABLE_BOOLEAN)) {
-                            field.setBoolean(o, reader.readBoolean(name));
-                        }
+                    public boolean isReadable(Schema schema) {
+                        return isFieldExist(schema, name, BOOLEAN, NULLABLE_BOOLEAN);
+                    }
+
+                    @Override
+                    public void read(CompactReader reader, Schema schema, Object o) throws Throwable {
+                        setter.invokeExact(o, reader.readBoolean(name));
                     }
 
                     @Override
-                    public void write(CompactWriter writer, Object o) throws Exception {
-                        writer.writeBoolean(name, field.getBoolean(o));
+                    public void write(CompactWriter writer, Object o) throws Throwable {
+                        writer.writeBoolean(name, (boolean) getter.invokeExact(o));
                     }
                 };
             } else {
@@ -299,41 +364,87 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
                 readerWriters[index] = new ReaderWriterAdapter(
                         ValueReaderWriters.readerWriterFor(compactStreamSerializer, clazz, type,
                                 field.getGenericType(), name),
-                        field
+                        getter, setter
                 );
             }
 
             index++;
         }
 
-        readerWritersCache.put(clazz, readerWriters);
+        readerWritersCache.put(clazz, new ClassReaderWriters(readerWriters));
+    }
+
+    /**
+     * Reader writers of all the fields of a class, together with the read
+     * plans derived from them for each schema the class was read with.
+     * <p>
+     * A read plan contains only the reader writers of the fields that are
+     * readable from the data written with that schema, so that the
+     * field existence checks are done once per schema instead of once per
+     * field of every deserialized object.
+     */
+    private static final class ClassReaderWriters {
+
+        private final ReaderWriter[] readerWriters;
+        private final Map<Long, ReaderWriter[]> readPlans = new ConcurrentHashMap<>();
+
+        ClassReaderWriters(ReaderWriter[] readerWriters) {
+            this.readerWriters = readerWriters;
+        }
+
+        ReaderWriter[] readPlanFor(Schema schema) {
+            ReaderWriter[] readPlan = readPlans.get(schema.getSchemaId());
+            if (readPlan != null) {
+                return readPlan;
+            }
+            return readPlans.computeIfAbsent(schema.getSchemaId(), id -> createReadPlan(schema));
+        }
+
+        private ReaderWriter[] createReadPlan(Schema schema) {
+            return Arrays.stream(readerWriters)
+                    .filter(readerWriter -> readerWriter.isReadable(schema))
+                    .toArray(ReaderWriter[]::new);
+        }
     }
 
     private static final class ReaderWriterAdapter implements ReaderWriter {
 
         private final ValueReaderWriter readerWriter;
-        private final Field field;
-
+        private final MethodHandle getter;
+        private final MethodHandle setter;
 
-        ReaderWriterAdapter(ValueReaderWriter readerWriter, Field field) {
+        ReaderWriterAdapter(ValueReaderWriter readerWriter, MethodHandle getter, MethodHandle setter) {
             this.readerWriter = readerWriter;
-            this.field = field;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public boolean isReadable(Schema schema) {
+            // value reader writers handle the missing or incompatible fields themselves
+            return true;
         }
 
         @Override
-        public void read(CompactReader reader, Schema schema, Object o) throws Exception {
-            field.set(o, readerWriter.read(reader, schema));
+        public void read(CompactReader reader, Schema schema, Object o) throws Throwable {
+            setter.invokeExact(o, readerWriter.read(reader, schema));
         }
 
         @Override
-        public void write(CompactWriter writer, Object o) throws Exception {
-            readerWriter.write(writer, field.get(o));
+        public void write(CompactWriter writer, Object o) throws Throwable {
+            readerWriter.write(writer, (Object) getter.invokeExact(o));
         }
     }
 
     private interface ReaderWriter {
-        void read(CompactReader reader, Schema schema, Object o) throws Exception;
+        /**
+         * Returns whether the field can be read from the data written with the
+         * given schema. Evaluated once per schema while building a read plan.
+         */
+        boolean isReadable(Schema schema);
+
+        void read(CompactReader reader, Schema schema, Object o) throws Throwable;
 
-        void write(CompactWriter writer, Object o) throws Exception;
+        void write(CompactWriter writer, Object o) throws Throwable;
     }
 }
@@ -79,18 +79,22 @@ public class OneToOneConcurrentArrayQueue<E> extends AbstractConcurrentArrayQueu
         final long limit = acquiredHead + mask + 1;
 
         long nextSequence = acquiredHead;
-        while (nextSequence < limit) {
-            final int arrayIndex = seqToArrayIndex(nextSequence, mask);
-            final E item = buffer.get(arrayIndex);
-            if (item == null) {
-                break;
+        try {
+            while (nextSequence < limit) {
+                final int arrayIndex = seqToArrayIndex(nextSequence, mask);
+                final E item = buffer.get(arrayIndex);
+                if (item == null) {
+                    break;
+                }
+                buffer.lazySet(arrayIndex, null);
+                nextSequence++;
+                if (!itemHandler.test(item)) {
+                    break;
+                }
             }
-            buffer.lazySet(arrayIndex, null);
-            nextSequence++;
+        } finally {
+            // publish the new head once for the whole batch, also if the handler failed
             HEAD.lazySet(this, nextSequence);
-            if (!itemHandler.test(item)) {
-                break;
-            }
         }
         return (int) (nextSequence - acquiredHead);
     }
@@ -106,17 +110,20 @@ public class OneToOneConcurrentArrayQueue<E> extends AbstractConcurrentArrayQueu
 
         long nextSequence = head;
         int count = 0;
-        while (count < limit) {
-            final int arrayIndex = seqToArrayIndex(nextSequence, mask);
-            final E item = buffer.get(arrayIndex);
-            if (item == null) {
-                break;
+        try {
+            while (count < limit) {
+                final int arrayIndex = seqToArrayIndex(nextSequence, mask);
+                final E item = buffer.get(arrayIndex);
+                if (item == null) {
+                    break;
+                }
+                buffer.lazySet(arrayIndex, null);
+                nextSequence++;
+                count++;
+                target.add(item);
             }
-            buffer.lazySet(arrayIndex, null);
-            nextSequence++;
+        } finally {
             HEAD.lazySet(this, nextSequence);
-            count++;
-            target.add(item);
         }
         return count;
     }
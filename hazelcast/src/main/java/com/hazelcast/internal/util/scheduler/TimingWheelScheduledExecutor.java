@@ -0,0 +1,427 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.util.scheduler;
+
+import com.hazelcast.logging.ILogger;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.hazelcast.internal.util.EmptyStatement.ignore;
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+
+/**
+ * A {@link ScheduledExecutorService} backed by a hierarchical timing wheel.
+ * <p>
+ * The tasks are kept in the buckets of {@value #LEVELS} wheels of {@value
+ * #WHEEL_SIZE} buckets each. A bucket of the lowest wheel holds the tasks
+ * expiring within a tick, a bucket of a higher wheel holds the tasks expiring
+ * within a whole revolution of the wheel below it, and is cascaded down to
+ * the lower wheels when its time comes. Scheduling and cancelling a task takes
+ * constant time regardless of the number of the scheduled tasks, unlike the
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor} whose delay queue
+ * is a binary heap. In exchange, the tasks fire at the tick granularity: a
+ * task fires within a tick after its delay elapsed.
+ * <p>
+ * A single timer thread advances the wheels and runs all the tasks expiring
+ * in a tick in one pass, so, like for the single threaded {@link
+ * com.hazelcast.internal.util.executor.LoggingScheduledExecutor}, the tasks
+ * are expected to be short, e.g. to hand off the actual work to another
+ * executor. The scheduled and cancelled tasks are handed over to the timer
+ * thread through lock-free queues, the wheels are only accessed by the timer
+ * thread. The failures of the tasks are logged.
+ * <p>
+ * Shutting the executor down discards the scheduled tasks, which are not
+ * returned by {@link #shutdownNow()}.
+ */
+public class TimingWheelScheduledExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+
+    /**
+     * The number of the buckets of a wheel.
+     */
+    static final int WHEEL_SIZE = 512;
+
+    /**
+     * The number of the wheels. With the ticks of a millisecond, the tasks
+     * are scheduled with the tick precision for more than two years ahead,
+     * the longer delays are cascaded until they fit.
+     */
+    static final int LEVELS = 4;
+
+    private static final int WHEEL_BITS = Integer.numberOfTrailingZeros(WHEEL_SIZE);
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final long MAX_DELTA_TICKS = (1L << (WHEEL_BITS * LEVELS)) - 1;
+
+    private final ILogger logger;
+    private final long tickNanos;
+    private final long startNanos = System.nanoTime();
+    private final Bucket[][] wheels = new Bucket[LEVELS][WHEEL_SIZE];
+    private final Queue<TimerTask<?>> scheduledTasks = new ConcurrentLinkedQueue<>();
+    private final Queue<TimerTask<?>> cancelledTasks = new ConcurrentLinkedQueue<>();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private final Thread timerThread;
+
+    private volatile boolean shutdown;
+    // the last processed tick, only accessed by the timer thread
+    private long currentTick;
+
+    public TimingWheelScheduledExecutor(ILogger logger, long tickMillis, ThreadFactory threadFactory) {
+        this.logger = checkNotNull(logger, "logger cannot be null");
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(checkPositive("tickMillis", tickMillis));
+        for (Bucket[] wheel : wheels) {
+            for (int i = 0; i < wheel.length; i++) {
+                wheel[i] = new Bucket();
+            }
+        }
+        this.timerThread = threadFactory.newThread(this::runTimer);
+        timerThread.start();
+    }
+
+    @Nonnull
+    @Override
+    public ScheduledFuture<?> schedule(@Nonnull Runnable command, long delay, @Nonnull TimeUnit unit) {
+        checkNotNull(command, "command cannot be null");
+        return schedule(new TimerTask<>(Executors.callable(command), command, unit.toNanos(delay), 0));
+    }
+
+    @Nonnull
+    @Override
+    public <V> ScheduledFuture<V> schedule(@Nonnull Callable<V> callable, long delay, @Nonnull TimeUnit unit) {
+        checkNotNull(callable, "callable cannot be null");
+        return schedule(new TimerTask<>(callable, callable, unit.toNanos(delay), 0));
+    }
+
+    @Nonnull
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(@Nonnull Runnable command, long initialDelay, long period,
+                                                  @Nonnull TimeUnit unit) {
+        checkNotNull(command, "command cannot be null");
+        checkPositive("period", period);
+        return schedule(new TimerTask<>(Executors.callable(command), command, unit.toNanos(initialDelay),
+                unit.toNanos(period)));
+    }
+
+    @Nonnull
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(@Nonnull Runnable command, long initialDelay, long delay,
+                                                     @Nonnull TimeUnit unit) {
+        checkNotNull(command, "command cannot be null");
+        checkPositive("delay", delay);
+        // a negative period marks the fixed delay
+        return schedule(new TimerTask<>(Executors.callable(command), command, unit.toNanos(initialDelay),
+                -unit.toNanos(delay)));
+    }
+
+    @Override
+    public void execute(@Nonnull Runnable command) {
+        schedule(command, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        LockSupport.unpark(timerThread);
+    }
+
+    @Nonnull
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    private <V> TimerTask<V> schedule(TimerTask<V> task) {
+        if (isShutdown()) {
+            throw new RejectedExecutionException("Executor is shut down, rejecting " + task);
+        }
+        scheduledTasks.offer(task);
+        return task;
+    }
+
+    private long toTick(long nanoTime) {
+        // rounded up, a task never fires before its delay elapsed
+        long elapsed = nanoTime - startNanos;
+        return elapsed <= 0 ? 0 : (elapsed + tickNanos - 1) / tickNanos;
+    }
+
+    private void runTimer() {
+        try {
+            while (!shutdown) {
+                long sleepNanos = startNanos + (currentTick + 1) * tickNanos - System.nanoTime();
+                if (sleepNanos > 0) {
+                    LockSupport.parkNanos(this, sleepNanos);
+                    continue;
+                }
+                // catches up tick by tick when the thread was delayed
+                currentTick++;
+                removeCancelledTasks();
+                cascade();
+                addScheduledTasks();
+                fire(wheels[0][(int) (currentTick & WHEEL_MASK)]);
+            }
+        } finally {
+            for (Bucket[] wheel : wheels) {
+                for (Bucket bucket : wheel) {
+                    bucket.clear();
+                }
+            }
+            scheduledTasks.clear();
+            cancelledTasks.clear();
+            terminated.countDown();
+        }
+    }
+
+    private void removeCancelledTasks() {
+        TimerTask<?> task;
+        while ((task = cancelledTasks.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+            }
+        }
+    }
+
+    private void addScheduledTasks() {
+        TimerTask<?> task;
+        while ((task = scheduledTasks.poll()) != null) {
+            if (!task.isCancelled()) {
+                add(task);
+            }
+        }
+    }
+
+    private void add(TimerTask<?> task) {
+        long deltaTicks = task.expiryTick - currentTick;
+        if (deltaTicks <= 0) {
+            wheels[0][(int) (currentTick & WHEEL_MASK)].add(task);
+            return;
+        }
+        // the tasks beyond the reach of the top wheel are re-added when their bucket is cascaded
+        long expiryTick = deltaTicks > MAX_DELTA_TICKS ? currentTick + MAX_DELTA_TICKS : task.expiryTick;
+        int level = 0;
+        while (level < LEVELS - 1 && deltaTicks >= 1L << (WHEEL_BITS * (level + 1))) {
+            level++;
+        }
+        wheels[level][(int) ((expiryTick >> (WHEEL_BITS * level)) & WHEEL_MASK)].add(task);
+    }
+
+    /**
+     * Moves the tasks of the buckets of the higher wheels, whose time has
+     * come, down to the lower wheels. A bucket of a wheel is cascaded when the
+     * wheels below it complete a revolution, starting with the highest wheel.
+     */
+    private void cascade() {
+        for (int level = LEVELS - 1; level > 0; level--) {
+            if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) != 0) {
+                continue;
+            }
+            TimerTask<?> task = wheels[level][(int) ((currentTick >> (WHEEL_BITS * level)) & WHEEL_MASK)].clear();
+            while (task != null) {
+                TimerTask<?> next = task.next;
+                task.next = null;
+                add(task);
+                task = next;
+            }
+        }
+    }
+
+    private void fire(Bucket bucket) {
+        // the periodic tasks behind their schedule are added back to the bucket and catch up
+        TimerTask<?> task;
+        while ((task = bucket.clear()) != null) {
+            while (task != null) {
+                TimerTask<?> next = task.next;
+                task.next = null;
+                if (task.expiryTick > currentTick) {
+                    add(task);
+                } else if (!task.isCancelled()) {
+                    run(task);
+                }
+                task = next;
+            }
+        }
+    }
+
+    private void run(TimerTask<?> task) {
+        Throwable throwable = null;
+        try {
+            task.run();
+            if (task.isDone()) {
+                task.get();
+            }
+        } catch (CancellationException e) {
+            ignore(e);
+        } catch (ExecutionException e) {
+            throwable = e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable t) {
+            throwable = t;
+        }
+        if (throwable != null) {
+            logger.severe("Failed to execute " + task, throwable);
+        }
+    }
+
+    /**
+     * A doubly linked list of the tasks of a wheel bucket.
+     */
+    private static final class Bucket {
+
+        private TimerTask<?> head;
+
+        void add(TimerTask<?> task) {
+            task.bucket = this;
+            task.prev = null;
+            task.next = head;
+            if (head != null) {
+                head.prev = task;
+            }
+            head = task;
+        }
+
+        void remove(TimerTask<?> task) {
+            if (task.prev != null) {
+                task.prev.next = task.next;
+            } else {
+                head = task.next;
+            }
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            }
+            task.bucket = null;
+            task.prev = null;
+            task.next = null;
+        }
+
+        /**
+         * Empties the bucket and returns its first task, the rest of the tasks
+         * is linked through {@link TimerTask#next}.
+         */
+        TimerTask<?> clear() {
+            TimerTask<?> first = head;
+            for (TimerTask<?> task = first; task != null; task = task.next) {
+                task.bucket = null;
+                task.prev = null;
+            }
+            head = null;
+            return first;
+        }
+    }
+
+    private final class TimerTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+        private final Object command;
+        // positive for a fixed rate, negative for a fixed delay, 0 for a one-shot task
+        private final long periodNanos;
+        private volatile long deadlineNanos;
+        private long expiryTick;
+
+        // the links of the bucket, only accessed by the timer thread
+        private Bucket bucket;
+        private TimerTask<?> prev;
+        private TimerTask<?> next;
+
+        TimerTask(Callable<V> callable, Object command, long delayNanos, long periodNanos) {
+            super(callable);
+            this.command = command;
+            this.periodNanos = periodNanos;
+            setDeadline(System.nanoTime() + Math.max(0, delayNanos));
+        }
+
+        private void setDeadline(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+            this.expiryTick = toTick(deadlineNanos);
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return periodNanos != 0;
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+            } else if (runAndReset() && !isShutdown()) {
+                setDeadline(periodNanos > 0 ? deadlineNanos + periodNanos : System.nanoTime() - periodNanos);
+                // the timer thread runs the task, it adds the next run directly
+                add(this);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                cancelledTasks.offer(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(@Nonnull TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(@Nonnull Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public String toString() {
+            return "TimerTask{command=" + command + ", delayNanos=" + getDelay(TimeUnit.NANOSECONDS) + '}';
+        }
+    }
+}
@@ -33,6 +33,7 @@ import java.util.function.BiFunction;
 
 import static com.hazelcast.client.HazelcastClient.newHazelcastClient;
 import static com.hazelcast.jet.Traversers.traverseIterable;
+import static com.hazelcast.jet.Traversers.traverseIterator;
 import static com.hazelcast.jet.Traversers.traverseStream;
 import static com.hazelcast.jet.impl.util.ImdgUtil.asClientConfig;
 import static java.lang.Math.min;
@@ -80,6 +81,10 @@ public final class ReadIListP extends AbstractProcessor {
         if (list instanceof ClientListProxy proxy) {
             return createTraverser(size, proxy::dataSubList);
         } else if (list instanceof ListProxyImpl proxy) {
+            if (proxy.isChunkedIteration()) {
+                // streams the items from a cursor on the partition owner, prefetching the next pages
+                return traverseIterator(proxy.dataIterator(FETCH_SIZE));
+            }
             return createTraverser(size, proxy::dataSubList);
         } else {
             throw new RuntimeException("Unexpected list class: " + list.getClass().getName());
@@ -67,9 +67,32 @@ public final class ConcurrentInboundEdgeStream {
             boolean waitForAllBarriers,
             @Nonnull String debugName,
             @Nullable ComparatorEx<?> comparator
+    ) {
+        return create(conveyor, ordinal, priority, waitForAllBarriers, 0, debugName, comparator);
+    }
+
+    /**
+     * @param waitForAllBarriers If {@code true}, a queue that had a barrier won't
+     *          be drained until the same barrier is received from all other
+     *          queues. This will enforce exactly-once vs. at-least-once, if it
+     *          is {@code false}.
+     * @param barrierBufferSize The maximum number of items per queue that are
+     *          moved out of a queue, which is blocked by a barrier, into a
+     *          local buffer while waiting for the barrier alignment. The
+     *          buffered items are emitted, in order, after the barrier is
+     *          forwarded. Zero disables the buffering.
+     */
+    public static InboundEdgeStream create(
+            @Nonnull ConcurrentConveyor<Object> conveyor,
+            int ordinal,
+            int priority,
+            boolean waitForAllBarriers,
+            int barrierBufferSize,
+            @Nonnull String debugName,
+            @Nullable ComparatorEx<?> comparator
     ) {
         if (comparator == null) {
-            return new RoundRobinDrain(conveyor, ordinal, priority, debugName, waitForAllBarriers);
+            return new RoundRobinDrain(conveyor, ordinal, priority, debugName, waitForAllBarriers, barrierBufferSize);
         } else {
             return new OrderedDrain(conveyor, ordinal, priority, debugName, comparator);
         }
@@ -138,6 +161,11 @@ public final class ConcurrentInboundEdgeStream {
      * This implementation performs a single {@code drainTo} operation on all
      * the input queues and forwards the data to the destination, while handling
      * watermarks & barriers.
+     * <p>
+     * If barrier buffering is enabled, the items behind a barrier in a queue
+     * that waits for the alignment are moved to a per-queue local buffer, so
+     * that the upstream tasklet isn't blocked on a full queue during the
+     * alignment. The buffer is always drained before its queue.
      */
     private static final class RoundRobinDrain extends InboundEdgeStreamBase {
         private final ItemDetector itemDetector = new ItemDetector();
@@ -150,19 +178,33 @@ public final class ConcurrentInboundEdgeStream {
         private boolean waitForAllBarriers;
         private SnapshotBarrier currentBarrier;  // next snapshot barrier to emit
         private final List<SpecialBroadcastItem> specialItemsStash = new ArrayList<>();
+        private final int barrierBufferSize;
+        // items taken from the queues while waiting for the barrier alignment, null if buffering is disabled
+        private final ArrayDeque<Object>[] barrierBuffers;
 
+        @SuppressWarnings("unchecked")
         RoundRobinDrain(
                 @Nonnull ConcurrentConveyor<Object> conveyor,
                 int ordinal,
                 int priority,
                 @Nonnull String debugName,
-                boolean waitForAllBarriers
+                boolean waitForAllBarriers,
+                int barrierBufferSize
         ) {
             super(conveyor, ordinal, priority, debugName);
 
             this.waitForAllBarriers = waitForAllBarriers;
             this.coalescers = new KeyedWatermarkCoalescer(conveyor.queueCount());
             receivedBarriers = new BitSet(conveyor.queueCount());
+            this.barrierBufferSize = barrierBufferSize;
+            if (barrierBufferSize > 0) {
+                barrierBuffers = new ArrayDeque[conveyor.queueCount()];
+                for (int i = 0; i < barrierBuffers.length; i++) {
+                    barrierBuffers[i] = new ArrayDeque<>();
+                }
+            } else {
+                barrierBuffers = null;
+            }
         }
 
         @Nonnull @Override
@@ -187,10 +229,11 @@ public final class ConcurrentInboundEdgeStream {
 
                 // skip queues where a snapshot barrier has already been received
                 if (waitForAllBarriers && receivedBarriers.get(queueIndex)) {
+                    bufferAhead(queueIndex, q);
                     continue;
                 }
 
-                ProgressState result = drainQueue(q, dest);
+                ProgressState result = drainQueue(queueIndex, q, dest);
                 tracker.mergeWith(result);
 
                 normalItemWasObservedOnAnyQueue |= itemDetector.normalItemObserved;
@@ -241,14 +284,45 @@ public final class ConcurrentInboundEdgeStream {
             return super.isDone() && specialItemsStash.isEmpty();
         }
 
+        @Override
+        public void bufferAhead() {
+            if (barrierBuffers == null) {
+                return;
+            }
+            for (int queueIndex = 0; queueIndex < conveyor.queueCount(); queueIndex++) {
+                final QueuedPipe<Object> q = conveyor.queue(queueIndex);
+                if (q != null) {
+                    bufferAhead(queueIndex, q);
+                }
+            }
+        }
+
+        private void bufferAhead(int queueIndex, Pipe<Object> queue) {
+            if (barrierBuffers != null) {
+                ArrayDeque<Object> buffer = barrierBuffers[queueIndex];
+                queue.drainTo(buffer, barrierBufferSize - buffer.size());
+            }
+        }
+
         /**
          * Drains the supplied queue into a {@code dest} collection, up to the next
          * {@link Watermark} or {@link SnapshotBarrier}. Also updates the {@code tracker} with new status.
+         * The items buffered for the queue while waiting for a barrier are drained first.
          */
-        private ProgressState drainQueue(Pipe<Object> queue, Consumer<Object> dest) {
+        private ProgressState drainQueue(int queueIndex, Pipe<Object> queue, Consumer<Object> dest) {
             itemDetector.reset(dest);
 
-            int drainedCount = queue.drain(itemDetector);
+            int drainedCount = 0;
+            ArrayDeque<Object> buffer = barrierBuffers != null ? barrierBuffers[queueIndex] : null;
+            if (buffer != null) {
+                while (itemDetector.item == null && !buffer.isEmpty()) {
+                    drainedCount++;
+                    itemDetector.test(buffer.poll());
+                }
+            }
+            if (itemDetector.item == null) {
+                drainedCount += queue.drain(itemDetector);
+            }
 
             itemDetector.dest = null;
             return ProgressState.valueOf(drainedCount > 0, itemDetector.item == DONE_ITEM);
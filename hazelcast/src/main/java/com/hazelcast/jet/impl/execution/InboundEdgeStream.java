@@ -46,6 +46,19 @@ public interface InboundEdgeStream {
     @Nonnull
     ProgressState drainTo(@Nonnull Consumer<Object> dest);
 
+    /**
+     * Called instead of {@link #drainTo} while the caller waits for a
+     * snapshot barrier on other edges. The implementation may move the items
+     * from the input queues to a local buffer, so that the upstream isn't
+     * backpressured during the barrier alignment. The buffered items must be
+     * passed to the consumer in the subsequent {@link #drainTo} calls in the
+     * original order.
+     * <p>
+     * The default implementation does nothing.
+     */
+    default void bufferAhead() {
+    }
+
     /**
      * Returns true after all the input queues are done.
      */
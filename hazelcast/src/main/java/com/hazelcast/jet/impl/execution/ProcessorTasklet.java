@@ -570,6 +570,7 @@ public class ProcessorTasklet implements Tasklet {
 
             // skip ordinals where a snapshot barrier has already been received
             if (waitForAllBarriers && receivedBarriers.get(currInstream.ordinal())) {
+                currInstream.bufferAhead();
                 instreamCursor.advance();
                 continue;
             }
@@ -19,6 +19,7 @@ package com.hazelcast.jet.impl.execution;
 import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.util.JavaVersion;
 import com.hazelcast.internal.util.RuntimeAvailableProcessors;
 import com.hazelcast.internal.util.concurrent.BackoffIdleStrategy;
 import com.hazelcast.internal.util.concurrent.IdleStrategy;
@@ -50,10 +51,12 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
@@ -65,6 +68,8 @@ import static com.hazelcast.internal.util.ExceptionUtil.sneakyThrow;
 import static com.hazelcast.internal.util.ExceptionUtil.withTryCatch;
 import static com.hazelcast.jet.impl.util.Util.doWithClassLoader;
 import static com.hazelcast.jet.impl.util.Util.uncheckRun;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_BLOCKING_TASKLET_VIRTUAL_THREADS_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_COOPERATIVE_WORK_STEALING_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_COOPERATIVE_MAX_MICROSECONDS;
 import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_COOPERATIVE_MIN_MICROSECONDS;
 import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_NONCOOPERATIVE_MAX_MICROSECONDS;
@@ -80,7 +85,7 @@ public class TaskletExecutionService {
 
     public static final String TASKLET_INIT_CLOSE_EXECUTOR_NAME = "jet:tasklet_initClose";
 
-    private final ExecutorService blockingTaskletExecutor = newCachedThreadPool(new BlockingTaskThreadFactory());
+    private final ExecutorService blockingTaskletExecutor;
     private final ExecutionService hzExecutionService;
     private final CooperativeWorker[] cooperativeWorkers;
     private final Thread[] cooperativeThreadPool;
@@ -93,6 +98,9 @@ public class TaskletExecutionService {
     private final Object lock = new Object();
     private final IdleStrategy idlerCooperative;
     private final IdleStrategy idlerNonCooperative;
+    private final boolean workStealingEnabled;
+    // guards moving of tasklets between cooperative workers
+    private final Object stealLock = new Object();
 
     public TaskletExecutionService(NodeEngine nodeEngine, int threadCount, HazelcastProperties properties) {
         hzExecutionService = nodeEngine.getExecutionService();
@@ -102,6 +110,8 @@ public class TaskletExecutionService {
         this.cooperativeWorkers = new CooperativeWorker[threadCount];
         this.cooperativeThreadPool = new Thread[threadCount];
         this.logger = nodeEngine.getLoggingService().getLogger(TaskletExecutionService.class);
+        this.blockingTaskletExecutor = createBlockingTaskletExecutor(properties);
+        this.workStealingEnabled = properties.getBoolean(JET_COOPERATIVE_WORK_STEALING_ENABLED);
 
         idlerCooperative = createIdler(
             properties, JET_IDLE_COOPERATIVE_MIN_MICROSECONDS, JET_IDLE_COOPERATIVE_MAX_MICROSECONDS
@@ -201,7 +211,9 @@ public class TaskletExecutionService {
         // some worker might have no tasklet.
         synchronized (lock) {
             for (Tasklet t : tasklets) {
-                trackersByThread[cooperativeThreadIndex].add(new TaskletTracker(t, executionTracker, jobClassLoader));
+                TaskletTracker tracker = new TaskletTracker(t, executionTracker, jobClassLoader);
+                tracker.owner = cooperativeWorkers[cooperativeThreadIndex];
+                trackersByThread[cooperativeThreadIndex].add(tracker);
                 cooperativeThreadIndex = (cooperativeThreadIndex + 1) % trackersByThread.length;
             }
         }
@@ -253,6 +265,40 @@ public class TaskletExecutionService {
         }
     }
 
+    private ExecutorService createBlockingTaskletExecutor(HazelcastProperties props) {
+        if (props.getBoolean(JET_BLOCKING_TASKLET_VIRTUAL_THREADS_ENABLED)) {
+            String propName = JET_BLOCKING_TASKLET_VIRTUAL_THREADS_ENABLED.getName();
+            if (JavaVersion.isAtLeast(JavaVersion.JAVA_21)) {
+                try {
+                    return newVirtualThreadPerTaskExecutor(
+                            String.format("hz.%s.jet.blocking.virtual-thread-", hzInstanceName));
+                } catch (ReflectiveOperationException e) {
+                    logger.warning("Failed to create the virtual thread executor requested by " + propName
+                            + ", blocking tasklets will use platform threads", e);
+                }
+            } else {
+                logger.warning("The property " + propName + " requires Java 21 or newer, blocking tasklets will"
+                        + " use platform threads");
+            }
+        }
+        return newCachedThreadPool(new BlockingTaskThreadFactory());
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task. The
+     * API was added in Java 21, while we compile against an older release,
+     * hence the reflection.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix)
+            throws ReflectiveOperationException {
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+        ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                                                .invoke(null, threadFactory);
+    }
+
     private BackoffIdleStrategy createIdler(
         HazelcastProperties props, HazelcastProperty minProp, HazelcastProperty maxProp
     ) {
@@ -342,6 +388,10 @@ public class TaskletExecutionService {
         private final CopyOnWriteArrayList<TaskletTracker> trackers;
         @Probe(name = "iterationCount")
         private final Counter iterationCount = SwCounter.newSwCounter();
+        @Probe(name = "busyIterationCount")
+        private final Counter busyIterationCount = SwCounter.newSwCounter();
+        @Probe(name = "stolenTaskletCount")
+        private final Counter stolenTaskletCount = SwCounter.newSwCounter();
 
         private final ProgressTracker progressTracker = new ProgressTracker();
         // prevent lambda allocation on each iteration
@@ -352,6 +402,8 @@ public class TaskletExecutionService {
         private boolean finestLogEnabled;
         private Thread myThread;
         private Contexts.Container contextContainer;
+        // whether the last iteration made progress, read by other workers when looking for a tasklet to steal
+        private volatile boolean busy;
 
         CooperativeWorker() {
             this.trackers = new CopyOnWriteArrayList<>();
@@ -374,10 +426,12 @@ public class TaskletExecutionService {
                 if (!progressTracker.isMadeProgress() && newTaskletSemaphore.drainPermits() > 0) {
                     progressTracker.madeProgress();
                 }
+                afterIteration();
                 if (progressTracker.isMadeProgress()) {
                     idleCount = 0;
                 } else {
-                    if (trackers.isEmpty()) {
+                    // with work stealing, an idle worker must keep polling to find tasklets to steal
+                    if (trackers.isEmpty() && !workStealingEnabled) {
                         newTaskletSemaphore.drainPermits();
                         if (trackers.isEmpty() && !isShutdown) {
                             try {
@@ -392,11 +446,85 @@ public class TaskletExecutionService {
                     }
                 }
             }
-            trackers.forEach(t -> t.executionTracker.taskletDone());
-            trackers.clear();
+            synchronized (stealLock) {
+                trackers.forEach(t -> t.executionTracker.taskletDone());
+                trackers.clear();
+            }
+        }
+
+        private void afterIteration() {
+            boolean madeProgress = progressTracker.isMadeProgress();
+            if (madeProgress) {
+                busyIterationCount.inc();
+            }
+            // avoid the volatile write if nothing changed
+            if (busy != madeProgress) {
+                busy = madeProgress;
+            }
+            if (!madeProgress && workStealingEnabled && trySteal()) {
+                progressTracker.madeProgress();
+            }
         }
 
         private void runTasklet(TaskletTracker t) {
+            if (!workStealingEnabled) {
+                doRunTasklet(t);
+                return;
+            }
+            // another worker might have stolen the tasklet after we took the snapshot of the trackers
+            if (!t.tryClaim(this)) {
+                return;
+            }
+            try {
+                doRunTasklet(t);
+            } finally {
+                t.release();
+            }
+        }
+
+        /**
+         * Moves one tasklet from the busy worker with the most tasklets to
+         * this worker. Tasklets that are running at the moment are skipped.
+         *
+         * @return true, if a tasklet was stolen
+         */
+        private boolean trySteal() {
+            CooperativeWorker victim = null;
+            int victimTaskletCount = 1;
+            for (CooperativeWorker worker : cooperativeWorkers) {
+                int taskletCount = worker.trackers.size();
+                if (worker != this && worker.busy && taskletCount > victimTaskletCount) {
+                    victim = worker;
+                    victimTaskletCount = taskletCount;
+                }
+            }
+            if (victim == null) {
+                return false;
+            }
+            synchronized (stealLock) {
+                if (isShutdown) {
+                    return false;
+                }
+                for (TaskletTracker t : victim.trackers) {
+                    if (t.tryClaim(victim)) {
+                        try {
+                            if (victim.trackers.remove(t)) {
+                                t.owner = this;
+                                trackers.add(t);
+                                stolenTaskletCount.inc();
+                                logger.finest("Tasklet %s was stolen by another cooperative worker", t.tasklet);
+                                return true;
+                            }
+                        } finally {
+                            t.release();
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void doRunTasklet(TaskletTracker t) {
             long start = 0;
             if (finestLogEnabled) {
                 start = System.nanoTime();
@@ -438,6 +566,10 @@ public class TaskletExecutionService {
         final Tasklet tasklet;
         final ExecutionTracker executionTracker;
         final ClassLoader jobClassLoader;
+        // Used only with work stealing. The worker executing the tasklet
+        // must claim it first, so that it never runs on two threads at once.
+        final AtomicBoolean claimed = new AtomicBoolean();
+        volatile CooperativeWorker owner;
 
         TaskletTracker(Tasklet tasklet, ExecutionTracker executionTracker, ClassLoader jobClassLoader) {
             this.tasklet = tasklet;
@@ -445,6 +577,21 @@ public class TaskletExecutionService {
             this.jobClassLoader = jobClassLoader;
         }
 
+        boolean tryClaim(CooperativeWorker worker) {
+            if (!claimed.compareAndSet(false, true)) {
+                return false;
+            }
+            if (owner != worker) {
+                claimed.set(false);
+                return false;
+            }
+            return true;
+        }
+
+        void release() {
+            claimed.set(false);
+        }
+
         @Override
         public String toString() {
             return "Tracking " + tasklet;
@@ -97,6 +97,7 @@ import static com.hazelcast.jet.impl.util.PrefixedLogger.prefixedLogger;
 import static com.hazelcast.jet.impl.util.Util.doWithClassLoader;
 import static com.hazelcast.jet.impl.util.Util.memoize;
 import static com.hazelcast.spi.impl.executionservice.ExecutionService.JOB_OFFLOADABLE_EXECUTOR;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_SNAPSHOT_BARRIER_BUFFER_SIZE;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
 import static java.util.Collections.unmodifiableList;
@@ -823,6 +824,7 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
     ) {
         return ConcurrentInboundEdgeStream.create(conveyor, inEdge.destOrdinal(), inEdge.priority(),
                 jobConfig.getProcessingGuarantee() == ProcessingGuarantee.EXACTLY_ONCE,
+                nodeEngine.getProperties().getInteger(JET_SNAPSHOT_BARRIER_BUFFER_SIZE),
                 debugName, comparator);
     }
 
@@ -31,6 +31,7 @@ import com.hazelcast.jet.core.Watermark;
 import com.hazelcast.jet.core.function.KeyedWindowResultFunction;
 import com.hazelcast.jet.core.processor.Processors;
 import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
+import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
@@ -98,6 +99,7 @@ public class SessionWindowP<K, A, R, OUT> extends AbstractProcessor {
     private final FlatMapper<Watermark, Object> closedWindowFlatmapper;
     private ProcessingGuarantee processingGuarantee;
     private final byte windowWatermarkKey;
+    private long maxEntries;
 
     @Probe(name = "lateEventsDropped")
     private final Counter lateEventsDropped = SwCounter.newSwCounter();
@@ -117,6 +119,9 @@ public class SessionWindowP<K, A, R, OUT> extends AbstractProcessor {
 
     // extracted lambdas to reduce GC litter
     private final Function<K, Windows<A>> newWindowsFunction = k -> {
+        if (keyToWindows.size() == maxEntries) {
+            throw new AccumulationLimitExceededException();
+        }
         totalKeys.inc();
         return new Windows<>();
     };
@@ -148,6 +153,7 @@ public class SessionWindowP<K, A, R, OUT> extends AbstractProcessor {
     protected void init(@Nonnull Context context) {
         processingGuarantee = context.processingGuarantee();
         lastTimeEarlyResultsEmitted = NANOSECONDS.toMillis(System.nanoTime());
+        maxEntries = context.maxProcessorAccumulatedRecords();
     }
 
     @Override
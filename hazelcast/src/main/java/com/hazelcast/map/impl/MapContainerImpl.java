@@ -70,6 +70,7 @@ import static com.hazelcast.map.impl.eviction.Evictor.NULL_EVICTOR;
 import static com.hazelcast.map.impl.mapstore.MapStoreContextFactory.createMapStoreContext;
 import static com.hazelcast.query.impl.InternalIndex.GLOBAL_INDEX_NOOP_PARTITION_ID;
 import static com.hazelcast.spi.properties.ClusterProperty.MAP_EVICTION_BATCH_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.ON_HEAP_PARTITIONED_INDEX_ENABLED;
 import static java.lang.System.getProperty;
 
 /**
@@ -81,9 +82,10 @@ public class MapContainerImpl implements MapContainer {
 
     protected final String name;
     protected final String splitBrainProtectionName;
-    // on-heap indexes are global, meaning there is only one index per map,
-    // stored in the mapContainer, so if globalIndexRegistry is null it means that
-    // global index is not in use
+    // on-heap indexes are global by default: there is only one index per map,
+    // stored in the mapContainer. When ON_HEAP_PARTITIONED_INDEX_ENABLED is set,
+    // on-heap indexes are per-partition instead, stored in the partition containers.
+    // If globalIndexRegistry is null, it means that global index is not in use
     protected final Extractors extractors;
     protected final MapStoreContext mapStoreContext;
     protected final ObjectNamespace objectNamespace;
@@ -108,6 +110,7 @@ public class MapContainerImpl implements MapContainer {
     private volatile Evictor evictor;
 
     private final MapWanContext wanContext;
+    private final boolean partitionedOnHeapIndexEnabled;
 
     private volatile boolean destroyed;
 
@@ -133,6 +136,7 @@ public class MapContainerImpl implements MapContainer {
                 .build();
         this.queryEntryFactory = new QueryEntryFactory(mapConfig.getCacheDeserializedValues(),
                 serializationService, extractors);
+        this.partitionedOnHeapIndexEnabled = nodeEngine.getProperties().getBoolean(ON_HEAP_PARTITIONED_INDEX_ENABLED);
         this.globalIndexRegistry = shouldUseGlobalIndex()
                 ? createIndexRegistry(true, GLOBAL_INDEX_NOOP_PARTITION_ID) : null;
         this.mapStoreContext = createMapStoreContext(this);
@@ -240,8 +244,10 @@ public class MapContainerImpl implements MapContainer {
     }
 
     public boolean shouldUseGlobalIndex() {
-        return mapConfig.getInMemoryFormat() != NATIVE
-                || (!mapConfig.getTieredStoreConfig().isEnabled() && mapServiceContext.globalIndexEnabled())
+        if (mapConfig.getInMemoryFormat() != NATIVE) {
+            return !partitionedOnHeapIndexEnabled;
+        }
+        return (!mapConfig.getTieredStoreConfig().isEnabled() && mapServiceContext.globalIndexEnabled())
                 || mapServiceContext.isForciblyEnabledGlobalIndex();
     }
 
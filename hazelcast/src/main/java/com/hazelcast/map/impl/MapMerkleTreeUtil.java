@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.wan.impl.merkletree.ArrayMerkleTree;
+import com.hazelcast.wan.impl.merkletree.MerkleTree;
+import com.hazelcast.wan.impl.merkletree.MerkleTreeUtil;
+
+/**
+ * Utility methods for building Merkle trees over the entries of a map
+ * partition, used for the differential synchronization of the backup
+ * replicas.
+ * <p>
+ * The trees are built on demand over the current data of the record store,
+ * so the owner and the backup replicas compare the same view of the data
+ * regardless of how the replicas got diverged. The trees hash the stored
+ * serialized values, so only the maps storing their values in the
+ * serialized form are supported, see {@link #isSupported(RecordStore)}.
+ *
+ * @see com.hazelcast.spi.properties.ClusterProperty#PARTITION_REPLICA_SYNC_MERKLE_TREE_ENABLED
+ */
+public final class MapMerkleTreeUtil {
+
+    private static final int HASH_MULTIPLIER = 31;
+
+    private MapMerkleTreeUtil() {
+    }
+
+    /**
+     * Returns the depth of the Merkle trees built for the given record store.
+     */
+    public static int getDepth(RecordStore recordStore) {
+        return recordStore.getMapContainer().getMapConfig().getMerkleTreeConfig().getDepth();
+    }
+
+    /**
+     * Returns whether the Merkle trees can be built for the given record
+     * store, that is whether it stores its values in the serialized form. The
+     * values of the {@link InMemoryFormat#OBJECT} format would have to be
+     * serialized on the partition thread to be hashed.
+     */
+    public static boolean isSupported(RecordStore recordStore) {
+        return recordStore.getInMemoryFormat() != InMemoryFormat.OBJECT;
+    }
+
+    /**
+     * Builds a Merkle tree over all the entries of the given record store,
+     * including the expired ones as they are replicated as well.
+     * <p>
+     * Must be called on the partition thread, for a supported record store.
+     */
+    public static MerkleTree buildMerkleTree(RecordStore<Record> recordStore) {
+        assert isSupported(recordStore) : "Merkle trees are not supported for " + recordStore.getName();
+        MerkleTree merkleTree = new ArrayMerkleTree(getDepth(recordStore));
+        recordStore.forEach((key, record) -> merkleTree.updateAdd(key, entryHash(key, record)), true, true);
+        return merkleTree;
+    }
+
+    /**
+     * Returns the order of the leaf the given key belongs to in a Merkle
+     * tree with the given depth.
+     */
+    public static int getLeafOrder(Data key, int depth) {
+        return MerkleTreeUtil.getLeafOrderForHash(key.hashCode(), depth - 1);
+    }
+
+    private static int entryHash(Data key, Record record) {
+        Data value = (Data) record.getValue();
+        // the key is mixed in so that entries swapping their values are not missed
+        return HASH_MULTIPLIER * key.hashCode() + (value != null ? value.hashCode() : 0);
+    }
+}
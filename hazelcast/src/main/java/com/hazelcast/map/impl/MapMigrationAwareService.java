@@ -42,6 +42,7 @@ import com.hazelcast.query.impl.IndexRegistry;
 import com.hazelcast.query.impl.InternalIndex;
 import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.wan.impl.merkletree.MerkleTreeUtil;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -54,6 +55,7 @@ import static com.hazelcast.internal.partition.MigrationEndpoint.SOURCE;
 import static com.hazelcast.map.impl.querycache.publisher.AccumulatorSweeper.flushAccumulator;
 import static com.hazelcast.map.impl.querycache.publisher.AccumulatorSweeper.removeAccumulator;
 import static com.hazelcast.map.impl.querycache.publisher.AccumulatorSweeper.sendEndOfSequenceEvents;
+import static java.util.Collections.singleton;
 
 /**
  * Defines migration behavior of map service.
@@ -138,8 +140,7 @@ class MapMigrationAwareService
 
         int partitionId = event.getPartitionId();
 
-        Operation operation = new MapReplicationOperation(containers[partitionId],
-                namespaces, partitionId, event.getReplicaIndex());
+        Operation operation = new MapReplicationOperation(containers[partitionId], namespaces, event);
         operation.setService(mapServiceContext.getService());
         operation.setNodeEngine(mapServiceContext.getNodeEngine());
 
@@ -151,13 +152,29 @@ class MapMigrationAwareService
                                           Collection<ServiceNamespace> namespaces) {
         List<ChunkSupplier> chain = new ArrayList<>(namespaces.size());
         for (ServiceNamespace namespace : namespaces) {
-            chain.add(new MapChunkSupplier(mapServiceContext, namespace,
-                    event.getPartitionId(), event.getReplicaIndex()));
+            if (event.getMerkleTreeLeaves(namespace) != null) {
+                // differential replication ships only the differing part of the map, no need to chunk it
+                chain.add(ChunkSuppliers.newSingleChunkSupplier(
+                        () -> prepareReplicationOperation(event, singleton(namespace))));
+            } else {
+                chain.add(new MapChunkSupplier(mapServiceContext, namespace,
+                        event.getPartitionId(), event.getReplicaIndex()));
+            }
         }
 
         return ChunkSuppliers.newChainedChunkSupplier(chain);
     }
 
+    @Override
+    public int[] getMerkleTreeLeaves(int partitionId, ServiceNamespace namespace) {
+        String mapName = ((ObjectNamespace) namespace).getObjectName();
+        RecordStore recordStore = containers[partitionId].getExistingRecordStore(mapName);
+        if (recordStore == null || !MapMerkleTreeUtil.isSupported(recordStore)) {
+            return null;
+        }
+        return MerkleTreeUtil.getLeaves(MapMerkleTreeUtil.buildMerkleTree(recordStore));
+    }
+
     boolean assertAllKnownNamespaces(Collection<ServiceNamespace> namespaces) {
         for (ServiceNamespace namespace : namespaces) {
             assert isKnownServiceNamespace(namespace)
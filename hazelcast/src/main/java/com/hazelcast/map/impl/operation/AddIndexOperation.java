@@ -26,6 +26,7 @@ import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.query.impl.CachedQueryEntry;
 import com.hazelcast.query.impl.Index;
+import com.hazelcast.query.impl.IndexBulkLoader;
 import com.hazelcast.query.impl.IndexRegistry;
 import com.hazelcast.query.impl.IndexUtils;
 import com.hazelcast.query.impl.InternalIndex;
@@ -104,6 +105,9 @@ public class AddIndexOperation extends MapOperation
 
         index.beginPartitionUpdate();
 
+        // attribute values are extracted on this partition thread while the
+        // entries are inserted in sorted batches to keep index contention low
+        IndexBulkLoader bulkLoader = index.newBulkLoader(Index.OperationSource.USER);
         CacheDeserializedValues cacheDeserializedValues = mapContainer.getMapConfig().getCacheDeserializedValues();
         CachedQueryEntry<?, ?> cachedEntry = cacheDeserializedValues == NEVER ? new CachedQueryEntry<>(serializationService,
                 mapContainer.getExtractors()) : null;
@@ -113,8 +117,9 @@ public class AddIndexOperation extends MapOperation
             queryEntry.setRecord(record);
             CachedQueryEntry<?, ?> newEntry =
                     cachedEntry == null ? (CachedQueryEntry<?, ?>) queryEntry : cachedEntry.init(dataKey, value);
-            index.putEntry(newEntry, null, queryEntry, Index.OperationSource.USER);
+            bulkLoader.add(newEntry, queryEntry);
         }, false, false);
+        bulkLoader.load();
 
         index.markPartitionAsIndexed(partitionId);
 
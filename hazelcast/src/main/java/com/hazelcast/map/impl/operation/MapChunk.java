@@ -56,7 +56,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
@@ -94,7 +93,12 @@ public class MapChunk extends Operation
     private transient Map counterByTxnId;
     private transient UUID partitionUuid;
     private transient MapIndexInfo mapIndexInfo;
-    private transient LinkedList keyRecordExpiry;
+    /**
+     * Flat list of key, record and expiry metadata triples of this chunk. A
+     * single array-backed list is used instead of per-entry holders or linked
+     * nodes to keep the garbage created per migrated entry low.
+     */
+    private transient List<Object> keyRecordExpiry;
     private transient LocalRecordStoreStatsImpl stats;
     private transient List<DelayedEntry> delayedEntriesList;
 
@@ -136,6 +140,8 @@ public class MapChunk extends Operation
         if (isNotEmpty(keyRecordExpiry)) {
             putInto(recordStore);
             logProgress(recordStore);
+            // release the replicated entries, they are referenced by the record store now
+            keyRecordExpiry = null;
         }
 
         if (lastChunk) {
@@ -217,16 +223,15 @@ public class MapChunk extends Operation
 
     private void putOrUpdateReplicatedData(RecordStore recordStore) {
         long nowInMillis = Clock.currentTimeMillis();
+        IndexRegistry indexRegistry = recordStore.getMapContainer().getOrCreateIndexRegistry(recordStore.getPartitionId());
+        boolean populateIndexes = indexesMustBePopulated(indexRegistry);
         int count = 0;
-        do {
-            Data dataKey = (Data) keyRecordExpiry.poll();
-            Record record = (Record) keyRecordExpiry.poll();
-            ExpiryMetadata expiryMetadata = (ExpiryMetadata) keyRecordExpiry.poll();
-
-            IndexRegistry indexRegistry = recordStore.getMapContainer().getOrCreateIndexRegistry(recordStore.getPartitionId());
+        for (int i = 0; i < keyRecordExpiry.size(); i += 3) {
+            Data dataKey = (Data) keyRecordExpiry.get(i);
+            Record record = (Record) keyRecordExpiry.get(i + 1);
+            ExpiryMetadata expiryMetadata = (ExpiryMetadata) keyRecordExpiry.get(i + 2);
 
-            recordStore.putOrUpdateReplicatedRecord(dataKey, record, expiryMetadata,
-                    indexesMustBePopulated(indexRegistry), nowInMillis);
+            recordStore.putOrUpdateReplicatedRecord(dataKey, record, expiryMetadata, populateIndexes, nowInMillis);
 
             if (recordStore.shouldEvict()) {
                 // No need to continue replicating records anymore.
@@ -238,8 +243,7 @@ public class MapChunk extends Operation
             if (++count % DISPOSE_AT_COUNT == 0) {
                 recordStore.disposeDeferredBlocks();
             }
-
-        } while (!keyRecordExpiry.isEmpty());
+        }
 
         recordStore.disposeDeferredBlocks();
     }
@@ -249,23 +253,22 @@ public class MapChunk extends Operation
         MapContainer mapContainer = recordStore.getMapContainer();
         EvictionConfig evictionConfig = mapContainer.getMapConfig().getEvictionConfig();
         long ownedEntryCountOnThisNode = entryCountOnThisNode(mapContainer);
+        IndexRegistry indexRegistry = mapContainer.getOrCreateIndexRegistry(recordStore.getPartitionId());
+        boolean populateIndexes = indexesMustBePopulated(indexRegistry);
 
         int count = 0;
         long nowInMillis = Clock.currentTimeMillis();
-        do {
-            Data dataKey = (Data) keyRecordExpiry.poll();
-            Record record = (Record) keyRecordExpiry.poll();
-            ExpiryMetadata expiryMetadata = (ExpiryMetadata) keyRecordExpiry.poll();
+        for (int i = 0; i < keyRecordExpiry.size(); i += 3) {
+            Data dataKey = (Data) keyRecordExpiry.get(i);
+            Record record = (Record) keyRecordExpiry.get(i + 1);
+            ExpiryMetadata expiryMetadata = (ExpiryMetadata) keyRecordExpiry.get(i + 2);
 
             if (ownedEntryCountOnThisNode >= evictionConfig.getSize()) {
                 if (getReplicaIndex() == 0) {
                     recordStore.doPostEvictionOperations(dataKey, record.getValue(), ExpiryReason.NOT_EXPIRED);
                 }
             } else {
-                IndexRegistry indexRegistry = mapContainer.getOrCreateIndexRegistry(recordStore.getPartitionId());
-
-                recordStore.putOrUpdateReplicatedRecord(dataKey, record, expiryMetadata,
-                        indexesMustBePopulated(indexRegistry), nowInMillis);
+                recordStore.putOrUpdateReplicatedRecord(dataKey, record, expiryMetadata, populateIndexes, nowInMillis);
 
                 ownedEntryCountOnThisNode++;
             }
@@ -273,7 +276,7 @@ public class MapChunk extends Operation
             if (++count % DISPOSE_AT_COUNT == 0) {
                 recordStore.disposeDeferredBlocks();
             }
-        } while (!keyRecordExpiry.isEmpty());
+        }
 
         recordStore.disposeDeferredBlocks();
     }
@@ -594,7 +597,7 @@ public class MapChunk extends Operation
 
     private void readChunk(ObjectDataInput in) throws IOException {
         this.mapName = in.readString();
-        LinkedList keyRecordExpiry = new LinkedList<>();
+        List<Object> keyRecordExpiry = new ArrayList<>();
         do {
             Data dataKey = IOUtil.readData(in);
             // null indicates end of chunk
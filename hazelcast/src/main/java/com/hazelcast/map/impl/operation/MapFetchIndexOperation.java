@@ -16,6 +16,7 @@
 
 package com.hazelcast.map.impl.operation;
 
+import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.core.HazelcastException;
 import com.hazelcast.internal.iteration.IndexIterationPointer;
 import com.hazelcast.internal.serialization.Data;
@@ -119,6 +120,18 @@ public class MapFetchIndexOperation extends MapOperation implements ReadonlyOper
         }
     }
 
+    /**
+     * Returns the hint on the property which makes the indexes of the map
+     * global, for the errors about the partitioned indexes.
+     */
+    @Nonnull
+    public static String globalIndexHint(@Nonnull MapContainer mapContainer) {
+        if (mapContainer.getMapConfig().getInMemoryFormat() == InMemoryFormat.NATIVE) {
+            return "(make sure the property \"" + ClusterProperty.GLOBAL_HD_INDEX_ENABLED + "\" is set to \"true\")";
+        }
+        return "(make sure the property \"" + ClusterProperty.ON_HEAP_PARTITIONED_INDEX_ENABLED + "\" is set to \"false\")";
+    }
+
     @Nonnull
     public static InternalIndex getInternalIndex(@Nonnull MapContainer mapContainer,
                                                  @Nonnull String mapName,
@@ -126,8 +139,7 @@ public class MapFetchIndexOperation extends MapOperation implements ReadonlyOper
         if (!mapContainer.shouldUseGlobalIndex()) {
             throw QueryException.error(SqlErrorCode.INDEX_INVALID, "Cannot use the index \"" + indexName
                     + "\" of the IMap \"" + mapName + "\" because it is not global "
-                    + "(make sure the property \"" + ClusterProperty.GLOBAL_HD_INDEX_ENABLED
-                    + "\" is set to \"true\")");
+                    + globalIndexHint(mapContainer));
         }
 
         InternalIndex index = mapContainer.getGlobalIndexRegistry().getIndex(indexName);
@@ -16,6 +16,7 @@
 
 package com.hazelcast.map.impl.operation;
 
+import com.hazelcast.internal.partition.PartitionReplicationEvent;
 import com.hazelcast.internal.services.ServiceNamespace;
 import com.hazelcast.map.impl.MapDataSerializerHook;
 import com.hazelcast.map.impl.MapService;
@@ -65,6 +66,17 @@ public class MapReplicationOperation extends Operation
         this.mapNearCacheStateHolder.prepare(container, namespaces);
     }
 
+    /**
+     * Creates the operation replicating only the differing part of the maps
+     * for which the replication event carries the Merkle tree of the target
+     * replica, and all the data of the rest of the maps.
+     */
+    public MapReplicationOperation(PartitionContainer container,
+                                   Collection<ServiceNamespace> namespaces, PartitionReplicationEvent event) {
+        this(container, namespaces, event.getPartitionId(), event.getReplicaIndex());
+        this.mapReplicationStateHolder.prepareDifferentialReplication(event);
+    }
+
     @Override
     public void run() {
         try {
@@ -24,6 +24,7 @@ import com.hazelcast.internal.monitor.impl.LocalRecordStoreStatsImpl;
 import com.hazelcast.internal.monitor.impl.LocalReplicationStatsImpl;
 import com.hazelcast.internal.nio.IOUtil;
 import com.hazelcast.internal.partition.IPartitionService;
+import com.hazelcast.internal.partition.PartitionReplicationEvent;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.services.ObjectNamespace;
@@ -31,8 +32,10 @@ import com.hazelcast.internal.services.ServiceNamespace;
 import com.hazelcast.internal.util.Clock;
 import com.hazelcast.internal.util.ExceptionUtil;
 import com.hazelcast.internal.util.ThreadUtil;
+import com.hazelcast.internal.util.collection.IntHashSet;
 import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.map.impl.MapMerkleTreeUtil;
 import com.hazelcast.map.impl.MapService;
 import com.hazelcast.map.impl.MapServiceContext;
 import com.hazelcast.map.impl.PartitionContainer;
@@ -50,6 +53,9 @@ import com.hazelcast.query.impl.Index;
 import com.hazelcast.query.impl.IndexRegistry;
 import com.hazelcast.query.impl.InternalIndex;
 import com.hazelcast.query.impl.MapIndexInfo;
+import com.hazelcast.wan.impl.merkletree.MerkleTree;
+import com.hazelcast.wan.impl.merkletree.MerkleTreeUtil;
+import com.hazelcast.wan.impl.merkletree.RemoteMerkleTreeView;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -109,6 +115,39 @@ public class MapReplicationStateHolder implements IdentifiedDataSerializable, Ve
         this.merkleTreeDiffByMapName = merkleTreeDiffByMapName == null ? Collections.emptyMap() : merkleTreeDiffByMapName;
     }
 
+    /**
+     * Compares the Merkle trees of the prepared maps with the ones of the
+     * target replica carried by the given event, so that only the records
+     * of the differing leaves are replicated for these maps.
+     */
+    void prepareDifferentialReplication(PartitionReplicationEvent event) {
+        Map<String, int[]> diffByMapName = new HashMap<>();
+        for (Map.Entry<String, RecordStore<Record>> entry : storesByMapName.entrySet()) {
+            String mapName = entry.getKey();
+            int[] remoteLeaves = event.getMerkleTreeLeaves(MapService.getObjectNamespace(mapName));
+            if (remoteLeaves == null || !MapMerkleTreeUtil.isSupported(entry.getValue())) {
+                continue;
+            }
+
+            MerkleTree localTree = MapMerkleTreeUtil.buildMerkleTree(entry.getValue());
+            RemoteMerkleTreeView remoteTree = MerkleTreeUtil.createRemoteMerkleTreeView(remoteLeaves);
+            if (localTree.depth() != remoteTree.depth()) {
+                // the map is configured differently on the target, replicate all of it
+                continue;
+            }
+
+            Collection<Integer> diffLeafOrders = MerkleTreeUtil.compareTrees(localTree, remoteTree);
+            int[] diffOrderValuePairs = new int[diffLeafOrders.size() * 2];
+            int i = 0;
+            for (int leafOrder : diffLeafOrders) {
+                diffOrderValuePairs[i++] = leafOrder;
+                diffOrderValuePairs[i++] = localTree.getNodeHash(leafOrder);
+            }
+            diffByMapName.put(mapName, diffOrderValuePairs);
+        }
+        setMerkleTreeDiffByMapName(diffByMapName);
+    }
+
     public void setOperation(MapReplicationOperation operation) {
         this.operation = operation;
     }
@@ -262,6 +301,28 @@ public class MapReplicationStateHolder implements IdentifiedDataSerializable, Ve
     protected void initializeRecordStore(String mapName, RecordStore recordStore) {
         if (!merkleTreeDiffByMapName.containsKey(mapName)) {
             recordStore.reset();
+        } else {
+            removeRecordsOfDifferingLeaves(recordStore, merkleTreeDiffByMapName.get(mapName));
+        }
+    }
+
+    // the records of the differing leaves are replaced with the replicated ones
+    private void removeRecordsOfDifferingLeaves(RecordStore<Record> recordStore, int[] diffOrderValuePairs) {
+        if (diffOrderValuePairs.length == 0) {
+            return;
+        }
+
+        IntHashSet diffLeafOrders = MerkleTreeUtil.setOfNodeOrders(diffOrderValuePairs);
+        int depth = MapMerkleTreeUtil.getDepth(recordStore);
+        List<Data> keysToRemove = new ArrayList<>();
+        recordStore.forEach((dataKey, record) -> {
+            if (diffLeafOrders.contains(MapMerkleTreeUtil.getLeafOrder(dataKey, depth))) {
+                keysToRemove.add(dataKey);
+            }
+        }, true, true);
+
+        for (Data dataKey : keysToRemove) {
+            recordStore.removeReplicatedRecord(dataKey, true);
         }
     }
 
@@ -369,7 +430,33 @@ public class MapReplicationStateHolder implements IdentifiedDataSerializable, Ve
 
     protected void writeDifferentialData(String mapName,
                                          RecordStore<Record> recordStore, ObjectDataOutput out) throws IOException {
-        throw new UnsupportedOperationException();
+        int[] diffOrderValuePairs = merkleTreeDiffByMapName.get(mapName);
+        IntHashSet diffLeafOrders = MerkleTreeUtil.setOfNodeOrders(diffOrderValuePairs);
+        int depth = MapMerkleTreeUtil.getDepth(recordStore);
+        List<Data> keys = new ArrayList<>();
+        List<Record> records = new ArrayList<>();
+        if (!diffLeafOrders.isEmpty()) {
+            recordStore.forEach((dataKey, record) -> {
+                if (diffLeafOrders.contains(MapMerkleTreeUtil.getLeafOrder(dataKey, depth))) {
+                    keys.add(dataKey);
+                    records.add(record);
+                }
+            }, operation.getReplicaIndex() != 0, true);
+        }
+
+        out.writeIntArray(diffOrderValuePairs);
+        SerializationService ss = getSerializationService(recordStore.getMapContainer());
+        out.writeInt(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Data dataKey = keys.get(i);
+            Record record = records.get(i);
+            IOUtil.writeData(out, dataKey);
+            Records.writeRecord(out, record, ss.toData(record.getValue()));
+            Records.writeExpiry(out, recordStore.getExpirySystem().getExpiryMetadata(dataKey));
+        }
+        LocalReplicationStatsImpl replicationStats = statsByMapName.get(mapName);
+        replicationStats.incrementDiffPartitionReplicationCount();
+        replicationStats.incrementDiffPartitionReplicationRecordsCount(keys.size());
     }
 
     private void writeRecordStoreData(RecordStore<Record> recordStore, ObjectDataOutput out)
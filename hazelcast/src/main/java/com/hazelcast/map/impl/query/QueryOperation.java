@@ -86,14 +86,18 @@ public class QueryOperation extends AbstractNamedOperation implements ReadonlyOp
     private CallStatus callInternal() {
         QueryRunner queryRunner = getMapServiceContext().getMapQueryRunner(getName());
 
+        boolean useGlobalIndex = getMapServiceContext().getMapContainer(getName()).shouldUseGlobalIndex();
         switch (getMapInMemoryFormat()) {
             case BINARY:
             case OBJECT:
-                result = queryRunner.runIndexOrPartitionScanQueryOnOwnedPartitions(query);
-                return RESPONSE;
-            case NATIVE:
-                boolean useGlobalIndex = getMapServiceContext().getMapContainer(getName()).shouldUseGlobalIndex();
+                if (useGlobalIndex) {
+                    result = queryRunner.runIndexOrPartitionScanQueryOnOwnedPartitions(query);
+                    return RESPONSE;
+                }
 
+                // Query the partitioned on-heap indexes on the partition threads in parallel.
+                return runOnPartitionThreads(queryRunner);
+            case NATIVE:
                 if (useGlobalIndex) {
                     // Try to use HD global index
                     // Don't do map scan because it is not thread-safe
@@ -105,22 +109,26 @@ public class QueryOperation extends AbstractNamedOperation implements ReadonlyOp
                 }
 
                 // Offload query run on the partition threads.
-                BitSet queryPartitions = localPartitions();
-                if (query.getPartitionIdSet() != null) {
-                    queryPartitions.and(query.getPartitionIdSet().bitSetCopy());
-                }
-                if (queryPartitions.cardinality() == 0) {
-                    // important to deal with situation of not having any partitions
-                    result = queryRunner.populateEmptyResult(query, Collections.emptyList());
-                    return RESPONSE;
-                } else {
-                    return new OffloadedImpl(queryRunner, queryPartitions);
-                }
+                return runOnPartitionThreads(queryRunner);
             default:
                 throw new IllegalArgumentException("Unsupported in memory format");
         }
     }
 
+    private CallStatus runOnPartitionThreads(QueryRunner queryRunner) {
+        BitSet queryPartitions = localPartitions();
+        if (query.getPartitionIdSet() != null) {
+            queryPartitions.and(query.getPartitionIdSet().bitSetCopy());
+        }
+        if (queryPartitions.cardinality() == 0) {
+            // important to deal with situation of not having any partitions
+            result = queryRunner.populateEmptyResult(query, Collections.emptyList());
+            return RESPONSE;
+        } else {
+            return new OffloadedImpl(queryRunner, queryPartitions);
+        }
+    }
+
     private int partitionCount() {
         return getNodeEngine().getPartitionService().getPartitionCount();
     }
@@ -30,7 +30,9 @@ import com.hazelcast.map.impl.PartitionContainer;
 import com.hazelcast.map.impl.record.Record;
 import com.hazelcast.map.impl.recordstore.RecordStore;
 import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.GlobalIndexPartitionTracker.PartitionStamp;
 import com.hazelcast.query.impl.IndexRegistry;
+import com.hazelcast.query.impl.InternalIndex;
 import com.hazelcast.query.impl.QueryableEntriesSegment;
 import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.query.impl.predicates.QueryOptimizer;
@@ -38,8 +40,10 @@ import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.OperationService;
 
 import java.util.Collection;
+import java.util.PrimitiveIterator;
 
 import static com.hazelcast.internal.util.SetUtil.singletonPartitionIdSet;
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_USE_INDEXES_DURING_MIGRATION;
 
 /**
  * Runs query operations in the calling thread (thus blocking it)
@@ -62,6 +66,7 @@ public class QueryRunner {
     protected final ResultProcessorRegistry resultProcessorRegistry;
 
     private final int partitionCount;
+    private final boolean useIndexesDuringMigration;
 
     public QueryRunner(MapServiceContext mapServiceContext,
                        QueryOptimizer optimizer,
@@ -79,6 +84,7 @@ public class QueryRunner {
         this.partitionScanExecutor = partitionScanExecutor;
         this.resultProcessorRegistry = resultProcessorRegistry;
         this.partitionCount = nodeEngine.getPartitionService().getPartitionCount();
+        this.useIndexesDuringMigration = nodeEngine.getProperties().getBoolean(QUERY_USE_INDEXES_DURING_MIGRATION);
     }
 
     /**
@@ -154,6 +160,15 @@ public class QueryRunner {
                     });
         }
 
+        if (entries == null && useIndexesDuringMigration && !validateMigrationStamp(migrationStamp)) {
+            Result result = runUsingGlobalIndexOnStablePartitions(query, predicate, mapContainer,
+                    ownedPartitions, actualPartitions);
+            if (result != null) {
+                // the partitions not covered by the result are queried by the caller on the partition threads
+                return result;
+            }
+        }
+
         if (entries == null && !doPartitionScan) {
             return null;
         }
@@ -297,6 +312,76 @@ public class QueryRunner {
         return null;
     }
 
+    /**
+     * Runs the query using the global indexes while there are migrations in
+     * flight, on those of the given partitions which are fully indexed and
+     * not migrating. The returned result covers only these partitions.
+     *
+     * @return the result, or {@code null} if the indexes cannot be used or
+     * the indexed partitions or the owned partitions changed meanwhile
+     */
+    private Result runUsingGlobalIndexOnStablePartitions(Query query, Predicate predicate, MapContainer mapContainer,
+                                                        PartitionIdSet ownedPartitions, PartitionIdSet actualPartitions) {
+        IndexRegistry indexRegistry = mapContainer.getGlobalIndexRegistry();
+        if (indexRegistry == null || !indexRegistry.isGlobal()) {
+            return null;
+        }
+
+        InternalIndex[] indexes = indexRegistry.getIndexes();
+        long[] stamps = new long[indexes.length];
+        PartitionIdSet indexedPartitions = null;
+        for (int i = 0; i < indexes.length; i++) {
+            PartitionStamp partitionStamp = indexes[i].getPartitionStamp();
+            if (partitionStamp == null
+                    || (indexedPartitions != null && !indexedPartitions.equals(partitionStamp.partitions))) {
+                // a partition is being indexed or unindexed at the moment
+                return null;
+            }
+            stamps[i] = partitionStamp.stamp;
+            indexedPartitions = partitionStamp.partitions;
+        }
+        if (indexedPartitions == null) {
+            return null;
+        }
+
+        PartitionIdSet partitions = nonMigratingPartitions(indexedPartitions.intersectCopy(actualPartitions));
+        if (partitions.isEmpty()) {
+            return null;
+        }
+
+        // ownedPartitionCount is not checked, the index covers the partitions of the stamp
+        Iterable<QueryableEntry> entries = indexRegistry.query(predicate, -1);
+        if (entries == null) {
+            return null;
+        }
+        entries = IterableUtil.filter(entries,
+                e -> partitions.contains(HashUtil.hashToIndex(e.getKeyData().getPartitionHash(), partitionCount)));
+        Result result = populateNonEmptyResult(query, entries, partitions);
+
+        for (int i = 0; i < indexes.length; i++) {
+            if (!indexes[i].validatePartitionStamp(stamps[i])) {
+                return null;
+            }
+        }
+        if (!ownedPartitions.equals(mapServiceContext.getCachedOwnedPartitions())
+                || nonMigratingPartitions(partitions).size() != partitions.size()) {
+            return null;
+        }
+        return result;
+    }
+
+    private PartitionIdSet nonMigratingPartitions(PartitionIdSet partitions) {
+        PartitionIdSet nonMigratingPartitions = new PartitionIdSet(partitionCount);
+        PrimitiveIterator.OfInt iterator = partitions.intIterator();
+        while (iterator.hasNext()) {
+            int partitionId = iterator.nextInt();
+            if (!nodeEngine.getPartitionService().getPartition(partitionId, false).isMigrating()) {
+                nonMigratingPartitions.add(partitionId);
+            }
+        }
+        return nonMigratingPartitions;
+    }
+
     protected Result runUsingPartitionScanSafely(Query query, Predicate predicate,
                                                  PartitionIdSet partitions, int migrationStamp) {
 
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore.expiry;
+
+import com.hazelcast.internal.serialization.Data;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Time-bucketed index of the expirable keys of a record store, see {@link
+ * com.hazelcast.spi.properties.ClusterProperty#MAP_EXPIRATION_INDEX_ENABLED}.
+ * <p>
+ * The keys are kept in buckets of {@link #BUCKET_MILLIS} by their expiration
+ * times, so the keys due to expire are found without scanning the
+ * non-expired ones. A key is moved to the bucket of its new expiration time
+ * whenever the time is updated. The due keys are still checked against their
+ * current expiry metadata, and the keys which are not expired, for instance
+ * since they are locked, are added back to the index.
+ * <p>
+ * The index is not thread-safe, it is only accessed by the partition thread
+ * of its record store.
+ */
+final class ExpirationIndex {
+
+    /**
+     * The time span of the expiration times of a bucket.
+     */
+    static final long BUCKET_MILLIS = 1000;
+
+    private final TreeMap<Long, Set<Data>> buckets = new TreeMap<>();
+
+    void add(Data key, long expirationTime) {
+        buckets.computeIfAbsent(bucketOf(expirationTime), bucket -> new HashSet<>()).add(key);
+    }
+
+    void remove(Data key, long expirationTime) {
+        long bucket = bucketOf(expirationTime);
+        Set<Data> keys = buckets.get(bucket);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            buckets.remove(bucket);
+        }
+    }
+
+    /**
+     * Moves the key to the bucket of its new expiration time.
+     */
+    void update(Data key, long oldExpirationTime, long newExpirationTime) {
+        if (bucketOf(oldExpirationTime) != bucketOf(newExpirationTime)) {
+            remove(key, oldExpirationTime);
+            add(key, newExpirationTime);
+        }
+    }
+
+    /**
+     * Removes up to the given number of keys from the buckets which are due
+     * at the given time, and adds them to the given list.
+     *
+     * @return the number of the removed keys
+     */
+    int pollDueKeys(long time, int maxCount, List<Data> dueKeys) {
+        long dueBucket = bucketOf(time);
+        int count = 0;
+        while (count < maxCount && !buckets.isEmpty()) {
+            Map.Entry<Long, Set<Data>> first = buckets.firstEntry();
+            if (first.getKey() > dueBucket) {
+                break;
+            }
+            Iterator<Data> iterator = first.getValue().iterator();
+            while (count < maxCount && iterator.hasNext()) {
+                dueKeys.add(iterator.next());
+                iterator.remove();
+                count++;
+            }
+            if (first.getValue().isEmpty()) {
+                buckets.remove(first.getKey());
+            }
+        }
+        return count;
+    }
+
+    void clear() {
+        buckets.clear();
+    }
+
+    private static long bucketOf(long expirationTime) {
+        return Math.floorDiv(expirationTime, BUCKET_MILLIS);
+    }
+}
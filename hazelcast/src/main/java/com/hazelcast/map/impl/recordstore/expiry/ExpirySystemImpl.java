@@ -41,6 +41,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
+import static com.hazelcast.config.InMemoryFormat.NATIVE;
 import static com.hazelcast.internal.util.ToHeapDataConverter.toHeapData;
 import static com.hazelcast.map.impl.ExpirationTimeSetter.nextExpirationTime;
 import static com.hazelcast.map.impl.ExpirationTimeSetter.pickMaxIdleMillis;
@@ -76,6 +77,8 @@ public class ExpirySystemImpl implements ExpirySystem {
     private final MapServiceContext mapServiceContext;
     private final ClearExpiredRecordsTask clearExpiredRecordsTask;
     private final InvalidationQueue<ExpiredKey> expiredKeys = new InvalidationQueue<>();
+    // null when the expiration index is disabled
+    private final ExpirationIndex expirationIndex;
 
     private Iterator<Map.Entry<Data, ExpiryMetadata>> cachedExpirationIterator;
     // This is volatile since it can be initialized at runtime lazily and
@@ -95,6 +98,8 @@ public class ExpirySystemImpl implements ExpirySystem {
         this.mapServiceContext = mapServiceContext;
         this.canPrimaryDriveExpiration = mapServiceContext.getClearExpiredRecordsTask().canPrimaryDriveExpiration();
         this.expiredKeyScanTimeoutNanos = nodeEngine.getProperties().getNanos(EXPIRED_KEY_SCAN_TIMEOUT_NANOS);
+        this.expirationIndex = hazelcastProperties.getBoolean(ClusterProperty.MAP_EXPIRATION_INDEX_ENABLED)
+                && mapContainer.getMapConfig().getInMemoryFormat() != NATIVE ? new ExpirationIndex() : null;
     }
 
     @Override
@@ -117,6 +122,7 @@ public class ExpirySystemImpl implements ExpirySystem {
     public void clear() {
         Map<Data, ExpiryMetadata> map = getOrCreateExpireTimeByKeyMap(false);
         map.clear();
+        clearExpirationIndex();
     }
 
     protected final Map<Data, ExpiryMetadata> getOrCreateExpireTimeByKeyMap(boolean createIfAbsent) {
@@ -205,14 +211,21 @@ public class ExpirySystemImpl implements ExpirySystem {
                     expirationTime, lastUpdateTime);
             Data nativeKey = recordStore.getStorage().toBackingDataKeyFormat(key);
             expireTimeByKey.put(nativeKey, expiryMetadata);
+            if (expirationIndex != null) {
+                expirationIndex.add(nativeKey, expirationTime);
+            }
             return;
         }
 
         // update existing expiryMetadata
+        long oldExpirationTime = expiryMetadata.getExpirationTime();
         expiryMetadata.setTtl(ttlMillis)
                 .setMaxIdle(maxIdleMillis)
                 .setExpirationTime(expirationTime)
                 .setLastUpdateTime(lastUpdateTime);
+        if (expirationIndex != null) {
+            expirationIndex.update(key, oldExpirationTime, expirationTime);
+        }
     }
 
     @Override
@@ -229,6 +242,7 @@ public class ExpirySystemImpl implements ExpirySystem {
         if (isEmpty()) {
             return;
         }
+        removeFromExpirationIndex(key);
         callRemove(key, expireTimeByKey);
     }
 
@@ -253,8 +267,12 @@ public class ExpirySystemImpl implements ExpirySystem {
             return;
         }
 
-        expiryMetadata.setExpirationTime(nextExpirationTime(ttl,
-                maxIdle, now, expiryMetadata.getLastUpdateTime()));
+        long oldExpirationTime = expiryMetadata.getExpirationTime();
+        long newExpirationTime = nextExpirationTime(ttl, maxIdle, now, expiryMetadata.getLastUpdateTime());
+        expiryMetadata.setExpirationTime(newExpirationTime);
+        if (expirationIndex != null) {
+            expirationIndex.update(dataKey, oldExpirationTime, newExpirationTime);
+        }
     }
 
     @Override
@@ -304,6 +322,11 @@ public class ExpirySystemImpl implements ExpirySystem {
     @SuppressWarnings("checkstyle:magicnumber")
     @Override
     public final void evictExpiredEntries(final int percentage, final long now, final boolean backup) {
+        if (expirationIndex != null) {
+            evictIndexedExpiredEntries(now, backup);
+            return;
+        }
+
         // 1. Find how many keys we can scan at max.
         final int maxScannableCount = findMaxScannableCount(percentage);
         if (maxScannableCount == 0) {
@@ -336,6 +359,79 @@ public class ExpirySystemImpl implements ExpirySystem {
     }
 
 
+    /**
+     * Evicts the expired entries found in the due buckets of the expiration
+     * index. The keys which are found not expired, because their expiration
+     * times were extended, they are locked or their backup expiry is driven
+     * by the primary, are added back to the index.
+     */
+    private void evictIndexedExpiredEntries(long now, boolean backup) {
+        if (isEmpty()) {
+            // only the outdated keys can be left in the index
+            clearExpirationIndex();
+            return;
+        }
+
+        // the backup entries expire after the expiry delay
+        long dueTime = backup ? now - expiryDelayMillis : now;
+        List<Data> dueKeys = new ArrayList<>(MAX_SAMPLE_AT_A_TIME);
+        List batchOfExpired = BATCH_OF_EXPIRED.get();
+        int scannedCount = 0;
+        int expiredCount = 0;
+        long scanLoopStartNanos = System.nanoTime();
+        try {
+            while (expirationIndex.pollDueKeys(dueTime, MAX_SAMPLE_AT_A_TIME, dueKeys) > 0) {
+                for (Data key : dueKeys) {
+                    ExpiryMetadata expiryMetadata = getExpiryMetadataForExpiryCheck(key, expireTimeByKey);
+                    if (expiryMetadata == null || expiryMetadata == ExpiryMetadata.NULL) {
+                        // removed from the expiry system since it was indexed
+                        continue;
+                    }
+                    ExpiryReason expiryReason = hasExpired(expiryMetadata, now, backup);
+                    if (expiryReason != ExpiryReason.NOT_EXPIRED && !recordStore.isLocked(key)) {
+                        batchOfExpired.add(key);
+                        batchOfExpired.add(expiryReason);
+                    } else {
+                        // not earlier than the next bucket, so it is not polled again in this run
+                        expirationIndex.add(key, Math.max(expiryMetadata.getExpirationTime(),
+                                now + ExpirationIndex.BUCKET_MILLIS));
+                    }
+                }
+                scannedCount += dueKeys.size();
+                dueKeys.clear();
+                expiredCount += evictExpiredKeys(backup);
+                if (System.nanoTime() - scanLoopStartNanos >= expiredKeyScanTimeoutNanos) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            batchOfExpired.clear();
+            throw ExceptionUtil.rethrow(e);
+        }
+
+        tryToSendBackupExpiryOp();
+
+        if (logger.isFinestEnabled()) {
+            logProgress(scannedCount, scannedCount, expiredCount, scanLoopStartNanos, backup);
+        }
+    }
+
+    private void removeFromExpirationIndex(Data key) {
+        if (expirationIndex == null) {
+            return;
+        }
+        ExpiryMetadata expiryMetadata = expireTimeByKey.get(key);
+        if (expiryMetadata != null) {
+            expirationIndex.remove(key, expiryMetadata.getExpirationTime());
+        }
+    }
+
+    private void clearExpirationIndex() {
+        if (expirationIndex != null) {
+            expirationIndex.clear();
+        }
+    }
+
     private void logProgress(int maxScannableCount, int scannedCount,
                              int expiredCount, long scanLoopStartNanos, boolean backup) {
         logger.finest(String.format("mapName=%s, partitionId=%d, backup=%s, partitionSize=%d, "
@@ -430,6 +526,7 @@ public class ExpirySystemImpl implements ExpirySystem {
     @Override
     public void destroy() {
         getOrCreateExpireTimeByKeyMap(false).clear();
+        clearExpirationIndex();
     }
 
     @Override
@@ -22,6 +22,7 @@ import com.hazelcast.core.TypeConverter;
 import com.hazelcast.instance.impl.Node;
 import com.hazelcast.internal.monitor.impl.IndexOperationStats;
 import com.hazelcast.internal.monitor.impl.PerIndexStats;
+import com.hazelcast.internal.json.NonTerminalJsonValue;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.nio.ObjectDataInput;
@@ -32,12 +33,15 @@ import com.hazelcast.query.impl.getters.MultiResult;
 import com.hazelcast.query.impl.predicates.PredicateDataSerializerHook;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import static com.hazelcast.internal.util.SetUtil.createHashSet;
 import static com.hazelcast.query.impl.CompositeValue.NEGATIVE_INFINITY;
 import static com.hazelcast.query.impl.TypeConverters.NULL_CONVERTER;
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_INDEX_COVERING_ENABLED;
 import static java.util.Collections.emptyIterator;
 import static java.util.Collections.emptySet;
 
@@ -54,6 +58,18 @@ public abstract class AbstractIndex implements InternalIndex {
      */
     public static final ComparableIdentifiedDataSerializable NULL = new NullObject();
 
+    /**
+     * The number of entries inserted by a bulk load under a single acquisition
+     * of the index store lock, bounds the time queries wait for the lock.
+     */
+    static final int BULK_LOAD_BATCH_SIZE = 1024;
+
+    /**
+     * The index statistics don't describe the distribution of the values, so
+     * a range query is assumed to match a third of the indexed entries.
+     */
+    private static final int RANGE_SELECTIVITY_DIVISOR = 3;
+
     protected final InternalSerializationService ss;
     protected final Extractors extractors;
     protected final IndexStore indexStore;
@@ -62,6 +78,7 @@ public abstract class AbstractIndex implements InternalIndex {
     private final String[] components;
     private final IndexConfig config;
     private final boolean ordered;
+    private final boolean covering;
     private final PerIndexStats stats;
 
     private volatile TypeConverter converter;
@@ -82,6 +99,7 @@ public abstract class AbstractIndex implements InternalIndex {
         this.ss = ss;
         this.extractors = extractors;
         this.copyBehavior = copyBehavior;
+        this.covering = node != null && node.getProperties().getBoolean(QUERY_INDEX_COVERING_ENABLED);
         this.indexStore = createIndexStore(node, config, stats, mapName, partitionId);
         this.stats = stats;
     }
@@ -133,6 +151,7 @@ public abstract class AbstractIndex implements InternalIndex {
         }
 
         Object newAttributeValue = extractAttributeValue(newEntry);
+        entryToStore = coverIfEnabled(newAttributeValue, entryToStore);
         if (oldEntry == null) {
             indexStore.insert(newAttributeValue, newEntry, entryToStore, operationStats);
             stats.onInsert(timestamp, operationStats, operationSource);
@@ -143,6 +162,14 @@ public abstract class AbstractIndex implements InternalIndex {
         }
     }
 
+    @Override
+    public IndexBulkLoader newBulkLoader(OperationSource operationSource) {
+        if (indexStore instanceof BaseSingleValueIndexStore store) {
+            return new SingleValueIndexBulkLoader(store, operationSource);
+        }
+        return InternalIndex.super.newBulkLoader(operationSource);
+    }
+
     @Override
     public void removeEntry(CachedQueryEntry entry, OperationSource operationSource) {
         long timestamp = stats.makeTimestamp();
@@ -331,6 +358,22 @@ public abstract class AbstractIndex implements InternalIndex {
         return result;
     }
 
+    @Override
+    public long estimateEqualCardinality() {
+        if (indexStore instanceof BaseSingleValueIndexStore store) {
+            return store.estimateEqualCardinality();
+        }
+        return -1;
+    }
+
+    @Override
+    public long estimateRangeCardinality() {
+        if (indexStore instanceof BaseSingleValueIndexStore store) {
+            return store.getEntryCount() / RANGE_SELECTIVITY_DIVISOR;
+        }
+        return -1;
+    }
+
     @Override
     public void clear() {
         indexStore.clear();
@@ -382,6 +425,37 @@ public abstract class AbstractIndex implements InternalIndex {
         }
     }
 
+    /**
+     * Wraps the given entry to store into a {@link CoveringQueryEntry}
+     * answering the lookups of the indexed attributes from the given
+     * attribute value, if the covering indexes are enabled.
+     * <p>
+     * Must be called before the value is passed to the index store, the
+     * latter sanitizes the components of the composite values in place.
+     */
+    private QueryableEntry coverIfEnabled(Object attributeValue, QueryableEntry entryToStore) {
+        if (!covering) {
+            return entryToStore;
+        }
+
+        Object[] values;
+        if (attributeValue instanceof CompositeValue compositeValue) {
+            values = compositeValue.getComponents().clone();
+        } else {
+            values = new Object[]{attributeValue};
+        }
+        for (Object value : values) {
+            if (value instanceof MultiResult || value == NonTerminalJsonValue.INSTANCE) {
+                // not representable as a single attribute value
+                values = null;
+                break;
+            }
+        }
+        // every stored entry is wrapped, so the results of the different
+        // indexes stay comparable with each other
+        return new CoveringQueryEntry(entryToStore, components, values);
+    }
+
     /**
      * Note: the fact that the given value is of type Comparable doesn't mean
      * that this value is of the same type as the one that's stored in the index,
@@ -444,6 +518,81 @@ public abstract class AbstractIndex implements InternalIndex {
         return componentConverter == NULL_CONVERTER ? null : componentConverter;
     }
 
+    /**
+     * Extracts the attribute values of the added entries right away and
+     * inserts the entries in batches, each under a single acquisition of the
+     * index store lock. For ordered indexes, the entries are sorted by their
+     * attribute values first, so consecutive insertions touch neighbouring
+     * nodes of the ordered structure and entries sharing a value are grouped.
+     */
+    private final class SingleValueIndexBulkLoader implements IndexBulkLoader {
+
+        private final BaseSingleValueIndexStore store;
+        private final OperationSource operationSource;
+        private final List<BulkEntry> entries = new ArrayList<>();
+
+        SingleValueIndexBulkLoader(BaseSingleValueIndexStore store, OperationSource operationSource) {
+            this.store = store;
+            this.operationSource = operationSource;
+        }
+
+        @Override
+        public void add(CachedQueryEntry entry, QueryableEntry entryToStore) {
+            if (converterIsUnassignedOrTransient(converter)) {
+                converter = obtainConverter(entry);
+            }
+            Object attributeValue = extractAttributeValue(entry);
+            entries.add(new BulkEntry(attributeValue, coverIfEnabled(attributeValue, entryToStore)));
+        }
+
+        @Override
+        public void load() {
+            if (store instanceof OrderedIndexStore || store instanceof BTreeOrderedIndexStore) {
+                sortByAttributeValue();
+            }
+
+            int size = entries.size();
+            for (int batchStart = 0; batchStart < size; batchStart += BULK_LOAD_BATCH_SIZE) {
+                int batchEnd = Math.min(size, batchStart + BULK_LOAD_BATCH_SIZE);
+                store.takeWriteLock();
+                try {
+                    for (int i = batchStart; i < batchEnd; i++) {
+                        BulkEntry bulkEntry = entries.get(i);
+                        long timestamp = stats.makeTimestamp();
+                        IndexOperationStats operationStats = stats.createOperationStats();
+                        store.insertHoldingWriteLock(bulkEntry.value(), bulkEntry.entryToStore(), operationStats);
+                        stats.onInsert(timestamp, operationStats, operationSource);
+                    }
+                } finally {
+                    store.releaseWriteLock();
+                }
+            }
+            entries.clear();
+        }
+
+        private void sortByAttributeValue() {
+            List<BulkEntry> multiValued = new ArrayList<>();
+            List<BulkEntry> sorted = new ArrayList<>(entries.size());
+            for (BulkEntry entry : entries) {
+                if (entry.value() instanceof MultiResult || entry.value() == NonTerminalJsonValue.INSTANCE) {
+                    // inserted as is, after the single-valued ones
+                    multiValued.add(entry);
+                } else {
+                    sorted.add(new BulkEntry(store.sanitizeValue(entry.value()), entry.entryToStore()));
+                }
+            }
+            sorted.sort((left, right) -> OrderedIndexStore.SPECIAL_AWARE_COMPARATOR.compare(
+                    (Comparable) left.value(), (Comparable) right.value()));
+            sorted.addAll(multiValued);
+
+            entries.clear();
+            entries.addAll(sorted);
+        }
+    }
+
+    private record BulkEntry(Object value, QueryableEntry entryToStore) {
+    }
+
     private static final class NullObject implements ComparableIdentifiedDataSerializable {
 
         @SuppressWarnings("NullableProblems")
@@ -337,6 +337,12 @@ public class AttributeIndexRegistry {
             }
         }
 
+        @Override
+        public long estimateRangeCardinality() {
+            // the ranges over the first component are ranges over the composite values
+            return delegate.estimateRangeCardinality();
+        }
+
         @Override
         public void clear() {
             throw newUnsupportedException();
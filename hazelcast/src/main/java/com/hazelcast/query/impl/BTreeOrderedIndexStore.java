@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.core.TypeConverter;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.OrderedIndexStore.IteratorFromBatch;
+
+import javax.annotation.Nonnull;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static com.hazelcast.internal.util.IterableUtil.map;
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static com.hazelcast.query.impl.CompositeValue.POSITIVE_INFINITY;
+import static com.hazelcast.query.impl.OrderedIndexStore.DATA_COMPARATOR;
+import static com.hazelcast.query.impl.OrderedIndexStore.SPECIAL_AWARE_COMPARATOR;
+import static java.util.Collections.emptyIterator;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
+
+/**
+ * Store indexes rankly in a {@link CopyOnWriteBPlusTree}.
+ * <p>
+ * Behaves as {@link OrderedIndexStore}, while the range scans and the ordered
+ * iterations read the distinct values from compact node arrays instead of
+ * following the skip list nodes. The tree modifications are serialized by the
+ * write lock of the store.
+ *
+ * @see com.hazelcast.spi.properties.ClusterProperty#INDEX_SORTED_STORE_BTREE_ENABLED
+ */
+@SuppressWarnings("rawtypes")
+public class BTreeOrderedIndexStore extends BaseSingleValueIndexStore {
+
+    private final CopyOnWriteBPlusTree<Comparable, NavigableMap<Data, QueryableEntry>> recordTree =
+            new CopyOnWriteBPlusTree<>(SPECIAL_AWARE_COMPARATOR);
+
+    private final IndexFunctor<Comparable, QueryableEntry> addFunctor;
+    private final IndexFunctor<Comparable, Data> removeFunctor;
+
+    public BTreeOrderedIndexStore(IndexCopyBehavior copyOn) {
+        super(copyOn, true);
+        assert copyOn != null;
+        if (copyOn == IndexCopyBehavior.COPY_ON_WRITE) {
+            addFunctor = new CopyOnWriteAddFunctor();
+            removeFunctor = new CopyOnWriteRemoveFunctor();
+        } else {
+            addFunctor = new AddFunctor();
+            removeFunctor = new RemoveFunctor();
+        }
+    }
+
+    @Override
+    Object insertInternal(Comparable value, QueryableEntry record) {
+        return addFunctor.invoke(value, record);
+    }
+
+    @Override
+    Object removeInternal(Comparable value, Data recordKey) {
+        return removeFunctor.invoke(value, recordKey);
+    }
+
+    @Override
+    public Comparable canonicalizeQueryArgumentScalar(Comparable value) {
+        // We still need to canonicalize query arguments for ordered indexes to
+        // support InPredicate queries.
+        return Comparables.canonicalizeForHashLookup(value);
+    }
+
+    @Override
+    public Comparable canonicalizeScalarForStorage(Comparable value) {
+        // Returning the original value since ordered indexes are not supporting
+        // hash lookups on their stored values, so there is no need in providing
+        // canonical representations.
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        takeWriteLock();
+        try {
+            recordTree.clear();
+            resetStatistics();
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public boolean isEvaluateOnly() {
+        return false;
+    }
+
+    @Override
+    public boolean canEvaluate(Class<? extends Predicate> predicateClass) {
+        return false;
+    }
+
+    @Override
+    public Set<QueryableEntry> evaluate(Predicate predicate, TypeConverter converter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(boolean descending) {
+        return new IteratorFromBatch(getSqlRecordIteratorBatch(descending));
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(@Nonnull Comparable value) {
+        return new IteratorFromBatch(getSqlRecordIteratorBatch(value, false));
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(Comparison comparison, Comparable searchedValue, boolean descending) {
+        return new IteratorFromBatch(getSqlRecordIteratorBatch(comparison, searchedValue, descending));
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(
+            Comparable from,
+            boolean fromInclusive,
+            Comparable to,
+            boolean toInclusive,
+            boolean descending
+    ) {
+        return new IteratorFromBatch(getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, descending));
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(@Nonnull Comparable value, boolean descending) {
+        return getSqlRecordIteratorBatch(value, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable value,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        var entries = recordTree.get(value);
+
+        if (entries == null) {
+            return emptyIterator();
+        }
+        entries = descending ? entries.descendingMap() : entries;
+
+        if (lastEntryKeyData != null) {
+            entries = entries.tailMap(lastEntryKeyData, false);
+        }
+
+        return singletonList(new IndexKeyEntries(value, entries.values().iterator())).iterator();
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(boolean descending) {
+        return map(recordTree.iterator(null, false, null, false, descending),
+                (Entry<Comparable, NavigableMap<Data, QueryableEntry>> es) -> {
+                    var map = descending ? es.getValue().descendingMap() : es.getValue();
+                    return new IndexKeyEntries(es.getKey(), map.values().iterator());
+                });
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparison comparison,
+            @Nonnull Comparable searchedValue,
+            boolean descending
+    ) {
+        return getSqlRecordIteratorBatch(comparison, searchedValue, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparison comparison,
+            @Nonnull Comparable searchedValue,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        switch (comparison) {
+            case LESS:
+                return getSqlRecordIteratorBatch(NULL, false, searchedValue, false, descending, lastEntryKeyData);
+            case LESS_OR_EQUAL:
+                return getSqlRecordIteratorBatch(NULL, false, searchedValue, true, descending, lastEntryKeyData);
+            case GREATER:
+                return getSqlRecordIteratorBatch(searchedValue, false, POSITIVE_INFINITY, true, descending, lastEntryKeyData);
+            case GREATER_OR_EQUAL:
+                return getSqlRecordIteratorBatch(searchedValue, true, POSITIVE_INFINITY, true, descending, lastEntryKeyData);
+            default:
+                throw new IllegalArgumentException("Unrecognized comparison: " + comparison);
+        }
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable from,
+            boolean fromInclusive,
+            @Nonnull Comparable to,
+            boolean toInclusive,
+            boolean descending
+    ) {
+        return getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, descending, null);
+    }
+
+    @Override
+    @SuppressWarnings({"checkstyle:NPathComplexity", "checkstyle:CyclomaticComplexity"})
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable from,
+            boolean fromInclusive,
+            @Nonnull Comparable to,
+            boolean toInclusive,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        boolean useCursor = lastEntryKeyData != null;
+        if (useCursor && !descending && !fromInclusive) {
+            throw new IllegalArgumentException("If `lastEntryKeyData` is not null then `from` must be inclusive");
+        }
+        if (useCursor && descending && !toInclusive) {
+            throw new IllegalArgumentException("If `lastEntryKeyData` is not null then `to` must be inclusive");
+        }
+
+        int order = SPECIAL_AWARE_COMPARATOR.compare(from, to);
+        if (order == 0) {
+            if (!fromInclusive || !toInclusive) {
+                return emptyIterator();
+            }
+            return getSqlRecordIteratorBatch(from, descending, lastEntryKeyData);
+        } else if (order > 0) {
+            return emptyIterator();
+        }
+
+        var indexKeyForLastEntryKeyData = descending ? to : from;
+        return map(recordTree.iterator(from, fromInclusive, to, toInclusive, descending),
+                (Entry<Comparable, NavigableMap<Data, QueryableEntry>> es) -> {
+                    var map = descending ? es.getValue().descendingMap() : es.getValue();
+                    if (useCursor && SPECIAL_AWARE_COMPARATOR.compare(indexKeyForLastEntryKeyData, es.getKey()) == 0) {
+                        map = map.tailMap(lastEntryKeyData, false);
+                    }
+                    return new IndexKeyEntries(es.getKey(), map.values().iterator());
+                });
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable value) {
+        takeReadLock();
+        try {
+            return toSingleResultSet(recordTree.get(value));
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Set<Comparable> values) {
+        takeReadLock();
+        try {
+            MultiResultSet results = createMultiResultSet();
+            for (Comparable value : values) {
+                Map<Data, QueryableEntry> records = recordTree.get(value);
+                if (records != null) {
+                    copyToMultiResultSet(results, records);
+                }
+            }
+            return results;
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparison comparison, Comparable searchedValue) {
+        switch (comparison) {
+            case LESS:
+                return getRecords(NULL, false, searchedValue, false);
+            case LESS_OR_EQUAL:
+                return getRecords(NULL, false, searchedValue, true);
+            case GREATER:
+                return getRecords(searchedValue, false, POSITIVE_INFINITY, true);
+            case GREATER_OR_EQUAL:
+                return getRecords(searchedValue, true, POSITIVE_INFINITY, true);
+            default:
+                throw new IllegalArgumentException("Unrecognized comparison: " + comparison);
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive) {
+        takeReadLock();
+        try {
+            int order = SPECIAL_AWARE_COMPARATOR.compare(from, to);
+            if (order == 0) {
+                if (!fromInclusive || !toInclusive) {
+                    return emptySet();
+                }
+                return toSingleResultSet(recordTree.get(from));
+            } else if (order > 0) {
+                return emptySet();
+            }
+            MultiResultSet results = createMultiResultSet();
+            Iterator<Entry<Comparable, NavigableMap<Data, QueryableEntry>>> iterator =
+                    recordTree.iterator(from, fromInclusive, to, toInclusive, false);
+            while (iterator.hasNext()) {
+                copyToMultiResultSet(results, iterator.next().getValue());
+            }
+            return results;
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    /**
+     * Adds entry to the given index tree without copying it.
+     * Needs to be invoked in a thread-safe way.
+     *
+     * @see IndexCopyBehavior
+     */
+    private class AddFunctor implements IndexFunctor<Comparable, QueryableEntry> {
+
+        @Override
+        public Object invoke(Comparable value, QueryableEntry entry) {
+            NavigableMap<Data, QueryableEntry> records = recordTree.get(value);
+            if (records == null) {
+                records = new ConcurrentSkipListMap<>(DATA_COMPARATOR);
+                recordTree.put(value, records);
+                onValueAdded();
+            }
+            return records.put(entry.getKeyData(), entry);
+        }
+
+    }
+
+    /**
+     * Adds entry to the given index tree copying it to secure exclusive access.
+     * Needs to be invoked in a thread-safe way.
+     *
+     * @see IndexCopyBehavior
+     */
+    private class CopyOnWriteAddFunctor implements IndexFunctor<Comparable, QueryableEntry> {
+
+        @Override
+        public Object invoke(Comparable value, QueryableEntry entry) {
+            Object oldValue;
+            NavigableMap<Data, QueryableEntry> records = recordTree.get(value);
+            if (records == null) {
+                records = new TreeMap<>(DATA_COMPARATOR);
+                onValueAdded();
+            }
+
+            records = new TreeMap<>(records);
+            oldValue = records.put(entry.getKeyData(), entry);
+
+            recordTree.put(value, records);
+            return oldValue;
+        }
+    }
+
+    /**
+     * Removes entry from the given index tree without copying it.
+     * Needs to be invoked in a thread-safe way.
+     *
+     * @see IndexCopyBehavior
+     */
+    private class RemoveFunctor implements IndexFunctor<Comparable, Data> {
+
+        @Override
+        public Object invoke(Comparable value, Data indexKey) {
+            Object oldValue;
+            Map<Data, QueryableEntry> records = recordTree.get(value);
+            if (records != null) {
+                oldValue = records.remove(indexKey);
+                if (records.isEmpty()) {
+                    recordTree.remove(value);
+                    onValueRemoved();
+                }
+            } else {
+                oldValue = null;
+            }
+
+            return oldValue;
+        }
+
+    }
+
+    /**
+     * Removes entry from the given index tree copying it to secure exclusive access.
+     * Needs to be invoked in a thread-safe way.
+     *
+     * @see IndexCopyBehavior
+     */
+    private class CopyOnWriteRemoveFunctor implements IndexFunctor<Comparable, Data> {
+
+        @Override
+        public Object invoke(Comparable value, Data indexKey) {
+            Object oldValue;
+            NavigableMap<Data, QueryableEntry> records = recordTree.get(value);
+            if (records != null) {
+                records = new TreeMap<>(records);
+                oldValue = records.remove(indexKey);
+
+                if (records.isEmpty()) {
+                    recordTree.remove(value);
+                    onValueRemoved();
+                } else {
+                    recordTree.put(value, records);
+                }
+            } else {
+                oldValue = null;
+            }
+
+            return oldValue;
+        }
+
+    }
+}
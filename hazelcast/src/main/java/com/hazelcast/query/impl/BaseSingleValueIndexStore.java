@@ -22,6 +22,7 @@ import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.query.impl.getters.MultiResult;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The base store for indexes that are unable to work with multi-value
@@ -43,6 +44,13 @@ public abstract class BaseSingleValueIndexStore extends BaseIndexStore {
      */
     private volatile boolean multiResultHasToDetectDuplicates;
 
+    /**
+     * The number of the entries and of the distinct values stored in the
+     * index, maintained incrementally for the cardinality estimations.
+     */
+    private final AtomicLong entryCount = new AtomicLong();
+    private final AtomicLong distinctValueCount = new AtomicLong();
+
     BaseSingleValueIndexStore(IndexCopyBehavior copyOn, boolean enableGlobalLock) {
         super(copyOn, enableGlobalLock);
     }
@@ -74,6 +82,54 @@ public abstract class BaseSingleValueIndexStore extends BaseIndexStore {
      */
     abstract Object removeInternal(Comparable value, Data recordKey);
 
+    /**
+     * Notifies this store that the first record was associated with a value.
+     * Must be called by the subclasses from {@link #insertInternal}.
+     */
+    final void onValueAdded() {
+        distinctValueCount.incrementAndGet();
+    }
+
+    /**
+     * Notifies this store that the last record was dissociated from a value.
+     * Must be called by the subclasses from {@link #removeInternal}.
+     */
+    final void onValueRemoved() {
+        distinctValueCount.decrementAndGet();
+    }
+
+    /**
+     * Resets the collected statistics, must be called by the subclasses when
+     * they are cleared.
+     */
+    final void resetStatistics() {
+        entryCount.set(0);
+        distinctValueCount.set(0);
+    }
+
+    /**
+     * @return the number of the entries stored in this index, an entry
+     * indexed by multiple values of a collection attribute is counted once
+     * per value.
+     */
+    final long getEntryCount() {
+        return entryCount.get();
+    }
+
+    /**
+     * Estimates the number of the entries associated with a value, assuming
+     * the entries are evenly distributed among the distinct values.
+     *
+     * @return the estimated number of the entries associated with a value.
+     */
+    final long estimateEqualCardinality() {
+        long values = distinctValueCount.get();
+        if (values <= 0) {
+            return 0;
+        }
+        return Math.max(1, entryCount.get() / values);
+    }
+
     final MultiResultSet createMultiResultSet() {
         return multiResultHasToDetectDuplicates ? new DuplicateDetectingMultiResult() : new FastMultiResultSet();
     }
@@ -112,6 +168,15 @@ public abstract class BaseSingleValueIndexStore extends BaseIndexStore {
         }
     }
 
+    /**
+     * Same as {@link #insert} but expects the caller to hold the write lock,
+     * see {@link #takeWriteLock()}. Used by bulk loads to insert many entries
+     * under a single lock acquisition.
+     */
+    final void insertHoldingWriteLock(Object value, QueryableEntry entryToStore, IndexOperationStats operationStats) {
+        unwrapAndInsertToIndex(value, entryToStore, operationStats);
+    }
+
     private void unwrapAndInsertToIndex(Object newValue, QueryableEntry<?, ?> queryableEntry,
                                         IndexOperationStats operationStats) {
         if (newValue == NonTerminalJsonValue.INSTANCE) {
@@ -124,6 +189,7 @@ public abstract class BaseSingleValueIndexStore extends BaseIndexStore {
                 Comparable<?> sanitizedValue = sanitizeValue(o);
                 Object oldValue = insertInternal(sanitizedValue, queryableEntry);
                 if (oldValue == null) {
+                    entryCount.incrementAndGet();
                     operationStats.onEntryAdded(newValue);
                 }
             }
@@ -131,6 +197,7 @@ public abstract class BaseSingleValueIndexStore extends BaseIndexStore {
             Comparable<?> sanitizedValue = sanitizeValue(newValue);
             Object oldValue = insertInternal(sanitizedValue, queryableEntry);
             if (oldValue == null) {
+                entryCount.incrementAndGet();
                 operationStats.onEntryAdded(newValue);
             }
         }
@@ -146,6 +213,7 @@ public abstract class BaseSingleValueIndexStore extends BaseIndexStore {
                 Comparable<?> sanitizedValue = sanitizeValue(o);
                 Object removedValue = removeInternal(sanitizedValue, recordKey);
                 if (removedValue != null) {
+                    entryCount.decrementAndGet();
                     operationStats.onEntryRemoved(oldValue);
                 }
             }
@@ -153,6 +221,7 @@ public abstract class BaseSingleValueIndexStore extends BaseIndexStore {
             Comparable<?> sanitizedValue = sanitizeValue(oldValue);
             Object removedValue = removeInternal(sanitizedValue, recordKey);
             if (removedValue != null) {
+                entryCount.decrementAndGet();
                 operationStats.onEntryRemoved(oldValue);
             }
         }
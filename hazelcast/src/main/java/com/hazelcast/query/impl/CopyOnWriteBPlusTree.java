@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * An ordered map implemented as a copy-on-write B+tree.
+ * <p>
+ * The keys and the values of a node are kept in arrays sized exactly to the
+ * node contents, so the lookups and the range scans do binary searches and
+ * sequential reads over contiguous memory instead of following a pointer
+ * per entry, as skip lists do. A modification copies the nodes on the path
+ * from the root to the modified leaf and publishes the new root, so the
+ * readers never take a lock and always observe a consistent snapshot of the
+ * tree. The modifications must be serialized by the caller.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+@SuppressWarnings("unchecked")
+final class CopyOnWriteBPlusTree<K, V> {
+
+    /**
+     * The default maximum number of keys stored in a node.
+     */
+    static final int DEFAULT_NODE_CAPACITY = 64;
+
+    private static final int MIN_NODE_CAPACITY = 3;
+    private static final Leaf EMPTY_LEAF = new Leaf(new Object[0], new Object[0]);
+
+    private final Comparator<? super K> comparator;
+    private final int nodeCapacity;
+    private final int minNodeSize;
+
+    private volatile Node root = EMPTY_LEAF;
+
+    CopyOnWriteBPlusTree(Comparator<? super K> comparator) {
+        this(comparator, DEFAULT_NODE_CAPACITY);
+    }
+
+    CopyOnWriteBPlusTree(Comparator<? super K> comparator, int nodeCapacity) {
+        if (nodeCapacity < MIN_NODE_CAPACITY) {
+            throw new IllegalArgumentException("nodeCapacity < " + MIN_NODE_CAPACITY);
+        }
+        this.comparator = comparator;
+        this.nodeCapacity = nodeCapacity;
+        this.minNodeSize = nodeCapacity / 2;
+    }
+
+    boolean isEmpty() {
+        // empty subtrees are always pruned, so only an empty root leaf is empty
+        return root.keys.length == 0;
+    }
+
+    V get(K key) {
+        Node node = root;
+        while (node instanceof Inner inner) {
+            node = inner.children[childIndex(inner.keys, key)];
+        }
+        int index = search(node.keys, key);
+        return index >= 0 ? (V) ((Leaf) node).values[index] : null;
+    }
+
+    /**
+     * Associates the given value with the given key, replacing the previous
+     * value, if any.
+     * <p>
+     * Must not be invoked concurrently with other modifications.
+     */
+    void put(K key, V value) {
+        Node newRoot = put(root, key, value);
+        if (newRoot.keys.length > nodeCapacity) {
+            Split split = split(newRoot);
+            newRoot = new Inner(new Object[]{split.separator()}, new Node[]{split.left(), split.right()});
+        }
+        root = newRoot;
+    }
+
+    /**
+     * Removes the value associated with the given key, if any.
+     * <p>
+     * Must not be invoked concurrently with other modifications.
+     */
+    void remove(K key) {
+        Node oldRoot = root;
+        Node newRoot = remove(oldRoot, key);
+        if (newRoot == oldRoot) {
+            return;
+        }
+        while (newRoot instanceof Inner inner && inner.keys.length == 0) {
+            newRoot = inner.children[0];
+        }
+        root = newRoot;
+    }
+
+    /**
+     * Removes all the entries.
+     * <p>
+     * Must not be invoked concurrently with other modifications.
+     */
+    void clear() {
+        root = EMPTY_LEAF;
+    }
+
+    /**
+     * Returns an iterator over the entries with the keys in the given range.
+     * A {@code null} bound denotes an unbounded end of the range.
+     * <p>
+     * The iterator reflects the state of the tree at the time of its creation
+     * and is not affected by the subsequent modifications.
+     *
+     * @param from          the lower bound of the range or {@code null}
+     * @param fromInclusive {@code true} if the lower bound is inclusive
+     * @param to            the upper bound of the range or {@code null}
+     * @param toInclusive   {@code true} if the upper bound is inclusive
+     * @param descending    {@code true} to iterate in the descending order
+     *                      of the keys
+     */
+    Iterator<Map.Entry<K, V>> iterator(K from, boolean fromInclusive, K to, boolean toInclusive, boolean descending) {
+        return descending
+                ? new RangeIterator(root, to, toInclusive, from, fromInclusive, true)
+                : new RangeIterator(root, from, fromInclusive, to, toInclusive, false);
+    }
+
+    private Node put(Node node, K key, V value) {
+        if (node instanceof Leaf leaf) {
+            int index = search(leaf.keys, key);
+            if (index >= 0) {
+                return new Leaf(leaf.keys, replace(leaf.values, index, value));
+            }
+            index = -index - 1;
+            return new Leaf(insert(leaf.keys, index, key), insert(leaf.values, index, value));
+        }
+
+        Inner inner = (Inner) node;
+        int index = childIndex(inner.keys, key);
+        Node child = put(inner.children[index], key, value);
+        if (child.keys.length <= nodeCapacity) {
+            return new Inner(inner.keys, replace(inner.children, index, child));
+        }
+
+        Split split = split(child);
+        Node[] children = insert(replace(inner.children, index, split.left()), index + 1, split.right());
+        return new Inner(insert(inner.keys, index, split.separator()), children);
+    }
+
+    private Node remove(Node node, K key) {
+        if (node instanceof Leaf leaf) {
+            int index = search(leaf.keys, key);
+            return index < 0 ? leaf : new Leaf(remove(leaf.keys, index), remove(leaf.values, index));
+        }
+
+        Inner inner = (Inner) node;
+        int index = childIndex(inner.keys, key);
+        Node child = inner.children[index];
+        Node newChild = remove(child, key);
+        if (newChild == child) {
+            return inner;
+        }
+
+        if (newChild.keys.length == 0 && newChild instanceof Leaf) {
+            // prune the empty subtree
+            if (inner.children.length == 1) {
+                return EMPTY_LEAF;
+            }
+            return new Inner(remove(inner.keys, index == 0 ? 0 : index - 1), remove(inner.children, index));
+        }
+        if (newChild.keys.length >= minNodeSize || inner.children.length == 1) {
+            return new Inner(inner.keys, replace(inner.children, index, newChild));
+        }
+        return rebalance(inner, index, newChild);
+    }
+
+    /**
+     * Merges the underflown child of the given node with its sibling and
+     * splits the result again if it does not fit into a single node.
+     */
+    private Inner rebalance(Inner parent, int index, Node child) {
+        // merge with the left sibling, or with the right one for the first child
+        int leftIndex = index == 0 ? 0 : index - 1;
+        Node left = leftIndex == index ? child : parent.children[leftIndex];
+        Node right = leftIndex == index ? parent.children[index + 1] : child;
+        Node merged = merge(left, parent.keys[leftIndex], right);
+
+        if (merged.keys.length <= nodeCapacity) {
+            Node[] children = remove(parent.children, leftIndex + 1);
+            children[leftIndex] = merged;
+            return new Inner(remove(parent.keys, leftIndex), children);
+        }
+
+        Split split = split(merged);
+        Node[] children = parent.children.clone();
+        children[leftIndex] = split.left();
+        children[leftIndex + 1] = split.right();
+        return new Inner(replace(parent.keys, leftIndex, split.separator()), children);
+    }
+
+    private int search(Object[] keys, K key) {
+        return Arrays.binarySearch((K[]) keys, key, comparator);
+    }
+
+    /**
+     * Returns the index of the child of an inner node with the given keys
+     * which covers the given key.
+     */
+    private int childIndex(Object[] keys, K key) {
+        int index = search(keys, key);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private static Split split(Node node) {
+        int size = node.keys.length;
+        int middle = size >>> 1;
+        if (node instanceof Leaf leaf) {
+            Leaf left = new Leaf(Arrays.copyOfRange(leaf.keys, 0, middle), Arrays.copyOfRange(leaf.values, 0, middle));
+            Leaf right = new Leaf(Arrays.copyOfRange(leaf.keys, middle, size), Arrays.copyOfRange(leaf.values, middle, size));
+            return new Split(left, right.keys[0], right);
+        }
+
+        Inner inner = (Inner) node;
+        Inner left = new Inner(Arrays.copyOfRange(inner.keys, 0, middle),
+                Arrays.copyOfRange(inner.children, 0, middle + 1));
+        Inner right = new Inner(Arrays.copyOfRange(inner.keys, middle + 1, size),
+                Arrays.copyOfRange(inner.children, middle + 1, size + 1));
+        return new Split(left, inner.keys[middle], right);
+    }
+
+    private static Node merge(Node left, Object separator, Node right) {
+        if (left instanceof Leaf leftLeaf) {
+            Leaf rightLeaf = (Leaf) right;
+            return new Leaf(concat(leftLeaf.keys, rightLeaf.keys), concat(leftLeaf.values, rightLeaf.values));
+        }
+
+        Inner leftInner = (Inner) left;
+        Inner rightInner = (Inner) right;
+        Object[] keys = concat(insert(leftInner.keys, leftInner.keys.length, separator), rightInner.keys);
+        return new Inner(keys, concat(leftInner.children, rightInner.children));
+    }
+
+    private static <T> T[] insert(T[] array, int index, T element) {
+        T[] result = Arrays.copyOf(array, array.length + 1);
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        result[index] = element;
+        return result;
+    }
+
+    private static <T> T[] remove(T[] array, int index) {
+        T[] result = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+
+    private static <T> T[] replace(T[] array, int index, T element) {
+        T[] result = array.clone();
+        result[index] = element;
+        return result;
+    }
+
+    private static <T> T[] concat(T[] left, T[] right) {
+        T[] result = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, result, left.length, right.length);
+        return result;
+    }
+
+    /**
+     * A node of the tree. The nodes are never modified once published.
+     */
+    private abstract static class Node {
+        final Object[] keys;
+
+        Node(Object[] keys) {
+            this.keys = keys;
+        }
+    }
+
+    private static final class Leaf extends Node {
+        final Object[] values;
+
+        Leaf(Object[] keys, Object[] values) {
+            super(keys);
+            this.values = values;
+        }
+    }
+
+    /**
+     * An inner node, the keys of which separate its children: all the keys of
+     * {@code children[i]} are less than {@code keys[i]}, which is less than
+     * or equal to all the keys of {@code children[i + 1]}.
+     */
+    private static final class Inner extends Node {
+        final Node[] children;
+
+        Inner(Object[] keys, Node[] children) {
+            super(keys);
+            this.children = children;
+        }
+    }
+
+    private record Split(Node left, Object separator, Node right) {
+    }
+
+    /**
+     * Iterates over the leaves of a tree snapshot, keeping the path from the
+     * root to the current leaf to move to the sibling leaves.
+     */
+    private final class RangeIterator implements Iterator<Map.Entry<K, V>> {
+
+        private final K end;
+        private final boolean endInclusive;
+        private final boolean descending;
+        private final int step;
+        private final Inner[] path;
+        private final int[] pathIndexes;
+
+        private Leaf leaf;
+        private int position;
+        private Map.Entry<K, V> next;
+
+        RangeIterator(Node snapshot, K start, boolean startInclusive, K end, boolean endInclusive, boolean descending) {
+            this.end = end;
+            this.endInclusive = endInclusive;
+            this.descending = descending;
+            this.step = descending ? -1 : 1;
+
+            int height = 0;
+            for (Node node = snapshot; node instanceof Inner inner; node = inner.children[0]) {
+                height++;
+            }
+            path = new Inner[height];
+            pathIndexes = new int[height];
+
+            Node node = snapshot;
+            for (int level = 0; level < height; level++) {
+                Inner inner = (Inner) node;
+                int index = start == null ? firstChildIndex(inner) : childIndex(inner.keys, start);
+                path[level] = inner;
+                pathIndexes[level] = index;
+                node = inner.children[index];
+            }
+            leaf = (Leaf) node;
+
+            if (start == null) {
+                position = descending ? leaf.keys.length - 1 : 0;
+            } else {
+                int index = search(leaf.keys, start);
+                if (index >= 0) {
+                    position = startInclusive ? index : index + step;
+                } else {
+                    // the insertion point, or the key right before it when descending
+                    position = descending ? -index - 2 : -index - 1;
+                }
+            }
+            next = advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            Map.Entry<K, V> entry = next;
+            if (entry == null) {
+                throw new NoSuchElementException();
+            }
+            next = advance();
+            return entry;
+        }
+
+        private Map.Entry<K, V> advance() {
+            while (position < 0 || position >= leaf.keys.length) {
+                if (!moveToSiblingLeaf()) {
+                    return null;
+                }
+            }
+
+            K key = (K) leaf.keys[position];
+            if (end != null) {
+                int order = comparator.compare(key, end);
+                if (descending ? order < 0 : order > 0) {
+                    return null;
+                }
+                if (order == 0 && !endInclusive) {
+                    return null;
+                }
+            }
+
+            Map.Entry<K, V> entry = new SimpleImmutableEntry<>(key, (V) leaf.values[position]);
+            position += step;
+            return entry;
+        }
+
+        private boolean moveToSiblingLeaf() {
+            int level = path.length - 1;
+            while (level >= 0 && !hasSibling(level)) {
+                level--;
+            }
+            if (level < 0) {
+                return false;
+            }
+
+            pathIndexes[level] += step;
+            Node node = path[level].children[pathIndexes[level]];
+            for (int i = level + 1; i < path.length; i++) {
+                Inner inner = (Inner) node;
+                path[i] = inner;
+                pathIndexes[i] = firstChildIndex(inner);
+                node = inner.children[pathIndexes[i]];
+            }
+            leaf = (Leaf) node;
+            position = descending ? leaf.keys.length - 1 : 0;
+            return true;
+        }
+
+        private boolean hasSibling(int level) {
+            int index = pathIndexes[level] + step;
+            return index >= 0 && index < path[level].children.length;
+        }
+
+        private int firstChildIndex(Inner inner) {
+            return descending ? inner.children.length - 1 : 0;
+        }
+    }
+}
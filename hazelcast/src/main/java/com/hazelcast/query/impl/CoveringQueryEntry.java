@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.query.QueryException;
+
+/**
+ * Queryable entry stored in an index, which answers the attribute lookups of
+ * the indexed attributes from the values extracted while the entry was
+ * indexed, so the queries projecting only these attributes don't need to
+ * deserialize the stored entry. All the other lookups are delegated to the
+ * stored entry.
+ *
+ * @see com.hazelcast.spi.properties.ClusterProperty#QUERY_INDEX_COVERING_ENABLED
+ */
+@SuppressWarnings("rawtypes")
+final class CoveringQueryEntry extends QueryableEntry {
+
+    private static final String THIS_PREFIX = "this.";
+
+    private final QueryableEntry delegate;
+    private final String[] components;
+    private final Object[] values;
+
+    /**
+     * @param delegate   the entry to delegate to.
+     * @param components the canonical names of the covered attributes.
+     * @param values     the values of the covered attributes or {@code null}
+     *                   if no attribute is covered for this entry.
+     */
+    CoveringQueryEntry(QueryableEntry delegate, String[] components, Object[] values) {
+        this.delegate = delegate;
+        this.components = components;
+        this.values = values;
+    }
+
+    @Override
+    public Object getAttributeValue(String attributeName) throws QueryException {
+        if (values != null) {
+            int index = indexOf(attributeName);
+            if (index == -1 && attributeName.startsWith(THIS_PREFIX)) {
+                index = indexOf(attributeName.substring(THIS_PREFIX.length()));
+            }
+            if (index != -1) {
+                return values[index];
+            }
+        }
+        return delegate.getAttributeValue(attributeName);
+    }
+
+    @Override
+    public Record getRecord() {
+        return delegate.getRecord();
+    }
+
+    @Override
+    public void setRecord(Record record) {
+        delegate.setRecord(record);
+    }
+
+    @Override
+    public JsonMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public void setMetadata(JsonMetadata metadata) {
+        delegate.setMetadata(metadata);
+    }
+
+    @Override
+    public Object getKey() {
+        return delegate.getKey();
+    }
+
+    @Override
+    public Data getKeyData() {
+        return delegate.getKeyData();
+    }
+
+    @Override
+    public Object getValue() {
+        return delegate.getValue();
+    }
+
+    @Override
+    public Data getValueData() {
+        return delegate.getValueData();
+    }
+
+    @Override
+    public Object getKeyIfPresent() {
+        return delegate.getKeyIfPresent();
+    }
+
+    @Override
+    public Data getKeyDataIfPresent() {
+        return delegate.getKeyDataIfPresent();
+    }
+
+    @Override
+    public Object getValueIfPresent() {
+        return delegate.getValueIfPresent();
+    }
+
+    @Override
+    public Data getValueDataIfPresent() {
+        return delegate.getValueDataIfPresent();
+    }
+
+    @Override
+    protected Object getTargetObject(boolean key) {
+        return delegate.getTargetObject(key);
+    }
+
+    @Override
+    public Object setValue(Object value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof QueryableEntry that)) {
+            return false;
+        }
+        // the result sets of the different indexes hold distinct wrappers
+        // of the same entry, so they are compared by the key only
+        return getKeyData().equals(that.getKeyData());
+    }
+
+    @Override
+    public int hashCode() {
+        return getKeyData().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CoveringQueryEntry{delegate=" + delegate + '}';
+    }
+
+    private int indexOf(String attributeName) {
+        for (int i = 0; i < components.length; ++i) {
+            if (components[i].equals(attributeName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
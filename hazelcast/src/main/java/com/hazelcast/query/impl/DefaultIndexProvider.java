@@ -39,6 +39,6 @@ public class DefaultIndexProvider implements IndexProvider {
             int partitionCount,
             int partitionId,
             String mapName) {
-        return new IndexImpl(node, config, ss, extractors, copyBehavior, stats, partitionCount, mapName);
+        return new IndexImpl(node, config, ss, extractors, copyBehavior, stats, partitionCount, partitionId, mapName);
     }
 }
@@ -205,6 +205,16 @@ public class GlobalQueryContextWithStats extends QueryContext {
             return result;
         }
 
+        @Override
+        public long estimateEqualCardinality() {
+            return delegate.estimateEqualCardinality();
+        }
+
+        @Override
+        public long estimateRangeCardinality() {
+            return delegate.estimateRangeCardinality();
+        }
+
         @Override
         public void clear() {
             delegate.clear();
@@ -280,6 +280,30 @@ public interface Index {
      */
     Set<QueryableEntry> getRecords(Comparison comparison, Comparable value);
 
+    /**
+     * Estimates the number of entries whose attribute values are equal to a
+     * value, using the statistics the index collects as the entries are
+     * indexed.
+     *
+     * @return the estimated number of entries or {@code -1} if this index
+     * doesn't collect the statistics.
+     */
+    default long estimateEqualCardinality() {
+        return -1;
+    }
+
+    /**
+     * Estimates the number of entries returned by a range query on this
+     * index, using the statistics the index collects as the entries are
+     * indexed.
+     *
+     * @return the estimated number of entries or {@code -1} if this index
+     * doesn't collect the statistics.
+     */
+    default long estimateRangeCardinality() {
+        return -1;
+    }
+
     /**
      * Clears out all entries from this index.
      */
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+/**
+ * Loads the entries of a partition being indexed into an index in bulk.
+ * <p>
+ * Obtained from {@link InternalIndex#newBulkLoader}. The entries are
+ * guaranteed to be inserted into the index only after {@link #load()} is
+ * called. The loader is not thread-safe and must be used by a single thread.
+ */
+public interface IndexBulkLoader {
+
+    /**
+     * Adds the given new entry to the load.
+     *
+     * @param entry        the entry to extract the attribute values from,
+     *                     may be reused by the caller once this method returns.
+     * @param entryToStore the entry that should be stored in the index.
+     * @see Index#putEntry
+     */
+    void add(CachedQueryEntry entry, QueryableEntry entryToStore);
+
+    /**
+     * Inserts all the added entries into the index.
+     */
+    void load();
+}
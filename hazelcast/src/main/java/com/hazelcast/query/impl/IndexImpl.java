@@ -23,8 +23,10 @@ import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.query.impl.GlobalIndexPartitionTracker.PartitionStamp;
 import com.hazelcast.query.impl.getters.Extractors;
 
+import static com.hazelcast.spi.properties.ClusterProperty.INDEX_SORTED_STORE_BTREE_ENABLED;
+
 /**
- * Provides implementation of on-heap indexes.
+ * Provides implementation of on-heap indexes, either global or partitioned.
  */
 public class IndexImpl extends AbstractIndex {
 
@@ -39,19 +41,45 @@ public class IndexImpl extends AbstractIndex {
             PerIndexStats stats,
             int partitionCount,
             String mapName) {
-        super(node, config, ss, extractors, copyBehavior, stats, mapName, GLOBAL_INDEX_NOOP_PARTITION_ID);
+        this(node, config, ss, extractors, copyBehavior, stats, partitionCount, GLOBAL_INDEX_NOOP_PARTITION_ID, mapName);
+    }
+
+    /**
+     * Creates a global index if the given partition ID is {@link
+     * #GLOBAL_INDEX_NOOP_PARTITION_ID}, otherwise creates a partition-local
+     * index accessed only by the thread of the given partition.
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public IndexImpl(
+            Node node,
+            IndexConfig config,
+            InternalSerializationService ss,
+            Extractors extractors,
+            IndexCopyBehavior copyBehavior,
+            PerIndexStats stats,
+            int partitionCount,
+            int partitionId,
+            String mapName) {
+        super(node, config, ss, extractors, copyBehavior, stats, mapName, partitionId);
 
         partitionTracker = new GlobalIndexPartitionTracker(partitionCount);
     }
 
     @Override
     protected IndexStore createIndexStore(Node node, IndexConfig config,
-                                          PerIndexStats stats, String mapName, int ignored) {
+                                          PerIndexStats stats, String mapName, int partitionId) {
+        boolean partitionLocal = partitionId != GLOBAL_INDEX_NOOP_PARTITION_ID;
         switch (config.getType()) {
             case SORTED:
+                if (partitionLocal) {
+                    return new OrderedIndexStore(copyBehavior, true);
+                }
+                if (node != null && node.getProperties().getBoolean(INDEX_SORTED_STORE_BTREE_ENABLED)) {
+                    return new BTreeOrderedIndexStore(copyBehavior);
+                }
                 return new OrderedIndexStore(copyBehavior);
             case HASH:
-                return new UnorderedIndexStore(copyBehavior);
+                return new UnorderedIndexStore(copyBehavior, partitionLocal);
             case BITMAP:
                 return new BitmapIndexStore(config);
             default:
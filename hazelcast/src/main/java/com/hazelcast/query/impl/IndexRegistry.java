@@ -46,6 +46,7 @@ import java.util.function.Supplier;
 import static com.hazelcast.config.InMemoryFormat.NATIVE;
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_COST_BASED_INDEX_SELECTION_ENABLED;
 
 /**
  * Registry which contains all indexes of a data-structure, e.g. an IMap.
@@ -67,6 +68,7 @@ public class IndexRegistry {
     private final Node node;
     private final String mapName;
     private final boolean global;
+    private final boolean costBasedIndexSelection;
     private final boolean usesCachedQueryableEntries;
     private final IndexesStats stats;
     private final Extractors extractors;
@@ -106,6 +108,8 @@ public class IndexRegistry {
         this.node = node;
         this.mapName = mapName;
         this.global = global;
+        this.costBasedIndexSelection = node != null
+                && node.getProperties().getBoolean(QUERY_COST_BASED_INDEX_SELECTION_ENABLED);
         this.indexCopyBehavior = indexCopyBehavior;
         this.ss = ss;
         this.usesCachedQueryableEntries = usesCachedQueryableEntries;
@@ -431,6 +435,15 @@ public class IndexRegistry {
         return global;
     }
 
+    /**
+     * @return {@code true} if the predicates combined by {@code AND} should
+     * use the indexes in the order of their estimated selectivity, see
+     * {@link Index#estimateEqualCardinality()}.
+     */
+    public boolean isCostBasedIndexSelectionEnabled() {
+        return costBasedIndexSelection;
+    }
+
     /**
      * @return the index with the given name or {@code null} if such index does
      * not exist. It's a caller's responsibility to canonicalize the passed
@@ -116,6 +116,29 @@ public interface InternalIndex extends Index {
      */
     boolean validatePartitionStamp(long stamp);
 
+    /**
+     * Creates a loader inserting new entries into this index in bulk, used to
+     * index the existing entries of a partition.
+     * <p>
+     * By default, the returned loader inserts each entry right away using
+     * {@link #putEntry}.
+     *
+     * @param operationSource the source of the insertions.
+     */
+    default IndexBulkLoader newBulkLoader(OperationSource operationSource) {
+        return new IndexBulkLoader() {
+            @Override
+            public void add(CachedQueryEntry entry, QueryableEntry entryToStore) {
+                putEntry(entry, null, entryToStore, operationSource);
+            }
+
+            @Override
+            public void load() {
+                // entries are inserted as they are added
+            }
+        };
+    }
+
     /**
      * @return Step-aware storage that backs the Index.
      * By default, returns {@code null} that indicates
@@ -65,15 +65,29 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
         }
     };
 
-    private final ConcurrentSkipListMap<Comparable, NavigableMap<Data, QueryableEntry>> recordMap =
-            new ConcurrentSkipListMap<>(SPECIAL_AWARE_COMPARATOR);
+    private final NavigableMap<Comparable, NavigableMap<Data, QueryableEntry>> recordMap;
+    private final boolean partitionLocal;
 
     private final IndexFunctor<Comparable, QueryableEntry> addFunctor;
     private final IndexFunctor<Comparable, Data> removeFunctor;
 
     public OrderedIndexStore(IndexCopyBehavior copyOn) {
-        super(copyOn, true);
+        this(copyOn, false);
+    }
+
+    /**
+     * @param copyOn         the copy behavior of the store.
+     * @param partitionLocal {@code true} if the store indexes a single partition
+     *                       and is accessed only by the thread of this partition,
+     *                       in which case it uses plain maps and no lock.
+     */
+    public OrderedIndexStore(IndexCopyBehavior copyOn, boolean partitionLocal) {
+        super(copyOn, !partitionLocal);
         assert copyOn != null;
+        this.partitionLocal = partitionLocal;
+        this.recordMap = partitionLocal
+                ? new TreeMap<>(SPECIAL_AWARE_COMPARATOR)
+                : new ConcurrentSkipListMap<>(SPECIAL_AWARE_COMPARATOR);
         if (copyOn == IndexCopyBehavior.COPY_ON_WRITE) {
             addFunctor = new CopyOnWriteAddFunctor();
             removeFunctor = new CopyOnWriteRemoveFunctor();
@@ -113,6 +127,7 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
         takeWriteLock();
         try {
             recordMap.clear();
+            resetStatistics();
         } finally {
             releaseWriteLock();
         }
@@ -377,8 +392,13 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
 
         @Override
         public Object invoke(Comparable value, QueryableEntry entry) {
-            return recordMap.computeIfAbsent(value, x -> new ConcurrentSkipListMap<>(DATA_COMPARATOR)).put(entry.getKeyData(),
-                    entry);
+            NavigableMap<Data, QueryableEntry> records = recordMap.get(value);
+            if (records == null) {
+                records = partitionLocal ? new TreeMap<>(DATA_COMPARATOR) : new ConcurrentSkipListMap<>(DATA_COMPARATOR);
+                recordMap.put(value, records);
+                onValueAdded();
+            }
+            return records.put(entry.getKeyData(), entry);
         }
 
     }
@@ -397,6 +417,7 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
             NavigableMap<Data, QueryableEntry> records = recordMap.get(value);
             if (records == null) {
                 records = new TreeMap<>(DATA_COMPARATOR);
+                onValueAdded();
             }
 
             records = new TreeMap<>(records);
@@ -423,6 +444,7 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
                 oldValue = records.remove(indexKey);
                 if (records.isEmpty()) {
                     recordMap.remove(value);
+                    onValueRemoved();
                 }
             } else {
                 oldValue = null;
@@ -451,6 +473,7 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
 
                 if (records.isEmpty()) {
                     recordMap.remove(value);
+                    onValueRemoved();
                 } else {
                     recordMap.put(value, records);
                 }
@@ -463,11 +486,11 @@ public class OrderedIndexStore extends BaseSingleValueIndexStore {
 
     }
 
-    private static final class IteratorFromBatch implements Iterator<QueryableEntry> {
+    static final class IteratorFromBatch implements Iterator<QueryableEntry> {
         private final Iterator<IndexKeyEntries> iterator;
         private Iterator<QueryableEntry> indexKeyIterator;
 
-        private IteratorFromBatch(@Nonnull Iterator<IndexKeyEntries> iterator) {
+        IteratorFromBatch(@Nonnull Iterator<IndexKeyEntries> iterator) {
             this.iterator = iterator;
             this.indexKeyIterator = iterator.hasNext() ? iterator.next().getEntries() : null;
         }
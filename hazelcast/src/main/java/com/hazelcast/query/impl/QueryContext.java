@@ -55,6 +55,15 @@ public class QueryContext {
         this.ownedPartitionCount = ownedPartitionCount;
     }
 
+    /**
+     * @return {@code true} if the indexes should be chosen based on the
+     * estimated cardinalities of the predicates, see {@link
+     * com.hazelcast.query.impl.predicates.IndexAwarePredicate#estimateCardinality}.
+     */
+    public boolean isCostBasedIndexSelectionEnabled() {
+        return indexRegistry != null && indexRegistry.isCostBasedIndexSelectionEnabled();
+    }
+
     /**
      * Attaches this index context to the given indexes.
      *
@@ -28,7 +28,6 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import static com.hazelcast.query.impl.AbstractIndex.NULL;
 
@@ -38,14 +37,27 @@ import static com.hazelcast.query.impl.AbstractIndex.NULL;
 @SuppressWarnings("rawtypes")
 public class UnorderedIndexStore extends BaseSingleValueIndexStore {
 
-    private final ConcurrentMap<Comparable, Map<Data, QueryableEntry>> recordMap = new ConcurrentHashMap<>();
+    private final Map<Comparable, Map<Data, QueryableEntry>> recordMap;
+    private final boolean partitionLocal;
     private final IndexFunctor<Comparable, QueryableEntry> addFunctor;
     private final IndexFunctor<Comparable, Data> removeFunctor;
 
     private volatile Map<Data, QueryableEntry> recordsWithNullValue;
 
     public UnorderedIndexStore(IndexCopyBehavior copyOn) {
-        super(copyOn, true);
+        this(copyOn, false);
+    }
+
+    /**
+     * @param copyOn         the copy behavior of the store.
+     * @param partitionLocal {@code true} if the store indexes a single partition
+     *                       and is accessed only by the thread of this partition,
+     *                       in which case it uses plain maps and no lock.
+     */
+    public UnorderedIndexStore(IndexCopyBehavior copyOn, boolean partitionLocal) {
+        super(copyOn, !partitionLocal);
+        this.partitionLocal = partitionLocal;
+        this.recordMap = partitionLocal ? new HashMap<>() : new ConcurrentHashMap<>();
         if (copyOn == IndexCopyBehavior.COPY_ON_WRITE) {
             addFunctor = new CopyOnWriteAddFunctor();
             removeFunctor = new CopyOnWriteRemoveFunctor();
@@ -53,7 +65,7 @@ public class UnorderedIndexStore extends BaseSingleValueIndexStore {
         } else {
             addFunctor = new AddFunctor();
             removeFunctor = new RemoveFunctor();
-            recordsWithNullValue = new ConcurrentHashMap<>();
+            recordsWithNullValue = partitionLocal ? new HashMap<>() : new ConcurrentHashMap<>();
         }
     }
 
@@ -119,6 +131,7 @@ public class UnorderedIndexStore extends BaseSingleValueIndexStore {
         try {
             recordsWithNullValue.clear();
             recordMap.clear();
+            resetStatistics();
         } finally {
             releaseWriteLock();
         }
@@ -327,12 +340,16 @@ public class UnorderedIndexStore extends BaseSingleValueIndexStore {
         @Override
         public Object invoke(Comparable value, QueryableEntry entry) {
             if (value == NULL) {
+                if (recordsWithNullValue.isEmpty()) {
+                    onValueAdded();
+                }
                 return recordsWithNullValue.put(entry.getKeyData(), entry);
             } else {
                 Map<Data, QueryableEntry> records = recordMap.get(value);
                 if (records == null) {
-                    records = new ConcurrentHashMap<>(1, LOAD_FACTOR, 1);
+                    records = partitionLocal ? new HashMap<>(1, LOAD_FACTOR) : new ConcurrentHashMap<>(1, LOAD_FACTOR, 1);
                     recordMap.put(value, records);
+                    onValueAdded();
                 }
                 return records.put(entry.getKeyData(), entry);
             }
@@ -352,6 +369,9 @@ public class UnorderedIndexStore extends BaseSingleValueIndexStore {
         public Object invoke(Comparable value, QueryableEntry entry) {
             Object oldValue;
             if (value == NULL) {
+                if (recordsWithNullValue.isEmpty()) {
+                    onValueAdded();
+                }
                 HashMap<Data, QueryableEntry> copy = new HashMap<>(recordsWithNullValue);
                 oldValue = copy.put(entry.getKeyData(), entry);
                 recordsWithNullValue = copy;
@@ -359,6 +379,7 @@ public class UnorderedIndexStore extends BaseSingleValueIndexStore {
                 Map<Data, QueryableEntry> records = recordMap.get(value);
                 if (records == null) {
                     records = new HashMap<>();
+                    onValueAdded();
                 }
 
                 records = new HashMap<>(records);
@@ -385,12 +406,16 @@ public class UnorderedIndexStore extends BaseSingleValueIndexStore {
             Object oldValue;
             if (value == NULL) {
                 oldValue = recordsWithNullValue.remove(indexKey);
+                if (oldValue != null && recordsWithNullValue.isEmpty()) {
+                    onValueRemoved();
+                }
             } else {
                 Map<Data, QueryableEntry> records = recordMap.get(value);
                 if (records != null) {
                     oldValue = records.remove(indexKey);
                     if (records.isEmpty()) {
                         recordMap.remove(value);
+                        onValueRemoved();
                     }
                 } else {
                     oldValue = null;
@@ -417,6 +442,9 @@ public class UnorderedIndexStore extends BaseSingleValueIndexStore {
                 HashMap<Data, QueryableEntry> copy = new HashMap<>(recordsWithNullValue);
                 oldValue = copy.remove(indexKey);
                 recordsWithNullValue = copy;
+                if (oldValue != null && copy.isEmpty()) {
+                    onValueRemoved();
+                }
             } else {
                 Map<Data, QueryableEntry> records = recordMap.get(value);
                 if (records != null) {
@@ -425,6 +453,7 @@ public class UnorderedIndexStore extends BaseSingleValueIndexStore {
 
                     if (records.isEmpty()) {
                         recordMap.remove(value);
+                        onValueRemoved();
                     } else {
                         recordMap.put(value, records);
                     }
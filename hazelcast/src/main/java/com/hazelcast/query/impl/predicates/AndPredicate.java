@@ -47,6 +47,13 @@ public final class AndPredicate
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * An indexed predicate is applied to the entries of the smallest result
+     * set instead of querying its index, if it's estimated to match that many
+     * times more entries than the smallest result set has.
+     */
+    private static final int UNSELECTIVE_PREDICATE_FACTOR = 8;
+
     protected Predicate[] predicates;
 
     public AndPredicate() {
@@ -73,8 +80,17 @@ public final class AndPredicate
         List<Set<QueryableEntry>> otherResultSets = null;
         List<Predicate> unindexedPredicates = null;
 
-        for (Predicate predicate : predicates) {
-            if (isIndexedPredicate(predicate, queryContext)) {
+        Predicate[] orderedPredicates = predicates;
+        long[] estimates = null;
+        if (queryContext.isCostBasedIndexSelectionEnabled()) {
+            estimates = new long[predicates.length];
+            orderedPredicates = orderByEstimatedCardinality(queryContext, estimates);
+        }
+
+        for (int i = 0; i < orderedPredicates.length; i++) {
+            Predicate predicate = orderedPredicates[i];
+            if (isIndexedPredicate(predicate, queryContext)
+                    && !(estimates != null && isUnselective(estimates[i], smallestResultSet))) {
                 // Avoid checking indexed partitions count twice to avoid
                 // scenario when the owner partitions count changes concurrently and null
                 // value from the filter method may indicate that the index is under
@@ -105,6 +121,45 @@ public final class AndPredicate
         return new AndResultSet(smallestResultSet, otherResultSets, unindexedPredicates);
     }
 
+    /**
+     * Orders the predicates by their estimated cardinalities, so the most
+     * selective indexed predicate produces the smallest result set and the
+     * others may be applied to its entries. The predicates which cardinality
+     * can't be estimated keep their relative order and go last.
+     */
+    private Predicate[] orderByEstimatedCardinality(QueryContext queryContext, long[] estimates) {
+        Predicate[] ordered = predicates.clone();
+        for (int i = 0; i < ordered.length; i++) {
+            estimates[i] = ordered[i] instanceof IndexAwarePredicate awarePredicate
+                    ? awarePredicate.estimateCardinality(queryContext)
+                    : -1;
+        }
+
+        // insertion sort, there are just a few predicates
+        for (int i = 1; i < ordered.length; i++) {
+            Predicate predicate = ordered[i];
+            long estimate = estimates[i];
+            int j = i - 1;
+            while (j >= 0 && sortKey(estimates[j]) > sortKey(estimate)) {
+                ordered[j + 1] = ordered[j];
+                estimates[j + 1] = estimates[j];
+                j--;
+            }
+            ordered[j + 1] = predicate;
+            estimates[j + 1] = estimate;
+        }
+        return ordered;
+    }
+
+    private static long sortKey(long estimate) {
+        return estimate < 0 ? Long.MAX_VALUE : estimate;
+    }
+
+    private static boolean isUnselective(long estimate, Set<QueryableEntry> smallestResultSet) {
+        return smallestResultSet != null && estimate >= 0
+                && estimate > (long) estimatedSizeOf(smallestResultSet) * UNSELECTIVE_PREDICATE_FACTOR;
+    }
+
     private static boolean isIndexedPredicate(Predicate predicate, QueryContext queryContext) {
         return predicate instanceof IndexAwarePredicate awarePredicate
                 && awarePredicate.isIndexed(queryContext);
@@ -73,6 +73,12 @@ public class BoundedRangePredicate extends AbstractIndexAwarePredicate implement
         return index.getRecords(from, fromInclusive, to, toInclusive);
     }
 
+    @Override
+    public long estimateCardinality(QueryContext queryContext) {
+        Index index = matchIndex(queryContext, QueryContext.IndexMatchHint.PREFER_ORDERED);
+        return index == null ? -1 : index.estimateRangeCardinality();
+    }
+
     @Override
     protected boolean applyForSingleAttributeValue(Comparable value) {
         if (value == null) {
@@ -88,6 +88,12 @@ public class CompositeEqualPredicate implements IndexAwarePredicate {
         return index.getRecords(value);
     }
 
+    @Override
+    public long estimateCardinality(QueryContext queryContext) {
+        Index index = queryContext.matchIndex(indexName, QueryContext.IndexMatchHint.EXACT_NAME);
+        return index == null ? -1 : index.estimateEqualCardinality();
+    }
+
     @Override
     public String toString() {
         return Arrays.toString(components) + " = " + value;
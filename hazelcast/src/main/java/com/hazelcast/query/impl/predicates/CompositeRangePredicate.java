@@ -123,6 +123,12 @@ public class CompositeRangePredicate implements IndexAwarePredicate {
         return index.getRecords(from, fromInclusive, to, toInclusive);
     }
 
+    @Override
+    public long estimateCardinality(QueryContext queryContext) {
+        Index index = queryContext.matchIndex(indexName, QueryContext.IndexMatchHint.EXACT_NAME);
+        return index == null ? -1 : index.estimateRangeCardinality();
+    }
+
     @Override
     public boolean isIndexed(QueryContext queryContext) {
         return true;
@@ -69,6 +69,12 @@ public class EqualPredicate extends AbstractIndexAwarePredicate
         return index.getRecords(value);
     }
 
+    @Override
+    public long estimateCardinality(QueryContext queryContext) {
+        Index index = matchIndex(queryContext, QueryContext.IndexMatchHint.PREFER_UNORDERED);
+        return index == null ? -1 : index.estimateEqualCardinality();
+    }
+
     protected boolean applyForSingleAttributeValue(Comparable attributeValue) {
         if (attributeValue == null) {
             return isNull(value);
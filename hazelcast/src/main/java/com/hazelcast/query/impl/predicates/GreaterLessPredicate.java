@@ -82,6 +82,12 @@ public final class GreaterLessPredicate extends AbstractIndexAwarePredicate impl
         return index.getRecords(comparison, value);
     }
 
+    @Override
+    public long estimateCardinality(QueryContext queryContext) {
+        Index index = matchIndex(queryContext, QueryContext.IndexMatchHint.PREFER_ORDERED);
+        return index == null ? -1 : index.estimateRangeCardinality();
+    }
+
     @Override
     public void readData(ObjectDataInput in) throws IOException {
         super.readData(in);
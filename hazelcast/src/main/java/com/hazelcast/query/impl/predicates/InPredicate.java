@@ -120,6 +120,16 @@ public class InPredicate extends AbstractIndexAwarePredicate implements Visitabl
         }
     }
 
+    @Override
+    public long estimateCardinality(QueryContext queryContext) {
+        Index index = matchIndex(queryContext, QueryContext.IndexMatchHint.PREFER_UNORDERED);
+        if (index == null) {
+            return -1;
+        }
+        long cardinality = index.estimateEqualCardinality();
+        return cardinality < 0 ? -1 : cardinality * values.length;
+    }
+
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
         super.writeData(out);
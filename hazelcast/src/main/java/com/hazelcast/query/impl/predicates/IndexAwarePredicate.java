@@ -76,4 +76,18 @@ public interface IndexAwarePredicate<K, V> extends Predicate<K, V> {
      * speed up the processing, {@code false} otherwise.
      */
     boolean isIndexed(QueryContext queryContext);
+
+    /**
+     * Estimates the size of the entry set produced by the {@link #filter}
+     * method, based on the statistics of the indexes available while
+     * executing the query in the given query context.
+     *
+     * @param queryContext the query context to consult for the available
+     *                     indexes.
+     * @return the estimated number of entries or {@code -1} if the size can't
+     * be estimated.
+     */
+    default long estimateCardinality(QueryContext queryContext) {
+        return -1;
+    }
 }
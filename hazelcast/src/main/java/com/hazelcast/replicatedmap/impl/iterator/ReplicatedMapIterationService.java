@@ -17,7 +17,6 @@
 package com.hazelcast.replicatedmap.impl.iterator;
 
 import com.hazelcast.internal.iteration.IterationResult;
-import com.hazelcast.internal.iteration.IteratorWithCursor;
 import com.hazelcast.internal.iteration.IteratorWithCursorManager;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
@@ -26,17 +25,13 @@ import com.hazelcast.replicatedmap.impl.record.ReplicatedMapEntryViewHolder;
 import com.hazelcast.replicatedmap.impl.record.ReplicatedRecord;
 import com.hazelcast.replicatedmap.impl.record.ReplicatedRecordStore;
 import com.hazelcast.spi.impl.NodeEngine;
-import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.spi.properties.HazelcastProperty;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 public class ReplicatedMapIterationService {
     /**
@@ -56,17 +51,12 @@ public class ReplicatedMapIterationService {
     private final ReplicatedMapService replicatedMapService;
     private final SerializationService serializationService;
     private final IteratorWithCursorManager<ReplicatedRecord> iteratorManager;
-    private final HazelcastProperties properties;
-    private final NodeEngine nodeEngine;
-    private final AtomicBoolean noIteratorCreated = new AtomicBoolean(true);
-    private ScheduledFuture iteratorCleanupFuture;
     public ReplicatedMapIterationService(ReplicatedMapService replicatedMapService, SerializationService serializationService,
                                          NodeEngine nodeEngine) {
         this.replicatedMapService = replicatedMapService;
         this.serializationService = serializationService;
-        this.properties = nodeEngine.getProperties();
-        this.iteratorManager = new IteratorWithCursorManager<>(replicatedMapService.getNodeEngine());
-        this.nodeEngine = nodeEngine;
+        this.iteratorManager = new IteratorWithCursorManager<>(nodeEngine,
+                ITERATOR_CLEANUP_PERIOD_SECONDS, ITERATOR_CLEANUP_TIMEOUT_MILLIS);
     }
 
     /**
@@ -75,12 +65,6 @@ public class ReplicatedMapIterationService {
      * the provided cursor id because this method will be called on a different member.
      */
     public void createIterator(String name, int partitionId, UUID cursorId) {
-        if (noIteratorCreated.getAndSet(false)) {
-            // little optimization to create the future upon first iterator creation.
-            this.iteratorCleanupFuture = nodeEngine.getExecutionService().getGlobalTaskScheduler().scheduleWithRepetition(
-                    this::removeStaleIterators, 0,
-                    nodeEngine.getProperties().getInteger(ITERATOR_CLEANUP_PERIOD_SECONDS), TimeUnit.SECONDS);
-        }
         ReplicatedRecordStore store = this.replicatedMapService.getReplicatedRecordStore(name, false, partitionId);
         if (store == null) {
             throw new IllegalStateException("There is no ReplicatedRecordStore for " + name + " on partitionId "
@@ -107,14 +91,7 @@ public class ReplicatedMapIterationService {
     }
 
     public void removeStaleIterators() {
-        ConcurrentHashMap.KeySetView<UUID, IteratorWithCursor<ReplicatedRecord>> keySetView = iteratorManager.getKeySet();
-        for (UUID iteratorId : keySetView) {
-            IteratorWithCursor<ReplicatedRecord> paginator = iteratorManager.getIterator(iteratorId);
-            if (paginator.getLastAccessTime()
-                    < System.currentTimeMillis() - properties.getLong(ITERATOR_CLEANUP_TIMEOUT_MILLIS)) {
-                keySetView.remove(iteratorId);
-            }
-        }
+        iteratorManager.removeStaleIterators();
     }
 
     public IteratorWithCursorManager<ReplicatedRecord> getIteratorManager() {
@@ -131,8 +108,6 @@ public class ReplicatedMapIterationService {
     }
 
     public void shutdown() {
-        if (iteratorCleanupFuture != null) {
-            iteratorCleanupFuture.cancel(true);
-        }
+        iteratorManager.shutdown();
     }
 }
@@ -28,16 +28,23 @@ import com.hazelcast.nio.serialization.HazelcastSerializationException;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.ringbuffer.StaleSequenceException;
 import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
 import com.hazelcast.spi.impl.operationservice.Notifier;
 import com.hazelcast.internal.services.ObjectNamespace;
 import com.hazelcast.spi.impl.operationservice.WaitNotifyKey;
 import com.hazelcast.internal.serialization.SerializationService;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 import static com.hazelcast.config.InMemoryFormat.BINARY;
 import static com.hazelcast.config.InMemoryFormat.OBJECT;
 import static com.hazelcast.config.InMemoryFormat.values;
+import static com.hazelcast.internal.cluster.Versions.V5_5;
+import static com.hazelcast.internal.util.StringUtil.isNullOrEmpty;
+import static com.hazelcast.spi.properties.ClusterProperty.RINGBUFFER_TIERED_STORAGE_DIRECTORY;
+import static com.hazelcast.spi.properties.ClusterProperty.RINGBUFFER_TIERED_STORAGE_HOT_CAPACITY;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
@@ -120,9 +127,13 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
         this(namespace, partitionId);
 
         this.inMemoryFormat = config.getInMemoryFormat();
-        this.ringbuffer = new ArrayRingbuffer<>(config.getCapacity());
 
         final long ttlMs = SECONDS.toMillis(config.getTimeToLiveSeconds());
+        final int hotCapacity = getTieredStorageHotCapacity(nodeEngine, config.getCapacity(), ttlMs);
+        this.ringbuffer = hotCapacity > 0
+                ? newTieredRingbuffer(config.getCapacity(), hotCapacity, getTieredStorageDirectory(nodeEngine),
+                nodeEngine.getSerializationService())
+                : new ArrayRingbuffer<>(config.getCapacity());
         if (ttlMs != TTL_DISABLED) {
             this.expirationPolicy = new RingbufferExpirationPolicy(ringbuffer.getCapacity(), ttlMs);
         }
@@ -142,9 +153,57 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
     public void init(RingbufferConfig config, NodeEngine nodeEngine) {
         this.config = config;
         this.serializationService = nodeEngine.getSerializationService();
+        initTieredStorage(nodeEngine);
         initRingbufferStore(NamespaceUtil.getClassLoaderForNamespace(nodeEngine, config.getUserCodeNamespace()), nodeEngine);
     }
 
+    /**
+     * Moves the items into a {@link TieredRingbuffer} if the tiered storage is
+     * enabled and applies to this ringbuffer. The items replicated by a member
+     * which does not use the tiered storage are read into an {@link
+     * ArrayRingbuffer} first and moved here, the segment files of a replicated
+     * {@link TieredRingbuffer} are moved to the configured directory.
+     */
+    private void initTieredStorage(NodeEngine nodeEngine) {
+        if (ringbuffer instanceof TieredRingbuffer<E> tieredRingbuffer) {
+            tieredRingbuffer.setDirectory(getTieredStorageDirectory(nodeEngine));
+            return;
+        }
+        long ttlMs = expirationPolicy != null ? expirationPolicy.getTtlMs() : TTL_DISABLED;
+        int hotCapacity = getTieredStorageHotCapacity(nodeEngine, ringbuffer.getCapacity(), ttlMs);
+        if (hotCapacity <= 0) {
+            return;
+        }
+        TieredRingbuffer<E> tieredRingbuffer = newTieredRingbuffer((int) ringbuffer.getCapacity(), hotCapacity,
+                getTieredStorageDirectory(nodeEngine), serializationService);
+        tieredRingbuffer.setTailSequence(ringbuffer.tailSequence());
+        tieredRingbuffer.setHeadSequence(ringbuffer.headSequence());
+        for (long seq = ringbuffer.headSequence(); seq <= ringbuffer.tailSequence(); seq++) {
+            tieredRingbuffer.set(seq, ringbuffer.read(seq));
+        }
+        ringbuffer = tieredRingbuffer;
+    }
+
+    /**
+     * Returns the number of the items kept in memory if the tiered storage is
+     * enabled and applies to a ringbuffer of the given capacity and time to
+     * live, {@code 0} otherwise.
+     */
+    private static int getTieredStorageHotCapacity(NodeEngine nodeEngine, long capacity, long ttlMs) {
+        int hotCapacity = nodeEngine.getProperties().getInteger(RINGBUFFER_TIERED_STORAGE_HOT_CAPACITY);
+        return hotCapacity > 0 && ttlMs == TTL_DISABLED && capacity > hotCapacity ? hotCapacity : 0;
+    }
+
+    private static Path getTieredStorageDirectory(NodeEngine nodeEngine) {
+        String directory = nodeEngine.getProperties().getString(RINGBUFFER_TIERED_STORAGE_DIRECTORY);
+        return Paths.get(isNullOrEmpty(directory) ? System.getProperty("java.io.tmpdir") : directory);
+    }
+
+    private TieredRingbuffer<E> newTieredRingbuffer(int capacity, int hotCapacity, Path directory,
+                                                    SerializationService serializationService) {
+        return new TieredRingbuffer<>(capacity, hotCapacity, directory, serializationService, inMemoryFormat != OBJECT);
+    }
+
     private void initRingbufferStore(ClassLoader classLoader, NodeEngine nodeEngine) {
         this.store = RingbufferStoreWrapper.create(objectNamespace,
                 config.getRingbufferStoreConfig(),
@@ -593,11 +652,20 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
         out.writeLong(ttlEnabled ? expirationPolicy.getTtlMs() : 0);
         out.writeInt(inMemoryFormat.ordinal());
 
+        // the items of a tiered ringbuffer are replicated serialized, as they are on the disk
+        TieredRingbuffer<E> tieredRingbuffer = null;
+        if (out.getVersion().isGreaterOrEqual(V5_5)) {
+            tieredRingbuffer = ringbuffer instanceof TieredRingbuffer<E> tiered ? tiered : null;
+            out.writeInt(tieredRingbuffer != null ? tieredRingbuffer.getHotCapacity() : 0);
+        }
+
         long now = System.currentTimeMillis();
 
         // we only write the actual content of the ringbuffer. So we don't write empty slots.
         for (long seq = ringbuffer.headSequence(); seq <= ringbuffer.tailSequence(); seq++) {
-            if (inMemoryFormat == BINARY) {
+            if (tieredRingbuffer != null) {
+                IOUtil.writeData(out, tieredRingbuffer.readSerialized(seq));
+            } else if (inMemoryFormat == BINARY) {
                 IOUtil.writeData(out, (Data) ringbuffer.read(seq));
             } else {
                 out.writeObject(ringbuffer.read(seq));
@@ -623,8 +691,18 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
         final int capacity = in.readInt();
         final long ttlMs = in.readLong();
         inMemoryFormat = values()[in.readInt()];
-
-        ringbuffer = new ArrayRingbuffer(capacity);
+        final int hotCapacity = in.getVersion().isGreaterOrEqual(V5_5) ? in.readInt() : 0;
+
+        // the items of a tiered ringbuffer are spilled to the disk as they are read, the segment
+        // files are moved to the configured directory when the container is initialized
+        TieredRingbuffer<E> tieredRingbuffer = null;
+        if (hotCapacity > 0) {
+            tieredRingbuffer = newTieredRingbuffer(capacity, hotCapacity, Paths.get(System.getProperty("java.io.tmpdir")),
+                    ((SerializationServiceSupport) in).getSerializationService());
+            ringbuffer = tieredRingbuffer;
+        } else {
+            ringbuffer = new ArrayRingbuffer(capacity);
+        }
         ringbuffer.setTailSequence(tailSequence);
         ringbuffer.setHeadSequence(headSequence);
 
@@ -635,7 +713,9 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
 
         long now = System.currentTimeMillis();
         for (long seq = headSequence; seq <= tailSequence; seq++) {
-            if (inMemoryFormat == BINARY) {
+            if (tieredRingbuffer != null) {
+                tieredRingbuffer.setSerialized(seq, IOUtil.readData(in));
+            } else if (inMemoryFormat == BINARY) {
                 ringbuffer.set(seq, (E) IOUtil.readData(in));
             } else {
                 ringbuffer.set(seq, (E) in.readObject());
@@ -703,4 +783,14 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
             expirationPolicy.clear();
         }
     }
+
+    /**
+     * Releases the resources held by the ringbuffer when the container is
+     * removed: the segment files of the tiered storage are deleted.
+     */
+    public void dispose() {
+        if (ringbuffer instanceof TieredRingbuffer) {
+            ringbuffer.clear();
+        }
+    }
 }
@@ -152,11 +152,19 @@ public class RingbufferService implements ManagedService, RemoteService, Chunked
         if (partitionContainers == null) {
             return;
         }
-        partitionContainers.remove(namespace);
+        RingbufferContainer container = partitionContainers.remove(namespace);
+        if (container != null) {
+            container.dispose();
+        }
     }
 
     @Override
     public void reset() {
+        for (Map<ObjectNamespace, RingbufferContainer> partitionContainers : containers.values()) {
+            for (RingbufferContainer container : partitionContainers.values()) {
+                container.dispose();
+            }
+        }
         containers.clear();
     }
 
@@ -297,6 +305,7 @@ public class RingbufferService implements ManagedService, RemoteService, Chunked
             final RingbufferContainer container = entry.getValue();
             if (thresholdReplicaIndex < 0 || container.getConfig().getTotalBackupCount() < thresholdReplicaIndex) {
                 iterator.remove();
+                container.dispose();
             }
         }
     }
@@ -0,0 +1,451 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.ringbuffer.impl;
+
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.ringbuffer.StaleSequenceException;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static com.hazelcast.internal.util.EmptyStatement.ignore;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A {@link Ringbuffer} keeping only its most recent items in memory. The
+ * items older than the last {@code hotCapacity} items are serialized and
+ * appended to memory-mapped segment files on the local disk, and read back
+ * from them on demand. The segment files are unmapped and deleted when the
+ * head of the ringbuffer moves past all their items.
+ * <p>
+ * The items are spilled in the order of their sequences, a segment holds
+ * items with contiguous sequences and a gap in the sequences starts a new
+ * segment. The items spilled out of order, e.g. an overwrite of an item
+ * which has already been spilled, are kept serialized on the heap until the
+ * head moves past them. The expiration of the items is not supported, the
+ * tiered storage is only used for the ringbuffers without a time to live.
+ * <p>
+ * Like the {@link ArrayRingbuffer}, this ringbuffer is not thread safe, it is
+ * only accessed by the partition thread. A segment guards its buffer against
+ * being read by a replicating thread after it is unmapped.
+ *
+ * @param <E> the type of the data stored in the ringbuffer, {@link Data} for
+ *            the binary in-memory format
+ */
+public class TieredRingbuffer<E> implements Ringbuffer<E> {
+
+    /**
+     * The default size of the segment files. An item larger than the segment
+     * size is stored in a segment of its own.
+     */
+    static final int SEGMENT_SIZE_BYTES = 16 * 1024 * 1024;
+
+    private static final int INITIAL_SEGMENT_ITEM_COUNT = 1024;
+
+    private final int capacity;
+    private final Object[] hotItems;
+    private final long[] hotSequences;
+    private final int segmentSize;
+    private final SerializationService serializationService;
+    private final boolean binary;
+    private final List<Segment> segments = new ArrayList<>();
+    private final NavigableMap<Long, byte[]> outOfOrderItems = new TreeMap<>();
+
+    private Path directory;
+    private long tailSequence = -1;
+    private long headSequence = tailSequence + 1;
+    private long coldNextSequence = -1;
+
+    public TieredRingbuffer(int capacity, int hotCapacity, Path directory,
+                            SerializationService serializationService, boolean binary) {
+        this(capacity, hotCapacity, directory, SEGMENT_SIZE_BYTES, serializationService, binary);
+    }
+
+    TieredRingbuffer(int capacity, int hotCapacity, Path directory, int segmentSize,
+                     SerializationService serializationService, boolean binary) {
+        this.capacity = capacity;
+        this.hotItems = new Object[hotCapacity];
+        this.hotSequences = new long[hotCapacity];
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.serializationService = serializationService;
+        this.binary = binary;
+        Arrays.fill(hotSequences, -1);
+    }
+
+    @Override
+    public long tailSequence() {
+        return tailSequence;
+    }
+
+    @Override
+    public long peekNextTailSequence() {
+        return tailSequence + 1;
+    }
+
+    @Override
+    public void setTailSequence(long sequence) {
+        this.tailSequence = sequence;
+    }
+
+    @Override
+    public long headSequence() {
+        return headSequence;
+    }
+
+    @Override
+    public void setHeadSequence(long sequence) {
+        this.headSequence = sequence;
+        releaseStaleSegments();
+    }
+
+    @Override
+    public long getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public long size() {
+        return tailSequence - headSequence + 1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of the most recent items kept in memory.
+     */
+    public int getHotCapacity() {
+        return hotItems.length;
+    }
+
+    @Override
+    public long add(E item) {
+        tailSequence++;
+
+        if (tailSequence - capacity == headSequence) {
+            headSequence++;
+            releaseStaleSegments();
+        }
+
+        set(tailSequence, item);
+        return tailSequence;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E read(long sequence) {
+        checkReadSequence(sequence);
+        int index = toIndex(sequence);
+        if (hotSequences[index] == sequence) {
+            return (E) hotItems[index];
+        }
+        Data data = new HeapData(readCold(sequence));
+        return binary ? (E) data : serializationService.toObject(data);
+    }
+
+    /**
+     * Reads the item with the given sequence in its serialized form, the
+     * items on the disk are returned without deserializing them.
+     *
+     * @throws StaleSequenceException if the item is not available
+     */
+    public Data readSerialized(long sequence) {
+        checkReadSequence(sequence);
+        int index = toIndex(sequence);
+        if (hotSequences[index] == sequence) {
+            Object item = hotItems[index];
+            return binary ? (Data) item : serializationService.toData(item);
+        }
+        return new HeapData(readCold(sequence));
+    }
+
+    /**
+     * Sets the serialized item with the given sequence. The items which are
+     * not among the most recent ones are appended to the disk without
+     * deserializing them.
+     */
+    @SuppressWarnings("unchecked")
+    public void setSerialized(long sequence, Data data) {
+        if (hotSequences[toIndex(sequence)] == sequence || sequence > tailSequence - hotItems.length) {
+            set(sequence, binary ? (E) data : serializationService.toObject(data));
+        } else {
+            spill(sequence, data.toByteArray());
+        }
+    }
+
+    @Override
+    public void checkBlockableReadSequence(long readSequence) {
+        if (readSequence > tailSequence + 1) {
+            throw new IllegalArgumentException("sequence:" + readSequence
+                    + " is too large. The current tailSequence is:" + tailSequence);
+        }
+
+        if (readSequence < headSequence) {
+            throw new StaleSequenceException("sequence:" + readSequence
+                    + " is too small. The current headSequence is:" + headSequence
+                    + " tailSequence is:" + tailSequence, headSequence);
+        }
+    }
+
+    @Override
+    public void checkReadSequence(long sequence) {
+        if (sequence > tailSequence) {
+            throw new IllegalArgumentException("sequence:" + sequence
+                    + " is too large. The current tailSequence is:" + tailSequence);
+        }
+
+        if (sequence < headSequence) {
+            throw new StaleSequenceException("sequence:" + sequence
+                    + " is too small. The current headSequence is:" + headSequence
+                    + " tailSequence is:" + tailSequence, headSequence);
+        }
+    }
+
+    @Override
+    public void set(long seq, E data) {
+        int index = toIndex(seq);
+        long previousSequence = hotSequences[index];
+        Object previousItem = hotItems[index];
+        if (previousSequence > seq && previousSequence >= headSequence) {
+            // the slot holds a newer live item, the given one belongs to the cold tier
+            if (data != null) {
+                spill(seq, serialize(data));
+            }
+            return;
+        }
+        if (previousSequence != seq && previousSequence >= headSequence && previousItem != null) {
+            spill(previousSequence, serialize(previousItem));
+        }
+        hotItems[index] = data;
+        hotSequences[index] = seq;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(hotItems, null);
+        Arrays.fill(hotSequences, -1);
+        releaseAllSegments();
+        tailSequence = -1;
+        headSequence = tailSequence + 1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ReadOnlyRingbufferIterator<>(this);
+    }
+
+    /**
+     * Returns the items of this ringbuffer in an array laid out like the items
+     * of an {@link ArrayRingbuffer} of the same capacity. The items on the
+     * disk are returned in their serialized form, as {@link Data}, without
+     * deserializing them.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E[] getItems() {
+        E[] items = (E[]) new Object[capacity];
+        for (long seq = headSequence; seq <= tailSequence; seq++) {
+            int index = toIndex(seq);
+            Object item = hotSequences[index] == seq ? hotItems[index] : new HeapData(readCold(seq));
+            items[(int) (seq % capacity)] = (E) item;
+        }
+        return items;
+    }
+
+    /**
+     * Moves the segment files to the given directory, the subsequent segment
+     * files are created there. A segment file which cannot be moved is left
+     * where it is until it is deleted.
+     */
+    void setDirectory(Path directory) {
+        if (directory.equals(this.directory)) {
+            return;
+        }
+        this.directory = directory;
+        for (Segment segment : segments) {
+            segment.moveTo(directory);
+        }
+    }
+
+    /**
+     * Returns the number of the segment files currently used by this
+     * ringbuffer.
+     */
+    int getSegmentCount() {
+        return segments.size();
+    }
+
+    private int toIndex(long sequence) {
+        return (int) (sequence % hotItems.length);
+    }
+
+    private byte[] serialize(Object item) {
+        return binary ? ((Data) item).toByteArray() : serializationService.toData(item).toByteArray();
+    }
+
+    private void spill(long sequence, byte[] bytes) {
+        if (sequence < coldNextSequence) {
+            // an overwrite or a gap fill, the segments are append-only
+            outOfOrderItems.put(sequence, bytes);
+            return;
+        }
+
+        Segment segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (segment == null || sequence != coldNextSequence || !segment.append(bytes)) {
+            // the sequences of a segment are contiguous, a gap starts a new segment
+            segment = new Segment(directory, sequence, Math.max(segmentSize, bytes.length));
+            segments.add(segment);
+            segment.append(bytes);
+        }
+        coldNextSequence = sequence + 1;
+    }
+
+    private byte[] readCold(long sequence) {
+        byte[] bytes = outOfOrderItems.get(sequence);
+        if (bytes != null) {
+            return bytes;
+        }
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            Segment segment = segments.get(mid);
+            if (sequence < segment.firstSequence) {
+                high = mid - 1;
+            } else if (sequence >= segment.firstSequence + segment.count) {
+                low = mid + 1;
+            } else {
+                bytes = segment.read(sequence);
+                break;
+            }
+        }
+        if (bytes == null) {
+            throw new StaleSequenceException("sequence:" + sequence
+                    + " is not available. The current headSequence is:" + headSequence
+                    + " tailSequence is:" + tailSequence, headSequence);
+        }
+        return bytes;
+    }
+
+    private void releaseStaleSegments() {
+        outOfOrderItems.headMap(headSequence).clear();
+        while (!segments.isEmpty()) {
+            Segment segment = segments.get(0);
+            if (segment.firstSequence + segment.count > headSequence) {
+                return;
+            }
+            segments.remove(0).release();
+        }
+    }
+
+    private void releaseAllSegments() {
+        for (Segment segment : segments) {
+            segment.release();
+        }
+        segments.clear();
+        outOfOrderItems.clear();
+        coldNextSequence = -1;
+    }
+
+    /**
+     * A segment file holding the serialized items with contiguous sequences.
+     * The offsets of the items are kept on the heap. The buffer is read and
+     * unmapped under the lock of the segment.
+     */
+    private static final class Segment {
+
+        final long firstSequence;
+        int count;
+
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private Path file;
+        private int[] offsets = new int[INITIAL_SEGMENT_ITEM_COUNT];
+        private boolean released;
+
+        Segment(Path directory, long firstSequence, int size) {
+            this.firstSequence = firstSequence;
+            try {
+                this.file = Files.createTempFile(directory, "ringbuffer-", ".segment");
+                this.channel = FileChannel.open(file, READ, WRITE);
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            } catch (IOException e) {
+                throw new HazelcastException("Could not create a ringbuffer segment file in " + directory, e);
+            }
+        }
+
+        boolean append(byte[] bytes) {
+            if (buffer.remaining() < bytes.length) {
+                return false;
+            }
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            offsets[count++] = buffer.position();
+            buffer.put(bytes);
+            return true;
+        }
+
+        /**
+         * Returns the item with the given sequence, or {@code null} if the
+         * segment has been released.
+         */
+        synchronized byte[] read(long sequence) {
+            if (released) {
+                return null;
+            }
+            int index = (int) (sequence - firstSequence);
+            int start = offsets[index];
+            int end = index + 1 < count ? offsets[index + 1] : buffer.position();
+            byte[] bytes = new byte[end - start];
+            buffer.get(start, bytes);
+            return bytes;
+        }
+
+        void moveTo(Path directory) {
+            try {
+                file = Files.move(file, directory.resolve(file.getFileName()));
+            } catch (IOException e) {
+                ignore(e);
+            }
+        }
+
+        synchronized void release() {
+            released = true;
+            IOUtil.unmap(buffer);
+            IOUtil.closeResource(channel);
+            IOUtil.deleteQuietly(file.toFile());
+        }
+    }
+}
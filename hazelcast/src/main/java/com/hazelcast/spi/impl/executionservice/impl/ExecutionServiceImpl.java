@@ -32,11 +32,13 @@ import com.hazelcast.internal.util.executor.ManagedExecutorService;
 import com.hazelcast.internal.util.executor.NamedThreadPoolExecutor;
 import com.hazelcast.internal.util.executor.PoolExecutorThreadFactory;
 import com.hazelcast.internal.util.executor.SingleExecutorThreadFactory;
+import com.hazelcast.internal.util.scheduler.TimingWheelScheduledExecutor;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.InternalCompletableFuture;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.executionservice.ExecutionService;
 import com.hazelcast.spi.impl.executionservice.TaskScheduler;
+import com.hazelcast.spi.properties.ClusterProperty;
 
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -45,6 +47,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
@@ -80,6 +83,8 @@ public final class ExecutionServiceImpl implements ExecutionService {
     private final TaskScheduler globalTaskScheduler;
     private final ExecutorService cachedExecutorService;
     private final LoggingScheduledExecutor scheduledExecutorService;
+    // replaces the scheduledExecutorService for the task schedulers when configured
+    private final TimingWheelScheduledExecutor timingWheelScheduledExecutor;
     private final CompletableFutureTask completableFutureTask;
     private final ConcurrentMap<String, ManagedExecutorService> executors = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, ManagedExecutorService> durableExecutors = new ConcurrentHashMap<>();
@@ -130,6 +135,11 @@ public final class ExecutionServiceImpl implements ExecutionService {
         ThreadFactory singleExecutorThreadFactory = new SingleExecutorThreadFactory(configClassLoader,
                 createThreadPoolName(hzName, "scheduled"));
         this.scheduledExecutorService = new LoggingScheduledExecutor(logger, 1, singleExecutorThreadFactory);
+        long timingWheelTickMillis = nodeEngine.getProperties().getMillis(ClusterProperty.TIMING_WHEEL_SCHEDULER_TICK_MILLIS);
+        this.timingWheelScheduledExecutor = timingWheelTickMillis > 0
+                ? new TimingWheelScheduledExecutor(logger, timingWheelTickMillis,
+                new SingleExecutorThreadFactory(configClassLoader, createThreadPoolName(hzName, "timer")))
+                : null;
 
         registerExecutors();
         this.globalTaskScheduler = getTaskScheduler(SCHEDULED_EXECUTOR);
@@ -310,7 +320,7 @@ public final class ExecutionServiceImpl implements ExecutionService {
 
     @Override
     public TaskScheduler getTaskScheduler(String name) {
-        return new DelegatingTaskScheduler(scheduledExecutorService, getExecutor(name));
+        return new DelegatingTaskScheduler(getTaskSchedulerExecutor(), getExecutor(name));
     }
 
     public void shutdown() {
@@ -321,10 +331,16 @@ public final class ExecutionServiceImpl implements ExecutionService {
         shutdown(durableExecutors);
         shutdown(scheduleDurableExecutors);
         scheduledExecutorService.shutdownNow();
+        if (timingWheelScheduledExecutor != null) {
+            timingWheelScheduledExecutor.shutdownNow();
+        }
         cachedExecutorService.shutdown();
 
         awaitAndForceShutdown(executors);
         awaitAndForceShutdown(scheduledExecutorService);
+        if (timingWheelScheduledExecutor != null) {
+            awaitAndForceShutdown(timingWheelScheduledExecutor);
+        }
         awaitAndForceShutdown(cachedExecutorService);
 
         executors.clear();
@@ -390,7 +406,11 @@ public final class ExecutionServiceImpl implements ExecutionService {
     }
 
     private TaskScheduler getDurableTaskScheduler(String name) {
-        return new DelegatingTaskScheduler(scheduledExecutorService, getScheduledDurable(name));
+        return new DelegatingTaskScheduler(getTaskSchedulerExecutor(), getScheduledDurable(name));
+    }
+
+    private ScheduledExecutorService getTaskSchedulerExecutor() {
+        return timingWheelScheduledExecutor != null ? timingWheelScheduledExecutor : scheduledExecutorService;
     }
 
     private static final class MetricsProvider implements DynamicMetricsProvider {
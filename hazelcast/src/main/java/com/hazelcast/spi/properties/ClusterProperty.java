@@ -743,6 +743,27 @@ public final class ClusterProperty {
     public static final HazelcastProperty PARTITION_MAX_PARALLEL_MIGRATIONS
             = new HazelcastProperty("hazelcast.partition.max.parallel.migrations", 10);
 
+    /**
+     * Maximum number of partition migrations to be executed concurrently in
+     * the whole cluster. The migrations are scheduled by the master member,
+     * which applies this limit on top of the per-member limit configured by
+     * {@link #PARTITION_MAX_PARALLEL_MIGRATIONS}.
+     * <p>
+     * Raising {@link #PARTITION_MAX_PARALLEL_MIGRATIONS} shortens the
+     * rebalancing of large clusters, while this property keeps the total
+     * network and CPU budget spent on migrations bounded regardless of the
+     * cluster size. Combined with chunked migrations, the amount of data in
+     * flight is bounded by this value multiplied by
+     * {@link #PARTITION_CHUNKED_MAX_MIGRATING_DATA_IN_MB}.
+     * <p>
+     * Zero or a negative value disables the cluster-wide limit, which is the
+     * default.
+     *
+     * @since 5.5
+     */
+    public static final HazelcastProperty PARTITION_MAX_PARALLEL_MIGRATIONS_IN_CLUSTER
+            = new HazelcastProperty("hazelcast.partition.max.parallel.migrations.in.cluster", -1);
+
     /**
      * Maximum number of anti-entropy partition replications to be executed on a member.
      * By default equals to {@link #PARTITION_MAX_PARALLEL_MIGRATIONS}.
@@ -750,6 +771,31 @@ public final class ClusterProperty {
     public static final HazelcastProperty PARTITION_MAX_PARALLEL_REPLICATIONS
             = new HazelcastProperty("hazelcast.partition.max.parallel.replications", PARTITION_MAX_PARALLEL_MIGRATIONS);
 
+    /**
+     * Enables Merkle tree based differential anti-entropy replication of
+     * IMap backup replicas.
+     * <p>
+     * When enabled, a backup replica builds a Merkle tree over its data of each
+     * map partition it requests to be synchronized and sends the leaves of the
+     * tree along with the replica sync request. The partition owner builds the
+     * same tree over its own data and ships only the entries falling into the
+     * leaves that differ, instead of the whole partition of the map. The depth
+     * of the trees is taken from the {@link com.hazelcast.config.MerkleTreeConfig}
+     * of the map. The trees hash the stored serialized values, so the maps with
+     * the {@link com.hazelcast.config.InMemoryFormat#OBJECT OBJECT} in-memory
+     * format are always replicated in full.
+     * <p>
+     * This trades hashing the partition data on both replicas for the network
+     * traffic of shipping it, which pays off when the replicas diverged only
+     * slightly, e.g. after a short network partition.
+     * <p>
+     * Disabled by default.
+     *
+     * @since 5.5
+     */
+    public static final HazelcastProperty PARTITION_REPLICA_SYNC_MERKLE_TREE_ENABLED
+            = new HazelcastProperty("hazelcast.partition.replica.sync.merkle.tree.enabled", false);
+
     /**
      * Class name implementing {@link com.hazelcast.partition.PartitioningStrategy}, which
      * defines key to partition mapping. Member-side equivalent of client property
@@ -1032,6 +1078,25 @@ public final class ClusterProperty {
     public static final HazelcastProperty GLOBAL_HD_INDEX_ENABLED
             = new HazelcastProperty("hazelcast.hd.global.index.enabled", true);
 
+    /**
+     * Enables partitioned indexes for the maps with the on-heap
+     * {@link com.hazelcast.config.InMemoryFormat in-memory formats}.
+     * <p>
+     * By default, the on-heap indexes are global: a single concurrent index
+     * per map and member, updated by all the partition threads. When enabled,
+     * each partition gets its own index, which is accessed only by its
+     * partition thread and therefore uses plain, unsynchronized data
+     * structures. The predicate queries are then run on all the partition
+     * threads in parallel, and their results are merged. This removes the
+     * contention on the indexes of write-heavy maps, at the cost of querying
+     * every partition separately. The SQL engine cannot use the partitioned
+     * indexes.
+     *
+     * @since 5.5
+     */
+    public static final HazelcastProperty ON_HEAP_PARTITIONED_INDEX_ENABLED
+            = new HazelcastProperty("hazelcast.on.heap.partitioned.index.enabled", false);
+
     /**
      * Page size for every instance of Hybrid Log on member.
      * <p>
@@ -1102,6 +1167,22 @@ public final class ClusterProperty {
     public static final HazelcastProperty QUERY_OPTIMIZER_TYPE
             = new HazelcastProperty("hazelcast.query.optimizer.type", QueryOptimizerFactory.Type.RULES.toString());
 
+    /**
+     * Enables using the global indexes of IMap during partition migrations.
+     * <p>
+     * By default, a member stops using its global indexes for predicate
+     * queries as long as a migration of any partition it owns is in flight,
+     * and all of its partitions are then queried by scanning them on the
+     * partition threads. When enabled, the member keeps answering the query
+     * from its indexes for the partitions which it owns, which are fully
+     * indexed and which are not migrating; only the remaining partitions are
+     * scanned. Queries therefore keep using indexes throughout a rebalance.
+     *
+     * @since 5.5
+     */
+    public static final HazelcastProperty QUERY_USE_INDEXES_DURING_MIGRATION
+            = new HazelcastProperty("hazelcast.query.use.indexes.during.migration", false);
+
     /**
      * Type of Query Index result copying behavior. Defines the behavior for
      * index copying on index read/write.
@@ -1166,6 +1247,283 @@ public final class ClusterProperty {
     public static final HazelcastProperty INDEX_COPY_BEHAVIOR
             = new HazelcastProperty("hazelcast.index.copy.behavior", IndexCopyBehavior.COPY_ON_READ.toString());
 
+    /**
+     * Enables storing the on-heap {@link com.hazelcast.config.IndexType#SORTED
+     * sorted} indexes in a B+tree instead of a skip list.
+     * <p>
+     * The B+tree keeps the indexed values in compact, contiguous arrays, which
+     * makes the range scans and the ordered iterations, like the ones of the
+     * {@code ORDER BY ... LIMIT} queries, cheaper and the index footprint
+     * smaller. The readers never block, while the insertions of new distinct
+     * values become more expensive as they copy the tree nodes on the path to
+     * the modified leaf. Applies to the indexes created after the property is
+     * set.
+     *
+     * @since 5.5
+     */
+    public static final HazelcastProperty INDEX_SORTED_STORE_BTREE_ENABLED
+            = new HazelcastProperty("hazelcast.index.sorted.store.btree.enabled", false);
+
+    /**
+     * Enables covering on-heap indexes: the indexed attribute values are kept
+     * in the index entries, so the queries reading only these attributes,
+     * like the {@link com.hazelcast.projection.Projections#singleAttribute
+     * attribute projections} of the predicate queries answered by an index,
+     * don't deserialize the map values. To cover additional attributes, add
+     * them as the trailing components of a composite index.
+     * <p>
+     * Increases the index footprint. Applies to the indexes created after
+     * the property is set. The SQL engine reads the projected columns from
+     * the map entries and doesn't benefit from the covering indexes.
+     *
+     * @since 5.5
+     */
+    public static final HazelcastProperty QUERY_INDEX_COVERING_ENABLED
+            = new HazelcastProperty("hazelcast.query.index.covering.enabled", false);
+
+    /**
+     * Enables the cost-based choice of the indexes for the predicates combined
+     * by {@link com.hazelcast.query.Predicates#and and}.
+     * <p>
+     * By default, all the indexed predicates of a conjunction query their
+     * indexes and the produced result sets are intersected. When enabled, the
+     * predicates are ordered by their cardinalities estimated from the
+     * statistics the on-heap indexes maintain as the entries are indexed: the
+     * number of the indexed entries and of their distinct values. The most
+     * selective predicate queries its index first. Each following predicate
+     * queries its index too, unless it's estimated to match more than 8 times
+     * the entries of the smallest result set produced so far; such a
+     * predicate is evaluated against the entries of the smallest result set
+     * instead, avoiding the materialization of large intermediate result
+     * sets. The predicates which cardinality can't be estimated always query
+     * their indexes.
+     *
+     * @since 5.5
+     */
+    public static final HazelcastProperty QUERY_COST_BASED_INDEX_SELECTION_ENABLED
+            = new HazelcastProperty("hazelcast.query.cost.based.index.selection.enabled", false);
+
+    /**
+     * Enables the tiered storage of the ringbuffers, the reliable topics and
+     * the event journals: only the given number of the most recent items of
+     * a ringbuffer is kept in memory, the older items are appended to
+     * memory-mapped segment files on the local disk and read back from them
+     * when requested, e.g. by a reader replaying the history of an event
+     * journal. The segment files are deleted as the items are overwritten.
+     * <p>
+     * Applies to the ringbuffers whose capacity is larger than the given
+     * number and which have no time to live configured. The value of {@code
+     * 0}, the default, disables the tiered storage. The reads of the items
+     * on the disk are slower and, for the object in-memory format, deserialize
+     * the items. The ringbuffers created before the property is set keep
+     * their storage. The replicas of a tiered ringbuffer are spilled to the
+     * disk of the receiving member as they are replicated or migrated.
+     *
+     * @see #RINGBUFFER_TIERED_STORAGE_DIRECTORY
+     * @since 5.5
+     */
+    public static final HazelcastProperty RINGBUFFER_TIERED_STORAGE_HOT_CAPACITY
+            = new HazelcastProperty("hazelcast.ringbuffer.tiered.storage.hot.capacity", 0);
+
+    /**
+     * The directory of the segment files of the tiered ringbuffer storage,
+     * the temporary directory by default.
+     *
+     * @see #RINGBUFFER_TIERED_STORAGE_HOT_CAPACITY
+     * @since 5.5
+     */
+    public static final HazelcastProperty RINGBUFFER_TIERED_STORAGE_DIRECTORY
+            = new HazelcastProperty("hazelcast.ringbuffer.tiered.storage.directory", "");
+
+    /**
+     * Enables the batching of the messages published to the {@link
+     * com.hazelcast.topic.ITopic topics}: the messages published by a member
+     * to a topic within the given window, in milliseconds, are sent to every
+     * member with a listener of the topic in a single event and dispatched to
+     * the listeners at once. The member listeners implementing {@link
+     * com.hazelcast.topic.BatchMessageListener} receive the whole batch in a
+     * single call. The messages published with {@link
+     * com.hazelcast.topic.ITopic#publishAll} to a topic with the global
+     * ordering enabled are sent as a single batch without waiting.
+     * <p>
+     * The batching reduces the per-message overhead of the high-volume topics
+     * of small messages at the cost of the delivery latency of up to the
+     * window. The value of {@code 0}, the default, disables the batching.
+     * The reliable topics are not affected. The messages are not batched
+     * until the cluster version is at least 5.5, so that the members of the
+     * older versions keep receiving them during a rolling upgrade.
+     *
+     * @since 5.5
+     */
+    public static final HazelcastProperty TOPIC_PUBLISH_BATCH_WINDOW_MILLIS
+            = new HazelcastProperty("hazelcast.topic.publish.batch.window.millis", 0, MILLISECONDS);
+
+    /**
+     * Enables the work stealing of the {@link com.hazelcast.core.IExecutorService
+     * executor services}: the tasks submitted without a partition key are
+     * queued on their member in a way which lets the members which have run
+     * out of the tasks of an executor take over up to half of the queued
+     * tasks of another member. The stolen task runs on the thief, its result
+     * is returned to the caller through the member the task was submitted to,
+     * which also forwards the cancellation of the task to the thief. When the
+     * thief leaves the cluster before returning the result, the task fails
+     * with a {@link com.hazelcast.core.MemberLeftException} and the caller
+     * resubmits it. The tasks submitted to a key owner or to a member always
+     * run on their target. Additionally, {@link com.hazelcast.core.IExecutorService#invokeAll(java.util.Collection)}
+     * sends the tasks to the members in batches, one operation per member.
+     * <p>
+     * The members also try to steal the tasks of the executors which are
+     * idle on them periodically, so the members which have not been
+     * submitted any task of an executor pick up its work too.
+     * <p>
+     * The work stealing evens out the load of the members running tasks of
+     * uneven duration, at the cost of an additional serialization of the
+     * stolen tasks. It is disabled by default. The tasks are neither stolen
+     * nor batched until the cluster version is at least 5.5, so that the
+     * members of the older versions keep receiving the regular task
+     * operations during a rolling upgrade.
+     *
+     * @since 5.5
+     */
+    public static final HazelcastProperty EXECUTOR_WORK_STEALING_ENABLED
+            = new HazelcastProperty("hazelcast.executor.work.stealing.enabled", false);
+
+    /**
+     * Enables the hierarchical timing wheel for the delayed and periodic
+     * tasks of the members, with ticks of the given number of milliseconds.
+     * The timing wheel replaces the single scheduled thread pool behind the
+     * task schedulers, i.e. behind the {@link
+     * com.hazelcast.scheduledexecutor.IScheduledExecutorService scheduled
+     * executors} and the internal schedulers, e.g. the ones batching the
+     * expiration of the queue items and of the locks. Scheduling and
+     * cancelling a task takes constant time instead of a time logarithmic in
+     * the number of the scheduled tasks, and all the tasks expiring within a
+     * tick are fired at once.
+     * <p>
+     * The tasks fire with the precision of a tick, so the ticks should be
+     * small compared to the delays of the tasks. The value of {@code 0}, the
+     * default, disables the timing wheel.
+     *
+     * @since 5.5
+     */
+    public static final HazelcastProperty TIMING_WHEEL_SCHEDULER_TICK_MILLIS
+            = new HazelcastProperty("hazelcast.timing.wheel.scheduler.tick.millis", 0, MILLISECONDS);
+
+    /**
+     * Enables the expiration index of the maps. The expirable keys of a
+     * partition are indexed by their expiration times in buckets of a second,
+     * and the expired entries are removed by visiting the due buckets only,
+     * instead of sampling a percentage of all the expirable keys on each run
+     * of the expiration task. The work of the task is proportional to the
+     * number of the expired entries, and the entries are removed promptly even
+     * when a few of many entries expire. The expired keys of the max-idle
+     * expiration are sent to the backups in batches, as without the index.
+     * <p>
+     * The index costs memory for every expirable key. It is not used for the
+     * maps with the {@link com.hazelcast.config.InMemoryFormat#NATIVE NATIVE}
+     * in-memory format. Disabled by default.
+     *
+     * @since 5.5
+     */
+    public static final HazelcastProperty MAP_EXPIRATION_INDEX_ENABLED
+            = new HazelcastProperty("hazelcast.map.expiration.index.enabled", false);
+
+    /**
+     * Enables the task log of the {@link
+     * com.hazelcast.durableexecutor.DurableExecutorService durable executors}:
+     * the submitted tasks of a partition, including the backups, are appended
+     * to memory-mapped segment files on the local disk instead of being kept
+     * on the heap until they complete, and are deserialized when they are run.
+     * This allows configuring capacities of millions of tasks without a
+     * proportional heap growth. The segment files are deleted as their tasks
+     * complete. The results of the tasks are kept on the heap. Disabled by
+     * default.
+     * <p>
+     * The task log only moves the tasks off the heap, it does not make them
+     * durable: the segment files are deleted when the member shuts down and
+     * they are not read back on restart, the tasks survive a member failure
+     * through their backups only.
+     *
+     * @see #DURABLE_EXECUTOR_TASK_LOG_DIRECTORY
+     * @see #DURABLE_EXECUTOR_TASK_LOG_FLUSH_INTERVAL_MILLIS
+     * @since 5.5
+     */
+    public static final HazelcastProperty DURABLE_EXECUTOR_TASK_LOG_ENABLED
+            = new HazelcastProperty("hazelcast.durable.executor.task.log.enabled", false);
+
+    /**
+     * The directory of the segment files of the durable executor task log,
+     * the temporary directory by default.
+     *
+     * @see #DURABLE_EXECUTOR_TASK_LOG_ENABLED
+     * @since 5.5
+     */
+    public static final HazelcastProperty DURABLE_EXECUTOR_TASK_LOG_DIRECTORY
+            = new HazelcastProperty("hazelcast.durable.executor.task.log.directory", "");
+
+    /**
+     * The interval of writing the appended tasks of the durable executor task
+     * logs back to the disk. The segment files are flushed in the background,
+     * off the partition threads, so that their dirty pages do not pile up in
+     * memory. The value of {@code 0} leaves the write-back to the operating
+     * system.
+     *
+     * @see #DURABLE_EXECUTOR_TASK_LOG_ENABLED
+     * @since 5.5
+     */
+    public static final HazelcastProperty DURABLE_EXECUTOR_TASK_LOG_FLUSH_INTERVAL_MILLIS
+            = new HazelcastProperty("hazelcast.durable.executor.task.log.flush.interval.millis", 1000, MILLISECONDS);
+
+    /**
+     * The number of the items fetched at once by the iterators of the {@link
+     * com.hazelcast.collection.IQueue queues}, {@link com.hazelcast.collection.IList
+     * lists} and {@link com.hazelcast.collection.ISet sets}. When set to a
+     * positive value, an iterator streams the items of the collection in pages
+     * of this size from a server-side cursor, instead of copying all the items
+     * of the collection at once. The cursor iterates a snapshot of the item
+     * references taken when the iteration starts. The value of {@code 0}
+     * disables the paging, which is the default. The members don't page the
+     * items until the cluster version is at least 5.5, so that the partition
+     * owners of the older versions keep serving the iterators during a
+     * rolling upgrade.
+     *
+     * @see #COLLECTION_ITERATOR_PREFETCH_DEPTH
+     * @since 5.5
+     */
+    public static final HazelcastProperty COLLECTION_ITERATOR_FETCH_SIZE
+            = new HazelcastProperty("hazelcast.collection.iterator.fetch.size", 0);
+
+    /**
+     * The number of the pages requested ahead of the page being iterated by a
+     * paging collection iterator, see {@link #COLLECTION_ITERATOR_FETCH_SIZE}.
+     *
+     * @since 5.5
+     */
+    public static final HazelcastProperty COLLECTION_ITERATOR_PREFETCH_DEPTH
+            = new HazelcastProperty("hazelcast.collection.iterator.prefetch.depth", 1);
+
+    /**
+     * The period in seconds of the task that removes the stale server-side
+     * cursors of the paging collection iterators, see {@link
+     * #COLLECTION_ITERATOR_FETCH_SIZE}. A cursor is stale when it has not been
+     * accessed for {@link #COLLECTION_ITERATOR_CLEANUP_TIMEOUT_MILLIS}.
+     *
+     * @since 5.5
+     */
+    public static final HazelcastProperty COLLECTION_ITERATOR_CLEANUP_PERIOD_SECONDS
+            = new HazelcastProperty("hazelcast.collection.iterator.cleanup.period.seconds", 30, SECONDS);
+
+    /**
+     * The time in milliseconds after which a server-side cursor of a paging
+     * collection iterator that has not been accessed is removed, releasing the
+     * snapshot of the item references it holds.
+     *
+     * @see #COLLECTION_ITERATOR_CLEANUP_PERIOD_SECONDS
+     * @since 5.5
+     */
+    public static final HazelcastProperty COLLECTION_ITERATOR_CLEANUP_TIMEOUT_MILLIS
+            = new HazelcastProperty("hazelcast.collection.iterator.cleanup.timeout.millis", 300_000, MILLISECONDS);
+
     /**
      * The number of threads that the client engine has available for processing
      * requests that are related to the query engine.
@@ -1861,6 +2219,70 @@ public final class ClusterProperty {
             = new HazelcastProperty("hazelcast.jet.idle.noncooperative.max.microseconds", 5000, MICROSECONDS)
             .setDeprecatedName("jet.idle.noncooperative.max.microseconds");
 
+    /**
+     * When {@code true}, an idle cooperative worker thread takes over
+     * tasklets from busy cooperative worker threads. By default, the
+     * cooperative tasklets are assigned to the threads round-robin when the
+     * job starts and never move, so with a skewed workload some threads can
+     * be fully busy while others idle.
+     * <p>
+     * With work stealing enabled, idle cooperative threads don't block
+     * waiting for new tasklets but keep polling using the idle strategy,
+     * see {@link #JET_IDLE_COOPERATIVE_MAX_MICROSECONDS}. The {@code
+     * busyIterationCount} and {@code stolenTaskletCount} metrics of each
+     * cooperative worker show its utilization and the number of tasklets it
+     * took over.
+     * <p>
+     * The default value is {@code false}.
+     *
+     * @since 5.5
+     */
+    public static final HazelcastProperty JET_COOPERATIVE_WORK_STEALING_ENABLED
+            = new HazelcastProperty("hazelcast.jet.cooperative.work.stealing.enabled", false);
+
+    /**
+     * When {@code true}, the non-cooperative (blocking) Jet tasklets run on
+     * virtual threads instead of on dedicated platform threads. This allows
+     * a high local parallelism of I/O-bound vertices without creating a
+     * platform thread for each processor. The same idle strategy, see
+     * {@link #JET_IDLE_NONCOOPERATIVE_MIN_MICROSECONDS}, and the same metrics
+     * apply to both kinds of threads.
+     * <p>
+     * Requires Java 21 or newer, the setting is ignored with a warning on
+     * older runtimes. Note that a virtual thread blocked inside a {@code
+     * synchronized} block pins its carrier thread, which can limit the
+     * benefit for some blocking client libraries.
+     * <p>
+     * The default value is {@code false}.
+     *
+     * @since 5.5
+     */
+    public static final HazelcastProperty JET_BLOCKING_TASKLET_VIRTUAL_THREADS_ENABLED
+            = new HazelcastProperty("hazelcast.jet.blocking.tasklet.virtual.threads.enabled", false);
+
+    /**
+     * The maximum number of items per input queue that a Jet processor
+     * buffers locally while it waits for the snapshot barrier to arrive on
+     * all its inputs in an exactly-once job.
+     * <p>
+     * Without the buffering, an input on which the barrier was already
+     * received isn't drained until the barrier is received on all other
+     * inputs. The upstream processor then blocks once the input queue is full,
+     * which causes latency spikes at every snapshot, especially in jobs that
+     * join several high-throughput streams. With the buffering enabled, the
+     * items after the barrier are moved out of the queue and are processed,
+     * in the original order, after the barrier is processed. The processing
+     * guarantee isn't affected.
+     * <p>
+     * The buffered items are kept on heap, the memory needed is up to this
+     * value times the number of input queues of each processor. The default
+     * value is {@code 0}, which disables the buffering.
+     *
+     * @since 5.5
+     */
+    public static final HazelcastProperty JET_SNAPSHOT_BARRIER_BUFFER_SIZE
+            = new HazelcastProperty("hazelcast.jet.snapshot.barrier.buffer.size", 0);
+
     /**
      * The directory containing jars, that can be used to specify custom classpath for
      * a stage in a pipeline.
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.topic;
+
+import com.hazelcast.spi.annotation.Beta;
+import com.hazelcast.spi.annotation.NamespacesSupported;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link MessageListener} receiving the messages of an {@link ITopic} in
+ * batches.
+ * <p>
+ * When the publishing of the topic messages is batched, see {@link
+ * com.hazelcast.spi.properties.ClusterProperty#TOPIC_PUBLISH_BATCH_WINDOW_MILLIS},
+ * the messages published by a member within the batching window are
+ * delivered to a member listener in a single call to {@link
+ * #onMessages(List)}, avoiding the cost of dispatching every message
+ * separately. The messages delivered without batching are passed in a
+ * singleton list. The listeners registered by the clients and the listeners
+ * of the reliable topics receive the messages one by one.
+ *
+ * @param <E> message type
+ * @since 5.5
+ */
+@Beta
+@NamespacesSupported
+public interface BatchMessageListener<E> extends MessageListener<E> {
+
+    /**
+     * Invoked when a batch of messages is received for the topic. The messages
+     * of the batch are in the order they were published in, the ordering
+     * guarantees of {@link MessageListener#onMessage(Message)} apply.
+     *
+     * @param messages the messages that are received for the topic
+     */
+    void onMessages(List<Message<E>> messages);
+
+    @Override
+    default void onMessage(Message<E> message) {
+        onMessages(Collections.singletonList(message));
+    }
+}
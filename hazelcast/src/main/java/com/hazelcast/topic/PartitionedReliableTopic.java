@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.topic;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.partition.PartitionService;
+import com.hazelcast.partition.strategy.StringPartitioningStrategy;
+import com.hazelcast.spi.annotation.Beta;
+import com.hazelcast.topic.impl.reliable.ReliableTopicService;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.hazelcast.internal.partition.ShardNameUtil.shardNames;
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+
+/**
+ * A reliable topic which spreads its messages over several regular reliable
+ * topics, the shards, each backed by a ringbuffer stored in a different
+ * partition: the shards are named {@code baseName@partitionKey} with the
+ * partition keys chosen to place them in consecutive partitions, so they are
+ * in different partitions as long as their number does not exceed the
+ * partition count. The publications are therefore processed by different
+ * partition threads and members, and the listeners consume the shards in
+ * parallel.
+ * <p>
+ * The ordering is preserved per key: the messages published with
+ * {@link #publish(Object, Object)} for the same key go to the same shard and
+ * are delivered to every listener in the order they were published. The key
+ * is mapped to a shard by its partition, so the mapping is the same for all
+ * members and clients. The messages published without a key go to a shard
+ * chosen at random when the instance is created, so the messages published
+ * through an instance are delivered in order. There is no ordering between
+ * the messages of different shards.
+ * <p>
+ * The shards are named after the base name of this topic, so they are
+ * configured by the {@link com.hazelcast.config.ReliableTopicConfig} of this
+ * topic. A listener is registered on every shard: a {@link
+ * ReliableMessageListener} receives the sequences of all the shards, so it
+ * can't use them to resume the consumption. All the instances of a
+ * partitioned topic must be created with the same number of shards.
+ * <p>
+ * The local topic statistics are the sums of the statistics of the shards.
+ *
+ * @param <E> the type of the messages.
+ * @since 5.5
+ */
+@Beta
+public final class PartitionedReliableTopic<E> implements ITopic<E> {
+
+    private final String name;
+    private final ITopic<E>[] shards;
+    private final int publisherShard;
+    private final PartitionService partitionService;
+    private final Map<UUID, UUID[]> listenerRegistrations = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a partitioned reliable topic.
+     *
+     * @param instance   the instance to obtain the shards from.
+     * @param name       the name of the topic.
+     * @param shardCount the number of the shards.
+     */
+    public PartitionedReliableTopic(@Nonnull HazelcastInstance instance, @Nonnull String name, int shardCount) {
+        this(instance, name, shardCount, ThreadLocalRandom.current().nextInt(checkPositive("shardCount", shardCount)));
+    }
+
+    @SuppressWarnings("unchecked")
+    PartitionedReliableTopic(HazelcastInstance instance, String name, int shardCount, int publisherShard) {
+        checkNotNull(instance, "Null instance is not allowed!");
+        checkNotNull(name, "Null name is not allowed!");
+        checkPositive("shardCount", shardCount);
+        this.name = name;
+        this.partitionService = instance.getPartitionService();
+        this.shards = new ITopic[shardCount];
+        String[] shardNames = shardNames(partitionService, name, shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = instance.getReliableTopic(shardNames[i]);
+        }
+        this.publisherShard = publisherShard;
+    }
+
+    /**
+     * Publishes the message to the shard of the given key. The messages
+     * published for the same key are delivered in the order they were
+     * published.
+     *
+     * @param key     the ordering key of the message.
+     * @param message the message to publish.
+     */
+    public void publish(@Nonnull Object key, @Nonnull E message) {
+        shardOf(key).publish(message);
+    }
+
+    /**
+     * Publishes the message to the shard of the given key asynchronously, see
+     * {@link #publish(Object, Object)}.
+     *
+     * @param key     the ordering key of the message.
+     * @param message the message to publish.
+     * @return the stage completed when the message is published.
+     */
+    public CompletionStage<Void> publishAsync(@Nonnull Object key, @Nonnull E message) {
+        return shardOf(key).publishAsync(message);
+    }
+
+    @Override
+    public void publish(@Nonnull E message) {
+        shards[publisherShard].publish(message);
+    }
+
+    @Override
+    public CompletionStage<Void> publishAsync(@Nonnull E message) {
+        return shards[publisherShard].publishAsync(message);
+    }
+
+    @Override
+    public void publishAll(@Nonnull Collection<? extends E> messages) throws ExecutionException, InterruptedException {
+        shards[publisherShard].publishAll(messages);
+    }
+
+    @Override
+    public CompletionStage<Void> publishAllAsync(@Nonnull Collection<? extends E> messages) {
+        return shards[publisherShard].publishAllAsync(messages);
+    }
+
+    @Nonnull
+    @Override
+    public UUID addMessageListener(@Nonnull MessageListener<E> listener) {
+        checkNotNull(listener, "Null listener is not allowed!");
+
+        UUID[] shardRegistrations = new UUID[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            shardRegistrations[i] = shards[i].addMessageListener(listener);
+        }
+        UUID registrationId = UUID.randomUUID();
+        listenerRegistrations.put(registrationId, shardRegistrations);
+        return registrationId;
+    }
+
+    @Override
+    public boolean removeMessageListener(@Nonnull UUID registrationId) {
+        checkNotNull(registrationId, "Null registrationId is not allowed!");
+
+        UUID[] shardRegistrations = listenerRegistrations.remove(registrationId);
+        if (shardRegistrations == null) {
+            return false;
+        }
+        for (int i = 0; i < shards.length; i++) {
+            shards[i].removeMessageListener(shardRegistrations[i]);
+        }
+        return true;
+    }
+
+    @Nonnull
+    @Override
+    public LocalTopicStats getLocalTopicStats() {
+        long creationTime = Long.MAX_VALUE;
+        long publishOperationCount = 0;
+        long receiveOperationCount = 0;
+        for (ITopic<E> shard : shards) {
+            LocalTopicStats stats = shard.getLocalTopicStats();
+            creationTime = Math.min(creationTime, stats.getCreationTime());
+            publishOperationCount += stats.getPublishOperationCount();
+            receiveOperationCount += stats.getReceiveOperationCount();
+        }
+        return new PartitionedTopicStats(creationTime, publishOperationCount, receiveOperationCount);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getPartitionKey() {
+        return StringPartitioningStrategy.getPartitionKey(name);
+    }
+
+    @Override
+    public String getServiceName() {
+        return ReliableTopicService.SERVICE_NAME;
+    }
+
+    @Override
+    public void destroy() {
+        for (ITopic<E> shard : shards) {
+            shard.destroy();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionedReliableTopic{name='" + name + '\'' + ", shardCount=" + shards.length + '}';
+    }
+
+    private ITopic<E> shardOf(Object key) {
+        checkNotNull(key, "Null key is not allowed!");
+        int partitionId = partitionService.getPartition(key).getPartitionId();
+        return shards[partitionId % shards.length];
+    }
+
+    /**
+     * The local statistics of a partitioned topic, summed up from the
+     * statistics of its shards.
+     */
+    private static final class PartitionedTopicStats implements LocalTopicStats {
+
+        private final long creationTime;
+        private final long publishOperationCount;
+        private final long receiveOperationCount;
+
+        private PartitionedTopicStats(long creationTime, long publishOperationCount, long receiveOperationCount) {
+            this.creationTime = creationTime;
+            this.publishOperationCount = publishOperationCount;
+            this.receiveOperationCount = receiveOperationCount;
+        }
+
+        @Override
+        public long getCreationTime() {
+            return creationTime;
+        }
+
+        @Override
+        public long getPublishOperationCount() {
+            return publishOperationCount;
+        }
+
+        @Override
+        public long getReceiveOperationCount() {
+            return receiveOperationCount;
+        }
+
+        @Override
+        public String toString() {
+            return "PartitionedTopicStats{creationTime=" + creationTime
+                    + ", publishOperationCount=" + publishOperationCount
+                    + ", receiveOperationCount=" + receiveOperationCount + '}';
+        }
+    }
+}
@@ -55,6 +55,13 @@ public class PublishAllOperation extends AbstractNamedOperation
     @Override
     public void run() throws Exception {
         TopicService service = getService();
+        if (service.isPublishBatchingEnabled()) {
+            service.publishAllBatched(name, messages, getCallerAddress());
+            for (int i = 0; i < messages.length; i++) {
+                service.incrementPublishes(name);
+            }
+            return;
+        }
         EventService eventService = getNodeEngine().getEventService();
         Collection<EventRegistration> registrations = eventService.getRegistrations(TopicService.SERVICE_NAME, name);
 
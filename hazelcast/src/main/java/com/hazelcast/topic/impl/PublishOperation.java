@@ -66,6 +66,10 @@ public class PublishOperation extends AbstractNamedOperation
     @Override
     public void run() throws Exception {
         TopicService service = getService();
+        if (service.isPublishBatchingEnabled()) {
+            service.publishBatched(name, message, getCallerAddress());
+            return;
+        }
         TopicEvent topicEvent = new TopicEvent(name, message, getCallerAddress());
         EventService eventService = getNodeEngine().getEventService();
         Collection<EventRegistration> registrations = eventService.getRegistrations(TopicService.SERVICE_NAME, name);
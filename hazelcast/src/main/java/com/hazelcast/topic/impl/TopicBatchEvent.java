@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.topic.impl;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.io.IOException;
+
+/**
+ * The event carrying a batch of the messages published by a member, see
+ * {@link TopicPublishBatcher}.
+ */
+class TopicBatchEvent implements IdentifiedDataSerializable {
+
+    String name;
+    Address publisherAddress;
+    long[] publishTimes;
+    Data[] data;
+
+    TopicBatchEvent() {
+    }
+
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    TopicBatchEvent(String name, Address publisherAddress, long[] publishTimes, Data[] data) {
+        this.name = name;
+        this.publisherAddress = publisherAddress;
+        this.publishTimes = publishTimes;
+        this.data = data;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return TopicDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return TopicDataSerializerHook.TOPIC_BATCH_EVENT;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeString(name);
+        out.writeObject(publisherAddress);
+        out.writeInt(data.length);
+        for (int i = 0; i < data.length; i++) {
+            out.writeLong(publishTimes[i]);
+            IOUtil.writeData(out, data[i]);
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        name = in.readString();
+        publisherAddress = in.readObject();
+        int size = in.readInt();
+        publishTimes = new long[size];
+        data = new Data[size];
+        for (int i = 0; i < size; i++) {
+            publishTimes[i] = in.readLong();
+            data[i] = IOUtil.readData(in);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TopicBatchEvent{"
+                + "name='" + name + '\''
+                + ", publisherAddress=" + publisherAddress
+                + ", size=" + data.length
+                + '}';
+    }
+}
@@ -32,6 +32,7 @@ public final class TopicDataSerializerHook implements DataSerializerHook {
     public static final int TOPIC_EVENT = 1;
     public static final int RELIABLE_TOPIC_MESSAGE = 2;
     public static final int PUBLISH_ALL = 3;
+    public static final int TOPIC_BATCH_EVENT = 4;
 
     @Override
     public int getFactoryId() {
@@ -45,6 +46,7 @@ public final class TopicDataSerializerHook implements DataSerializerHook {
             case TOPIC_EVENT -> new TopicEvent();
             case RELIABLE_TOPIC_MESSAGE -> new ReliableTopicMessage();
             case PUBLISH_ALL -> new PublishAllOperation();
+            case TOPIC_BATCH_EVENT -> new TopicBatchEvent();
             default -> null;
         };
     }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.topic.impl;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.Clock;
+import com.hazelcast.spi.impl.eventservice.EventRegistration;
+import com.hazelcast.spi.impl.eventservice.EventService;
+import com.hazelcast.spi.impl.executionservice.ExecutionService;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.topic.impl.TopicService.SERVICE_NAME;
+
+/**
+ * Coalesces the messages published to the topics on this member into
+ * batches, which are published as single {@link TopicBatchEvent}s to every
+ * member with a listener, and dispatched to the listeners at once.
+ * <p>
+ * A batch of a topic is published when it reaches {@link #MAX_BATCH_SIZE}
+ * messages, when the batching window elapses after its first message was
+ * added, or before a message of another publisher is added. The batches of a
+ * topic are published in order, so the order of the messages is preserved,
+ * including the total order of the topics with the global ordering enabled.
+ */
+class TopicPublishBatcher {
+
+    /**
+     * The maximum number of messages in a batch.
+     */
+    static final int MAX_BATCH_SIZE = 1024;
+
+    private static final int INITIAL_BATCH_SIZE = 16;
+
+    private final EventService eventService;
+    private final ExecutionService executionService;
+    private final long windowMillis;
+    private final AtomicInteger counter = new AtomicInteger();
+    private final ConcurrentMap<String, PendingBatch> pendingBatches = new ConcurrentHashMap<>();
+
+    TopicPublishBatcher(EventService eventService, ExecutionService executionService, long windowMillis) {
+        this.eventService = eventService;
+        this.executionService = executionService;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * Adds the message to the pending batch of the topic.
+     *
+     * @param topicName        the name of the topic
+     * @param data             the serialized message
+     * @param publisherAddress the address of the member which published the message
+     * @param multithreaded    whether the batch may be dispatched by any event thread
+     */
+    void add(String topicName, Data data, Address publisherAddress, boolean multithreaded) {
+        PendingBatch batch = pendingBatches.computeIfAbsent(topicName, PendingBatch::new);
+        batch.add(data, publisherAddress, multithreaded);
+    }
+
+    /**
+     * Adds the messages to the pending batch of the topic and publishes the
+     * batch without waiting for the batching window.
+     *
+     * @param topicName        the name of the topic
+     * @param data             the serialized messages
+     * @param publisherAddress the address of the member which published the messages
+     */
+    void addAndFlush(String topicName, Data[] data, Address publisherAddress) {
+        PendingBatch batch = pendingBatches.computeIfAbsent(topicName, PendingBatch::new);
+        synchronized (batch) {
+            for (Data message : data) {
+                batch.add(message, publisherAddress, false);
+            }
+            batch.flush();
+        }
+    }
+
+    /**
+     * Publishes the pending batches of all the topics.
+     */
+    void flushAll() {
+        for (PendingBatch batch : pendingBatches.values()) {
+            batch.flush();
+        }
+    }
+
+    /**
+     * Discards the pending batch of the destroyed topic.
+     */
+    void remove(String topicName) {
+        pendingBatches.remove(topicName);
+    }
+
+    private final class PendingBatch implements Runnable {
+
+        private final String name;
+        private Address publisherAddress;
+        private boolean multithreaded;
+        private long[] publishTimes = new long[INITIAL_BATCH_SIZE];
+        private Data[] data = new Data[INITIAL_BATCH_SIZE];
+        private int size;
+
+        PendingBatch(String name) {
+            this.name = name;
+        }
+
+        synchronized void add(Data message, Address publisherAddress, boolean multithreaded) {
+            if (size > 0 && !Objects.equals(publisherAddress, this.publisherAddress)) {
+                flush();
+            }
+            this.publisherAddress = publisherAddress;
+            this.multithreaded = multithreaded;
+            if (size == data.length) {
+                publishTimes = Arrays.copyOf(publishTimes, size * 2);
+                data = Arrays.copyOf(data, size * 2);
+            }
+            publishTimes[size] = Clock.currentTimeMillis();
+            data[size++] = message;
+
+            if (size == 1) {
+                executionService.schedule(this, windowMillis, TimeUnit.MILLISECONDS);
+            } else if (size >= MAX_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        @Override
+        public void run() {
+            flush();
+        }
+
+        synchronized void flush() {
+            if (size == 0) {
+                return;
+            }
+            // the batch is published under the lock to keep the batches of the topic in order
+            Collection<EventRegistration> registrations = eventService.getRegistrations(SERVICE_NAME, name);
+            if (!registrations.isEmpty()) {
+                TopicBatchEvent event = new TopicBatchEvent(name, publisherAddress,
+                        Arrays.copyOf(publishTimes, size), Arrays.copyOf(data, size));
+                int orderKey = multithreaded ? counter.incrementAndGet() : name.hashCode();
+                eventService.publishEvent(SERVICE_NAME, registrations, event, orderKey);
+            }
+            Arrays.fill(data, 0, size, null);
+            size = 0;
+        }
+    }
+}
@@ -38,13 +38,16 @@ import com.hazelcast.spi.impl.eventservice.EventPublishingService;
 import com.hazelcast.spi.impl.eventservice.EventRegistration;
 import com.hazelcast.spi.impl.eventservice.EventService;
 import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.topic.BatchMessageListener;
 import com.hazelcast.topic.ITopic;
 import com.hazelcast.topic.LocalTopicStats;
 import com.hazelcast.topic.Message;
 import com.hazelcast.topic.MessageListener;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
@@ -55,6 +58,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import static com.hazelcast.internal.cluster.Versions.V5_5;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.TOPIC_PREFIX;
 import static com.hazelcast.internal.metrics.impl.ProviderHelper.provide;
 import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
@@ -76,6 +80,7 @@ public class TopicService implements ManagedService, RemoteService, EventPublish
     private EventService eventService;
     private final AtomicInteger counter = new AtomicInteger(0);
     private Address localAddress;
+    private TopicPublishBatcher publishBatcher;
 
     @Override
     public void init(NodeEngine nodeEngine, Properties properties) {
@@ -85,6 +90,10 @@ public class TopicService implements ManagedService, RemoteService, EventPublish
             orderingLocks[i] = new ReentrantLock();
         }
         eventService = nodeEngine.getEventService();
+        long publishBatchWindowMillis = nodeEngine.getProperties().getMillis(ClusterProperty.TOPIC_PUBLISH_BATCH_WINDOW_MILLIS);
+        if (publishBatchWindowMillis > 0) {
+            publishBatcher = new TopicPublishBatcher(eventService, nodeEngine.getExecutionService(), publishBatchWindowMillis);
+        }
 
         boolean dsMetricsEnabled = nodeEngine.getProperties().getBoolean(ClusterProperty.METRICS_DATASTRUCTURES);
         if (dsMetricsEnabled) {
@@ -104,6 +113,9 @@ public class TopicService implements ManagedService, RemoteService, EventPublish
 
     @Override
     public void shutdown(boolean terminate) {
+        if (publishBatcher != null && !terminate) {
+            publishBatcher.flushAll();
+        }
         reset();
     }
 
@@ -131,19 +143,20 @@ public class TopicService implements ManagedService, RemoteService, EventPublish
     @Override
     public void destroyDistributedObject(String objectId, boolean local) {
         statsMap.remove(objectId);
+        if (publishBatcher != null) {
+            publishBatcher.remove(objectId);
+        }
         nodeEngine.getEventService().deregisterAllLocalListeners(SERVICE_NAME, objectId);
     }
 
     @Override
     public void dispatchEvent(Object event, Object listener) {
-        TopicEvent topicEvent = (TopicEvent) event;
-        ClusterService clusterService = nodeEngine.getClusterService();
-        MemberImpl member = clusterService.getMember(topicEvent.publisherAddress);
-        if (member == null) {
-            member = new MemberImpl.Builder(topicEvent.publisherAddress)
-                    .version(nodeEngine.getVersion())
-                    .build();
+        if (event instanceof TopicBatchEvent batchEvent) {
+            dispatchBatchEvent(batchEvent, (MessageListener) listener);
+            return;
         }
+        TopicEvent topicEvent = (TopicEvent) event;
+        MemberImpl member = getPublisherMember(topicEvent.publisherAddress);
         Message message = new DataAwareMessage(topicEvent.name, topicEvent.data, topicEvent.publishTime, member
                 , nodeEngine.getSerializationService());
         incrementReceivedMessages(topicEvent.name);
@@ -152,6 +165,63 @@ public class TopicService implements ManagedService, RemoteService, EventPublish
                 () -> messageListener.onMessage(message));
     }
 
+    @SuppressWarnings("unchecked")
+    private void dispatchBatchEvent(TopicBatchEvent batchEvent, MessageListener listener) {
+        MemberImpl member = getPublisherMember(batchEvent.publisherAddress);
+        List<Message> messages = new ArrayList<>(batchEvent.data.length);
+        for (int i = 0; i < batchEvent.data.length; i++) {
+            messages.add(new DataAwareMessage(batchEvent.name, batchEvent.data[i], batchEvent.publishTimes[i], member,
+                    nodeEngine.getSerializationService()));
+            incrementReceivedMessages(batchEvent.name);
+        }
+        NamespaceUtil.runWithNamespace(nodeEngine, lookupNamespace(nodeEngine, batchEvent.name), () -> {
+            if (listener instanceof BatchMessageListener batchListener) {
+                batchListener.onMessages(messages);
+            } else {
+                messages.forEach(listener::onMessage);
+            }
+        });
+    }
+
+    private MemberImpl getPublisherMember(Address publisherAddress) {
+        ClusterService clusterService = nodeEngine.getClusterService();
+        MemberImpl member = clusterService.getMember(publisherAddress);
+        if (member == null) {
+            member = new MemberImpl.Builder(publisherAddress)
+                    .version(nodeEngine.getVersion())
+                    .build();
+        }
+        return member;
+    }
+
+    /**
+     * Returns whether the messages published to the topics are batched, see
+     * {@link ClusterProperty#TOPIC_PUBLISH_BATCH_WINDOW_MILLIS}. The batches
+     * are only published once all the members of the cluster are able to
+     * receive them, i.e. the cluster version is at least 5.5.
+     */
+    public boolean isPublishBatchingEnabled() {
+        return publishBatcher != null
+                && nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(V5_5);
+    }
+
+    /**
+     * Adds the message published by the given member to the pending batch of
+     * the topic. Must only be called if the batching is enabled.
+     */
+    public void publishBatched(String topicName, Data message, Address publisherAddress) {
+        publishBatcher.add(topicName, message, publisherAddress, false);
+    }
+
+    /**
+     * Publishes the messages published by the given member in a batch without
+     * waiting for the batching window. Must only be called if the batching is
+     * enabled.
+     */
+    public void publishAllBatched(String topicName, Data[] messages, Address publisherAddress) {
+        publishBatcher.addAndFlush(topicName, messages, publisherAddress);
+    }
+
     public LocalTopicStatsImpl getLocalTopicStats(String name) {
         return getOrPutSynchronized(statsMap, name, statsMap, localTopicStatsConstructorFunction);
     }
@@ -180,6 +250,10 @@ public class TopicService implements ManagedService, RemoteService, EventPublish
         Collection<EventRegistration> registrations = eventService.getRegistrations(SERVICE_NAME, topicName);
         if (!registrations.isEmpty()) {
             Data payloadData = nodeEngine.toData(payload);
+            if (isPublishBatchingEnabled()) {
+                publishBatcher.add(topicName, payloadData, localAddress, multithreaded);
+                return;
+            }
             TopicEvent topicEvent = new TopicEvent(topicName, payloadData, localAddress);
             int partitionId = multithreaded ? counter.incrementAndGet() : topicName.hashCode();
             eventService.publishEvent(SERVICE_NAME, registrations, topicEvent, partitionId);
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.collections;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.collection.IList;
+import com.hazelcast.collection.IQueue;
+import com.hazelcast.collection.ISet;
+import com.hazelcast.collection.impl.common.ChunkedItemIterator;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientChunkedCollectionIteratorTest extends HazelcastTestSupport {
+
+    private static final int FETCH_SIZE = 16;
+    private static final int ITEM_COUNT = 1000;
+
+    private final TestHazelcastFactory hazelcastFactory = new TestHazelcastFactory();
+    private HazelcastInstance client;
+
+    @Before
+    public void setup() {
+        hazelcastFactory.newInstances(smallInstanceConfig(), 2);
+        ClientConfig clientConfig = new ClientConfig()
+                .setProperty(ClientProperty.COLLECTION_ITERATOR_FETCH_SIZE.getName(), String.valueOf(FETCH_SIZE))
+                .setProperty(ClientProperty.COLLECTION_ITERATOR_PREFETCH_DEPTH.getName(), "2");
+        client = hazelcastFactory.newHazelcastClient(clientConfig);
+    }
+
+    @After
+    public void tearDown() {
+        hazelcastFactory.terminateAll();
+    }
+
+    @Test
+    public void testQueueIterator() {
+        IQueue<Integer> queue = client.getQueue(randomName());
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            queue.offer(i);
+        }
+
+        Iterator<Integer> iterator = queue.iterator();
+
+        assertInstanceOf(ChunkedItemIterator.class, iterator);
+        assertEquals(range(ITEM_COUNT), toList(iterator));
+    }
+
+    @Test
+    public void testListIterator() {
+        IList<Integer> list = client.getList(randomName());
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            list.add(i);
+        }
+
+        assertEquals(range(ITEM_COUNT), toList(list.iterator()));
+    }
+
+    @Test
+    public void testSetIterator() {
+        ISet<Integer> set = client.getSet(randomName());
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            set.add(i);
+        }
+
+        assertEquals(new HashSet<>(range(ITEM_COUNT)), new HashSet<>(toList(set.iterator())));
+    }
+
+    @Test
+    public void testIterator_whenEmpty() {
+        IList<Integer> list = client.getList(randomName());
+
+        assertEquals(new ArrayList<>(), toList(list.iterator()));
+    }
+
+    private static List<Integer> toList(Iterator<Integer> iterator) {
+        List<Integer> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        return items;
+    }
+
+    private static List<Integer> range(int count) {
+        List<Integer> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(i);
+        }
+        return items;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.map;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.impl.spi.ClientPartitionService;
+import com.hazelcast.client.impl.spi.impl.ClientInvocationServiceImpl;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.impl.sequence.CallIdSequence;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hazelcast.client.impl.clientside.ClientTestUtil.getHazelcastClientInstanceImpl;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientMapMemberBatchingTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    private final TestHazelcastFactory hazelcastFactory = new TestHazelcastFactory();
+    private HazelcastInstance member;
+    private HazelcastInstance otherMember;
+    private HazelcastInstance client;
+
+    @Before
+    public void setup() {
+        Config config = smallInstanceConfig();
+        member = hazelcastFactory.newHazelcastInstance(config);
+        otherMember = hazelcastFactory.newHazelcastInstance(config);
+        ClientConfig clientConfig = new ClientConfig()
+                .setProperty(ClientProperty.MAP_MEMBER_BATCHING_ENABLED.getName(), "true");
+        client = hazelcastFactory.newHazelcastClient(clientConfig);
+    }
+
+    @After
+    public void tearDown() {
+        hazelcastFactory.terminateAll();
+    }
+
+    @Test
+    public void testPutAll() {
+        String mapName = randomMapName();
+        IMap<Integer, Integer> map = client.getMap(mapName);
+
+        map.putAll(entries());
+
+        IMap<Integer, Integer> memberMap = member.getMap(mapName);
+        assertEquals(ENTRY_COUNT, memberMap.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(i * 2, (int) memberMap.get(i));
+        }
+    }
+
+    @Test
+    public void testPutAllAsync() throws Exception {
+        String mapName = randomMapName();
+        IMap<Integer, Integer> map = client.getMap(mapName);
+
+        map.putAllAsync(entries()).toCompletableFuture().get();
+
+        assertEquals(entries(), new HashMap<>(member.getMap(mapName)));
+    }
+
+    @Test
+    public void testGetAll() {
+        String mapName = randomMapName();
+        IMap<Integer, Integer> memberMap = member.getMap(mapName);
+        memberMap.putAll(entries());
+        IMap<Integer, Integer> map = client.getMap(mapName);
+
+        Set<Integer> keys = new HashSet<>();
+        for (int i = 0; i < ENTRY_COUNT + 100; i++) {
+            keys.add(i);
+        }
+        Map<Integer, Integer> result = map.getAll(keys);
+
+        assertEquals(entries(), result);
+    }
+
+    @Test
+    public void testGetAll_whenNoEntries() {
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+
+        Set<Integer> keys = new HashSet<>();
+        keys.add(1);
+        keys.add(2);
+
+        assertTrue(map.getAll(keys).isEmpty());
+    }
+
+    @Test
+    public void testGetAll_sendsOneMessagePerMember() {
+        String mapName = randomMapName();
+        member.getMap(mapName).putAll(entries());
+        IMap<Integer, Integer> map = client.getMap(mapName);
+        waitForPartitionOwners();
+
+        CallIdSequence callIdSequence = getCallIdSequence();
+        long lastCallId = callIdSequence.getLastCallId();
+        Map<Integer, Integer> result = map.getAll(entries().keySet());
+
+        assertEquals(entries(), result);
+        assertEquals(2, callIdSequence.getLastCallId() - lastCallId);
+    }
+
+    @Test
+    public void testPutAll_sendsOneMessagePerMember() {
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+        waitForPartitionOwners();
+
+        CallIdSequence callIdSequence = getCallIdSequence();
+        long lastCallId = callIdSequence.getLastCallId();
+        map.putAll(entries());
+
+        assertEquals(2, callIdSequence.getLastCallId() - lastCallId);
+    }
+
+    @Test
+    public void testGetAll_whenMemberLeaves() {
+        String mapName = randomMapName();
+        member.getMap(mapName).putAll(entries());
+        IMap<Integer, Integer> map = client.getMap(mapName);
+        waitForPartitionOwners();
+        waitAllForSafeState(member, otherMember);
+
+        otherMember.getLifecycleService().terminate();
+        Map<Integer, Integer> result = map.getAll(entries().keySet());
+
+        assertEquals(entries(), result);
+    }
+
+    @Test
+    public void testPutAll_whenMemberLeaves() {
+        String mapName = randomMapName();
+        IMap<Integer, Integer> map = client.getMap(mapName);
+        waitForPartitionOwners();
+
+        otherMember.getLifecycleService().terminate();
+        assertClusterSizeEventually(1, client);
+        map.putAll(entries());
+
+        assertEquals(entries(), new HashMap<>(member.getMap(mapName)));
+    }
+
+    private void waitForPartitionOwners() {
+        ClientPartitionService partitionService = getHazelcastClientInstanceImpl(client).getClientPartitionService();
+        assertTrueEventually(() -> {
+            for (int i = 0; i < partitionService.getPartitionCount(); i++) {
+                assertNotNull(partitionService.getPartitionOwner(i));
+            }
+        });
+    }
+
+    private CallIdSequence getCallIdSequence() {
+        return ((ClientInvocationServiceImpl) getHazelcastClientInstanceImpl(client).getInvocationService())
+                .getCallIdSequence();
+    }
+
+    private static Map<Integer, Integer> entries() {
+        Map<Integer, Integer> entries = new HashMap<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            entries.put(i, i * 2);
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection;
+
+import com.hazelcast.collection.impl.queue.QueueService;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.partition.InternalPartitionService;
+import com.hazelcast.internal.partition.ShardNameUtil;
+import com.hazelcast.partition.strategy.StringPartitioningStrategy;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.Accessors.getPartitionService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ShardedQueueTest extends HazelcastTestSupport {
+
+    private static final int SHARD_COUNT = 4;
+
+    private HazelcastInstance instance;
+    private String name;
+
+    @Before
+    public void setup() {
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(new Config());
+        instance = instances[0];
+        name = randomName();
+    }
+
+    @Test
+    public void testShardsArePlacedInDifferentPartitions() {
+        InternalPartitionService partitionService = getPartitionService(instance);
+        Set<Integer> partitionIds = new HashSet<>();
+        for (String shardName : ShardNameUtil.shardNames(instance.getPartitionService(), name, SHARD_COUNT)) {
+            assertEquals(name, StringPartitioningStrategy.getBaseName(shardName));
+            partitionIds.add(partitionService.getPartitionId(StringPartitioningStrategy.getPartitionKey(shardName)));
+        }
+
+        assertEquals(SHARD_COUNT, partitionIds.size());
+    }
+
+    @Test
+    public void testOfferAndPoll_preservesProducerOrder() {
+        ShardedQueue<Integer> queue = new ShardedQueue<>(instance, name, SHARD_COUNT);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(queue.offer(i));
+        }
+
+        assertEquals(100, queue.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, (int) queue.poll());
+        }
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testPoll_stealsFromOtherShards() {
+        ShardedQueue<Integer> producer = new ShardedQueue<>(instance, name, SHARD_COUNT, 1, 1);
+        ShardedQueue<Integer> consumer = new ShardedQueue<>(instance, name, SHARD_COUNT, 2, 2);
+        for (int i = 0; i < 10; i++) {
+            producer.offer(i);
+        }
+
+        List<Integer> items = new ArrayList<>();
+        assertEquals(10, consumer.drainTo(items));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, (int) items.get(i));
+        }
+    }
+
+    @Test
+    public void testTake_receivesItemOfferedToOtherShard() throws Exception {
+        ShardedQueue<Integer> producer = new ShardedQueue<>(instance, name, SHARD_COUNT, 0, 0);
+        ShardedQueue<Integer> consumer = new ShardedQueue<>(instance, name, SHARD_COUNT, 3, 3);
+
+        CountDownLatch started = new CountDownLatch(1);
+        Future<Integer> future = spawn(() -> {
+            started.countDown();
+            return consumer.take();
+        });
+        started.await();
+        producer.offer(42);
+
+        assertEquals(42, (int) future.get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testPollWithTimeout_returnsNullWhenEmpty() throws Exception {
+        ShardedQueue<Integer> queue = new ShardedQueue<>(instance, name, SHARD_COUNT);
+
+        assertNull(queue.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testTake_removesItemListenerWhenItReturns() throws Exception {
+        ShardedQueue<Integer> producer = new ShardedQueue<>(instance, name, SHARD_COUNT, 0, 0);
+        ShardedQueue<Integer> consumer = new ShardedQueue<>(instance, name, SHARD_COUNT, 3, 3);
+        String[] shardNames = ShardNameUtil.shardNames(instance.getPartitionService(), name, SHARD_COUNT);
+
+        Future<Integer> future = spawn(consumer::take);
+        assertTrueEventually(() -> {
+            for (String shardName : shardNames) {
+                assertEquals(1, itemListenerRegistrationCount(shardName));
+            }
+        });
+        producer.offer(42);
+
+        assertEquals(42, (int) future.get(ASSERT_TRUE_EVENTUALLY_TIMEOUT, TimeUnit.SECONDS));
+        assertTrueEventually(() -> {
+            for (String shardName : shardNames) {
+                assertEquals(0, itemListenerRegistrationCount(shardName));
+            }
+        });
+    }
+
+    private int itemListenerRegistrationCount(String shardName) {
+        return getNodeEngineImpl(instance).getEventService().getRegistrations(QueueService.SERVICE_NAME, shardName).size();
+    }
+
+    @Test
+    public void testLocalQueueStats_aggregatesShards() {
+        ShardedQueue<Integer> queue = new ShardedQueue<>(instance, name, SHARD_COUNT);
+        for (int i = 0; i < 10; i++) {
+            new ShardedQueue<Integer>(instance, name, SHARD_COUNT, i % SHARD_COUNT, 0).offer(i);
+        }
+
+        LocalQueueStats stats = queue.getLocalQueueStats();
+
+        assertEquals(10, stats.getOwnedItemCount() + stats.getBackupItemCount());
+    }
+
+    @Test
+    public void testItemListener_receivesEventsOfAllShards() {
+        ShardedQueue<Integer> queue = new ShardedQueue<>(instance, name, SHARD_COUNT);
+        CountDownLatch added = new CountDownLatch(2);
+        UUID registrationId = queue.addItemListener(new ItemListener<>() {
+            @Override
+            public void itemAdded(ItemEvent<Integer> item) {
+                added.countDown();
+            }
+
+            @Override
+            public void itemRemoved(ItemEvent<Integer> item) {
+            }
+        }, false);
+
+        new ShardedQueue<Integer>(instance, name, SHARD_COUNT, 0, 0).offer(1);
+        new ShardedQueue<Integer>(instance, name, SHARD_COUNT, 1, 1).offer(2);
+
+        assertOpenEventually(added);
+        assertTrue(queue.removeItemListener(registrationId));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl;
+
+import com.hazelcast.collection.IList;
+import com.hazelcast.collection.IQueue;
+import com.hazelcast.collection.ISet;
+import com.hazelcast.collection.impl.common.ChunkedItemIterator;
+import com.hazelcast.collection.impl.common.CollectionIterationService;
+import com.hazelcast.collection.impl.queue.QueueService;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ChunkedCollectionIteratorTest extends HazelcastTestSupport {
+
+    private static final int FETCH_SIZE = 16;
+    private static final int ITEM_COUNT = 1000;
+
+    private HazelcastInstance[] instances;
+
+    @Before
+    public void setup() {
+        Config config = smallInstanceConfig()
+                .setProperty(ClusterProperty.COLLECTION_ITERATOR_FETCH_SIZE.getName(), String.valueOf(FETCH_SIZE))
+                .setProperty(ClusterProperty.COLLECTION_ITERATOR_PREFETCH_DEPTH.getName(), "2");
+        instances = createHazelcastInstanceFactory(2).newInstances(config);
+    }
+
+    @Test
+    public void testQueueIterator() {
+        IQueue<Integer> queue = instances[0].getQueue(randomName());
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            queue.offer(i);
+        }
+
+        Iterator<Integer> iterator = queue.iterator();
+
+        assertInstanceOf(ChunkedItemIterator.class, iterator);
+        assertEquals(range(ITEM_COUNT), toList(iterator));
+    }
+
+    @Test
+    public void testListIterator() {
+        IList<Integer> list = instances[0].getList(randomName());
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            list.add(i);
+        }
+
+        Iterator<Integer> iterator = list.iterator();
+
+        assertInstanceOf(ChunkedItemIterator.class, iterator);
+        assertEquals(range(ITEM_COUNT), toList(iterator));
+    }
+
+    @Test
+    public void testSetIterator() {
+        ISet<Integer> set = instances[0].getSet(randomName());
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            set.add(i);
+        }
+
+        Set<Integer> iterated = new HashSet<>(toList(set.iterator()));
+
+        assertEquals(new HashSet<>(range(ITEM_COUNT)), iterated);
+    }
+
+    @Test
+    public void testIterator_whenPageBoundary() {
+        IList<Integer> list = instances[0].getList(randomName());
+        for (int i = 0; i < FETCH_SIZE * 2; i++) {
+            list.add(i);
+        }
+
+        assertEquals(range(FETCH_SIZE * 2), toList(list.iterator()));
+    }
+
+    @Test
+    public void testIterator_whenEmpty() {
+        IQueue<Integer> queue = instances[0].getQueue(randomName());
+
+        assertEquals(new ArrayList<>(), toList(queue.iterator()));
+    }
+
+    @Test
+    public void testIterator_doesNotSeeItemsAddedAfterStart() {
+        IQueue<Integer> queue = instances[1].getQueue(randomName());
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            queue.offer(i);
+        }
+
+        Iterator<Integer> iterator = queue.iterator();
+        assertTrue(iterator.hasNext());
+        for (int i = 0; i < 10; i++) {
+            queue.offer(ITEM_COUNT + i);
+        }
+
+        assertEquals(range(ITEM_COUNT), toList(iterator));
+    }
+
+    @Test
+    public void testIterator_releasesCursorWhenComplete() {
+        HazelcastInstance owner = instances[0];
+        IQueue<Integer> queue = owner.getQueue(randomNameOwnedBy(owner));
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            queue.offer(i);
+        }
+
+        toList(queue.iterator());
+
+        QueueService queueService = getNodeEngineImpl(owner).getService(QueueService.SERVICE_NAME);
+        CollectionIterationService iterationService = queueService.getIterationService();
+        assertTrue(iterationService.getIteratorManager().getIterators().isEmpty());
+    }
+
+    private static List<Integer> toList(Iterator<Integer> iterator) {
+        List<Integer> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        return items;
+    }
+
+    private static List<Integer> range(int count) {
+        List<Integer> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(i);
+        }
+        return items;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.common;
+
+import com.hazelcast.collection.IQueue;
+import com.hazelcast.collection.impl.queue.QueueService;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Iterator;
+
+import static com.hazelcast.spi.properties.ClusterProperty.COLLECTION_ITERATOR_CLEANUP_PERIOD_SECONDS;
+import static com.hazelcast.spi.properties.ClusterProperty.COLLECTION_ITERATOR_CLEANUP_TIMEOUT_MILLIS;
+import static com.hazelcast.spi.properties.ClusterProperty.COLLECTION_ITERATOR_FETCH_SIZE;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CollectionIterationServiceTest extends HazelcastTestSupport {
+
+    @Test
+    public void testAbandonedIterator_isRemovedAfterCleanupTimeout() {
+        Config config = smallInstanceConfig()
+                .setProperty(COLLECTION_ITERATOR_FETCH_SIZE.getName(), "10")
+                .setProperty(COLLECTION_ITERATOR_CLEANUP_PERIOD_SECONDS.getName(), "1")
+                .setProperty(COLLECTION_ITERATOR_CLEANUP_TIMEOUT_MILLIS.getName(), "1000");
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IQueue<Integer> queue = instance.getQueue(randomName());
+        for (int i = 0; i < 100; i++) {
+            queue.offer(i);
+        }
+
+        Iterator<Integer> iterator = queue.iterator();
+        assertTrue(iterator.hasNext());
+
+        QueueService queueService = getNodeEngineImpl(instance).getService(QueueService.SERVICE_NAME);
+        CollectionIterationService iterationService = queueService.getIterationService();
+        assertEquals(1, iterationService.getIteratorManager().getIterators().size());
+        assertTrueEventually(() -> assertTrue(iterationService.getIteratorManager().getIterators().isEmpty()));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.durableexecutor;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.DurableExecutorConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.executor.ExecutorServiceTestSupport;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class DurableExecutorTaskLogTest extends ExecutorServiceTestSupport {
+
+    private static final int TASK_COUNT = 1000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Config getConfig(String executorName) {
+        return smallInstanceConfig()
+                .addDurableExecutorConfig(new DurableExecutorConfig(executorName).setCapacity(TASK_COUNT))
+                .setProperty(ClusterProperty.DURABLE_EXECUTOR_TASK_LOG_ENABLED.getName(), "true")
+                .setProperty(ClusterProperty.DURABLE_EXECUTOR_TASK_LOG_DIRECTORY.getName(),
+                        folder.getRoot().getAbsolutePath());
+    }
+
+    @Test
+    public void loggedTasks_areExecuted() throws Exception {
+        String name = randomString();
+        HazelcastInstance instance = createHazelcastInstance(getConfig(name));
+        DurableExecutorService executor = instance.getDurableExecutorService(name);
+
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            futures.add(executor.submit(new SquareTask(i)));
+        }
+
+        for (int i = 0; i < TASK_COUNT; i++) {
+            assertEquals(i * i, (int) futures.get(i).get());
+        }
+    }
+
+    @Test
+    public void loggedTasks_areExecuted_afterOwnerShutdown() throws Exception {
+        String name = randomString();
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance(getConfig(name));
+        HazelcastInstance instance2 = factory.newHazelcastInstance(getConfig(name));
+        String key = generateKeyOwnedBy(instance1);
+        DurableExecutorService executor = instance2.getDurableExecutorService(name);
+
+        List<Long> taskIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            DurableExecutorServiceFuture<Boolean> future = executor.submitToKeyOwner(new SleepingTask(1), key);
+            taskIds.add(future.getTaskId());
+        }
+        instance1.shutdown();
+
+        for (long taskId : taskIds) {
+            Future<Boolean> future = executor.retrieveResult(taskId);
+            assertEquals(true, future.get());
+        }
+    }
+
+    static class SquareTask implements Callable<Integer>, Serializable {
+
+        private final int value;
+
+        SquareTask(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public Integer call() {
+            return value * value;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.durableexecutor.impl;
+
+import com.hazelcast.durableexecutor.StaleTaskIdException;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class DurableTaskLogTest extends HazelcastTestSupport {
+
+    private static final int SEGMENT_SIZE = 1024;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private DurableTaskLog taskLog;
+
+    @Before
+    public void setUp() {
+        taskLog = new DurableTaskLog(folder.getRoot().toPath(), SEGMENT_SIZE);
+    }
+
+    @After
+    public void tearDown() {
+        taskLog.close();
+    }
+
+    @Test
+    public void appendedTasks_areReadBack() {
+        long[] positions = new long[100];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = taskLog.append(task(i, 50));
+        }
+
+        for (int i = 0; i < positions.length; i++) {
+            assertArrayEquals(task(i, 50).toByteArray(), taskLog.read(positions[i]).toByteArray());
+        }
+        assertEquals(segmentFileCount(), taskLog.getSegmentCount());
+    }
+
+    @Test
+    public void segments_areDeleted_whenAllTheirTasksAreReleased() {
+        long[] positions = new long[100];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = taskLog.append(task(i, 50));
+        }
+        int segmentCount = taskLog.getSegmentCount();
+
+        // release in reverse order of appending, the tasks complete in any order
+        for (int i = positions.length - 1; i > 0; i--) {
+            taskLog.release(positions[i]);
+        }
+
+        // the first segment has a live task, the last one is active
+        assertEquals(2, taskLog.getSegmentCount());
+        assertEquals(2, segmentFileCount());
+        assertArrayEquals(task(0, 50).toByteArray(), taskLog.read(positions[0]).toByteArray());
+        assertTrue(segmentCount > 2);
+
+        taskLog.release(positions[0]);
+        assertEquals(1, taskLog.getSegmentCount());
+        assertThrows(StaleTaskIdException.class, () -> taskLog.read(positions[0]));
+    }
+
+    @Test
+    public void largeTask_isStoredInSegmentOfItsOwn() {
+        long small = taskLog.append(task(1, 10));
+        long large = taskLog.append(task(2, 4 * SEGMENT_SIZE));
+
+        assertArrayEquals(task(1, 10).toByteArray(), taskLog.read(small).toByteArray());
+        assertArrayEquals(task(2, 4 * SEGMENT_SIZE).toByteArray(), taskLog.read(large).toByteArray());
+        assertEquals(2, taskLog.getSegmentCount());
+    }
+
+    @Test
+    public void close_deletesSegmentFiles() {
+        for (int i = 0; i < 100; i++) {
+            taskLog.append(task(i, 50));
+        }
+
+        taskLog.close();
+
+        assertEquals(0, taskLog.getSegmentCount());
+        assertEquals(0, segmentFileCount());
+    }
+
+    @Test
+    public void read_afterClose_throwsStaleTaskIdException() {
+        long position = taskLog.append(task(1, 50));
+
+        taskLog.close();
+
+        assertThrows(StaleTaskIdException.class, () -> taskLog.read(position));
+    }
+
+    @Test
+    public void flush_skipsDeletedSegments() {
+        long[] positions = new long[100];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = taskLog.append(task(i, 50));
+        }
+        taskLog.flush();
+        for (int i = 0; i < positions.length - 1; i++) {
+            taskLog.release(positions[i]);
+        }
+        long appended = taskLog.append(task(100, 50));
+
+        taskLog.flush();
+
+        assertEquals(1, taskLog.getSegmentCount());
+        assertArrayEquals(task(100, 50).toByteArray(), taskLog.read(appended).toByteArray());
+    }
+
+    private int segmentFileCount() {
+        File[] files = folder.getRoot().listFiles();
+        return files == null ? 0 : files.length;
+    }
+
+    private static Data task(int id, int size) {
+        byte[] bytes = new byte[HeapData.HEAP_DATA_OVERHEAD + size];
+        Arrays.fill(bytes, HeapData.HEAP_DATA_OVERHEAD, bytes.length, (byte) id);
+        return new HeapData(bytes);
+    }
+}
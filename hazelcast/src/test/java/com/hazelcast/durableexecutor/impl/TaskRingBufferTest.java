@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.durableexecutor.impl;
+
+import com.hazelcast.durableexecutor.StaleTaskIdException;
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class TaskRingBufferTest extends HazelcastTestSupport {
+
+    private static final int CAPACITY = 16;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private InternalSerializationService serializationService;
+    private DurableTaskLog taskLog;
+
+    @Before
+    public void setUp() {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        taskLog = new DurableTaskLog(folder.getRoot().toPath());
+    }
+
+    @After
+    public void tearDown() {
+        taskLog.close();
+    }
+
+    @Test
+    public void loggedTask_isReplacedWithResult() {
+        TaskRingBuffer ringBuffer = loggedRingBuffer(taskLog, true);
+        Data task = serializationService.toData(new ValueTask(1));
+
+        int sequence = ringBuffer.add(task);
+        assertTrue(ringBuffer.isTask(sequence));
+        assertArrayEquals(task.toByteArray(), ringBuffer.readLoggedTask(ringBuffer.getLogPosition(sequence)).toByteArray());
+
+        ringBuffer.replaceTaskWithResult(sequence, 1);
+
+        assertFalse(ringBuffer.isTask(sequence));
+        assertEquals(-1, ringBuffer.getLogPosition(sequence));
+        assertEquals(1, ringBuffer.retrieveAndDispose(sequence));
+        assertEquals(0, ringBuffer.getTaskSize());
+    }
+
+    @Test
+    public void loggedTasks_areRejected_whenCapacityIsReached() {
+        TaskRingBuffer ringBuffer = loggedRingBuffer(taskLog, true);
+        Data task = serializationService.toData(new ValueTask(1));
+        for (int i = 0; i < CAPACITY; i++) {
+            ringBuffer.add(task);
+        }
+
+        assertThrows(RejectedExecutionException.class, () -> ringBuffer.add(task));
+    }
+
+    @Test
+    public void loggedTasks_areReplicatedSerialized() throws IOException {
+        TaskRingBuffer ringBuffer = loggedRingBuffer(taskLog, true);
+        Data task = serializationService.toData(new ValueTask(1));
+        int sequence = ringBuffer.add(task);
+
+        TaskRingBuffer replica = copy(ringBuffer);
+        DurableTaskLog replicaLog = new DurableTaskLog(folder.newFolder().toPath());
+        replica.attachTaskLog(replicaLog, serializationService::toData, serializationService::toObject, () -> true);
+
+        assertTrue(replica.isTask(sequence));
+        assertArrayEquals(task.toByteArray(), replica.readLoggedTask(replica.getLogPosition(sequence)).toByteArray());
+        replicaLog.close();
+    }
+
+    @Test
+    public void loggedTasks_areReplicatedDeserialized_whenSerializedTasksAreNotSupported() throws IOException {
+        TaskRingBuffer ringBuffer = loggedRingBuffer(taskLog, false);
+        Data task = serializationService.toData(new ValueTask(1));
+        int sequence = ringBuffer.add(task);
+
+        TaskRingBuffer replica = copy(ringBuffer);
+
+        assertTrue(replica.isTask(sequence));
+        assertInstanceOf(ValueTask.class, replica.retrieve(sequence));
+    }
+
+    @Test
+    public void serializedTasks_areDeserialized_whenTaskLogIsDisabled() throws IOException {
+        TaskRingBuffer ringBuffer = loggedRingBuffer(taskLog, true);
+        Data task = serializationService.toData(new ValueTask(1));
+        int sequence = ringBuffer.add(task);
+
+        TaskRingBuffer replica = copy(ringBuffer);
+        replica.loadSerializedTasks(serializationService::toObject);
+
+        assertInstanceOf(ValueTask.class, replica.retrieve(sequence));
+    }
+
+    @Test
+    public void loggedRingBuffer_rejectsStaleSequence_afterSlotIsDisposed() throws IOException {
+        TaskRingBuffer ringBuffer = loggedRingBuffer(taskLog, true);
+        Data task = serializationService.toData(new ValueTask(1));
+        int staleSequence = ringBuffer.add(task);
+        for (int i = 1; i < CAPACITY; i++) {
+            ringBuffer.add(task);
+        }
+        ringBuffer.dispose(staleSequence);
+        // takes the slot of the disposed sequence, and is disposed too
+        int sequence = ringBuffer.add(task);
+        ringBuffer.replaceTaskWithResult(sequence, 1);
+        ringBuffer.dispose(sequence);
+
+        assertThrows(StaleTaskIdException.class, () -> ringBuffer.retrieve(staleSequence));
+        assertThrows(StaleTaskIdException.class, () -> ringBuffer.dispose(staleSequence));
+        TaskRingBuffer replica = copy(ringBuffer);
+        assertThrows(StaleTaskIdException.class, () -> replica.retrieve(staleSequence));
+        assertNull(replica.retrieve(sequence));
+    }
+
+    private TaskRingBuffer loggedRingBuffer(DurableTaskLog log, boolean replicateSerializedTasks) {
+        return new TaskRingBuffer(CAPACITY, log, serializationService::toObject, () -> replicateSerializedTasks);
+    }
+
+    private TaskRingBuffer copy(TaskRingBuffer ringBuffer) throws IOException {
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput(1000);
+        ringBuffer.write(out);
+        BufferObjectDataInput in = serializationService.createObjectDataInput(out.toByteArray());
+        TaskRingBuffer copy = new TaskRingBuffer();
+        copy.read(in);
+        return copy;
+    }
+
+    static class ValueTask implements Callable<Integer>, Serializable {
+
+        private final int value;
+
+        ValueTask(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public Integer call() {
+            return value;
+        }
+    }
+}
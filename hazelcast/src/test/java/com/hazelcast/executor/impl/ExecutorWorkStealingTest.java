@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.executor.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.ExecutorConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.HazelcastInstanceAware;
+import com.hazelcast.core.IExecutorService;
+import com.hazelcast.core.MemberLeftException;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ExecutorWorkStealingTest extends HazelcastTestSupport {
+
+    private static final String EXECUTOR_NAME = "stealing";
+
+    private HazelcastInstance instance1;
+    private HazelcastInstance instance2;
+
+    @Before
+    public void setup() {
+        Config config = smallInstanceConfig()
+                .setProperty(ClusterProperty.EXECUTOR_WORK_STEALING_ENABLED.getName(), "true")
+                .addExecutorConfig(new ExecutorConfig(EXECUTOR_NAME, 1));
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(config);
+        instance1 = instances[0];
+        instance2 = instances[1];
+    }
+
+    @Test
+    public void testQueuedTasks_areStolenByIdleMember() {
+        DistributedExecutorService service1 = getNodeEngineImpl(instance1).getService(DistributedExecutorService.SERVICE_NAME);
+        DistributedExecutorService service2 = getNodeEngineImpl(instance2).getService(DistributedExecutorService.SERVICE_NAME);
+        Queue<Object> results = new ConcurrentLinkedQueue<>();
+        int taskCount = 20;
+        for (int i = 0; i < taskCount; i++) {
+            service1.execute(EXECUTOR_NAME, UUID.randomUUID(), newTask(instance1, 100), results::add, true);
+        }
+        // the member which runs out of tasks steals from the busy one
+        Queue<Object> idleResults = new ConcurrentLinkedQueue<>();
+        service2.execute(EXECUTOR_NAME, UUID.randomUUID(), newTask(instance2, 0), idleResults::add, true);
+
+        assertSizeEventually(taskCount, results);
+        assertEquals(1, idleResults.size());
+        UUID thiefUuid = instance2.getCluster().getLocalMember().getUuid();
+        assertTrue("No task has been stolen: " + results, results.contains(thiefUuid));
+        assertEquals(0, service1.getStealableTaskCount(EXECUTOR_NAME));
+        assertEqualsEventually(() -> instance1.getExecutorService(EXECUTOR_NAME)
+                .getLocalExecutorStats().getCompletedTaskCount(), (long) taskCount);
+    }
+
+    @Test
+    public void testQueuedTasks_areStolenByMemberWithoutTasks() {
+        // creates the executor proxy on all the members
+        instance1.getExecutorService(EXECUTOR_NAME);
+        DistributedExecutorService service1 = getNodeEngineImpl(instance1).getService(DistributedExecutorService.SERVICE_NAME);
+        Queue<Object> results = new ConcurrentLinkedQueue<>();
+        int taskCount = 20;
+        for (int i = 0; i < taskCount; i++) {
+            service1.execute(EXECUTOR_NAME, UUID.randomUUID(), newTask(instance1, 100), results::add, true);
+        }
+
+        // no task is submitted to the second member, it steals when idle
+        assertSizeEventually(taskCount, results);
+        UUID thiefUuid = instance2.getCluster().getLocalMember().getUuid();
+        assertTrue("No task has been stolen: " + results, results.contains(thiefUuid));
+    }
+
+    @Test
+    public void testStolenTask_whenThiefLeaves_thenTaskFailsWithMemberLeft() {
+        DistributedExecutorService service1 = getNodeEngineImpl(instance1).getService(DistributedExecutorService.SERVICE_NAME);
+        Map<String, UUID> taskUuids = new ConcurrentHashMap<>();
+        Map<String, Object> results = new ConcurrentHashMap<>();
+        String stolenTaskId = stealBlockingTask(service1, taskUuids, results);
+
+        instance2.getLifecycleService().terminate();
+
+        assertTrueEventually(() -> assertInstanceOf(MemberLeftException.class, results.get(stolenTaskId)));
+        BlockingTask.RELEASED.addAll(taskUuids.keySet());
+        assertEqualsEventually(() -> results.size(), taskUuids.size());
+    }
+
+    @Test
+    public void testStolenTask_whenCancelled_thenCancellationIsForwardedToThief() {
+        DistributedExecutorService service1 = getNodeEngineImpl(instance1).getService(DistributedExecutorService.SERVICE_NAME);
+        Map<String, UUID> taskUuids = new ConcurrentHashMap<>();
+        Map<String, Object> results = new ConcurrentHashMap<>();
+        String stolenTaskId = stealBlockingTask(service1, taskUuids, results);
+
+        assertTrue(service1.cancel(taskUuids.get(stolenTaskId), true));
+
+        assertInstanceOf(CancellationException.class, results.get(stolenTaskId));
+        assertTrueEventually(() -> assertTrue(BlockingTask.INTERRUPTED.contains(stolenTaskId)));
+        BlockingTask.RELEASED.addAll(taskUuids.keySet());
+    }
+
+    /**
+     * Queues three blocking tasks on the first member, the first one of them
+     * occupies its only executor thread, and lets the second member steal the
+     * last one.
+     *
+     * @return the id of the stolen task, once it is running on the thief
+     */
+    private String stealBlockingTask(DistributedExecutorService service1,
+                                     Map<String, UUID> taskUuids, Map<String, Object> results) {
+        for (int i = 0; i < 3; i++) {
+            String id = randomString();
+            UUID uuid = UUID.randomUUID();
+            taskUuids.put(id, uuid);
+            BlockingTask task = new BlockingTask(id);
+            task.setHazelcastInstance(instance1);
+            service1.execute(EXECUTOR_NAME, uuid, task, result -> results.put(id, result), true);
+        }
+        DistributedExecutorService service2 = getNodeEngineImpl(instance2).getService(DistributedExecutorService.SERVICE_NAME);
+        service2.execute(EXECUTOR_NAME, UUID.randomUUID(), newTask(instance2, 0), result -> { }, true);
+
+        UUID thiefUuid = instance2.getCluster().getLocalMember().getUuid();
+        String[] stolenTaskId = new String[1];
+        assertTrueEventually(() -> {
+            for (String id : taskUuids.keySet()) {
+                if (thiefUuid.equals(BlockingTask.STARTED.get(id))) {
+                    stolenTaskId[0] = id;
+                }
+            }
+            assertNotNull(stolenTaskId[0]);
+        });
+        return stolenTaskId[0];
+    }
+
+    @Test
+    public void testSubmit_allTasksComplete() throws Exception {
+        IExecutorService executor = instance1.getExecutorService(EXECUTOR_NAME);
+        List<Future<UUID>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(executor.submit(new MemberUuidTask(i % 5 == 0 ? 50 : 0)));
+        }
+        for (Future<UUID> future : futures) {
+            assertInstanceOf(UUID.class, future.get());
+        }
+    }
+
+    @Test
+    public void testInvokeAll_returnsResultsInOrder() throws Exception {
+        IExecutorService executor = instance1.getExecutorService(EXECUTOR_NAME);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            tasks.add(new IdentityTask(i));
+        }
+
+        List<Future<Integer>> futures = executor.invokeAll(tasks);
+
+        assertEquals(tasks.size(), futures.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertTrue(futures.get(i).isDone());
+            assertEquals(i, (int) futures.get(i).get());
+        }
+    }
+
+    @Test
+    public void testInvokeAll_whenTaskFails_thenOnlyItsFutureFails() throws Exception {
+        IExecutorService executor = instance1.getExecutorService(EXECUTOR_NAME);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        tasks.add(new IdentityTask(1));
+        tasks.add(new IdentityTask(-1));
+        tasks.add(new IdentityTask(3));
+
+        List<Future<Integer>> futures = executor.invokeAll(tasks);
+
+        assertEquals(1, (int) futures.get(0).get());
+        ExecutionException e = assertThrows(ExecutionException.class, () -> futures.get(1).get());
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertEquals(3, (int) futures.get(2).get());
+        assertFalse(futures.get(0).isCancelled());
+    }
+
+    private static MemberUuidTask newTask(HazelcastInstance instance, long sleepMillis) {
+        MemberUuidTask task = new MemberUuidTask(sleepMillis);
+        task.setHazelcastInstance(instance);
+        return task;
+    }
+
+    static class MemberUuidTask implements Callable<UUID>, Serializable, HazelcastInstanceAware {
+
+        private final long sleepMillis;
+        private transient HazelcastInstance instance;
+
+        MemberUuidTask(long sleepMillis) {
+            this.sleepMillis = sleepMillis;
+        }
+
+        @Override
+        public void setHazelcastInstance(HazelcastInstance instance) {
+            this.instance = instance;
+        }
+
+        @Override
+        public UUID call() throws Exception {
+            Thread.sleep(sleepMillis);
+            return instance.getCluster().getLocalMember().getUuid();
+        }
+    }
+
+    static class BlockingTask implements Callable<UUID>, Serializable, HazelcastInstanceAware {
+
+        static final Map<String, UUID> STARTED = new ConcurrentHashMap<>();
+        static final Set<String> INTERRUPTED = ConcurrentHashMap.newKeySet();
+        static final Set<String> RELEASED = ConcurrentHashMap.newKeySet();
+
+        private final String id;
+        private transient HazelcastInstance instance;
+
+        BlockingTask(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public void setHazelcastInstance(HazelcastInstance instance) {
+            this.instance = instance;
+        }
+
+        @Override
+        public UUID call() throws Exception {
+            UUID memberUuid = instance.getCluster().getLocalMember().getUuid();
+            STARTED.put(id, memberUuid);
+            try {
+                while (!RELEASED.contains(id)) {
+                    Thread.sleep(10);
+                }
+            } catch (InterruptedException e) {
+                INTERRUPTED.add(id);
+                throw e;
+            }
+            return memberUuid;
+        }
+    }
+
+    static class IdentityTask implements Callable<Integer>, Serializable {
+
+        private final int value;
+
+        IdentityTask(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public Integer call() {
+            if (value < 0) {
+                throw new IllegalStateException("negative");
+            }
+            return value;
+        }
+    }
+}
@@ -34,6 +34,7 @@ import com.hazelcast.mock.MockUtil;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.executionservice.ExecutionService;
 import com.hazelcast.spi.impl.executionservice.impl.ExecutionServiceImpl;
+import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.test.HazelcastSerialClassRunner;
 import com.hazelcast.test.HazelcastTestSupport;
 import com.hazelcast.test.JmxLeakHelper;
@@ -104,6 +105,7 @@ public class MetricsServiceTest extends HazelcastTestSupport {
         metricsRegistry = new MetricsRegistryImpl(loggerMock, ProbeLevel.INFO);
 
         when(nodeEngineMock.getConfig()).thenReturn(config);
+        when(nodeEngineMock.getProperties()).thenReturn(new HazelcastProperties(config));
         when(nodeEngineMock.getLoggingService()).thenReturn(loggingServiceMock);
         when(nodeEngineMock.getLogger(any(Class.class))).thenReturn(loggerMock);
         when(nodeEngineMock.getLogger(any(String.class))).thenReturn(loggerMock);
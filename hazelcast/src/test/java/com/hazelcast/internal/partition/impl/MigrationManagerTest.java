@@ -27,6 +27,7 @@ import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.cluster.impl.ClusterServiceImpl;
 import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.internal.partition.InternalPartition;
+import com.hazelcast.internal.partition.MigrationInfo;
 import com.hazelcast.internal.partition.PartitionReplica;
 import com.hazelcast.internal.partition.PartitionTableView;
 import com.hazelcast.internal.partition.ReadonlyInternalPartition;
@@ -48,13 +49,17 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import static java.util.Collections.emptyList;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -194,6 +199,40 @@ public class MigrationManagerTest {
         assertArrayEquals(snapshotBestMatch.toArray(addressTranslationMap), task.checkSnapshots());
     }
 
+    @Test
+    public void testLowestMissingReplicaIndex() throws UnknownHostException {
+        List<Member> members = members(3);
+        PartitionReplica[] newReplicas = arrange(members);
+
+        assertEquals(0, MigrationManagerImpl.lowestMissingReplicaIndex(arrange(emptyList()), newReplicas));
+        assertEquals(1, MigrationManagerImpl.lowestMissingReplicaIndex(arrange(members.subList(0, 1)), newReplicas));
+        assertEquals(2, MigrationManagerImpl.lowestMissingReplicaIndex(arrange(members.subList(0, 2)), newReplicas));
+
+        // the replicas are assigned to other members, but no replica is missing
+        PartitionReplica[] currentReplicas = arrange(members(3));
+        assertEquals(newReplicas.length, MigrationManagerImpl.lowestMissingReplicaIndex(currentReplicas, newReplicas));
+        assertEquals(newReplicas.length, MigrationManagerImpl.lowestMissingReplicaIndex(newReplicas, newReplicas));
+    }
+
+    @Test
+    public void testPrioritizeUnderReplicatedPartitions() throws UnknownHostException {
+        List<Member> members = members(2);
+        PartitionReplica source = arrange(members)[0];
+        PartitionReplica destination = arrange(members)[1];
+        int[] missingReplicaIndices = {InternalPartition.MAX_REPLICA_COUNT, 2, 1, 2, InternalPartition.MAX_REPLICA_COUNT, 0};
+        List<Queue<MigrationInfo>> queues = new ArrayList<>();
+        for (int partitionId = 0; partitionId < missingReplicaIndices.length; partitionId++) {
+            Queue<MigrationInfo> queue = new LinkedList<>();
+            queue.add(new MigrationInfo(partitionId, source, destination, 0, -1, -1, 0));
+            queues.add(queue);
+        }
+
+        MigrationManagerImpl.prioritizeUnderReplicatedPartitions(queues, missingReplicaIndices);
+
+        int[] partitionIds = queues.stream().mapToInt(q -> q.peek().getPartitionId()).toArray();
+        assertArrayEquals(new int[]{5, 2, 1, 3, 0, 4}, partitionIds);
+    }
+
     // clone given members list, removing removeCount from the end
     List<Member> cloneRemoving(List<Member> members, int removeCount) {
         List<Member> result = new ArrayList<>(members);
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.partition.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.ListenerConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.partition.MigrationInfo;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MigrationParallelismInClusterTest extends HazelcastTestSupport {
+
+    private static final int PARTITION_COUNT = 24;
+    private static final int MAX_PARALLEL_MIGRATIONS_IN_CLUSTER = 2;
+
+    @Test
+    public void testMigrationsInClusterAreLimited() {
+        ConcurrentMigrationCounter counter = new ConcurrentMigrationCounter();
+        Config config = smallInstanceConfig()
+                .setProperty(ClusterProperty.PARTITION_COUNT.getName(), String.valueOf(PARTITION_COUNT))
+                .setProperty(ClusterProperty.PARTITION_MAX_PARALLEL_MIGRATIONS.getName(), "10")
+                .setProperty(ClusterProperty.PARTITION_MAX_PARALLEL_MIGRATIONS_IN_CLUSTER.getName(),
+                        String.valueOf(MAX_PARALLEL_MIGRATIONS_IN_CLUSTER))
+                .addListenerConfig(new ListenerConfig(counter));
+
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(3);
+        HazelcastInstance hz1 = factory.newHazelcastInstance(config);
+        warmUpPartitions(hz1);
+        HazelcastInstance hz2 = factory.newHazelcastInstance(config);
+        HazelcastInstance hz3 = factory.newHazelcastInstance(config);
+        waitAllForSafeState(hz1, hz2, hz3);
+
+        assertTrue("No migrations were started", counter.started.get() > 0);
+        assertEquals(0, counter.ongoing.get());
+        assertTrue("Max concurrent migrations: " + counter.maxOngoing.get(),
+                counter.maxOngoing.get() <= MAX_PARALLEL_MIGRATIONS_IN_CLUSTER);
+    }
+
+    /**
+     * Counts the migrations the master runs concurrently. The migrations are
+     * slowed down on the destination, so that the master would run many of
+     * them at once without the cluster-wide limit.
+     */
+    private static class ConcurrentMigrationCounter implements MigrationInterceptor {
+
+        final AtomicInteger started = new AtomicInteger();
+        final AtomicInteger ongoing = new AtomicInteger();
+        final AtomicInteger maxOngoing = new AtomicInteger();
+
+        @Override
+        public void onMigrationStart(MigrationParticipant participant, MigrationInfo migration) {
+            if (participant == MigrationParticipant.MASTER) {
+                started.incrementAndGet();
+                maxOngoing.accumulateAndGet(ongoing.incrementAndGet(), Math::max);
+            } else if (participant == MigrationParticipant.DESTINATION) {
+                sleepMillis(50);
+            }
+        }
+
+        @Override
+        public void onMigrationComplete(MigrationParticipant participant, MigrationInfo migration, boolean success) {
+            if (participant == MigrationParticipant.MASTER) {
+                ongoing.decrementAndGet();
+            }
+        }
+    }
+}
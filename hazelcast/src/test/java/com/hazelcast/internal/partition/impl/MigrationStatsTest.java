@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.partition.impl;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.test.HazelcastTestSupport.sleepMillis;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MigrationStatsTest {
+
+    private final MigrationStats stats = new MigrationStats();
+
+    @Test
+    public void test_throughputAndEstimatedTime_whenNoMigrationCompleted() {
+        stats.markNewRepartition(10);
+
+        assertEquals(0, stats.getMigrationThroughput(), 0);
+        assertEquals(-1, stats.getEstimatedRemainingMigrationTime());
+    }
+
+    @Test
+    public void test_throughputAndEstimatedTime_whenMigrationsCompleted() {
+        stats.markNewRepartition(10);
+        sleepMillis(10);
+        stats.incrementCompletedMigrations();
+        stats.incrementCompletedMigrations();
+
+        assertTrue(stats.getMigrationThroughput() > 0);
+        assertTrue(stats.getEstimatedRemainingMigrationTime() > 0);
+    }
+
+    @Test
+    public void test_estimatedTime_whenAllMigrationsCompleted() {
+        stats.markNewRepartition(1);
+        sleepMillis(10);
+        stats.incrementCompletedMigrations();
+
+        assertTrue(stats.getMigrationThroughput() > 0);
+        assertEquals(0, stats.getEstimatedRemainingMigrationTime());
+    }
+
+    @Test
+    public void test_throughputAndEstimatedTime_resetOnNewRepartition() {
+        stats.markNewRepartition(1);
+        sleepMillis(10);
+        stats.incrementCompletedMigrations();
+
+        stats.markNewRepartition(5);
+
+        assertEquals(0, stats.getMigrationThroughput(), 0);
+        assertEquals(-1, stats.getEstimatedRemainingMigrationTime());
+    }
+}
@@ -246,6 +246,28 @@ public class CompactStreamSerializerTest {
         assertEquals(employerDTO, arrayList.get(2));
     }
 
+    @Test
+    public void testDefaultsReflection_readsDataWrittenWithDifferentSchemas() {
+        SerializationService serializationService = createSerializationService();
+
+        EmployeeDTO expected = new EmployeeDTO(30, 102310312);
+        Data fullData = serializationService.toData(expected);
+        // Mimics data written by an older version of the class, with most of the
+        // fields missing and the age field of an incompatible kind
+        Data partialData = serializationService.toData(compact(EmployeeDTO.class.getName())
+                .setInt64("age", 42)
+                .setInt64("id", 7)
+                .build());
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(expected, serializationService.toObject(fullData));
+
+            EmployeeDTO actual = serializationService.toObject(partialData);
+            assertEquals(0, actual.getAge());
+            assertEquals(7, actual.getId());
+        }
+    }
+
     @Test
     public void testDefaultsReflection_recursive() {
         SerializationService serializationService = createSerializationService();
@@ -261,6 +261,39 @@ public abstract class AbstractConcurrentArrayQueueTest extends HazelcastTestSupp
         });
     }
 
+    @Test
+    public void testDrain_whenHandlerStops_thenRemainingItemsStay() {
+        for (int i = 0; i < CAPACITY; i++) {
+            queue.offer(i);
+        }
+
+        int drained = queue.drain(item -> item < 1);
+
+        assertEquals(2, drained);
+        assertEquals(2, queue.removedCount());
+        assertEquals(CAPACITY - 2, queue.size());
+        assertEquals(2, (int) queue.poll());
+    }
+
+    @Test
+    public void testDrain_whenHandlerThrows_thenConsumedItemsRemoved() {
+        for (int i = 0; i < CAPACITY; i++) {
+            queue.offer(i);
+        }
+
+        assertThrows(IllegalStateException.class, () -> queue.drain(item -> {
+            if (item == 1) {
+                throw new IllegalStateException("expected");
+            }
+            return true;
+        }));
+
+        assertEquals(2, queue.removedCount());
+        assertTrue(queue.offer(23));
+        assertTrue(queue.offer(42));
+        assertEquals(2, (int) queue.poll());
+    }
+
     @Test
     public void testDrainTo() {
         testDrainTo(3, 3);
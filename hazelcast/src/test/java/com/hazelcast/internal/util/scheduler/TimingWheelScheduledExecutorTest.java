@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.util.scheduler;
+
+import com.hazelcast.logging.Logger;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class TimingWheelScheduledExecutorTest extends HazelcastTestSupport {
+
+    private TimingWheelScheduledExecutor executor;
+
+    @Before
+    public void setup() {
+        executor = new TimingWheelScheduledExecutor(Logger.getLogger(TimingWheelScheduledExecutorTest.class), 1, Thread::new);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+        assertTrue(executor.awaitTermination(5, SECONDS));
+    }
+
+    @Test
+    public void testSchedule_firesNotBeforeDelay() throws Exception {
+        long startNanos = System.nanoTime();
+        Future<Long> future = executor.schedule(System::nanoTime, 50, MILLISECONDS);
+
+        assertTrue(future.get() - startNanos >= MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void testSchedule_manyTasks_acrossWheelLevels() {
+        int taskCount = 100_000;
+        AtomicInteger early = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            // the delays above 512 ticks are cascaded from the second wheel
+            long delayMillis = i % 1500;
+            long dueNanos = System.nanoTime() + MILLISECONDS.toNanos(delayMillis);
+            executor.schedule(() -> {
+                if (System.nanoTime() < dueNanos) {
+                    early.incrementAndGet();
+                }
+                latch.countDown();
+            }, delayMillis, MILLISECONDS);
+        }
+
+        assertOpenEventually(latch);
+        assertEquals(0, early.get());
+    }
+
+    @Test
+    public void testCancel_preventsFiring() {
+        AtomicInteger fired = new AtomicInteger();
+        List<ScheduledFuture<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(executor.schedule(fired::incrementAndGet, 200 + i, MILLISECONDS));
+        }
+        for (ScheduledFuture<?> future : futures) {
+            assertTrue(future.cancel(false));
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.schedule(latch::countDown, 1500, MILLISECONDS);
+
+        assertOpenEventually(latch);
+        assertEquals(0, fired.get());
+        assertTrue(futures.get(0).isCancelled());
+    }
+
+    @Test
+    public void testScheduleAtFixedRate_repeatsUntilCancelled() {
+        AtomicInteger runs = new AtomicInteger();
+        ScheduledFuture<?> future = executor.scheduleAtFixedRate(runs::incrementAndGet, 0, 10, MILLISECONDS);
+
+        assertTrueEventually(() -> assertTrue(runs.get() >= 10));
+        future.cancel(false);
+        int runsAfterCancel = runs.get();
+        sleepMillis(100);
+        assertEquals(runsAfterCancel, runs.get());
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    public void testScheduleWithFixedDelay_repeats() {
+        AtomicInteger runs = new AtomicInteger();
+        executor.scheduleWithFixedDelay(runs::incrementAndGet, 0, 5, MILLISECONDS);
+
+        assertTrueEventually(() -> assertTrue(runs.get() >= 5));
+    }
+
+    @Test
+    public void testGetDelay() {
+        ScheduledFuture<?> future = executor.schedule(() -> { }, 1, SECONDS);
+
+        long delay = future.getDelay(NANOSECONDS);
+        assertTrue(delay > 0 && delay <= SECONDS.toNanos(1));
+        assertFalse(future.isDone());
+    }
+
+    @Test
+    public void testFailingTask_doesNotStopTimer() throws Exception {
+        executor.schedule(() -> {
+            throw new IllegalStateException("expected");
+        }, 1, MILLISECONDS);
+
+        assertEquals("ok", executor.schedule(() -> "ok", 10, MILLISECONDS).get());
+    }
+
+    @Test
+    public void testSchedule_afterShutdown_rejected() {
+        executor.shutdown();
+
+        assertThatThrownBy(() -> executor.schedule(() -> { }, 1, MILLISECONDS))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+}
@@ -153,6 +153,53 @@ public class ConcurrentInboundEdgeStreamTest {
         drainAndAssert(MADE_PROGRESS, 2);
     }
 
+    @Test
+    public void when_receivingBarriersWithBuffering_then_queueDrainedWhileWaiting() {
+        stream = ConcurrentInboundEdgeStream.create(conveyor, 0, 0, true, 2, "cies", null);
+
+        add(q1, barrier(0));
+        add(q2, 1);
+        drainAndAssert(MADE_PROGRESS, 1);
+
+        add(q1, 2, 3, 4);
+        drainAndAssert(NO_PROGRESS);
+        // only up to the buffer size is moved out of the queue
+        assertEquals(1, q1.size());
+
+        add(q2, barrier(0));
+        drainAndAssert(MADE_PROGRESS, barrier(0));
+        drainAndAssert(MADE_PROGRESS, 2, 3, 4);
+    }
+
+    @Test
+    public void when_bufferedItemsContainBarrier_then_notReordered() {
+        stream = ConcurrentInboundEdgeStream.create(conveyor, 0, 0, true, 16, "cies", null);
+
+        add(q1, barrier(0), 1, barrier(1), 2);
+        add(q2, 3);
+        drainAndAssert(MADE_PROGRESS, 3);
+        drainAndAssert(NO_PROGRESS);
+        assertEquals(0, q1.size());
+
+        add(q2, barrier(0), 4, barrier(1));
+        drainAndAssert(MADE_PROGRESS, barrier(0));
+        drainAndAssert(MADE_PROGRESS, 1, 4);
+        drainAndAssert(MADE_PROGRESS, barrier(1));
+        drainAndAssert(MADE_PROGRESS, 2);
+    }
+
+    @Test
+    public void when_bufferAheadCalled_then_itemsEmittedInOrder() {
+        stream = ConcurrentInboundEdgeStream.create(conveyor, 0, 0, true, 16, "cies", null);
+
+        add(q1, 1, 2);
+        stream.bufferAhead();
+        assertEquals(0, q1.size());
+
+        add(q1, 3);
+        drainAndAssert(MADE_PROGRESS, 1, 2, 3);
+    }
+
     @Test
     public void when_receivingBarriersWhileDone_then_coalesce() {
         stream = ConcurrentInboundEdgeStream.create(conveyor, 0, 0, true, "cies", null);
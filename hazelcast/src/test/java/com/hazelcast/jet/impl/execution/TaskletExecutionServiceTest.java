@@ -19,6 +19,7 @@ package com.hazelcast.jet.impl.execution;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.internal.metrics.ProbeLevel;
 import com.hazelcast.internal.metrics.impl.MetricsRegistryImpl;
+import com.hazelcast.internal.util.JavaVersion;
 import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.core.JetTestSupport;
 import com.hazelcast.jet.impl.util.ProgressState;
@@ -38,14 +39,19 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.LockSupport;
 import java.util.stream.Stream;
 
@@ -55,6 +61,8 @@ import static com.hazelcast.jet.impl.util.ExceptionUtil.peel;
 import static com.hazelcast.jet.impl.util.ProgressState.DONE;
 import static com.hazelcast.jet.impl.util.ProgressState.MADE_PROGRESS;
 import static com.hazelcast.jet.impl.util.ProgressState.NO_PROGRESS;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_BLOCKING_TASKLET_VIRTUAL_THREADS_ENABLED;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_COOPERATIVE_WORK_STEALING_ENABLED;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -65,6 +73,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -80,12 +89,13 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
 
     private TaskletExecutionService tes;
     private ExecutorService executor;
+    private NodeEngine neMock;
     private final ClassLoader classLoader = getClass().getClassLoader();
 
     @Before
     public void before() {
         executor = Executors.newCachedThreadPool();
-        NodeEngine neMock = mock(NodeEngine.class);
+        neMock = mock(NodeEngine.class);
 
         HazelcastInstance hzMock = mock(HazelcastInstance.class);
         when(neMock.getHazelcastInstance()).thenReturn(hzMock);
@@ -126,6 +136,24 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
         t.assertDone();
     }
 
+    @Test
+    public void when_blockingTasksOnVirtualThreads_then_executed() {
+        assumeTrue(JavaVersion.isAtLeast(JavaVersion.JAVA_21));
+        // Given
+        Properties properties = new Properties();
+        properties.setProperty(JET_BLOCKING_TASKLET_VIRTUAL_THREADS_ENABLED.getName(), "true");
+        tes.shutdown();
+        tes = new TaskletExecutionService(neMock, THREAD_COUNT, new HazelcastProperties(properties));
+        List<MockTasklet> tasklets =
+                Stream.generate(() -> new MockTasklet().blocking().callsBeforeDone(10)).limit(1000).collect(toList());
+
+        // When
+        executeAndJoin(tasklets);
+
+        // Then
+        tasklets.forEach(MockTasklet::assertDone);
+    }
+
     @Test
     public void when_nonBlockingTask_then_executed() {
         // Given
@@ -241,6 +269,38 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
         tasklets.forEach(MockTasklet::assertDone);
     }
 
+    @Test
+    public void when_workStealingEnabled_then_idleWorkersTakeOverTasklets() {
+        // Given
+        Properties properties = new Properties();
+        properties.setProperty(JET_COOPERATIVE_WORK_STEALING_ENABLED.getName(), "true");
+        tes.shutdown();
+        tes = new TaskletExecutionService(neMock, THREAD_COUNT, new HazelcastProperties(properties));
+        // tasklets are assigned round-robin, the first worker gets both long-running tasklets
+        ThreadRecordingTasklet first = new ThreadRecordingTasklet();
+        ThreadRecordingTasklet last = new ThreadRecordingTasklet();
+        List<Tasklet> tasklets = new ArrayList<>();
+        tasklets.add(first);
+        for (int i = 1; i < THREAD_COUNT; i++) {
+            tasklets.add(new MockTasklet().callsBeforeDone(10));
+        }
+        tasklets.add(last);
+
+        // When
+        CompletableFuture<Void> f = tes.beginExecute(tasklets, cancellationFuture, classLoader);
+
+        // Then
+        assertTrueEventually(() -> {
+            Set<String> threadNames = new HashSet<>(first.threadNames);
+            threadNames.addAll(last.threadNames);
+            assertTrue("tasklets didn't move between workers: " + threadNames, threadNames.size() > 1);
+        });
+        first.done = true;
+        last.done = true;
+        f.join();
+        assertFalse("concurrent tasklet call", first.concurrentCall || last.concurrentCall);
+    }
+
     @Test
     public void when_nonBlockingTaskletIsCancelled_then_completesEarly() {
         // Given
@@ -491,6 +551,24 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
         }
     }
 
+    private static class ThreadRecordingTasklet implements Tasklet {
+
+        final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        final AtomicBoolean running = new AtomicBoolean();
+        volatile boolean concurrentCall;
+        volatile boolean done;
+
+        @Nonnull @Override
+        public ProgressState call() {
+            if (!running.compareAndSet(false, true)) {
+                concurrentCall = true;
+            }
+            threadNames.add(Thread.currentThread().getName());
+            running.set(false);
+            return done ? DONE : MADE_PROGRESS;
+        }
+    }
+
     private static class TaskletAssertingThreadLocal implements Tasklet {
 
         private static final ThreadLocal<Integer> threadLocal = ThreadLocal.withInitial(() -> 0);
@@ -24,9 +24,11 @@ import com.hazelcast.jet.Util;
 import com.hazelcast.jet.aggregate.AggregateOperations;
 import com.hazelcast.jet.config.DeltaJobConfig;
 import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.datamodel.KeyedWindowResult;
 import com.hazelcast.jet.pipeline.BatchStage;
 import com.hazelcast.jet.pipeline.JoinClause;
 import com.hazelcast.jet.pipeline.Pipeline;
+import com.hazelcast.jet.pipeline.WindowDefinition;
 import com.hazelcast.jet.pipeline.test.TestSources;
 import com.hazelcast.test.HazelcastParametrizedRunner;
 import com.hazelcast.test.HazelcastSerialParametersRunnerFactory;
@@ -48,6 +50,7 @@ import java.util.stream.IntStream;
 import static com.hazelcast.function.Functions.wholeItem;
 import static com.hazelcast.jet.Util.entry;
 import static com.hazelcast.jet.aggregate.AggregateOperations.counting;
+import static com.hazelcast.jet.pipeline.test.AssertionSinks.assertAnyOrder;
 import static com.hazelcast.jet.pipeline.test.AssertionSinks.assertOrdered;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -93,6 +96,14 @@ public class MemoryManagementTest extends SimpleTestInClusterSupport {
                             .mapStateful(() -> 1, (a, s, i) -> i)
                             .writeTo(assertOrdered(list(itemCount)))
                 ),
+                test("SessionWindow", (pipeline, itemCount) ->
+                    pipeline.readFrom(TestSources.items(list(itemCount)))
+                            .addTimestamps(i -> 0L, 0)
+                            .groupingKey(wholeItem())
+                            .window(WindowDefinition.session(10))
+                            .aggregate(counting())
+                            .writeTo(assertAnyOrder(sessions(itemCount)))
+                ),
                 test("Distinct", (pipeline, itemCount) ->
                     pipeline.readFrom(TestSources.items(list(itemCount)))
                             .distinct()
@@ -152,4 +163,10 @@ public class MemoryManagementTest extends SimpleTestInClusterSupport {
     private static Collection<Entry<Integer, Long>> cardinalities(int numberOfItems) {
         return IntStream.range(0, numberOfItems).mapToObj(i -> entry(i, 1L)).collect(toList());
     }
+
+    private static Collection<KeyedWindowResult<Integer, Long>> sessions(int numberOfItems) {
+        return IntStream.range(0, numberOfItems)
+                .mapToObj(i -> new KeyedWindowResult<>(0, 10, i, 1L))
+                .collect(toList());
+    }
 }
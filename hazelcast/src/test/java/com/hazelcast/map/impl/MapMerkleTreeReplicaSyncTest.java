@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.partition.InternalPartitionService;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.services.ServiceNamespace;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.LocalMapStats;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.Accessors.getPartitionService;
+import static com.hazelcast.test.Accessors.getSerializationService;
+import static com.hazelcast.test.TestTaskExecutorUtil.runOnPartitionThread;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapMerkleTreeReplicaSyncTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    @Test
+    public void testDivergedBackup_isRepairedByDifferentialSync() {
+        String mapName = randomMapName();
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(getConfig(mapName));
+        IMap<Integer, Integer> map = instances[0].getMap(mapName);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+        waitAllForSafeState(instances);
+
+        int key = 0;
+        Data dataKey = getSerializationService(instances[0]).toData(key);
+        int partitionId = getPartitionService(instances[0]).getPartitionId(dataKey);
+        HazelcastInstance owner = getPartitionService(instances[0]).getPartition(partitionId).isLocal()
+                ? instances[0] : instances[1];
+        HazelcastInstance backup = owner == instances[0] ? instances[1] : instances[0];
+        ServiceNamespace namespace = MapService.getObjectNamespace(mapName);
+
+        // drop the entry from the backup replica without a replica version change, as if its backup was lost
+        runOnPartitionThread(backup, () -> {
+            getRecordStore(backup, mapName, partitionId).removeReplicatedRecord(dataKey, true);
+            InternalPartitionService partitionService = getPartitionService(backup);
+            partitionService.getPartitionReplicaVersionManager().markPartitionReplicaAsSyncRequired(partitionId, namespace, 1);
+            return null;
+        }, partitionId);
+        assertNull(runOnPartitionThread(backup,
+                () -> getRecordStore(backup, mapName, partitionId).getRecordOrNull(dataKey, true), partitionId));
+
+        assertTrueEventually(() -> assertNotNull(runOnPartitionThread(backup,
+                () -> getRecordStore(backup, mapName, partitionId).getRecordOrNull(dataKey, true), partitionId)));
+        LocalMapStats ownerStats = owner.getMap(mapName).getLocalMapStats();
+        assertTrue(ownerStats.getReplicationStats().getDifferentialPartitionReplicationCount() > 0);
+        assertTrue(ownerStats.getReplicationStats().getDifferentialReplicationRecordCount() < ENTRY_COUNT);
+        assertEquals(ENTRY_COUNT, map.size());
+    }
+
+    private static RecordStore getRecordStore(HazelcastInstance instance, String mapName, int partitionId) {
+        MapService mapService = getNodeEngineImpl(instance).getService(MapService.SERVICE_NAME);
+        return mapService.getMapServiceContext().getPartitionContainer(partitionId).getExistingRecordStore(mapName);
+    }
+
+    private Config getConfig(String mapName) {
+        Config config = smallInstanceConfig()
+                .setProperty(ClusterProperty.PARTITION_REPLICA_SYNC_MERKLE_TREE_ENABLED.getName(), "true")
+                .setProperty(ClusterProperty.PARTITION_BACKUP_SYNC_INTERVAL.getName(), "1");
+        config.addMapConfig(new MapConfig(mapName).setInMemoryFormat(InMemoryFormat.BINARY).setBackupCount(1));
+        return config;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.eviction;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.LocalMapStats;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.map.impl.eviction.MapClearExpiredRecordsTask.PROP_TASK_PERIOD_SECONDS;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapExpirationIndexTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    @Override
+    protected Config getConfig() {
+        return smallInstanceConfig()
+                .setProperty(ClusterProperty.MAP_EXPIRATION_INDEX_ENABLED.getName(), "true")
+                .setProperty(ClusterProperty.MAP_EXPIRY_DELAY_SECONDS.getName(), "0")
+                .setProperty(PROP_TASK_PERIOD_SECONDS, "1");
+    }
+
+    @Test
+    public void expiredEntries_areRemoved_withoutBeingAccessed() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = instance.getMap(randomMapName());
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, i, 1, SECONDS);
+        }
+        for (int i = ENTRY_COUNT; i < 2 * ENTRY_COUNT; i++) {
+            map.set(i, i);
+        }
+
+        assertTrueEventually(() -> assertEquals(ENTRY_COUNT, map.getLocalMapStats().getOwnedEntryCount()));
+        for (int i = ENTRY_COUNT; i < 2 * ENTRY_COUNT; i++) {
+            assertEquals(i, (int) map.get(i));
+        }
+    }
+
+    @Test
+    public void entriesWithExtendedTtl_areNotRemoved() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = instance.getMap(randomMapName());
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, i, 1, SECONDS);
+        }
+        for (int i = 0; i < ENTRY_COUNT; i += 2) {
+            map.setTtl(i, 1, HOURS);
+        }
+
+        assertTrueEventually(() -> assertEquals(ENTRY_COUNT / 2, map.getLocalMapStats().getOwnedEntryCount()));
+        assertTrueAllTheTime(() -> assertEquals(ENTRY_COUNT / 2, map.getLocalMapStats().getOwnedEntryCount()), 2);
+        for (int i = 0; i < ENTRY_COUNT; i += 2) {
+            assertEquals(i, (int) map.get(i));
+        }
+    }
+
+    @Test
+    public void expiredEntries_areRemovedFromBackups() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance(getConfig());
+        HazelcastInstance instance2 = factory.newHazelcastInstance(getConfig());
+        String mapName = randomMapName();
+        IMap<Integer, Integer> map = instance1.getMap(mapName);
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.set(i, i, 0, SECONDS, 1, SECONDS);
+        }
+
+        assertTrueEventually(() -> {
+            LocalMapStats stats1 = instance1.getMap(mapName).getLocalMapStats();
+            LocalMapStats stats2 = instance2.getMap(mapName).getLocalMapStats();
+            assertEquals(0, stats1.getOwnedEntryCount() + stats2.getOwnedEntryCount());
+            assertEquals(0, stats1.getBackupEntryCount() + stats2.getBackupEntryCount());
+        });
+    }
+}
@@ -20,9 +20,11 @@ import com.hazelcast.config.IndexType;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.internal.partition.MigrationEndpoint;
 import com.hazelcast.internal.partition.PartitionMigrationEvent;
+import com.hazelcast.internal.partition.impl.InternalPartitionServiceImpl;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.util.IterationType;
 import com.hazelcast.internal.util.SetUtil;
+import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.map.IMap;
 import com.hazelcast.map.impl.MapService;
 import com.hazelcast.query.Predicate;
@@ -42,11 +44,15 @@ import org.junit.runner.RunWith;
 import java.util.Set;
 import java.util.UUID;
 
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_USE_INDEXES_DURING_MIGRATION;
 import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.Accessors.getPartitionService;
 import static com.hazelcast.test.Accessors.getSerializationService;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastSerialClassRunner.class)
 @Category({QuickTest.class})
@@ -180,6 +186,59 @@ public class QueryRunnerTest extends HazelcastTestSupport {
         assertNull(result.getPartitionIds());
     }
 
+    @Test
+    public void verifyIndexedQuerySuccessWhileMigrating_whenIndexesUsedDuringMigration() {
+        restartWithIndexesUsedDuringMigration();
+        Predicate predicate = new EqualPredicate("this", value);
+
+        mapService.beforeMigration(new PartitionMigrationEvent(MigrationEndpoint.SOURCE, partitionId, 0, 1, UUID.randomUUID()));
+
+        QueryResult result = (QueryResult) queryRunner.runIndexOrPartitionScanQueryOnOwnedPartitions(newQuery(predicate));
+
+        assertEquals(1, result.getRows().size());
+        assertEquals(mapService.getMapServiceContext().getCachedOwnedPartitions(), result.getPartitionIds());
+    }
+
+    @Test
+    public void verifyIndexedQuerySkipsMigratingPartition_whenIndexesUsedDuringMigration() {
+        restartWithIndexesUsedDuringMigration();
+        Predicate predicate = new EqualPredicate("this", value);
+
+        mapService.beforeMigration(new PartitionMigrationEvent(MigrationEndpoint.SOURCE, partitionId, 0, 1, UUID.randomUUID()));
+        InternalPartitionServiceImpl partitionService = (InternalPartitionServiceImpl) getPartitionService(instance);
+        assertTrue(partitionService.getPartitionStateManager().trySetMigratingFlag(partitionId));
+
+        QueryResult result = (QueryResult) queryRunner.runIndexOrPartitionScanQueryOnOwnedPartitions(newQuery(predicate));
+
+        // the only matching entry is in the migrating partition, which is left to the caller
+        assertEquals(0, result.getRows().size());
+        PartitionIdSet partitionIds = result.getPartitionIds();
+        assertFalse(partitionIds.contains(partitionId));
+        assertEquals(mapService.getMapServiceContext().getCachedOwnedPartitions().size() - 1, partitionIds.size());
+    }
+
+    private void restartWithIndexesUsedDuringMigration() {
+        instance.shutdown();
+        instance = createHazelcastInstance(getConfig()
+                .setProperty(QUERY_USE_INDEXES_DURING_MIGRATION.getName(), "true"));
+        mapService = getMapService();
+        map = instance.getMap(randomName());
+        queryRunner = getQueryRunner();
+
+        key = generateKeyForPartition(instance, partitionId);
+        map.put(key, value);
+        map.addIndex(IndexType.HASH, "this");
+    }
+
+    private Query newQuery(Predicate predicate) {
+        return Query.of()
+                .mapName(map.getName())
+                .predicate(predicate)
+                .iterationType(IterationType.ENTRY)
+                .partitionIdSet(SetUtil.allPartitionIds(instance.getPartitionService().getPartitions().size()))
+                .build();
+    }
+
     private MapService getMapService() {
         return getNodeEngineImpl(instance).getService(MapService.SERVICE_NAME);
     }
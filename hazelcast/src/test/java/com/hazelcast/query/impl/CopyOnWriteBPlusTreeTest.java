@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CopyOnWriteBPlusTreeTest {
+
+    private static final int KEY_RANGE = 2000;
+
+    private final CopyOnWriteBPlusTree<Integer, String> tree = new CopyOnWriteBPlusTree<>(Comparator.naturalOrder(), 4);
+    private final TreeMap<Integer, String> expected = new TreeMap<>();
+
+    @Test
+    public void testEmpty() {
+        assertTrue(tree.isEmpty());
+        assertNull(tree.get(1));
+        assertFalse(tree.iterator(null, false, null, false, false).hasNext());
+        assertFalse(tree.iterator(null, false, null, false, true).hasNext());
+    }
+
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random();
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(KEY_RANGE);
+            if (random.nextInt(3) == 0) {
+                tree.remove(key);
+                expected.remove(key);
+            } else {
+                tree.put(key, "value-" + i);
+                expected.put(key, "value-" + i);
+            }
+
+            if (i % 1000 == 0) {
+                assertContents(random);
+            }
+        }
+        assertContents(random);
+
+        for (int key = 0; key < KEY_RANGE; key++) {
+            tree.remove(key);
+        }
+        assertTrue(tree.isEmpty());
+        assertFalse(tree.iterator(null, false, null, false, false).hasNext());
+    }
+
+    @Test
+    public void testIteratorIsNotAffectedByModifications() {
+        for (int key = 0; key < 100; key++) {
+            tree.put(key, "value");
+        }
+
+        Iterator<Map.Entry<Integer, String>> iterator = tree.iterator(10, true, 20, false, false);
+        for (int key = 0; key < 100; key += 2) {
+            tree.remove(key);
+        }
+        tree.put(15, "updated");
+
+        for (int key = 10; key < 20; key++) {
+            Map.Entry<Integer, String> entry = iterator.next();
+            assertEquals(key, (int) entry.getKey());
+            assertEquals("value", entry.getValue());
+        }
+        assertFalse(iterator.hasNext());
+        assertEquals("updated", tree.get(15));
+        assertNull(tree.get(16));
+    }
+
+    private void assertContents(Random random) {
+        for (int key = 0; key < KEY_RANGE; key++) {
+            assertEquals(expected.get(key), tree.get(key));
+        }
+
+        assertIteration(expected, tree.iterator(null, false, null, false, false));
+        assertIteration(expected.descendingMap(), tree.iterator(null, false, null, false, true));
+
+        for (int i = 0; i < 100; i++) {
+            int from = random.nextInt(KEY_RANGE);
+            int to = from + random.nextInt(KEY_RANGE - from);
+            boolean fromInclusive = random.nextBoolean();
+            boolean toInclusive = random.nextBoolean();
+            if (from == to && (!fromInclusive || !toInclusive)) {
+                continue;
+            }
+
+            NavigableMap<Integer, String> subMap = expected.subMap(from, fromInclusive, to, toInclusive);
+            assertIteration(subMap, tree.iterator(from, fromInclusive, to, toInclusive, false));
+            assertIteration(subMap.descendingMap(), tree.iterator(from, fromInclusive, to, toInclusive, true));
+            assertIteration(expected.headMap(to, toInclusive), tree.iterator(null, false, to, toInclusive, false));
+            assertIteration(expected.tailMap(from, fromInclusive).descendingMap(),
+                    tree.iterator(from, fromInclusive, null, false, true));
+        }
+    }
+
+    private static void assertIteration(Map<Integer, String> expected, Iterator<Map.Entry<Integer, String>> iterator) {
+        List<Map.Entry<Integer, String>> actual = new ArrayList<>();
+        iterator.forEachRemaining(actual::add);
+        assertEquals(new ArrayList<>(expected.entrySet()), actual);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.LocalIndexStats;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_COST_BASED_INDEX_SELECTION_ENABLED;
+import static com.hazelcast.test.Accessors.getAllIndexes;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CostBasedIndexSelectionTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 100;
+
+    private IMap<Integer, Value> map;
+
+    @Override
+    protected Config getConfig() {
+        Config config = smallInstanceConfig();
+        config.setProperty(QUERY_COST_BASED_INDEX_SELECTION_ENABLED.getName(), "true");
+        config.getMapConfig("map")
+                .addIndexConfig(new IndexConfig(IndexType.HASH, "active").setName("active"))
+                .addIndexConfig(new IndexConfig(IndexType.SORTED, "id").setName("id"));
+        return config;
+    }
+
+    @Before
+    public void before() {
+        map = createHazelcastInstance(getConfig()).getMap("map");
+        for (int i = 0; i < ENTRY_COUNT; ++i) {
+            map.put(i, new Value(i));
+        }
+    }
+
+    @Test
+    public void testCardinalityEstimations() {
+        IndexRegistry indexes = getAllIndexes(map).get(0);
+        InternalIndex activeIndex = indexes.getIndex("active");
+        InternalIndex idIndex = indexes.getIndex("id");
+
+        assertEquals(ENTRY_COUNT / 2, activeIndex.estimateEqualCardinality());
+        assertEquals(1, idIndex.estimateEqualCardinality());
+        assertEquals(ENTRY_COUNT / 3, idIndex.estimateRangeCardinality());
+
+        for (int i = 0; i < ENTRY_COUNT / 2; ++i) {
+            map.delete(i);
+        }
+        assertEquals(ENTRY_COUNT / 4, activeIndex.estimateEqualCardinality());
+        assertEquals(1, idIndex.estimateEqualCardinality());
+
+        map.clear();
+        assertEquals(0, activeIndex.estimateEqualCardinality());
+        assertEquals(0, idIndex.estimateRangeCardinality());
+    }
+
+    @Test
+    public void testUnselectiveIndexIsNotQueried() {
+        Collection<Value> result = map.values(Predicates.and(Predicates.equal("active", true), Predicates.equal("id", 42)));
+
+        assertEquals(1, result.size());
+        assertEquals(42, result.iterator().next().id);
+        Map<String, LocalIndexStats> indexStats = map.getLocalMapStats().getIndexStats();
+        assertEquals(0, indexStats.get("active").getHitCount());
+        assertEquals(1, indexStats.get("id").getHitCount());
+    }
+
+    @Test
+    public void testComparablySelectiveIndexesAreQueried() {
+        Collection<Value> result = map.values(Predicates.and(Predicates.equal("active", false), Predicates.lessThan("id", 50)));
+
+        assertEquals(ENTRY_COUNT / 4, result.size());
+        for (Value value : result) {
+            assertEquals(1, value.id % 2);
+        }
+        Map<String, LocalIndexStats> indexStats = map.getLocalMapStats().getIndexStats();
+        assertEquals(1, indexStats.get("active").getHitCount());
+        assertEquals(1, indexStats.get("id").getHitCount());
+    }
+
+    static class Value implements Serializable {
+
+        final int id;
+        final boolean active;
+
+        Value(int id) {
+            this.id = id;
+            this.active = id % 2 == 0;
+        }
+    }
+}
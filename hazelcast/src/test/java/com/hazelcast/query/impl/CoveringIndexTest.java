@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.config.CacheDeserializedValues;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.map.IMap;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.projection.Projections;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.spi.properties.ClusterProperty.QUERY_INDEX_COVERING_ENABLED;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class CoveringIndexTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 100;
+
+    private IMap<Integer, Record> map;
+
+    @Override
+    protected Config getConfig() {
+        Config config = smallInstanceConfig();
+        config.setProperty(QUERY_INDEX_COVERING_ENABLED.getName(), "true");
+        config.getMapConfig("map")
+                .setInMemoryFormat(InMemoryFormat.BINARY)
+                .setCacheDeserializedValues(CacheDeserializedValues.NEVER)
+                .addIndexConfig(new IndexConfig(IndexType.SORTED, "v1"))
+                .addIndexConfig(new IndexConfig(IndexType.SORTED, "v2", "v3"));
+        return config;
+    }
+
+    @Before
+    public void before() {
+        map = createHazelcastInstance(getConfig()).getMap("map");
+        for (int i = 0; i < ENTRY_COUNT; ++i) {
+            map.put(i, new Record(i));
+        }
+    }
+
+    @Test
+    public void testSingleAttributeProjection() {
+        Record.deserializationCount.set(0);
+        Collection<Integer> result = map.project(Projections.singleAttribute("v1"), Predicates.lessThan("v1", 10));
+
+        assertEquals(0, Record.deserializationCount.get());
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 10; ++i) {
+            expected.add(i);
+        }
+        assertEquals(expected, new HashSet<>(result));
+    }
+
+    @Test
+    public void testCompositeIndexProjection() {
+        Record.deserializationCount.set(0);
+        Collection<Object[]> result = map.project(Projections.multiAttribute("v2", "this.v3"),
+                Predicates.and(Predicates.equal("v2", 1), Predicates.greaterEqual("v3", 30)));
+
+        assertEquals(0, Record.deserializationCount.get());
+        assertEquals(ENTRY_COUNT / 10 - 3, result.size());
+        for (Object[] row : result) {
+            assertEquals(1, row[0]);
+        }
+    }
+
+    @Test
+    public void testUncoveredAttributeProjection() {
+        Record.deserializationCount.set(0);
+        Collection<Object[]> result = map.project(Projections.multiAttribute("v1", "v2"), Predicates.equal("v1", 42));
+
+        assertEquals(1, Record.deserializationCount.get());
+        assertEquals(1, result.size());
+        assertArrayEquals(new Object[]{42, 2}, result.iterator().next());
+    }
+
+    @Test
+    public void testProjectionAfterUpdate() {
+        map.set(5, new Record(50));
+
+        Collection<Integer> result = map.project(Projections.singleAttribute("v1"), Predicates.equal("v1", 50));
+
+        assertEquals(2, result.size());
+    }
+
+    static class Record implements DataSerializable {
+
+        static final AtomicInteger deserializationCount = new AtomicInteger();
+
+        int v1;
+        int v2;
+        int v3;
+
+        @SuppressWarnings("unused")
+        Record() {
+        }
+
+        Record(int key) {
+            this.v1 = key;
+            this.v2 = key % 10;
+            this.v3 = key;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeInt(v1);
+            out.writeInt(v2);
+            out.writeInt(v3);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            v1 = in.readInt();
+            v2 = in.readInt();
+            v3 = in.readInt();
+
+            deserializationCount.incrementAndGet();
+        }
+    }
+}
@@ -122,6 +122,29 @@ public class IndexTest {
         return new CachedQueryEntry<>(ss, toData(key), attributeValue, newExtractor());
     }
 
+    @Test
+    public void testBulkLoad() {
+        for (IndexType indexType : new IndexType[]{IndexType.SORTED, IndexType.HASH}) {
+            IndexRegistry is = IndexRegistry.newBuilder(null, mapContainer.getName(), ss, copyBehavior,
+                    DEFAULT_IN_MEMORY_FORMAT).build();
+            InternalIndex index = is.addOrGetIndex(IndexUtils.createTestIndexConfig(indexType, "this"));
+
+            int entryCount = 3 * AbstractIndex.BULK_LOAD_BATCH_SIZE + 1;
+            IndexBulkLoader loader = index.newBulkLoader(Index.OperationSource.USER);
+            for (int i = entryCount - 1; i >= 0; i--) {
+                CachedQueryEntry<?, ?> entry = newRecord(i, i % 10);
+                loader.add(entry, entry);
+            }
+            assertEquals(0, index.getRecords(3).size());
+
+            loader.load();
+
+            for (int value = 0; value < 10; value++) {
+                assertEquals(indexType + ", value " + value, (entryCount - value + 9) / 10, index.getRecords(value).size());
+            }
+        }
+    }
+
     @Test
     public void testRemoveEnumIndex() {
         IndexConfig config = IndexUtils.createTestIndexConfig(IndexType.HASH, "favoriteCity");
@@ -32,11 +32,15 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
 public class OrderedIndexStoreTest {
-    OrderedIndexStore store = new OrderedIndexStore(IndexCopyBehavior.COPY_ON_WRITE);
+    BaseSingleValueIndexStore store = newStore();
     int size = 9;
 
     Function<Integer, Integer> keyToIndex = (Integer i) -> i % 3;
 
+    BaseSingleValueIndexStore newStore() {
+        return new OrderedIndexStore(IndexCopyBehavior.COPY_ON_WRITE);
+    }
+
     @Before
     public void setup() {
         range(0, size).forEach(i -> store.insertInternal(keyToIndex.apply(i), new DummyEntry(i, keyToIndex.apply(i))));
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelParametersRunnerFactory;
+import com.hazelcast.test.HazelcastParametrizedRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Collection;
+
+import static com.hazelcast.test.Accessors.getAllIndexes;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.runners.Parameterized.UseParametersRunnerFactory;
+
+@RunWith(HazelcastParametrizedRunner.class)
+@UseParametersRunnerFactory(HazelcastParallelParametersRunnerFactory.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PartitionedOnHeapIndexingTest extends PartitionIndexingTest {
+
+    @Override
+    protected Config getConfig() {
+        return super.getConfig().setProperty(ClusterProperty.ON_HEAP_PARTITIONED_INDEX_ENABLED.getName(), "true");
+    }
+
+    @Test
+    public void testQueryUsesPartitionedIndexes() {
+        HazelcastInstance instance1 = factory.newHazelcastInstance(getConfig());
+        HazelcastInstance instance2 = factory.newHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = instance1.getMap(MAP_NAME);
+        map.addIndex(IndexType.SORTED, "this");
+        map.addIndex(IndexType.HASH, "__key");
+        for (int i = 0; i < 1000; ++i) {
+            map.put(i, i % 100);
+        }
+        waitAllForSafeState(instance1, instance2);
+
+        for (IndexRegistry indexes : getAllIndexes(map)) {
+            assertFalse(indexes.isGlobal());
+        }
+
+        Collection<Integer> values = map.values(Predicates.between("this", 10, 19));
+        assertEquals(100, values.size());
+        assertTrue(values.stream().allMatch(value -> value >= 10 && value <= 19));
+        assertEquals(1, map.keySet(Predicates.equal("__key", 42)).size());
+        assertEquals(10, map.keySet(Predicates.equal("this", 42)).size());
+
+        map.remove(42);
+        map.put(1042, 42);
+        assertEquals(10, instance2.getMap(MAP_NAME).keySet(Predicates.equal("this", 42)).size());
+    }
+}
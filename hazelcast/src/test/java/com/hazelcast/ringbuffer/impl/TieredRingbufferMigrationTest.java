@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.ringbuffer.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.RingbufferConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.ringbuffer.Ringbuffer;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.ringbuffer.impl.RingbufferService.getRingbufferNamespace;
+import static com.hazelcast.spi.properties.ClusterProperty.RINGBUFFER_TIERED_STORAGE_DIRECTORY;
+import static com.hazelcast.spi.properties.ClusterProperty.RINGBUFFER_TIERED_STORAGE_HOT_CAPACITY;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class TieredRingbufferMigrationTest extends HazelcastTestSupport {
+
+    private static final int CAPACITY = 1000;
+    private static final int HOT_CAPACITY = 10;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Config getConfig(String name) {
+        return smallInstanceConfig()
+                .addRingBufferConfig(new RingbufferConfig(name).setCapacity(CAPACITY).setBackupCount(1))
+                .setProperty(RINGBUFFER_TIERED_STORAGE_HOT_CAPACITY.getName(), String.valueOf(HOT_CAPACITY))
+                .setProperty(RINGBUFFER_TIERED_STORAGE_DIRECTORY.getName(), folder.getRoot().getAbsolutePath());
+    }
+
+    @Test
+    public void tieredItems_areReplicated_toJoiningMember() throws Exception {
+        String name = randomName();
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance(getConfig(name));
+        Ringbuffer<String> ringbuffer = instance1.getRingbuffer(name);
+        for (int i = 0; i < CAPACITY; i++) {
+            ringbuffer.add("item" + i);
+        }
+        assertInstanceOf(TieredRingbuffer.class, getRingbufferContainer(instance1, name).getRingbuffer());
+
+        HazelcastInstance instance2 = factory.newHazelcastInstance(getConfig(name));
+        waitAllForSafeState(instance1, instance2);
+        instance1.shutdown();
+
+        RingbufferContainer container = getRingbufferContainer(instance2, name);
+        assertInstanceOf(TieredRingbuffer.class, container.getRingbuffer());
+        Ringbuffer<String> migrated = instance2.getRingbuffer(name);
+        assertEquals(0, migrated.headSequence());
+        assertEquals(CAPACITY - 1, migrated.tailSequence());
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals("item" + i, migrated.readOne(i));
+        }
+    }
+
+    private static RingbufferContainer getRingbufferContainer(HazelcastInstance instance, String name) {
+        int partitionId = instance.getPartitionService().getPartition(name).getPartitionId();
+        RingbufferService service = getNodeEngineImpl(instance).getService(RingbufferService.SERVICE_NAME);
+        return service.getContainerOrNull(partitionId, getRingbufferNamespace(name));
+    }
+}
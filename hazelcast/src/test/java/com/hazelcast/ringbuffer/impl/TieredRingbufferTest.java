@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.ringbuffer.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.ringbuffer.StaleSequenceException;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class TieredRingbufferTest {
+
+    private static final int CAPACITY = 1000;
+    private static final int HOT_CAPACITY = 10;
+    private static final int SEGMENT_SIZE = 1024;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final SerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+
+    private Path directory;
+
+    @Before
+    public void setup() throws IOException {
+        directory = temporaryFolder.newFolder().toPath();
+    }
+
+    @Test
+    public void testReadHotAndColdItems_binary() {
+        TieredRingbuffer<Data> rb = new TieredRingbuffer<>(CAPACITY, HOT_CAPACITY, directory, SEGMENT_SIZE,
+                serializationService, true);
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals(i, rb.add(serializationService.toData("item" + i)));
+        }
+
+        assertTrue(rb.getSegmentCount() > 1);
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals("item" + i, serializationService.toObject(rb.read(i)));
+        }
+    }
+
+    @Test
+    public void testReadHotAndColdItems_object() {
+        TieredRingbuffer<String> rb = new TieredRingbuffer<>(CAPACITY, HOT_CAPACITY, directory, SEGMENT_SIZE,
+                serializationService, false);
+        for (int i = 0; i < CAPACITY; i++) {
+            rb.add("item" + i);
+        }
+
+        int i = 0;
+        for (String item : rb) {
+            assertEquals("item" + i++, item);
+        }
+        assertEquals(CAPACITY, i);
+    }
+
+    @Test
+    public void testSegmentsReleased_whenHeadMovesPastThem() throws IOException {
+        TieredRingbuffer<String> rb = new TieredRingbuffer<>(CAPACITY, HOT_CAPACITY, directory, SEGMENT_SIZE,
+                serializationService, false);
+        for (int i = 0; i < 3 * CAPACITY; i++) {
+            rb.add("item" + i);
+        }
+
+        assertEquals(2 * CAPACITY, rb.headSequence());
+        assertEquals("item" + 2 * CAPACITY, rb.read(rb.headSequence()));
+        assertEquals(rb.getSegmentCount(), countFiles());
+
+        rb.clear();
+        assertEquals(0, rb.getSegmentCount());
+        assertEquals(0, countFiles());
+    }
+
+    @Test(expected = StaleSequenceException.class)
+    public void testReadStaleSequenceThrowsException() {
+        TieredRingbuffer<String> rb = new TieredRingbuffer<>(CAPACITY, HOT_CAPACITY, directory, SEGMENT_SIZE,
+                serializationService, false);
+        for (int i = 0; i < CAPACITY + 1; i++) {
+            rb.add("item" + i);
+        }
+
+        rb.read(0);
+    }
+
+    @Test
+    public void testSet_spillsInSequenceOrder() {
+        TieredRingbuffer<String> rb = new TieredRingbuffer<>(CAPACITY, HOT_CAPACITY, directory, SEGMENT_SIZE,
+                serializationService, false);
+        rb.setTailSequence(99);
+        rb.setHeadSequence(50);
+        for (int seq = 50; seq < 100; seq++) {
+            rb.set(seq, "item" + seq);
+        }
+
+        for (int seq = 50; seq < 100; seq++) {
+            assertEquals("item" + seq, rb.read(seq));
+        }
+    }
+
+    @Test
+    public void testSpill_withNonContiguousSequences_keepsSpilledItems() {
+        TieredRingbuffer<String> rb = new TieredRingbuffer<>(CAPACITY, HOT_CAPACITY, directory, SEGMENT_SIZE,
+                serializationService, false);
+        for (int i = 0; i < 50; i++) {
+            rb.add("item" + i);
+        }
+        // a gap in the sequences, e.g. missed backups
+        rb.setTailSequence(199);
+        for (int seq = 150; seq < 200; seq++) {
+            rb.set(seq, "item" + seq);
+        }
+
+        for (int seq = 0; seq < 50; seq++) {
+            assertEquals("item" + seq, rb.read(seq));
+        }
+        for (int seq = 150; seq < 200; seq++) {
+            assertEquals("item" + seq, rb.read(seq));
+        }
+    }
+
+    @Test
+    public void testSet_overwritesSpilledItem() {
+        TieredRingbuffer<String> rb = new TieredRingbuffer<>(CAPACITY, HOT_CAPACITY, directory, SEGMENT_SIZE,
+                serializationService, false);
+        for (int i = 0; i < 100; i++) {
+            rb.add("item" + i);
+        }
+
+        rb.set(5, "overwritten");
+
+        assertEquals("overwritten", rb.read(5));
+        assertEquals("item4", rb.read(4));
+        assertEquals("item6", rb.read(6));
+        assertEquals("item99", rb.read(99));
+    }
+
+    @Test(expected = StaleSequenceException.class)
+    public void testReadMissingColdSequenceThrowsException() {
+        TieredRingbuffer<String> rb = new TieredRingbuffer<>(CAPACITY, HOT_CAPACITY, directory, SEGMENT_SIZE,
+                serializationService, false);
+        rb.setTailSequence(99);
+        for (int seq = 0; seq < 50; seq++) {
+            rb.set(seq, "item" + seq);
+        }
+        for (int seq = 60; seq < 100; seq++) {
+            rb.set(seq, "item" + seq);
+        }
+
+        rb.read(55);
+    }
+
+    @Test
+    public void testSetSerialized_andReadSerialized() {
+        TieredRingbuffer<String> rb = new TieredRingbuffer<>(CAPACITY, HOT_CAPACITY, directory, SEGMENT_SIZE,
+                serializationService, false);
+        rb.setTailSequence(99);
+        for (int seq = 0; seq < 100; seq++) {
+            rb.setSerialized(seq, serializationService.toData("item" + seq));
+        }
+
+        assertTrue(rb.getSegmentCount() > 0);
+        for (int seq = 0; seq < 100; seq++) {
+            assertEquals("item" + seq, rb.read(seq));
+            assertEquals("item" + seq, serializationService.toObject(rb.readSerialized(seq)));
+        }
+    }
+
+    @Test
+    public void testSetDirectory_movesSegmentFiles() throws IOException {
+        TieredRingbuffer<String> rb = new TieredRingbuffer<>(CAPACITY, HOT_CAPACITY, directory, SEGMENT_SIZE,
+                serializationService, false);
+        for (int i = 0; i < 100; i++) {
+            rb.add("item" + i);
+        }
+        Path previousDirectory = directory;
+        directory = temporaryFolder.newFolder().toPath();
+
+        rb.setDirectory(directory);
+        rb.add("item100");
+
+        assertEquals(rb.getSegmentCount(), countFiles());
+        for (int i = 0; i <= 100; i++) {
+            assertEquals("item" + i, rb.read(i));
+        }
+        rb.clear();
+        assertEquals(0, countFiles());
+        directory = previousDirectory;
+        assertEquals(0, countFiles());
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.topic;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.partition.InternalPartitionService;
+import com.hazelcast.internal.partition.ShardNameUtil;
+import com.hazelcast.partition.strategy.StringPartitioningStrategy;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static com.hazelcast.ringbuffer.impl.RingbufferService.TOPIC_RB_PREFIX;
+import static com.hazelcast.test.Accessors.getPartitionService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PartitionedReliableTopicTest extends HazelcastTestSupport {
+
+    private static final int SHARD_COUNT = 4;
+    private static final int KEY_COUNT = 10;
+    private static final int MESSAGES_PER_KEY = 50;
+
+    private HazelcastInstance[] instances;
+    private HazelcastInstance instance;
+    private String name;
+
+    @Before
+    public void setup() {
+        instances = createHazelcastInstanceFactory(2).newInstances(new Config());
+        instance = instances[0];
+        name = randomName();
+    }
+
+    @Test
+    public void testShardsArePlacedInDifferentPartitions() {
+        InternalPartitionService partitionService = getPartitionService(instance);
+        Set<Integer> partitionIds = new HashSet<>();
+        for (String shardName : ShardNameUtil.shardNames(instance.getPartitionService(), name, SHARD_COUNT)) {
+            String ringbufferName = TOPIC_RB_PREFIX + shardName;
+            partitionIds.add(partitionService.getPartitionId(StringPartitioningStrategy.getPartitionKey(ringbufferName)));
+        }
+
+        assertEquals(SHARD_COUNT, partitionIds.size());
+    }
+
+    @Test
+    public void testPublishWithKey_preservesOrderPerKey() {
+        PartitionedReliableTopic<Integer> topic = new PartitionedReliableTopic<>(instance, name, SHARD_COUNT);
+        Map<Integer, List<Integer>> received = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(KEY_COUNT * MESSAGES_PER_KEY);
+        topic.addMessageListener(message -> {
+            int value = message.getMessageObject();
+            received.computeIfAbsent(value / MESSAGES_PER_KEY, k -> new CopyOnWriteArrayList<>()).add(value);
+            latch.countDown();
+        });
+
+        for (int i = 0; i < MESSAGES_PER_KEY; i++) {
+            for (int key = 0; key < KEY_COUNT; key++) {
+                topic.publish(key, key * MESSAGES_PER_KEY + i);
+            }
+        }
+
+        assertOpenEventually(latch);
+        for (int key = 0; key < KEY_COUNT; key++) {
+            List<Integer> values = received.get(key);
+            assertEquals(MESSAGES_PER_KEY, values.size());
+            for (int i = 0; i < MESSAGES_PER_KEY; i++) {
+                assertEquals(key * MESSAGES_PER_KEY + i, (int) values.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testMessageListener_receivesMessagesOfAllShards() {
+        PartitionedReliableTopic<Integer> topic = new PartitionedReliableTopic<>(instance, name, SHARD_COUNT);
+        Set<Integer> received = ConcurrentHashMap.newKeySet();
+        UUID registrationId = topic.addMessageListener(message -> received.add(message.getMessageObject()));
+
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            new PartitionedReliableTopic<Integer>(instance, name, SHARD_COUNT, i).publish(i);
+        }
+
+        assertTrueEventually(() -> assertEquals(SHARD_COUNT, received.size()));
+        assertTrue(topic.removeMessageListener(registrationId));
+        assertFalse(topic.removeMessageListener(registrationId));
+    }
+
+    @Test
+    public void testLocalTopicStats_sumsShards() {
+        PartitionedReliableTopic<Integer> topic = new PartitionedReliableTopic<>(instance, name, SHARD_COUNT);
+        CountDownLatch latch = new CountDownLatch(KEY_COUNT);
+        topic.addMessageListener(message -> latch.countDown());
+
+        for (int key = 0; key < KEY_COUNT; key++) {
+            topic.publish(key, key);
+        }
+
+        // the statistics of a shard are collected on the owner of its partition
+        assertOpenEventually(latch);
+        assertTrueEventually(() -> {
+            long publishOperationCount = 0;
+            long receiveOperationCount = 0;
+            for (HazelcastInstance member : instances) {
+                LocalTopicStats stats = new PartitionedReliableTopic<>(member, name, SHARD_COUNT).getLocalTopicStats();
+                publishOperationCount += stats.getPublishOperationCount();
+                receiveOperationCount += stats.getReceiveOperationCount();
+            }
+            assertEquals(KEY_COUNT, publishOperationCount);
+            assertEquals(KEY_COUNT, receiveOperationCount);
+        });
+    }
+}
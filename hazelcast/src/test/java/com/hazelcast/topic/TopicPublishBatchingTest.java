@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2008-2024, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.topic;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.spi.properties.ClusterProperty.TOPIC_PUBLISH_BATCH_WINDOW_MILLIS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class TopicPublishBatchingTest extends HazelcastTestSupport {
+
+    private static final int MESSAGE_COUNT = 1000;
+
+    private HazelcastInstance publisher;
+    private HazelcastInstance subscriber;
+    private String name;
+
+    @Before
+    public void setup() {
+        Config config = smallInstanceConfig();
+        config.setProperty(TOPIC_PUBLISH_BATCH_WINDOW_MILLIS.getName(), "50");
+        config.getTopicConfig("ordered*").setGlobalOrderingEnabled(true);
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(config);
+        publisher = instances[0];
+        subscriber = instances[1];
+        name = randomName();
+    }
+
+    @Test
+    public void testBatchListener_receivesMessagesInBatches() {
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        AtomicInteger batchCount = new AtomicInteger();
+        subscriber.<Integer>getTopic(name).addMessageListener((BatchMessageListener<Integer>) messages -> {
+            batchCount.incrementAndGet();
+            messages.forEach(message -> received.add(message.getMessageObject()));
+        });
+
+        ITopic<Integer> topic = publisher.getTopic(name);
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            topic.publish(i);
+        }
+
+        assertTrueEventually(() -> assertEquals(MESSAGE_COUNT, received.size()));
+        assertInOrder(received);
+        assertTrue(batchCount.get() < MESSAGE_COUNT);
+    }
+
+    @Test
+    public void testMessageListener_receivesBatchedMessagesOneByOne() {
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        subscriber.<Integer>getTopic(name).addMessageListener(message -> received.add(message.getMessageObject()));
+
+        ITopic<Integer> topic = publisher.getTopic(name);
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            topic.publish(i);
+        }
+
+        assertTrueEventually(() -> assertEquals(MESSAGE_COUNT, received.size()));
+        assertInOrder(received);
+        assertEquals(MESSAGE_COUNT, subscriber.getTopic(name).getLocalTopicStats().getReceiveOperationCount());
+    }
+
+    @Test
+    public void testPublishAll_withGlobalOrdering_deliveredAsSingleBatch() throws Exception {
+        String orderedName = "ordered" + name;
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        subscriber.<Integer>getTopic(orderedName).addMessageListener(
+                (BatchMessageListener<Integer>) messages -> batchSizes.add(messages.size()));
+
+        List<Integer> messages = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            messages.add(i);
+        }
+        publisher.<Integer>getTopic(orderedName).publishAll(messages);
+
+        assertTrueEventually(() -> assertEquals(List.of(100), batchSizes));
+    }
+
+    private static void assertInOrder(List<Integer> received) {
+        for (int i = 0; i < received.size(); i++) {
+            assertEquals(i, (int) received.get(i));
+        }
+    }
+}
@@ -455,4 +455,29 @@ public class MerkleTreeUtilTest {
         Collection<Integer> deltaOrders = MerkleTreeUtil.compareTrees(merkleTree, remoteMerkleTreeView);
         assertTrue(deltaOrders.isEmpty());
     }
+
+    @Test
+    public void testRemoteMerkleTreeViewFromLeaves() {
+        MerkleTree localTree = new ArrayMerkleTree(4);
+        localTree.updateAdd(0x80000000, 1); // leaf 7
+        localTree.updateAdd(0xA0000000, 2); // leaf 8
+        localTree.updateAdd(0x00000000, 5); // leaf 11
+        localTree.updateAdd(0x60000000, 8); // leaf 14
+
+        MerkleTree remoteTree = new ArrayMerkleTree(4);
+        remoteTree.updateAdd(0x80000000, 1); // leaf 7
+        remoteTree.updateAdd(0xA0000000, 2); // leaf 8
+        remoteTree.updateAdd(0x00000000, 6); // leaf 11
+
+        int[] leaves = MerkleTreeUtil.getLeaves(remoteTree);
+        assertEquals(8, leaves.length);
+
+        RemoteMerkleTreeView remoteTreeView = MerkleTreeUtil.createRemoteMerkleTreeView(leaves);
+        assertEquals(4, remoteTreeView.depth());
+        assertEquals(remoteTree.getNodeHash(0), remoteTreeView.getNodeHash(0));
+
+        Collection<Integer> deltaOrders = MerkleTreeUtil.compareTrees(localTree, remoteTreeView);
+        assertEquals(2, deltaOrders.size());
+        assertTrue(deltaOrders.containsAll(asList(11, 14)));
+    }
 }